@@ -95,15 +95,9 @@ public class SmartOrderServiceImpl implements SmartOrderService{
                         leadTimeDemand = (int) Math.round(weeklyForecast * (leadTimeDays / 7.0));
                     }
 
-                    // 창고 재고 + 안전재고
-                    var invOpt = warehouseInventoryRepository.findByProduct(product);
-                    int onHand = 0;
-                    int safety = 0;
-                    if (invOpt.isPresent()) {
-                        var inv = invOpt.get();
-                        onHand = inv.getOnHandQuantity() != null ? inv.getOnHandQuantity() : 0;
-                        safety = inv.getSafetyQuantity() != null ? inv.getSafetyQuantity() : 0;
-                    }
+                    // 창고 재고 + 안전재고 (전체 창고 합계)
+                    int onHand = (int) warehouseInventoryRepository.sumOnHandAll(product.getProductId());
+                    int safety = (int) warehouseInventoryRepository.sumSafetyAll(product.getProductId());
 
                     // 본사 입고 예정 수량  - purchase_detail
                     long inTransit = purchaseDetailRepository
@@ -0,0 +1,83 @@
+package com.synerge.order101.common.batch;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 진행 위치 (작업 이름당 한 행)
+ * - last_key 까지의 키는 처리가 끝났다. 같은 기준일의 RUNNING 작업은 그 다음 키부터 이어서 실행한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "batch_checkpoint")
+public class BatchCheckpoint {
+
+    public enum Status { RUNNING, COMPLETED }
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "last_key", nullable = false)
+    private Long lastKey;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "updated_count", nullable = false)
+    private Long updatedCount;
+
+    @Column(name = "failed_chunks", nullable = false)
+    private Integer failedChunks;
+
+    @Column(name = "updated_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+
+    public static BatchCheckpoint start(String jobName, LocalDate businessDate) {
+        BatchCheckpoint checkpoint = new BatchCheckpoint();
+        checkpoint.jobName = jobName;
+        checkpoint.restart(businessDate);
+        return checkpoint;
+    }
+
+    // 같은 기준일에 끝나지 않은 작업이면 이어서 실행할 수 있다.
+    public boolean isResumable(LocalDate businessDate) {
+        return status == Status.RUNNING && businessDate.equals(this.businessDate);
+    }
+
+    public void restart(LocalDate businessDate) {
+        this.businessDate = businessDate;
+        this.status = Status.RUNNING;
+        this.lastKey = 0L;
+        this.processedCount = 0L;
+        this.updatedCount = 0L;
+        this.failedChunks = 0;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(long lastKey, long processed, long updated, int failedChunks) {
+        this.lastKey = lastKey;
+        this.processedCount += processed;
+        this.updatedCount += updated;
+        this.failedChunks += failedChunks;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,8 @@
+package com.synerge.order101.common.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+}
@@ -0,0 +1,55 @@
+package com.synerge.order101.common.cache;
+
+import com.synerge.order101.common.dto.TradeSearchCondition;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 거래 목록(발주/주문/정산) 전체 건수 캐시
+ * 같은 검색 조건의 count 는 짧은 시간 동안 재사용한다. (정확한 값이 아닌 추정치)
+ * 커서 조회에서 withCount=true 로 요청한 경우에만 쓴다. 페이지 번호 조회는 정확한 count 를 쓴다.
+ */
+@Component
+public class TradeCountCache {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public long get(String domain, TradeSearchCondition cond, LongSupplier loader) {
+        String key = key(domain, cond);
+        long now = System.nanoTime();
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt - now > 0) {
+            return cached.count;
+        }
+
+        long count = loader.getAsLong();
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.clear();
+        }
+        entries.put(key, new Entry(count, now + TTL.toNanos()));
+        return count;
+    }
+
+    // 커서/페이지 정보는 건수와 무관하므로 키에서 제외
+    private String key(String domain, TradeSearchCondition cond) {
+        return String.join("|",
+                domain,
+                String.valueOf(cond.getTypes()),
+                String.valueOf(cond.getStatuses()),
+                String.valueOf(cond.getVendorId()),
+                String.valueOf(cond.getSearchText()),
+                String.valueOf(cond.getFromDate()),
+                String.valueOf(cond.getToDate()));
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.synerge.order101.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답
+ * - hasNext 는 한 건 더 조회해서 판단한다. (count 쿼리 없음)
+ * - totalCount 는 요청 시(withCount=true)에만 채워지는 캐시된 추정치다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    private final List<T> content;
+
+    private final int size;
+
+    private final boolean hasNext;
+
+    private final String nextCursor;
+
+    private final Long totalCount;
+
+    /**
+     * size + 1 건까지 조회한 결과로 응답을 만든다.
+     */
+    public static <T> CursorPageResponseDto<T> of(List<T> rows, int size,
+                                                  Function<T, LocalDateTime> createdAt,
+                                                  Function<T, Long> id) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = new TradeCursor(createdAt.apply(last), id.apply(last)).encode();
+        }
+        return new CursorPageResponseDto<>(content, size, hasNext, nextCursor, null);
+    }
+
+    public CursorPageResponseDto<T> withTotalCount(Long totalCount) {
+        return new CursorPageResponseDto<>(content, size, hasNext, nextCursor, totalCount);
+    }
+}
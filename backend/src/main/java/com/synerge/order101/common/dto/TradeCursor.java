@@ -0,0 +1,40 @@
+package com.synerge.order101.common.dto;
+
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.exception.errorcode.CommonErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 목록 커서 (createdAt, id)
+ * 클라이언트에는 Base64 문자열로만 노출되며, 마지막으로 받은 행 다음부터 조회할 때 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TradeCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TradeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new TradeCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.valueOf(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(CommonErrorCode.INVALID_REQUEST);
+        }
+    }
+}
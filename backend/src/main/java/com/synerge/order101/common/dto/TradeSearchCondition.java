@@ -2,6 +2,7 @@ package com.synerge.order101.common.dto;
 
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 
@@ -20,4 +21,16 @@ public class TradeSearchCondition extends BaseSearchCondition {
     // 검색어
     private String searchText; // ID 또는 공급사 이름 검색
 
+    // 커서 페이징: 첫 페이지는 cursorMode=true, 이후에는 이전 응답의 nextCursor 를 전달
+    private Boolean cursorMode;
+
+    private String cursor;
+
+    // 커서 페이징에서 전체 건수(캐시된 추정치)가 필요할 때만 true
+    private Boolean withCount;
+
+    public boolean isCursorPaging() {
+        return Boolean.TRUE.equals(cursorMode) || StringUtils.hasText(cursor);
+    }
+
 }
@@ -0,0 +1,163 @@
+package com.synerge.order101.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.exception.errorcode.CommonErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 (생성 API 재시도 중복 방지)
+ * - 처음 온 키는 Redis 에 "처리 중" 으로 선점하고, 트랜잭션 커밋 후 응답을 TTL 동안 저장한다.
+ * - 같은 키로 다시 오면 DB 를 거치지 않고 저장된 응답을 돌려준다.
+ * - 같은 키에 다른 요청 본문이면 IDEMPOTENCY_KEY_REUSED, 아직 처리 중이면 IDEMPOTENCY_IN_PROGRESS.
+ * - Redis 장애 시에는 키 없이 처리한다. (중복 방지보다 주문 접수를 우선)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "idem:";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 완료된 응답 보관 기간
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours = 24;
+
+    // 처리 중 표시 유지 시간 (서버가 처리 중 죽어도 이 시간이 지나면 다시 받을 수 있다)
+    @Value("${app.idempotency.lock-seconds:60}")
+    private long lockSeconds = 60;
+
+    /**
+     * idempotencyKey 가 없으면 action 을 그대로 실행한다.
+     * 트랜잭션 안에서 호출하면 커밋된 경우에만 응답을 저장하고, 롤백되면 키를 풀어 재시도를 허용한다.
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(CommonErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        String redisKey = KEY_PREFIX + scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        String existing;
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    redisKey, write(new Entry(fingerprint, false, null)), Duration.ofSeconds(lockSeconds));
+            existing = Boolean.TRUE.equals(acquired) ? null : redisTemplate.opsForValue().get(redisKey);
+            if (!Boolean.TRUE.equals(acquired) && existing == null) {
+                // 선점 직후 만료된 경우 - 처리 중으로 보고 클라이언트 재시도에 맡긴다.
+                throw new CustomException(CommonErrorCode.IDEMPOTENCY_IN_PROGRESS);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[Idempotency] Redis 사용 불가, 키 없이 처리 key={}: {}", redisKey, e.getMessage());
+            return action.get();
+        }
+
+        if (existing != null) {
+            return replay(read(existing), fingerprint, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(redisKey);
+            throw e;
+        }
+
+        String body = write(response);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        complete(redisKey, fingerprint, body);
+                    } else {
+                        release(redisKey);
+                    }
+                }
+            });
+        } else {
+            complete(redisKey, fingerprint, body);
+        }
+        return response;
+    }
+
+    private <T> T replay(Entry entry, String fingerprint, Class<T> responseType) {
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw new CustomException(CommonErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (!entry.done()) {
+            throw new CustomException(CommonErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        }
+        try {
+            return objectMapper.readValue(entry.response(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void complete(String redisKey, String fingerprint, String body) {
+        try {
+            redisTemplate.opsForValue().set(redisKey, write(new Entry(fingerprint, true, body)), Duration.ofHours(ttlHours));
+        } catch (DataAccessException e) {
+            log.warn("[Idempotency] 응답 저장 실패 key={}: {}", redisKey, e.getMessage());
+        }
+    }
+
+    private void release(String redisKey) {
+        try {
+            redisTemplate.delete(redisKey);
+        } catch (DataAccessException e) {
+            log.warn("[Idempotency] 키 해제 실패 key={}: {}", redisKey, e.getMessage());
+        }
+    }
+
+    private String fingerprint(Object request) {
+        return DigestUtils.md5DigestAsHex(write(request).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON 변환에 실패했습니다.", e);
+        }
+    }
+
+    private Entry read(String json) {
+        try {
+            return objectMapper.readValue(json, Entry.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 Idempotency 값을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // response 는 응답 JSON 원문
+    record Entry(String fingerprint, boolean done, String response) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.synerge.order101.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 발행
+ * - 호출한 쪽의 트랜잭션에 함께 저장된다. (트랜잭션 밖에서 부르면 예외 - 업무 변경과 따로 커밋되면 의미가 없다)
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Object payload) {
+        outboxEventRepository.save(OutboxEvent.pending(type, write(payload)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(OutboxEventType type, Collection<?> payloads) {
+        if (payloads.isEmpty()) return;
+
+        List<OutboxEvent> events = payloads.stream()
+                .map(payload -> OutboxEvent.pending(type, write(payload)))
+                .toList();
+        outboxEventJdbcRepository.insertAll(events);
+    }
+
+    private String write(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트를 JSON 으로 바꿀 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.synerge.order101.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 디스패처
+ * - 처리할 때가 된 이벤트를 한 묶음 선점해 종류별로 나누고, 종류별 처리기와 완료 표시를 한 트랜잭션에서 실행한다.
+ * - 묶음이 실패하면 한 건씩 다시 처리해 문제 있는 이벤트만 골라낸다.
+ * - 완료/재시도/DEAD 는 아직 내 선점 토큰으로 PROCESSING 인 행에만 기록한다.
+ *   오래 걸린 묶음이 releaseStale 로 되돌려져 다른 디스패처가 다시 가져갔으면 그 건은 건너뛴다.
+ *   실패한 건은 backoff 를 두 배씩 늘려 다시 시도하고, max-attempts 를 넘기면 DEAD 로 남긴다.
+ * - 지표: outbox.pending, outbox.lag.seconds (가장 오래 기다린 대기 이벤트), outbox.dispatched{type,result}
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate tx;
+    private final Map<OutboxEventType, OutboxHandler<?>> handlers = new EnumMap<>(OutboxEventType.class);
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    // 첫 재시도 간격, 이후 두 배씩 (max-backoff-seconds 까지)
+    @Value("${app.outbox.backoff-seconds:5}")
+    private long backoffSeconds = 5;
+
+    @Value("${app.outbox.max-backoff-seconds:600}")
+    private long maxBackoffSeconds = 600;
+
+    // 이 시간 넘게 PROCESSING 인 건은 디스패처가 죽은 것으로 보고 되돌린다.
+    @Value("${app.outbox.stale-seconds:300}")
+    private long staleSeconds = 300;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxHandler<?>> handlers,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.tx = new TransactionTemplate(transactionManager);
+        for (OutboxHandler<?> handler : handlers) {
+            if (this.handlers.put(handler.type(), handler) != null) {
+                throw new IllegalStateException("아웃박스 처리기가 중복되었습니다: " + handler.type());
+            }
+        }
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        meterRegistry.gauge("outbox.pending", pending);
+        meterRegistry.gauge("outbox.lag.seconds", lagSeconds);
+    }
+
+    /**
+     * 한 묶음 처리. 반환: 꺼낸 이벤트 수 (0 이면 대기 중인 이벤트 없음)
+     */
+    public int drainBatch() {
+        List<OutboxEvent> claimed = tx.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int released = outboxEventRepository.releaseStale(now.minusSeconds(staleSeconds), now);
+            if (released > 0) {
+                log.warn("[아웃박스] 처리 중 멈춘 {}건을 대기로 되돌림", released);
+            }
+
+            List<Long> ids = outboxEventRepository.findDueIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return List.of();
+
+            String claimToken = UUID.randomUUID().toString();
+            outboxEventRepository.claim(ids, claimToken, now);
+            return outboxEventRepository.findByClaimTokenOrderByOutboxIdAsc(claimToken);
+        });
+        refreshGauges();
+
+        if (claimed == null || claimed.isEmpty()) return 0;
+        meterRegistry.summary("outbox.batch.size").record(claimed.size());
+
+        Map<OutboxEventType, List<OutboxEvent>> byType = new LinkedHashMap<>();
+        for (OutboxEvent event : claimed) {
+            byType.computeIfAbsent(event.getEventType(), t -> new ArrayList<>()).add(event);
+        }
+
+        byType.forEach((type, events) -> {
+            OutboxHandler<?> handler = handlers.get(type);
+            if (handler == null) {
+                events.forEach(event -> finish(event, true, "처리기 없음: " + type));
+                return;
+            }
+            if (!dispatch(handler, events) && events.size() > 1) {
+                // 묶음 실패 - 한 건씩 다시 처리해 문제 있는 건만 재시도/DEAD 로
+                events.forEach(event -> dispatch(handler, List.of(event)));
+            }
+        });
+        return claimed.size();
+    }
+
+    // 대기 이벤트 수/지연 갱신
+    public void refreshGauges() {
+        pending.set(outboxEventRepository.countByStatus(OutboxEvent.Status.PENDING));
+        LocalDateTime oldest = outboxEventRepository.findOldestPendingCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Math.max(Duration.between(oldest, LocalDateTime.now()).toSeconds(), 0));
+    }
+
+    // 처리 끝난 이벤트 정리. 반환: 지운 수
+    public int purgeDone(LocalDateTime before) {
+        Integer deleted = tx.execute(status -> outboxEventRepository.deleteDoneBefore(before));
+        return deleted == null ? 0 : deleted;
+    }
+
+    // 성공하면 true. 한 건짜리 묶음이 실패하면 그 건을 재시도/DEAD 로 기록한다.
+    private <P> boolean dispatch(OutboxHandler<P> handler, List<OutboxEvent> events) {
+        List<Long> ids = events.stream().map(OutboxEvent::getOutboxId).toList();
+        String claimToken = events.get(0).getClaimToken();
+        try {
+            List<P> payloads = new ArrayList<>(events.size());
+            for (OutboxEvent event : events) {
+                payloads.add(objectMapper.readValue(event.getPayload(), handler.payloadType()));
+            }
+
+            // 완료 표시로 행을 먼저 잠그고, 전부 아직 내 선점일 때만 처리기를 실행한다. (아니면 롤백)
+            tx.executeWithoutResult(status -> {
+                if (outboxEventRepository.markDone(ids, claimToken, LocalDateTime.now()) != ids.size()) {
+                    throw new ClaimLostException();
+                }
+                handler.handle(payloads);
+            });
+
+            LocalDateTime now = LocalDateTime.now();
+            meterRegistry.counter("outbox.dispatched", "type", handler.type().name(), "result", "done")
+                    .increment(events.size());
+            for (OutboxEvent event : events) {
+                meterRegistry.timer("outbox.delivery.latency", "type", handler.type().name())
+                        .record(Duration.between(event.getCreatedAt(), now));
+            }
+            return true;
+        } catch (ClaimLostException e) {
+            if (events.size() == 1) {
+                meterRegistry.counter("outbox.dispatched", "type", handler.type().name(), "result", "skipped")
+                        .increment();
+                log.warn("[아웃박스] 선점이 풀린 건 건너뜀 outboxId={}, type={}", ids.get(0), handler.type());
+                return true;
+            }
+            log.warn("[아웃박스] {} {}건 묶음 중 선점이 풀린 건이 있어 한 건씩 다시 처리", handler.type(), events.size());
+            return false;
+        } catch (JsonProcessingException e) {
+            // 다시 해도 읽을 수 없는 이벤트
+            if (events.size() == 1) {
+                finish(events.get(0), true, e.getMessage());
+            }
+            return false;
+        } catch (Exception e) {
+            if (events.size() == 1) {
+                OutboxEvent event = events.get(0);
+                finish(event, event.getAttempts() >= maxAttempts, e.getMessage());
+            } else {
+                log.warn("[아웃박스] {} {}건 묶음 처리 실패, 한 건씩 다시 처리: {}",
+                        handler.type(), events.size(), e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private void finish(OutboxEvent claimed, boolean dead, String error) {
+        Boolean recorded = tx.execute(status -> {
+            OutboxEvent event = outboxEventRepository.findByIdForUpdate(claimed.getOutboxId()).orElse(null);
+            if (event == null || !event.isClaimedBy(claimed.getClaimToken())) return false;
+            if (dead) {
+                event.dead(error);
+            } else {
+                event.retry(LocalDateTime.now().plusSeconds(backoff(event.getAttempts())), error);
+            }
+            return true;
+        });
+
+        String type = claimed.getEventType().name();
+        if (!Boolean.TRUE.equals(recorded)) {
+            meterRegistry.counter("outbox.dispatched", "type", type, "result", "skipped").increment();
+            log.warn("[아웃박스] 선점이 풀린 건 건너뜀 outboxId={}, type={}: {}", claimed.getOutboxId(), type, error);
+        } else if (dead) {
+            meterRegistry.counter("outbox.dispatched", "type", type, "result", "dead").increment();
+            log.error("[아웃박스] DEAD outboxId={}, type={}, attempts={}: {}",
+                    claimed.getOutboxId(), type, claimed.getAttempts(), error);
+        } else {
+            meterRegistry.counter("outbox.dispatched", "type", type, "result", "retry").increment();
+            log.warn("[아웃박스] 재시도 예약 outboxId={}, type={}, attempts={}: {}",
+                    claimed.getOutboxId(), type, claimed.getAttempts(), error);
+        }
+    }
+
+    // 완료 표시 시점에 선점이 이미 다른 디스패처로 넘어간 경우
+    private static class ClaimLostException extends RuntimeException {
+    }
+
+    // attempts 번째 실패 후 기다릴 시간 (초)
+    long backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(backoffSeconds << shift, maxBackoffSeconds);
+    }
+}
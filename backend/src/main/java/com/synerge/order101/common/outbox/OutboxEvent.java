@@ -0,0 +1,105 @@
+package com.synerge.order101.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스
+ * - 업무 변경과 같은 트랜잭션에서 한 줄 쌓이고, OutboxDispatcher 가 종류별로 묶어 처리한다.
+ *   (커밋 직후 서버가 죽어도 후속 처리가 사라지지 않는다)
+ * - 꺼낼 때는 claim_token 을 찍는 조건부 UPDATE 로 선점한다.
+ *   처리기는 선점 트랜잭션이 끝난 뒤 별도 트랜잭션에서 돌기 때문에 행 잠금으로는 소유를 이어갈 수 없고,
+ *   배포 DB(docker-compose 의 mariadb:10.5)는 SKIP LOCKED 를 지원하지 않는다. (10.6 부터 지원)
+ * - 완료/재시도/DEAD 기록은 아직 같은 claim_token 으로 PROCESSING 인 행에만 한다.
+ * - 실패하면 next_attempt_at 을 늘려 가며 다시 시도하고, max-attempts 를 넘기면 DEAD 로 남긴다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_event_due", columnList = "status, next_attempt_at, outbox_id"),
+                @Index(name = "idx_outbox_event_claim", columnList = "claim_token")
+        }
+)
+public class OutboxEvent {
+
+    public enum Status { PENDING, PROCESSING, DONE, DEAD }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    // 이벤트 원문 (JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+
+    public static OutboxEvent pending(OutboxEventType eventType, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.payload = payload;
+        event.status = Status.PENDING;
+        event.attempts = 0;
+        event.createdAt = LocalDateTime.now();
+        event.nextAttemptAt = event.createdAt;
+        event.updatedAt = event.createdAt;
+        return event;
+    }
+
+    // 일시적 오류 - nextAttemptAt 이후 다시 꺼낸다.
+    public boolean isClaimedBy(String claimToken) {
+        return status == Status.PROCESSING && claimToken != null && claimToken.equals(this.claimToken);
+    }
+
+    public void retry(LocalDateTime nextAttemptAt, String error) {
+        this.status = Status.PENDING;
+        this.claimToken = null;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 재시도 한도 초과 또는 처리할 수 없는 이벤트 - 확인 후 수동으로 되살린다.
+    public void dead(String error) {
+        this.status = Status.DEAD;
+        this.claimToken = null;
+        this.lastError = truncate(error);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
@@ -0,0 +1,52 @@
+package com.synerge.order101.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 일괄 저장 (JDBC 배치)
+ * - IDENTITY 키라 JPA saveAll 은 한 줄씩 INSERT 되므로, 배송 전환처럼 한 번에 많이 쌓이는 경우 배치로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventJdbcRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_event (event_type, payload, status, attempts, next_attempt_at, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return new int[0];
+        }
+
+        return jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                OutboxEvent event = events.get(i);
+                ps.setString(1, event.getEventType().name());
+                ps.setString(2, event.getPayload());
+                ps.setString(3, event.getStatus().name());
+                ps.setInt(4, event.getAttempts());
+                ps.setTimestamp(5, Timestamp.valueOf(event.getNextAttemptAt()));
+                ps.setTimestamp(6, Timestamp.valueOf(event.getCreatedAt()));
+                ps.setTimestamp(7, Timestamp.valueOf(event.getUpdatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.synerge.order101.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    long countByStatus(OutboxEvent.Status status);
+
+    // 처리할 때가 된 대기 이벤트 (먼저 쌓인 순)
+    @Query("""
+        select o.outboxId
+        from OutboxEvent o
+        where o.status = com.synerge.order101.common.outbox.OutboxEvent.Status.PENDING
+          and o.nextAttemptAt <= :now
+        order by o.outboxId
+    """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 가장 오래 기다린 대기 이벤트의 생성 시각 (지연 지표)
+    @Query("""
+        select min(o.createdAt)
+        from OutboxEvent o
+        where o.status = com.synerge.order101.common.outbox.OutboxEvent.Status.PENDING
+    """)
+    LocalDateTime findOldestPendingCreatedAt();
+
+    // 조건부 선점 - 다른 디스패처가 먼저 가져간 행은 status 조건에서 빠진다.
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update OutboxEvent o
+        set o.status = com.synerge.order101.common.outbox.OutboxEvent.Status.PROCESSING,
+            o.claimToken = :claimToken,
+            o.attempts = o.attempts + 1,
+            o.updatedAt = :now
+        where o.outboxId in :outboxIds
+          and o.status = com.synerge.order101.common.outbox.OutboxEvent.Status.PENDING
+    """)
+    int claim(@Param("outboxIds") Collection<Long> outboxIds,
+              @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now);
+
+    List<OutboxEvent> findByClaimTokenOrderByOutboxIdAsc(String claimToken);
+
+    // 재시도/DEAD 기록 시 행을 잠가 releaseStale/다른 디스패처와 직렬화한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from OutboxEvent o where o.outboxId = :outboxId")
+    Optional<OutboxEvent> findByIdForUpdate(@Param("outboxId") Long outboxId);
+
+    // 아직 내 선점 토큰으로 PROCESSING 인 행만 완료 - releaseStale 후 다른 디스패처가 가져간 행은 빠진다.
+    @Modifying
+    @Query("""
+        update OutboxEvent o
+        set o.status = com.synerge.order101.common.outbox.OutboxEvent.Status.DONE,
+            o.claimToken = null,
+            o.lastError = null,
+            o.updatedAt = :now
+        where o.outboxId in :outboxIds
+          and o.status = com.synerge.order101.common.outbox.OutboxEvent.Status.PROCESSING
+          and o.claimToken = :claimToken
+    """)
+    int markDone(@Param("outboxIds") Collection<Long> outboxIds,
+                 @Param("claimToken") String claimToken,
+                 @Param("now") LocalDateTime now);
+
+    // 디스패처가 처리 중에 죽어 PROCESSING 으로 남은 행을 대기로 되돌린다.
+    @Modifying
+    @Query("""
+        update OutboxEvent o
+        set o.status = com.synerge.order101.common.outbox.OutboxEvent.Status.PENDING,
+            o.claimToken = null,
+            o.updatedAt = :now
+        where o.status = com.synerge.order101.common.outbox.OutboxEvent.Status.PROCESSING
+          and o.updatedAt < :cutoff
+    """)
+    int releaseStale(@Param("cutoff") LocalDateTime cutoff,
+                     @Param("now") LocalDateTime now);
+
+    // 처리 끝난 이벤트 정리
+    @Modifying
+    @Query("""
+        delete from OutboxEvent o
+        where o.status = com.synerge.order101.common.outbox.OutboxEvent.Status.DONE
+          and o.updatedAt < :before
+    """)
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,8 @@
+package com.synerge.order101.common.outbox;
+
+// 아웃박스 이벤트 종류 (종류별로 OutboxHandler 하나가 묶음 처리)
+public enum OutboxEventType {
+    SHIPMENT_IN_TRANSIT,
+    SHIPMENT_DELIVERED,
+    SETTLEMENT_REQUESTED
+}
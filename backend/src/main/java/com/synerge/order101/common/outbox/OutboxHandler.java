@@ -0,0 +1,18 @@
+package com.synerge.order101.common.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 종류별 처리기
+ * - 같은 종류의 이벤트를 묶음으로 받아 한 트랜잭션에서 처리한다. (완료 표시와 같은 트랜잭션)
+ * - 묶음 처리가 실패하면 디스패처가 한 건씩 다시 호출하므로, 한 건짜리 묶음도 같은 코드로 처리돼야 한다.
+ * - 같은 이벤트가 두 번 올 수 있으므로 (완료 표시 전에 서버가 죽은 경우) 처리는 멱등이어야 한다.
+ */
+public interface OutboxHandler<P> {
+
+    OutboxEventType type();
+
+    Class<P> payloadType();
+
+    void handle(List<P> payloads);
+}
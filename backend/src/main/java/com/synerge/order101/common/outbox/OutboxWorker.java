@@ -0,0 +1,87 @@
+package com.synerge.order101.common.outbox;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 워커
+ * - 전용 가상 스레드에서 계속 묶음을 꺼내 처리하고, 대기 이벤트가 없을 때만 poll-interval-ms 만큼 쉰다.
+ * - 처리 끝난 이벤트는 retention-hours 가 지나면 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxWorker {
+
+    private static final long PURGE_INTERVAL_MS = 3_600_000;
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    @Value("${app.outbox.poll-interval-ms:200}")
+    private long pollIntervalMs = 200;
+
+    @Value("${app.outbox.retention-hours:72}")
+    private long retentionHours = 72;
+
+    private volatile boolean running;
+    private Thread worker;
+    private long nextPurgeAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("outbox-worker").start(this::loop);
+        log.info("▶ [아웃박스 워커] 시작");
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                if (outboxDispatcher.drainBatch() == 0) {
+                    purgeIfDue();
+                    Thread.sleep(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("[아웃박스 워커] 오류 발생: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        log.info("▶ [아웃박스 워커] 종료");
+    }
+
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextPurgeAt) return;
+        nextPurgeAt = now + PURGE_INTERVAL_MS;
+
+        int deleted = outboxDispatcher.purgeDone(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("[아웃박스 워커] 처리 끝난 이벤트 {}건 정리", deleted);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.synerge.order101.common.sequence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 문서 번호(주문/발주/정산/입출고) 발급
+ * - 접두어 + yyyyMMdd + 6자리 일련번호. 일련번호는 접두어/일자별로 DB 에서 블록 단위로 예약한다.
+ * - 블록 안에서는 AtomicLong 으로 잠금 없이 나눠 주고, 블록이 떨어졌을 때만 DB 를 한 번 다녀온다.
+ * - 예약은 별도 트랜잭션으로 바로 커밋한다. (호출한 트랜잭션이 롤백돼도 같은 번호가 다시 나가지 않는다)
+ * - 서버가 재시작되면 쓰지 않은 블록의 나머지는 건너뛴다. 번호는 유일하고 증가하지만 연속이지는 않다.
+ */
+@Slf4j
+@Component
+public class DocumentNumberAllocator {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final DocumentSequenceJdbcRepository documentSequenceJdbcRepository;
+    private final TransactionTemplate leaseTx;
+
+    private final Map<String, Holder> holders = new ConcurrentHashMap<>();
+
+    @Value("${app.document-number.block-size:50}")
+    private int blockSize = 50;
+
+    public DocumentNumberAllocator(DocumentSequenceJdbcRepository documentSequenceJdbcRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.documentSequenceJdbcRepository = documentSequenceJdbcRepository;
+        this.leaseTx = new TransactionTemplate(transactionManager);
+        this.leaseTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public String next(String prefix) {
+        LocalDate today = LocalDate.now();
+        Holder holder = holders.computeIfAbsent(prefix, p -> new Holder());
+
+        while (true) {
+            Block block = holder.block;
+            if (block != null && block.date.equals(today)) {
+                long value = block.next.getAndIncrement();
+                if (value <= block.last) {
+                    return prefix + today.format(DATE_FORMAT) + String.format("%06d", value);
+                }
+            }
+            synchronized (holder) {
+                // 다른 스레드가 먼저 새 블록을 받아 왔으면 그대로 다시 시도
+                if (holder.block == block) {
+                    holder.block = lease(prefix, today);
+                }
+            }
+        }
+    }
+
+    private Block lease(String prefix, LocalDate date) {
+        int size = blockSize;
+        Long last = leaseTx.execute(status -> documentSequenceJdbcRepository.lease(prefix, date, size));
+        long end = last == null ? size : last;
+        log.debug("[문서번호] {} {} 블록 예약 {} ~ {}", prefix, date, end - size + 1, end);
+        return new Block(date, end - size + 1, end);
+    }
+
+    private static final class Holder {
+        private volatile Block block;
+    }
+
+    private static final class Block {
+        private final LocalDate date;
+        private final AtomicLong next;
+        private final long last;
+
+        private Block(LocalDate date, long first, long last) {
+            this.date = date;
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
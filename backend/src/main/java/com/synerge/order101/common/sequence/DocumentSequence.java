@@ -0,0 +1,43 @@
+package com.synerge.order101.common.sequence;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 문서 번호 일련번호 (접두어 + 일자당 한 행)
+ * - leased_until 까지의 번호는 이미 서버에 블록으로 나눠 준 상태다. 갱신은 DocumentSequenceJdbcRepository 에서만 한다.
+ */
+@Getter
+@Entity
+@IdClass(DocumentSequence.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "document_sequence")
+public class DocumentSequence {
+
+    @Id
+    @Column(name = "prefix", length = 10)
+    private String prefix;
+
+    @Id
+    @Column(name = "seq_date")
+    private LocalDate seqDate;
+
+    @Column(name = "leased_until", nullable = false)
+    private Long leasedUntil;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String prefix;
+        private LocalDate seqDate;
+    }
+}
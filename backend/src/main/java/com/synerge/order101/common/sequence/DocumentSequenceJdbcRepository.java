@@ -0,0 +1,50 @@
+package com.synerge.order101.common.sequence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+@Repository
+@RequiredArgsConstructor
+public class DocumentSequenceJdbcRepository {
+
+    private static final String INCREASE_SQL = """
+        UPDATE document_sequence
+        SET leased_until = leased_until + ?
+        WHERE prefix = ? AND seq_date = ?
+    """;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO document_sequence (prefix, seq_date, leased_until)
+        VALUES (?, ?, ?)
+    """;
+
+    private static final String SELECT_SQL = """
+        SELECT leased_until FROM document_sequence WHERE prefix = ? AND seq_date = ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * size 개의 번호를 예약하고 블록의 마지막 번호를 반환한다. (블록은 [반환값 - size + 1, 반환값])
+     * UPDATE 로 잡은 행 잠금이 트랜잭션 끝까지 유지되므로 같은 트랜잭션 안에서 읽은 값은 다른 서버와 겹치지 않는다.
+     */
+    public long lease(String prefix, LocalDate seqDate, int size) {
+        Date date = Date.valueOf(seqDate);
+        if (jdbcTemplate.update(INCREASE_SQL, size, prefix, date) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, prefix, date, size);
+                return size;
+            } catch (DuplicateKeyException e) {
+                // 다른 서버가 먼저 그날의 첫 행을 만든 경우
+                jdbcTemplate.update(INCREASE_SQL, size, prefix, date);
+            }
+        }
+        Long last = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, prefix, date);
+        return last == null ? size : last;
+    }
+}
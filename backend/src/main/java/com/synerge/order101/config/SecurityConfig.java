@@ -73,7 +73,7 @@ public class SecurityConfig {
             corsConfiguration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
 
             // 클라이언트가 요청 시 사용할 수 있는 헤더를 지정한다.
-            corsConfiguration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+            corsConfiguration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Idempotency-Key"));
 
             // 클라이언트가 응답에서 접근할 수 있는 헤더를 지정한다.
             corsConfiguration.setExposedHeaders(List.of("Authorization"));
@@ -1,6 +1,7 @@
 package com.synerge.order101.dashboard.controller;
 
 import com.synerge.order101.dashboard.model.dto.response.DashboardSummaryResponseDto;
+import com.synerge.order101.dashboard.model.dto.response.LowStockSkuResponseDto;
 import com.synerge.order101.dashboard.model.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,4 +19,9 @@ public class DashboardController {
     public DashboardSummaryResponseDto summary() {
         return dashboardService.getSummary();
     }
+
+    @GetMapping("/low-stock-skus")
+    public LowStockSkuResponseDto lowStockSkus() {
+        return dashboardService.getLowStockSkus();
+    }
 }
@@ -0,0 +1,21 @@
+package com.synerge.order101.dashboard.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LowStockSkuResponseDto {
+
+    private long count;
+    private List<Item> items;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private Long warehouseId;
+        private Long productId;
+    }
+}
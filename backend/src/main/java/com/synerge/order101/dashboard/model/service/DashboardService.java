@@ -5,8 +5,9 @@ import com.synerge.order101.ai.model.repository.DemandForecastRepository;
 import com.synerge.order101.ai.model.repository.SmartOrderRepository;
 import com.synerge.order101.common.enums.OrderStatus;
 import com.synerge.order101.dashboard.model.dto.response.DashboardSummaryResponseDto;
+import com.synerge.order101.dashboard.model.dto.response.LowStockSkuResponseDto;
 import com.synerge.order101.purchase.model.repository.PurchaseRepository;
-import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import com.synerge.order101.warehouse.model.service.LowStockTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,7 +21,7 @@ import java.util.List;
 public class DashboardService {
 
     private final PurchaseRepository purchaseRepository;
-    private final WarehouseInventoryRepository warehouseInventoryRepository;
+    private final LowStockTracker lowStockTracker;
     private final SmartOrderRepository smartOrderRepository;
     private final DemandForecastRepository demandForecastRepository;
 
@@ -29,8 +30,8 @@ public class DashboardService {
         long pendingPurchase =
                 purchaseRepository.countByOrderStatus(OrderStatus.SUBMITTED);
 
-        long lowStockSku =
-                warehouseInventoryRepository.countLowStockSku();
+        // 저재고 수는 추적기에서 바로 읽는다. (전체 재고 스캔 없음)
+        long lowStockSku = lowStockTracker.count();
 
         long draftAutoSmartOrder =
                 smartOrderRepository.countBySmartOrderStatus(OrderStatus.DRAFT_AUTO);
@@ -46,6 +47,14 @@ public class DashboardService {
     }
 
 
+    public LowStockSkuResponseDto getLowStockSkus() {
+        List<LowStockSkuResponseDto.Item> items = lowStockTracker.skus().stream()
+                .map(sku -> new LowStockSkuResponseDto.Item(sku.warehouseId(), sku.productId()))
+                .toList();
+
+        return new LowStockSkuResponseDto(items.size(), items);
+    }
+
     private double calculateRecentForecastAccuracy() {
 
         // 1. 지난주 기간 계산
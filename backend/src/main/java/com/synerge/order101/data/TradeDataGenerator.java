@@ -6,10 +6,10 @@ import com.synerge.order101.order.model.entity.StoreOrder;
 import com.synerge.order101.order.model.entity.StoreOrderDetail;
 import com.synerge.order101.order.model.repository.StoreOrderDetailRepository;
 import com.synerge.order101.order.model.repository.StoreOrderRepository;
+import com.synerge.order101.product.model.dto.SupplierPriceRes;
 import com.synerge.order101.product.model.entity.Product;
-import com.synerge.order101.product.model.entity.ProductSupplier;
 import com.synerge.order101.product.model.repository.ProductRepository;
-import com.synerge.order101.product.model.repository.ProductSupplierRepository;
+import com.synerge.order101.product.model.service.ProductSupplierPriceResolver;
 import com.synerge.order101.purchase.model.entity.Purchase;
 import com.synerge.order101.purchase.model.entity.PurchaseDetail;
 import com.synerge.order101.purchase.model.repository.PurchaseDetailRepository;
@@ -44,7 +44,7 @@ public class TradeDataGenerator {
 
     private final ProductRepository productRepository;
     private final SupplierRepository supplierRepository;
-    private final ProductSupplierRepository productSupplierRepository;
+    private final ProductSupplierPriceResolver productSupplierPriceResolver;
     private final StoreRepository storeRepository;
     private final WarehouseRepository warehouseRepository;
     private final UserRepository userRepository;
@@ -55,7 +55,7 @@ public class TradeDataGenerator {
      * 1. 발주 데이터 생성 (본사 -> 공급사)
      * - 창고(1개), 공급사(14개) 중 랜덤 선택
      * - 담당자(User)는 '본사 직원(HQ)' 중에서만 선택
-     * - 상품 및 가격은 공급사별 계약 정보(ProductSupplier)에서 조회
+     * - 상품 및 가격은 공급사별 계약 정보(ProductSupplier)에서 조회 (공급사별 1회, 이후 메모리 인덱스)
      */
     @Transactional
     public void generatePurchases(int count) {
@@ -83,7 +83,7 @@ public class TradeDataGenerator {
             Supplier supplier = suppliers.get(random.nextInt(suppliers.size()));
 
             // 해당 공급사가 취급하는 상품 목록(ProductSupplier) 조회
-            List<ProductSupplier> supplierItems = productSupplierRepository.findBySupplier(supplier);
+            List<SupplierPriceRes> supplierItems = productSupplierPriceResolver.resolveAll(supplier.getSupplierId());
 
             User manager = managers.get(random.nextInt(managers.size()));
 
@@ -105,11 +105,11 @@ public class TradeDataGenerator {
             int itemCount = random.nextInt(Math.min(5, supplierItems.size())) + 1;
 
             for (int j = 0; j < itemCount; j++) {
-                ProductSupplier ps = supplierItems.get(random.nextInt(supplierItems.size()));
-                Product product = ps.getProduct();
+                SupplierPriceRes ps = supplierItems.get(random.nextInt(supplierItems.size()));
+                Product product = productRepository.getReferenceById(ps.getProductId());
 
                 // (만약 null이면 Product의 기본 가격 사용)
-                BigDecimal unitPrice = ps.getPurchasePrice() != null ? ps.getPurchasePrice() : product.getPrice();
+                BigDecimal unitPrice = ps.getPurchasePrice() != null ? ps.getPurchasePrice() : ps.getProductPrice();
 
                 detailList.add(PurchaseDetail.builder()
                         .purchase(purchase)
@@ -20,6 +20,8 @@ import java.time.LocalDateTime;
 @Table(name = "inbound")
 public class Inbound {
 
+    public static final String INBOUND_NO_PREFIX = "IN-";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long inboundId;
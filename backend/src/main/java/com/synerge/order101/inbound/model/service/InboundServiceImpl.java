@@ -1,5 +1,6 @@
 package com.synerge.order101.inbound.model.service;
 
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
 import com.synerge.order101.inbound.model.dto.InboundDetailResponseDto;
 import com.synerge.order101.inbound.model.dto.InboundResponseDto;
 import com.synerge.order101.inbound.model.dto.InboundSearchRequestDto;
@@ -8,6 +9,8 @@ import com.synerge.order101.inbound.model.entity.InboundDetail;
 import com.synerge.order101.inbound.model.repository.InboundDetailRepository;
 import com.synerge.order101.inbound.model.repository.InboundRepository;
 import com.synerge.order101.purchase.model.entity.Purchase;
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.service.InventoryMovementService;
 import com.synerge.order101.warehouse.model.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,7 +21,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +31,8 @@ public class InboundServiceImpl implements InboundService {
     private final InboundRepository inboundRepository;
     private final InboundDetailRepository inboundDetailRepository;
     private final InventoryService inventoryService;
+    private final InventoryMovementService inventoryMovementService;
+    private final DocumentNumberAllocator documentNumberAllocator;
 
     @Override
     @Transactional
@@ -114,11 +121,12 @@ public class InboundServiceImpl implements InboundService {
         Inbound inbound = Inbound.builder()
                 .warehouse(purchase.getWarehouse())
                 .supplier(purchase.getSupplier())
-                .inboundNo(generateInboundNo(purchase))
+                .inboundNo(documentNumberAllocator.next(Inbound.INBOUND_NO_PREFIX))
                 .build();
         inboundRepository.save(inbound);
 
         // 2. 입고 상세(InboundDetail) 생성 및 재고 증가
+        Map<Long, Integer> receivedQty = new LinkedHashMap<>();
         purchase.getPurchaseDetails().forEach(pd -> {
             // 입고 상세 저장
             InboundDetail inboundDetail = InboundDetail.builder()
@@ -129,11 +137,12 @@ public class InboundServiceImpl implements InboundService {
             inboundDetailRepository.save(inboundDetail);
 
             // [중요] 재고 증가 처리 (InventoryService 호출)
-            inventoryService.increaseInventory(pd.getProduct().getProductId(), pd.getOrderQty());
+            inventoryService.increaseInventory(purchase.getWarehouse().getWarehouseId(), pd.getProduct().getProductId(), pd.getOrderQty());
+            receivedQty.merge(pd.getProduct().getProductId(), pd.getOrderQty(), Integer::sum);
         });
-    }
 
-    private String generateInboundNo(Purchase purchase) {
-        return "IN-" + purchase.getPurchaseId() + System.currentTimeMillis();
+        // 3. 재고 이동 원장 기록
+        inventoryMovementService.recordWarehouse(ChangeType.INBOUND, inbound.getInboundNo(),
+                purchase.getWarehouse().getWarehouseId(), receivedQty);
     }
 }
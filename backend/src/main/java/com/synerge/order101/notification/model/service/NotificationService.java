@@ -173,6 +173,30 @@ public class NotificationService {
     @Transactional
     public void notifyStoreOrderResult(StoreOrder order) {
 
+        Notification notification = storeOrderResult(order);
+
+        notificationRepository.save(notification);
+
+        notificationSseService.send(String.valueOf(notification.getUserId()), notification);
+    }
+
+    // 일괄 승인 결과 알림 - 알림은 한 번에 저장하고 전송만 건별로 한다.
+    @Transactional
+    public void notifyStoreOrderResults(List<StoreOrder> orders) {
+
+        List<Notification> notifications = orders.stream()
+                .map(this::storeOrderResult)
+                .toList();
+
+        notificationRepository.saveAll(notifications);
+
+        for (Notification notification : notifications) {
+            notificationSseService.send(String.valueOf(notification.getUserId()), notification);
+        }
+    }
+
+    private Notification storeOrderResult(StoreOrder order) {
+
         User storeOwner = order.getUser();
 
         Long userId = storeOwner.getUserId();
@@ -190,7 +214,7 @@ public class NotificationService {
                 statusName
         );
 
-        Notification notification = Notification.builder()
+        return Notification.builder()
                 .userId(userId)
                 .storeId(order.getStore().getStoreId())
                 .storeOrderId(orderId)
@@ -201,10 +225,6 @@ public class NotificationService {
                 .type(approved ? NotificationType.STORE_ORDER_APPROVED : NotificationType.STORE_ORDER_REJECTED)
                 .createdAt(LocalDateTime.now())
                 .build();
-
-        notificationRepository.save(notification);
-
-        notificationSseService.send(String.valueOf(userId), notification);
     }
 
     @Transactional
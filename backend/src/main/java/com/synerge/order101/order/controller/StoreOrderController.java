@@ -2,8 +2,10 @@ package com.synerge.order101.order.controller;
 
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.common.idempotency.IdempotencyStore;
 import com.synerge.order101.order.model.dto.*;
 import com.synerge.order101.order.model.service.FranchiseOrderService;
+import com.synerge.order101.order.model.service.OrderIntakeService;
 import com.synerge.order101.order.model.service.StoreOrderService;
 import com.synerge.order101.purchase.model.dto.PurchaseSummaryResponseDto;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 
 @RestController // ResponseBody를 선언할 필요가 없어 코드가 간결해진다.
@@ -23,6 +26,7 @@ public class StoreOrderController {
 
     private final StoreOrderService storeOrderService;
     private final FranchiseOrderService franchiseOrderService;
+    private final OrderIntakeService orderIntakeService;
 
     @GetMapping("/detail/{orderId}")
     public ResponseEntity<FranchiseOrderDetailResponseDto> getFranchiseOrderDetail(
@@ -38,11 +42,16 @@ public class StoreOrderController {
      * - 요청 파라미터(RequestParam)로 상태(status)와 페이지(page)를 받아 해당 조건에 맞는 주문 목록을 반환합니다.
      */
     @GetMapping
-    public ResponseEntity<Page<StoreOrderSummaryResponseDto>> findStoreOrders(
+    public ResponseEntity<?> findStoreOrders(
             @ModelAttribute TradeSearchCondition cond,
             Pageable pageable
             ) {
 
+        // cursorMode=true 또는 cursor 가 있으면 커서 페이징
+        if (cond.isCursorPaging()) {
+            return ResponseEntity.ok(storeOrderService.findOrdersByCursor(cond, pageable.getPageSize()));
+        }
+
         Page<StoreOrderSummaryResponseDto> response = storeOrderService.findOrders(cond, pageable);
 
         return ResponseEntity.ok(response);
@@ -64,15 +73,51 @@ public class StoreOrderController {
     /**
      * 3. 가맹점 주문 생성 (POST /orders)
      * - 요청 본문(RequestBody)에서 주문 정보를 받아 새로운 주문을 생성합니다.
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재요청에 처음 생성한 결과를 돌려줍니다.
      */
     @PostMapping
-    public ResponseEntity<StoreOrderCreateResponseDto> createStoreOrder(@RequestBody StoreOrderCreateRequest request) {
+    public ResponseEntity<StoreOrderCreateResponseDto> createStoreOrder(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody StoreOrderCreateRequest request) {
+
+        StoreOrderCreateResponseDto responseDto = storeOrderService.createOrder(request, idempotencyKey);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.CREATED);
+    }
+
+    /**
+     * 3-1. 가맹점 주문 일괄 생성 (POST /orders/bulk)
+     * - 여러 주문(예: 일주일치)을 한 번의 요청으로 생성합니다. 하나라도 실패하면 전체가 반영되지 않습니다.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<StoreOrderBulkCreateResponseDto> createStoreOrders(@RequestBody StoreOrderBulkCreateRequest request) {
 
-        StoreOrderCreateResponseDto responseDto = storeOrderService.createOrder(request);
+        StoreOrderBulkCreateResponseDto responseDto = storeOrderService.createOrders(request);
 
         return new ResponseEntity<>(responseDto, HttpStatus.CREATED);
     }
 
+    /**
+     * 3-2. 가맹점 주문 비동기 접수 (POST /orders/intake)
+     * - 요청을 검증해 접수 대기열에 넣고 바로 202 와 추적 ID 를 반환합니다. 주문 생성은 워커가 처리합니다.
+     */
+    @PostMapping("/intake")
+    public ResponseEntity<OrderIntakeResponseDto> enqueueStoreOrder(@RequestBody StoreOrderCreateRequest request) {
+
+        OrderIntakeResponseDto responseDto = orderIntakeService.enqueue(request);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * 3-3. 비동기 접수 상태 조회 (GET /orders/intake/{trackingId})
+     */
+    @GetMapping("/intake/{trackingId}")
+    public ResponseEntity<OrderIntakeResponseDto> getStoreOrderIntake(@PathVariable String trackingId) {
+
+        return ResponseEntity.ok(orderIntakeService.getIntake(trackingId));
+    }
+
     /**
      * 4. 주문 승인 (PUT /orders/{storeOrderId}/{status})
      * 5. 주문 반려 (PUT /orders/{storeOrderId}/{status})
@@ -88,6 +133,18 @@ public class StoreOrderController {
         return ResponseEntity.ok(responseDto);
     }
 
+    /**
+     * 4-1. 주문 일괄 승인 (POST /orders/bulk-approval)
+     * - 여러 승인 대기 주문을 한 번에 승인합니다. 승인하지 못한 주문은 사유와 함께 결과에 포함됩니다.
+     */
+    @PostMapping("/bulk-approval")
+    public ResponseEntity<StoreOrderBulkApprovalResponseDto> approveStoreOrders(@RequestBody StoreOrderBulkApprovalRequest request) {
+
+        StoreOrderBulkApprovalResponseDto responseDto = storeOrderService.approveOrders(request);
+
+        return ResponseEntity.ok(responseDto);
+    }
+
     /**
      * 6. 주문 승인 전 창고 재고 확인 (GET /orders/{storeOrderId}/stock-check)
      * - 주문에 포함된 품목들의 창고 재고를 확인하여 부족한 품목 목록을 반환합니다.
@@ -100,4 +157,15 @@ public class StoreOrderController {
 
         return ResponseEntity.ok(responseDto);
     }
+
+    /**
+     * 7. 승인 대기 주문 일괄 재고 확인 (GET /orders/stock-check?storeOrderIds=1,2,3)
+     * - 주문별로 다른 승인 대기 주문의 예약을 제외한 가용 재고 기준 부족 품목을 반환합니다.
+     */
+    @GetMapping("/stock-check")
+    public ResponseEntity<Map<Long, StoreOrderStockCheckResponseDto>> checkStockForOrders(
+            @RequestParam List<Long> storeOrderIds) {
+
+        return ResponseEntity.ok(storeOrderService.checkStockForOrders(storeOrderIds));
+    }
 }
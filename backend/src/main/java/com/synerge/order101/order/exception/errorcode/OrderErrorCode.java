@@ -9,7 +9,14 @@ public enum OrderErrorCode implements ErrorCode {
     STORE_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER_NOT_FOUND", "해당 가맹점을 찾을 수 없습니다."),
     WAREHOUSE_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER_NOT_FOUND", "해당 창고를 찾을 수 없습니다."),
 
-    INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "INVALID_ORDER_STATUS", "유효하지 않은 주문 상태입니다.");
+    INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "INVALID_ORDER_STATUS", "유효하지 않은 주문 상태입니다."),
+    TOO_MANY_ORDERS(HttpStatus.BAD_REQUEST, "TOO_MANY_ORDERS", "한 번에 등록할 수 있는 주문 수를 초과했습니다."),
+    INVALID_ORDER_REQUEST(HttpStatus.BAD_REQUEST, "INVALID_ORDER_REQUEST", "주문 요청 값이 올바르지 않습니다."),
+
+    INTAKE_NOT_FOUND(HttpStatus.NOT_FOUND, "INTAKE_NOT_FOUND", "해당 주문 접수 건을 찾을 수 없습니다."),
+    INTAKE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "INTAKE_QUEUE_FULL", "주문 접수 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."),
+
+    INSUFFICIENT_STOCK(HttpStatus.CONFLICT, "INSUFFICIENT_STOCK", "재고가 부족한 품목이 있어 출고할 수 없습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,41 @@
+package com.synerge.order101.order.model.dto;
+
+import com.synerge.order101.order.model.entity.OrderIntake;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 비동기 주문 접수 결과 (접수 직후 202 응답 및 접수 상태 조회)
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderIntakeResponseDto {
+
+    private String trackingId;
+
+    // PENDING, PROCESSING, DONE, FAILED
+    private String status;
+
+    // DONE 인 경우 생성된 주문 (창고별로 나뉜 경우 대표 주문)
+    private Long storeOrderId;
+
+    private String orderNo;
+
+    // FAILED 인 경우 사유
+    private String errorMessage;
+
+    private LocalDateTime acceptedAt;
+
+    public static OrderIntakeResponseDto fromEntity(OrderIntake intake) {
+        return OrderIntakeResponseDto.builder()
+                .trackingId(intake.getTrackingId())
+                .status(intake.getStatus().name())
+                .storeOrderId(intake.getStoreOrderId())
+                .orderNo(intake.getOrderNo())
+                .errorMessage(intake.getErrorMessage())
+                .acceptedAt(intake.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.synerge.order101.order.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 승인 대기 주문 일괄 승인 요청 (본사 아침 승인)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreOrderBulkApprovalRequest {
+
+    private List<Long> storeOrderIds;
+}
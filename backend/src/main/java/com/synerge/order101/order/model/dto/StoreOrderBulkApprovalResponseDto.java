@@ -0,0 +1,40 @@
+package com.synerge.order101.order.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class StoreOrderBulkApprovalResponseDto {
+
+    // 요청 순서와 같은 순서의 주문별 처리 결과
+    private List<Result> results;
+
+    private int approvedCount;
+
+    private int failedCount;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Result {
+
+        private Long storeOrderId;
+
+        private String orderNo;
+
+        private boolean approved;
+
+        // 승인된 주문의 출고번호
+        private String outboundNo;
+
+        // 승인하지 못한 사유 (ORDER_NOT_FOUND, INVALID_ORDER_STATUS, INSUFFICIENT_STOCK 등)
+        private String failureCode;
+
+        private String failureMessage;
+    }
+}
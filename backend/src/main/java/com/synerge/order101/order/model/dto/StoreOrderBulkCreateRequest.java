@@ -0,0 +1,18 @@
+package com.synerge.order101.order.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 여러 주문 일괄 등록 요청 (예: 가맹점의 일주일치 주문)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreOrderBulkCreateRequest {
+
+    private List<StoreOrderCreateRequest> orders;
+}
@@ -0,0 +1,18 @@
+package com.synerge.order101.order.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class StoreOrderBulkCreateResponseDto {
+
+    // 요청 순서와 같은 순서의 주문별 생성 결과
+    private List<StoreOrderCreateResponseDto> results;
+
+    private int lineCount;
+}
@@ -3,11 +3,39 @@ package com.synerge.order101.order.model.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
 
 @Getter
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class StoreOrderCreateResponseDto {
     private Long storeOrderId;
     private String orderNo;
+
+    // 창고별로 나뉘어 생성된 주문 목록 (첫 번째가 storeOrderId 와 같은 주문)
+    private List<SplitOrder> orders;
+
+    // 모든 품목이 창고 가용 재고로 예약되었는지 여부 (false 면 승인 전 재고 확인에서 부족으로 나온다)
+    private boolean fullyReserved;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SplitOrder {
+        private Long storeOrderId;
+        private String orderNo;
+        private Long warehouseId;
+        private List<UnreservedItem> unreservedItems;  // 가용 재고 부족으로 예약하지 못한 품목
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UnreservedItem {
+        private Long productId;
+        private Integer unreservedQty;  // 예약하지 못한 수량
+    }
 }
@@ -0,0 +1,42 @@
+package com.synerge.order101.order.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 일 판매량 집계 (승인된 가맹점 주문 기준)
+ * - 주문이 CONFIRMED 로 바뀔 때 증가, CONFIRMED 에서 벗어날 때 차감한다.
+ * - 증감 누락은 DailyProductSalesService.rebuild 로 원본 주문에서 다시 집계해 맞춘다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "daily_product_sales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_product_sales", columnNames = {"product_id", "sales_date"}),
+        indexes = @Index(name = "idx_daily_product_sales_date", columnList = "sales_date, product_id, sales_qty")
+)
+public class DailyProductSales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_product_sales_id")
+    private Long dailyProductSalesId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "sales_qty", nullable = false)
+    private Integer salesQty;
+
+    @Column(name = "updated_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,115 @@
+package com.synerge.order101.order.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점 주문 접수 대기열 (202 Accepted 비동기 접수)
+ * - 요청은 검증 후 PENDING 으로 쌓이고, 워커가 가맹점별로 돌아가며 묶음으로 꺼내 실제 주문으로 만든다.
+ * - 꺼낼 때는 claim_token 을 찍는 조건부 UPDATE 로 선점한다.
+ *   주문 생성은 선점 트랜잭션이 끝난 뒤 건별 트랜잭션에서 돌기 때문에 행 잠금으로는 소유를 이어갈 수 없고,
+ *   배포 DB(docker-compose 의 mariadb:10.5)는 SKIP LOCKED 를 지원하지 않는다. (10.6 부터 지원)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "order_intake",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_intake_tracking", columnNames = "tracking_id"),
+        indexes = {
+                @Index(name = "idx_order_intake_pending", columnList = "status, store_id, intake_id"),
+                @Index(name = "idx_order_intake_claim", columnList = "claim_token")
+        }
+)
+public class OrderIntake {
+
+    public enum Status { PENDING, PROCESSING, DONE, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "intake_id")
+    private Long intakeId;
+
+    @Column(name = "tracking_id", nullable = false, length = 36)
+    private String trackingId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    // 접수 요청 원문 (StoreOrderCreateRequest JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    // 처리 결과 (창고별로 나뉜 경우 대표 주문)
+    @Column(name = "store_order_id")
+    private Long storeOrderId;
+
+    @Column(name = "order_no")
+    private String orderNo;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+
+    public static OrderIntake pending(String trackingId, Long storeId, String payload) {
+        OrderIntake intake = new OrderIntake();
+        intake.trackingId = trackingId;
+        intake.storeId = storeId;
+        intake.payload = payload;
+        intake.status = Status.PENDING;
+        intake.attempts = 0;
+        intake.createdAt = LocalDateTime.now();
+        intake.updatedAt = intake.createdAt;
+        return intake;
+    }
+
+    // 지금도 이 선점 토큰으로 처리 중인지 (멈춘 건으로 되돌려져 다른 워커가 다시 가져갔으면 false)
+    public boolean isClaimedBy(String claimToken) {
+        return status == Status.PROCESSING && claimToken != null && claimToken.equals(this.claimToken);
+    }
+
+    public void complete(Long storeOrderId, String orderNo) {
+        this.status = Status.DONE;
+        this.storeOrderId = storeOrderId;
+        this.orderNo = orderNo;
+        this.errorMessage = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = Status.FAILED;
+        this.errorMessage = truncate(errorMessage);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 일시적 오류로 다시 대기열에 넣는다.
+    public void retry(String errorMessage) {
+        this.status = Status.PENDING;
+        this.claimToken = null;
+        this.errorMessage = truncate(errorMessage);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
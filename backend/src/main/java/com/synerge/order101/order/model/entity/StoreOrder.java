@@ -27,6 +27,8 @@ import java.util.concurrent.ThreadLocalRandom;
 @Table(name = "store_order")
 public class StoreOrder {
 
+    public static final String ORDER_NO_PREFIX = "OR";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "store_order_id")
@@ -91,14 +93,15 @@ public class StoreOrder {
         LocalDateTime now = LocalDateTime.now();
         if (createdAt == null) createdAt = now;
         updatedAt = now;
-        orderNo = this.generateOrderNo();
+        // 서비스에서 DocumentNumberAllocator 로 발급하지 않은 경우만 생성
+        if (orderNo == null) orderNo = this.generateOrderNo();
     }
 
     public String generateOrderNo() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
         String datePart = LocalDateTime.now().format(formatter);
         int randomNum = ThreadLocalRandom.current().nextInt(1000, 9999);
-        return "OR" + datePart + randomNum;
+        return ORDER_NO_PREFIX + datePart + randomNum;
     }
 
     public void updateShipmentStatus(ShipmentStatus newStatus) {
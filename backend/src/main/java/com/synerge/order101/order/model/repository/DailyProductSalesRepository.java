@@ -0,0 +1,88 @@
+package com.synerge.order101.order.model.repository;
+
+import com.synerge.order101.order.model.entity.DailyProductSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, Long> {
+
+    // 주문 한 건의 품목 수량을 (상품, 일자)별로 증감 (없으면 생성)
+    // 일자는 원본 재집계와 같은 기준이 되도록 DB 에서 주문일시로 계산한다.
+    @Modifying
+    @Query(value = """
+        INSERT INTO daily_product_sales (product_id, sales_date, sales_qty, updated_at)
+        SELECT d.product_id, CAST(o.order_datetime AS DATE), SUM(d.order_qty) * :sign, NOW(6)
+        FROM store_order_detail d
+        JOIN store_order o ON o.store_order_id = d.store_order_id
+        WHERE o.store_order_id = :storeOrderId
+          AND o.order_datetime IS NOT NULL
+        GROUP BY d.product_id, CAST(o.order_datetime AS DATE)
+        ON DUPLICATE KEY UPDATE
+            sales_qty = sales_qty + VALUES(sales_qty),
+            updated_at = NOW(6)
+    """, nativeQuery = true)
+    int addOrderSales(@Param("storeOrderId") Long storeOrderId,
+                      @Param("sign") int sign);
+
+    // 여러 주문의 품목 수량을 (상품, 일자)별로 한 번에 증감 (일괄 승인)
+    @Modifying
+    @Query(value = """
+        INSERT INTO daily_product_sales (product_id, sales_date, sales_qty, updated_at)
+        SELECT d.product_id, CAST(o.order_datetime AS DATE), SUM(d.order_qty) * :sign, NOW(6)
+        FROM store_order_detail d
+        JOIN store_order o ON o.store_order_id = d.store_order_id
+        WHERE o.store_order_id IN (:storeOrderIds)
+          AND o.order_datetime IS NOT NULL
+        GROUP BY d.product_id, CAST(o.order_datetime AS DATE)
+        ON DUPLICATE KEY UPDATE
+            sales_qty = sales_qty + VALUES(sales_qty),
+            updated_at = NOW(6)
+    """, nativeQuery = true)
+    int addOrdersSales(@Param("storeOrderIds") Collection<Long> storeOrderIds,
+                       @Param("sign") int sign);
+
+    // 기간 집계 삭제 [fromDate, toDate)
+    @Modifying
+    @Query(value = """
+        DELETE FROM daily_product_sales
+        WHERE sales_date >= :fromDate
+          AND sales_date < :toDate
+    """, nativeQuery = true)
+    int deleteBetween(@Param("fromDate") LocalDate fromDate,
+                      @Param("toDate") LocalDate toDate);
+
+    // 원본 주문에서 기간 집계 재생성 [fromDt, toDt)
+    @Modifying
+    @Query(value = """
+        INSERT INTO daily_product_sales (product_id, sales_date, sales_qty, updated_at)
+        SELECT d.product_id, CAST(o.order_datetime AS DATE), SUM(d.order_qty), NOW(6)
+        FROM store_order_detail d
+        JOIN store_order o ON o.store_order_id = d.store_order_id
+        WHERE o.order_status = 'CONFIRMED'
+          AND o.order_datetime >= :fromDt
+          AND o.order_datetime < :toDt
+        GROUP BY d.product_id, CAST(o.order_datetime AS DATE)
+    """, nativeQuery = true)
+    int insertAggregatedBetween(@Param("fromDt") LocalDateTime fromDt,
+                                @Param("toDt") LocalDateTime toDt);
+
+    // 기간 내 판매 이력 - [productId, salesQty]
+    @Query("""
+        SELECT s.productId, s.salesQty
+        FROM DailyProductSales s
+        WHERE s.salesDate >= :fromDate
+          AND s.salesQty > 0
+    """)
+    List<Object[]> findSalesSince(@Param("fromDate") LocalDate fromDate);
+
+    boolean existsBySalesDateGreaterThanEqual(LocalDate fromDate);
+}
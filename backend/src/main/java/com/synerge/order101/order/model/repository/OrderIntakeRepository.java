@@ -0,0 +1,74 @@
+package com.synerge.order101.order.model.repository;
+
+import com.synerge.order101.order.model.entity.OrderIntake;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderIntakeRepository extends JpaRepository<OrderIntake, Long> {
+
+    Optional<OrderIntake> findByTrackingId(String trackingId);
+
+    long countByStatus(OrderIntake.Status status);
+
+    // 가맹점별 가장 오래된 대기 건부터 돌아가며 (1번째끼리, 2번째끼리 ...) 최대 perStore 건씩 고른다.
+    @Query(value = """
+        SELECT t.intake_id
+        FROM (
+            SELECT i.intake_id,
+                   ROW_NUMBER() OVER (PARTITION BY i.store_id ORDER BY i.intake_id) AS rn
+            FROM order_intake i
+            WHERE i.status = 'PENDING'
+        ) t
+        WHERE t.rn <= :perStore
+        ORDER BY t.rn, t.intake_id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findFairPendingIds(@Param("perStore") int perStore,
+                                  @Param("limit") int limit);
+
+    // 조건부 선점 - 다른 워커가 먼저 가져간 행은 status 조건에서 빠진다.
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update OrderIntake i
+        set i.status = com.synerge.order101.order.model.entity.OrderIntake.Status.PROCESSING,
+            i.claimToken = :claimToken,
+            i.attempts = i.attempts + 1,
+            i.updatedAt = :now
+        where i.intakeId in :intakeIds
+          and i.status = com.synerge.order101.order.model.entity.OrderIntake.Status.PENDING
+    """)
+    int claim(@Param("intakeIds") Collection<Long> intakeIds,
+              @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now);
+
+    List<OrderIntake> findByClaimTokenOrderByIntakeIdAsc(String claimToken);
+
+    // 처리 트랜잭션에서 접수 행을 잠가 releaseStale/다른 워커와 직렬화한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from OrderIntake i where i.intakeId = :intakeId")
+    Optional<OrderIntake> findByIdForUpdate(@Param("intakeId") Long intakeId);
+
+    // 워커가 처리 중에 죽어 PROCESSING 으로 남은 행을 대기열로 되돌린다.
+    @Modifying
+    @Query("""
+        update OrderIntake i
+        set i.status = com.synerge.order101.order.model.entity.OrderIntake.Status.PENDING,
+            i.claimToken = null,
+            i.updatedAt = :now
+        where i.status = com.synerge.order101.order.model.entity.OrderIntake.Status.PROCESSING
+          and i.updatedAt < :cutoff
+    """)
+    int releaseStale(@Param("cutoff") LocalDateTime cutoff,
+                     @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,58 @@
+package com.synerge.order101.order.model.repository;
+
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가맹점 주문 상세 일괄 저장 (JDBC 배치)
+ * - IDENTITY 전략이라 JPA 로 저장하면 상세 한 줄마다 INSERT 를 따로 보낸다.
+ * - 주문 접수 시에는 생성된 상세 ID 가 필요 없으므로 한 번의 배치로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreOrderDetailJdbcRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO store_order_detail (store_order_id, product_id, order_qty, unit_price, amount, created_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 줄별 반영 건수
+     */
+    public int[] insertAll(List<StoreOrderDetail> details) {
+        if (details.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StoreOrderDetail detail = details.get(i);
+                ps.setLong(1, detail.getStoreOrder().getStoreOrderId());
+                ps.setLong(2, detail.getProduct().getProductId());
+                ps.setInt(3, detail.getOrderQty());
+                ps.setBigDecimal(4, detail.getUnitPrice());
+                ps.setBigDecimal(5, detail.getAmount());
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return details.size();
+            }
+        });
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,16 @@ public interface StoreOrderDetailRepository extends JpaRepository<StoreOrderDeta
 
     List<StoreOrderDetail> findByStoreOrder_StoreOrderId(Long storeOrderId);
 
+    // 여러 주문의 품목 + 상품 일괄 조회
+    @Query("""
+        SELECT d
+        FROM StoreOrderDetail d
+        JOIN FETCH d.product
+        WHERE d.storeOrder.storeOrderId IN :storeOrderIds
+        ORDER BY d.storeOrderDetailId
+    """)
+    List<StoreOrderDetail> findWithProductByStoreOrderIds(@Param("storeOrderIds") Collection<Long> storeOrderIds);
+
     @Query("""
         SELECT SUM(d.orderQty)
         FROM StoreOrderDetail d
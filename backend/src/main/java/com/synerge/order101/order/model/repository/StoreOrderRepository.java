@@ -1,15 +1,22 @@
 package com.synerge.order101.order.model.repository;
 
 import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.common.enums.ShipmentStatus;
 import com.synerge.order101.order.model.dto.StoreOrderSummaryResponseDto;
 import com.synerge.order101.order.model.entity.StoreOrder;
+import jakarta.persistence.LockModeType;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface StoreOrderRepository extends JpaRepository<StoreOrder, Long>,StoreOrderRepositoryCustom {
 
@@ -30,4 +37,36 @@ public interface StoreOrderRepository extends JpaRepository<StoreOrder, Long>,St
             @Param("from") LocalDateTime from,
             @Param("to") LocalDateTime to
     );
+
+    // 일괄 승인 대상 주문 (동시 승인으로 두 번 출고되지 않도록 ID 순서로 잠근다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select o
+        from StoreOrder o
+        where o.storeOrderId in :storeOrderIds
+        order by o.storeOrderId
+    """)
+    List<StoreOrder> findAllByIdForUpdate(@Param("storeOrderIds") Collection<Long> storeOrderIds);
+
+    // 단건 상태 변경 대상 주문 (일괄 승인과 같은 행 잠금으로 직렬화한다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select o
+        from StoreOrder o
+        where o.storeOrderId = :storeOrderId
+    """)
+    Optional<StoreOrder> findByIdForUpdate(@Param("storeOrderId") Long storeOrderId);
+
+    // 배송 상태 변경분 일괄 반영 (승인된 주문만)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update StoreOrder o
+        set o.shipmentStatus = :shipmentStatus,
+            o.updatedAt = :now
+        where o.storeOrderId in :storeOrderIds
+          and o.orderStatus = com.synerge.order101.common.enums.OrderStatus.CONFIRMED
+    """)
+    int updateShipmentStatusOfConfirmed(@Param("storeOrderIds") Collection<Long> storeOrderIds,
+                                        @Param("shipmentStatus") ShipmentStatus shipmentStatus,
+                                        @Param("now") LocalDateTime now);
 }
@@ -1,7 +1,9 @@
 package com.synerge.order101.order.model.repository;
 
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.order.model.dto.StoreOrderSummaryResponseDto;
 import com.synerge.order101.order.model.entity.StoreOrder;
 import com.synerge.order101.settlement.model.entity.Settlement;
 import org.springframework.data.domain.Page;
@@ -14,5 +16,13 @@ public interface StoreOrderRepositoryCustom {
      * @param pageable 페이징 정보
      * @return 페이징된 정산 목록
      */
-    Page<StoreOrder> search(TradeSearchCondition cond, Pageable pageable);
+    Page<StoreOrderSummaryResponseDto> search(TradeSearchCondition cond, Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 기반 목록 조회
+     * @param cond 검색 조건 (cursor 가 없으면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 목록과 hasNext/nextCursor
+     */
+    CursorPageResponseDto<StoreOrderSummaryResponseDto> searchByCursor(TradeSearchCondition cond, int size);
 }
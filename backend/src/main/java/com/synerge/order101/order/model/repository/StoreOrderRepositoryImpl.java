@@ -1,12 +1,21 @@
 package com.synerge.order101.order.model.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.common.dto.CursorPageResponseDto;
+import com.synerge.order101.common.dto.TradeCursor;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
 import com.synerge.order101.common.enums.SettlementType;
+import com.synerge.order101.order.model.dto.StoreOrderSummaryResponseDto;
 import com.synerge.order101.order.model.entity.QStoreOrder;
+import com.synerge.order101.order.model.entity.QStoreOrderDetail;
 import com.synerge.order101.order.model.entity.StoreOrder;
 import com.synerge.order101.purchase.model.entity.Purchase;
 import com.synerge.order101.settlement.model.entity.Settlement;
@@ -15,11 +24,12 @@ import com.synerge.order101.supplier.model.entity.QSupplier;
 import com.synerge.order101.user.model.entity.QUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -32,37 +42,102 @@ import static com.synerge.order101.order.model.entity.QStoreOrder.storeOrder;
 @RequiredArgsConstructor
 public class StoreOrderRepositoryImpl implements StoreOrderRepositoryCustom{
 
+    private static final String COUNT_DOMAIN = "storeOrder";
+
     private final JPAQueryFactory queryFactory;
+    private final TradeCountCache tradeCountCache;
 
     @Override
-    public Page<StoreOrder> search(TradeSearchCondition cond, Pageable pageable) {
+    public Page<StoreOrderSummaryResponseDto> search(TradeSearchCondition cond, Pageable pageable) {
 
         //데이터 목록 조회
-        List<StoreOrder> content = queryFactory
-                .selectFrom(storeOrder)
-                .where(
-                        statusIn(cond.getStatuses()),
-                        searchTextContains(cond.getSearchText()),
-                        DateBetween(cond.getFromDate(), cond.getToDate()),
-                        storeIdEq(cond.getVendorId())
-                )
+        List<StoreOrderSummaryResponseDto> content = summaryQuery(cond)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(storeOrder.createdAt.desc())
                 .fetch();
-        // 전체 카운트 조회
+
+        // 전체 카운트: 계산 가능하면 생략하고, 필요하면 정확한 count (캐시 추정치는 커서 조회의 withCount 에서만)
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(cond));
+    }
+
+    @Override
+    public CursorPageResponseDto<StoreOrderSummaryResponseDto> searchByCursor(TradeSearchCondition cond, int size) {
+        TradeCursor cursor = StringUtils.hasText(cond.getCursor()) ? TradeCursor.decode(cond.getCursor()) : null;
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<StoreOrderSummaryResponseDto> rows = summaryQuery(cond)
+                .where(cursorBefore(cursor))
+                .orderBy(storeOrder.createdAt.desc(), storeOrder.storeOrderId.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        CursorPageResponseDto<StoreOrderSummaryResponseDto> page = CursorPageResponseDto.of(rows, size,
+                StoreOrderSummaryResponseDto::getOrderDate, StoreOrderSummaryResponseDto::getStoreOrderId);
+
+        if (Boolean.TRUE.equals(cond.getWithCount())) {
+            return page.withTotalCount(tradeCountCache.get(COUNT_DOMAIN, cond, () -> count(cond)));
+        }
+        return page;
+    }
+
+    // 목록 프로젝션 (품목 수/금액/수량은 DB 서브쿼리로 집계)
+    private JPAQuery<StoreOrderSummaryResponseDto> summaryQuery(TradeSearchCondition cond) {
+        QStoreOrderDetail storeOrderDetail = QStoreOrderDetail.storeOrderDetail;
+
+        return queryFactory
+                .select(Projections.constructor(StoreOrderSummaryResponseDto.class,
+                        storeOrder.storeOrderId,
+                        storeOrder.orderNo,
+                        QStore.store.storeName.coalesce("삭제된 매장"),
+                        JPAExpressions
+                                .select(storeOrderDetail.count().intValue())
+                                .from(storeOrderDetail)
+                                .where(storeOrderDetail.storeOrder.eq(storeOrder)),
+                        JPAExpressions
+                                .select(storeOrderDetail.amount.coalesce(BigDecimal.ZERO).sum()
+                                        .coalesce(BigDecimal.ZERO))
+                                .from(storeOrderDetail)
+                                .where(storeOrderDetail.storeOrder.eq(storeOrder)),
+                        JPAExpressions
+                                .select(storeOrderDetail.orderQty.coalesce(0).longValue().sum()
+                                        .coalesce(0L).intValue())
+                                .from(storeOrderDetail)
+                                .where(storeOrderDetail.storeOrder.eq(storeOrder)),
+                        storeOrder.createdAt,
+                        storeOrder.orderStatus
+                ))
+                .from(storeOrder)
+                .leftJoin(storeOrder.store, QStore.store)
+                .where(searchConditions(cond));
+    }
+
+    private long count(TradeSearchCondition cond) {
         Long total = queryFactory
                 .select(storeOrder.count())
                 .from(storeOrder)
-                .where(
-                        statusIn(cond.getStatuses()),
-                        searchTextContains(cond.getSearchText()),
-                        DateBetween(cond.getFromDate(), cond.getToDate()),
-                        storeIdEq(cond.getVendorId())
-                )
+                .where(searchConditions(cond))
                 .fetchOne();
+        return total != null ? total : 0;
+    }
+
+    private Predicate[] searchConditions(TradeSearchCondition cond) {
+        return new Predicate[]{
+                statusIn(cond.getStatuses()),
+                searchTextContains(cond.getSearchText()),
+                DateBetween(cond.getFromDate(), cond.getToDate()),
+                storeIdEq(cond.getVendorId())
+        };
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    // (createdAt, id) 가 커서보다 앞선(더 오래된) 행만
+    private BooleanExpression cursorBefore(TradeCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return storeOrder.createdAt.lt(cursor.getCreatedAt())
+                .or(storeOrder.createdAt.eq(cursor.getCreatedAt())
+                        .and(storeOrder.storeOrderId.lt(cursor.getId())));
     }
 
     // --- 동적 쿼리 조건을 생성하는 BooleanExpression 메소드들 ---}
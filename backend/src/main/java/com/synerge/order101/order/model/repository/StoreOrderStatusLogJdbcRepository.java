@@ -0,0 +1,60 @@
+package com.synerge.order101.order.model.repository;
+
+import com.synerge.order101.order.model.entity.StoreOrderStatusLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 상태 이력 일괄 저장 (JDBC 배치)
+ * - 일괄 승인처럼 여러 주문의 상태가 한 번에 바뀔 때 이력을 한 번의 배치로 남긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreOrderStatusLogJdbcRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO store_order_status_log (store_order_id, updated_at, prev_order_status, cur_order_status)
+        VALUES (?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 이력별 반영 건수
+     */
+    public int[] insertAll(List<StoreOrderStatusLog> logs) {
+        if (logs.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StoreOrderStatusLog log = logs.get(i);
+                ps.setLong(1, log.getStoreOrder().getStoreOrderId());
+                ps.setTimestamp(2, log.getUpdated_at() == null ? now : Timestamp.valueOf(log.getUpdated_at()));
+                if (log.getPrevStatus() == null) {
+                    ps.setNull(3, Types.VARCHAR);
+                } else {
+                    ps.setString(3, log.getPrevStatus().name());
+                }
+                ps.setString(4, log.getCurStatus().name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return logs.size();
+            }
+        });
+    }
+}
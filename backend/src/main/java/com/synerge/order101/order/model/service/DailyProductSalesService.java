@@ -0,0 +1,24 @@
+package com.synerge.order101.order.model.service;
+
+import com.synerge.order101.order.model.entity.StoreOrder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyProductSalesService {
+
+    // 승인된 주문의 품목 수량을 일 판매량에 반영
+    void applyConfirmed(StoreOrder order);
+
+    // 일괄 승인된 주문들의 품목 수량을 한 번에 일 판매량에 반영
+    void applyConfirmedAll(List<StoreOrder> orders);
+
+    // 승인이 취소/변경된 주문의 품목 수량을 일 판매량에서 차감
+    void revertConfirmed(StoreOrder order);
+
+    // [fromDate, toDate) 기간 일 판매량을 원본 주문에서 다시 집계
+    int rebuild(LocalDate fromDate, LocalDate toDate);
+
+    // 기간 내 집계가 하나라도 있는지 여부
+    boolean hasRollupSince(LocalDate fromDate);
+}
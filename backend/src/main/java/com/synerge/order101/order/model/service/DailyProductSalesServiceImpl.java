@@ -0,0 +1,68 @@
+package com.synerge.order101.order.model.service;
+
+import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.repository.DailyProductSalesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyProductSalesServiceImpl implements DailyProductSalesService {
+
+    private final DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Override
+    @Transactional
+    public void applyConfirmed(StoreOrder order) {
+        add(order, 1);
+    }
+
+    @Override
+    @Transactional
+    public void applyConfirmedAll(List<StoreOrder> orders) {
+        List<Long> storeOrderIds = orders.stream()
+                .filter(order -> order.getOrderDatetime() != null)
+                .map(StoreOrder::getStoreOrderId)
+                .toList();
+        if (storeOrderIds.isEmpty()) return;
+
+        dailyProductSalesRepository.addOrdersSales(storeOrderIds, 1);
+    }
+
+    @Override
+    @Transactional
+    public void revertConfirmed(StoreOrder order) {
+        add(order, -1);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(LocalDate fromDate, LocalDate toDate) {
+        int deleted = dailyProductSalesRepository.deleteBetween(fromDate, toDate);
+        int inserted = dailyProductSalesRepository.insertAggregatedBetween(
+                fromDate.atStartOfDay(),
+                toDate.atStartOfDay()
+        );
+        log.info("[일 판매량 집계] {} ~ {} 재집계: 삭제 {}건, 생성 {}건", fromDate, toDate, deleted, inserted);
+        return inserted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasRollupSince(LocalDate fromDate) {
+        return dailyProductSalesRepository.existsBySalesDateGreaterThanEqual(fromDate);
+    }
+
+    private void add(StoreOrder order, int sign) {
+        // 주문일시가 없는 주문은 판매량 조회 대상이 아니다.
+        if (order.getOrderDatetime() == null) return;
+
+        dailyProductSalesRepository.addOrderSales(order.getStoreOrderId(), sign);
+    }
+}
@@ -0,0 +1,16 @@
+package com.synerge.order101.order.model.service;
+
+import com.synerge.order101.order.model.dto.OrderIntakeResponseDto;
+import com.synerge.order101.order.model.dto.StoreOrderCreateRequest;
+
+public interface OrderIntakeService {
+
+    // 주문 요청을 검증해 접수 대기열에 넣고 추적 ID 를 돌려준다. (대기열이 가득 차면 INTAKE_QUEUE_FULL)
+    OrderIntakeResponseDto enqueue(StoreOrderCreateRequest request);
+
+    // 접수 상태 조회
+    OrderIntakeResponseDto getIntake(String trackingId);
+
+    // 대기열에서 한 묶음을 꺼내 주문으로 만든다. 꺼낸 건수를 반환한다.
+    int drainBatch();
+}
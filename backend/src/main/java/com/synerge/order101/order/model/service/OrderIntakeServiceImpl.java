@@ -0,0 +1,227 @@
+package com.synerge.order101.order.model.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.order.exception.errorcode.OrderErrorCode;
+import com.synerge.order101.order.model.dto.OrderIntakeResponseDto;
+import com.synerge.order101.order.model.dto.StoreOrderCreateRequest;
+import com.synerge.order101.order.model.dto.StoreOrderCreateResponseDto;
+import com.synerge.order101.order.model.entity.OrderIntake;
+import com.synerge.order101.order.model.repository.OrderIntakeRepository;
+import com.synerge.order101.store.model.repository.StoreRepository;
+import com.synerge.order101.user.model.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가맹점 주문 비동기 접수
+ * - 요청 스레드는 검증 후 order_intake 에 한 줄 쌓고 바로 돌아간다. (주문 생성/본사 알림은 워커에서)
+ * - 대기 건수가 capacity 를 넘으면 새 접수를 거절해 DB 가 밀리는 것을 막는다.
+ * - 워커는 가맹점별로 돌아가며 한 묶음을 선점하고, 가상 스레드에서 건별 트랜잭션으로 처리한다.
+ *   동시 처리 수는 concurrency 로 제한한다. (커넥션 풀보다 작게)
+ * - 처리 트랜잭션은 접수 행을 잠그고 아직 내 선점 토큰으로 PROCESSING 인지 확인한 뒤에만 주문을 만든다.
+ *   오래 걸린 건이 releaseStale 로 되돌려져 다른 워커가 다시 가져갔으면 건너뛰어 주문이 두 번 생기지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIntakeServiceImpl implements OrderIntakeService {
+
+    private final OrderIntakeRepository orderIntakeRepository;
+    private final StoreRepository storeRepository;
+    private final UserRepository userRepository;
+    private final StoreOrderService storeOrderService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Value("${app.order-intake.capacity:5000}")
+    private int capacity = 5000;
+
+    @Value("${app.order-intake.batch-size:50}")
+    private int batchSize = 50;
+
+    // 한 묶음에서 가맹점 하나가 차지할 수 있는 최대 건수
+    @Value("${app.order-intake.per-store-limit:5}")
+    private int perStoreLimit = 5;
+
+    @Value("${app.order-intake.concurrency:8}")
+    private int concurrency = 8;
+
+    @Value("${app.order-intake.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    // 이 시간 넘게 PROCESSING 인 건은 워커가 죽은 것으로 보고 되돌린다.
+    @Value("${app.order-intake.stale-seconds:300}")
+    private int staleSeconds = 300;
+
+    @PostConstruct
+    void registerGauges() {
+        meterRegistry.gauge("order_intake.queue.depth", queueDepth);
+        meterRegistry.gauge("order_intake.in_flight", inFlight);
+    }
+
+    @Override
+    @Transactional
+    public OrderIntakeResponseDto enqueue(StoreOrderCreateRequest request) {
+        validate(request);
+
+        long pending = orderIntakeRepository.countByStatus(OrderIntake.Status.PENDING);
+        queueDepth.set(pending);
+        if (pending >= capacity) {
+            meterRegistry.counter("order_intake.rejected").increment();
+            log.warn("[주문 접수] 대기열 가득 참 pending={}, capacity={}, storeId={}", pending, capacity, request.getStoreId());
+            throw new CustomException(OrderErrorCode.INTAKE_QUEUE_FULL);
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(OrderErrorCode.INVALID_ORDER_REQUEST);
+        }
+
+        OrderIntake intake = orderIntakeRepository.save(
+                OrderIntake.pending(UUID.randomUUID().toString(), request.getStoreId(), payload));
+        queueDepth.incrementAndGet();
+        meterRegistry.counter("order_intake.enqueued").increment();
+
+        return OrderIntakeResponseDto.fromEntity(intake);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderIntakeResponseDto getIntake(String trackingId) {
+        return orderIntakeRepository.findByTrackingId(trackingId)
+                .map(OrderIntakeResponseDto::fromEntity)
+                .orElseThrow(() -> new CustomException(OrderErrorCode.INTAKE_NOT_FOUND));
+    }
+
+    @Override
+    public int drainBatch() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        List<OrderIntake> claimed = tx.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int released = orderIntakeRepository.releaseStale(now.minusSeconds(staleSeconds), now);
+            if (released > 0) {
+                log.warn("[주문 접수] 처리 중 멈춘 {}건을 대기열로 되돌림", released);
+            }
+
+            List<Long> ids = orderIntakeRepository.findFairPendingIds(perStoreLimit, batchSize);
+            if (ids.isEmpty()) return List.of();
+
+            String claimToken = UUID.randomUUID().toString();
+            orderIntakeRepository.claim(ids, claimToken, now);
+            return orderIntakeRepository.findByClaimTokenOrderByIntakeIdAsc(claimToken);
+        });
+        queueDepth.set(orderIntakeRepository.countByStatus(OrderIntake.Status.PENDING));
+
+        if (claimed == null || claimed.isEmpty()) return 0;
+        meterRegistry.summary("order_intake.batch.size").record(claimed.size());
+
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (OrderIntake intake : claimed) {
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    inFlight.incrementAndGet();
+                    try {
+                        process(intake, tx);
+                    } finally {
+                        inFlight.decrementAndGet();
+                        permits.release();
+                    }
+                });
+            }
+        }
+        return claimed.size();
+    }
+
+    private void process(OrderIntake intake, TransactionTemplate tx) {
+        Long intakeId = intake.getIntakeId();
+        String claimToken = intake.getClaimToken();
+        try {
+            StoreOrderCreateRequest request = objectMapper.readValue(intake.getPayload(), StoreOrderCreateRequest.class);
+
+            Boolean processed = tx.execute(status -> {
+                OrderIntake locked = orderIntakeRepository.findByIdForUpdate(intakeId).orElse(null);
+                if (locked == null || !locked.isClaimedBy(claimToken)) return false;
+
+                StoreOrderCreateResponseDto created = storeOrderService.createOrder(request);
+                locked.complete(created.getStoreOrderId(), created.getOrderNo());
+                return true;
+            });
+            if (!Boolean.TRUE.equals(processed)) {
+                meterRegistry.counter("order_intake.processed", "result", "skipped").increment();
+                log.warn("[주문 접수] 선점이 풀린 건 건너뜀 trackingId={}", intake.getTrackingId());
+                return;
+            }
+
+            meterRegistry.counter("order_intake.processed", "result", "done").increment();
+            meterRegistry.timer("order_intake.latency")
+                    .record(Duration.between(intake.getCreatedAt(), LocalDateTime.now()));
+        } catch (CustomException | IllegalArgumentException | JsonProcessingException e) {
+            // 다시 해도 같은 결과인 오류 (없는 상품/창고 등)
+            finish(tx, intakeId, claimToken, false, e.getMessage());
+            meterRegistry.counter("order_intake.processed", "result", "failed").increment();
+            log.warn("[주문 접수] 처리 실패 trackingId={}: {}", intake.getTrackingId(), e.getMessage());
+        } catch (Exception e) {
+            boolean retry = intake.getAttempts() < maxAttempts;
+            finish(tx, intakeId, claimToken, retry, e.getMessage());
+            meterRegistry.counter("order_intake.processed", "result", retry ? "retry" : "failed").increment();
+            log.error("[주문 접수] 처리 오류 trackingId={}, attempts={}: {}",
+                    intake.getTrackingId(), intake.getAttempts(), e.getMessage(), e);
+        }
+    }
+
+    private void finish(TransactionTemplate tx, Long intakeId, String claimToken, boolean retry, String message) {
+        tx.executeWithoutResult(status -> orderIntakeRepository.findByIdForUpdate(intakeId).ifPresent(i -> {
+            if (!i.isClaimedBy(claimToken)) return;
+            if (retry) {
+                i.retry(message);
+            } else {
+                i.fail(message);
+            }
+        }));
+    }
+
+    private void validate(StoreOrderCreateRequest request) {
+        if (request == null || request.getStoreId() == null || request.getUserId() == null
+                || request.getItems() == null || request.getItems().isEmpty()) {
+            throw new CustomException(OrderErrorCode.INVALID_ORDER_REQUEST);
+        }
+        for (StoreOrderCreateRequest.Item item : request.getItems()) {
+            if (item.getProductId() == null || item.getOrderQty() == null || item.getOrderQty() <= 0) {
+                throw new CustomException(OrderErrorCode.INVALID_ORDER_REQUEST);
+            }
+        }
+        if (!storeRepository.existsById(request.getStoreId())) {
+            throw new CustomException(OrderErrorCode.STORE_NOT_FOUND);
+        }
+        if (!userRepository.existsById(request.getUserId())) {
+            throw new CustomException(OrderErrorCode.ORDER_NOT_FOUND);
+        }
+    }
+}
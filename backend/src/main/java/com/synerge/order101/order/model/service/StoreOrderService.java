@@ -1,5 +1,6 @@
 package com.synerge.order101.order.model.service;
 
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
 import com.synerge.order101.order.model.dto.*;
@@ -8,15 +9,27 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
+import java.util.Map;
 
 public interface StoreOrderService {
     public Page<StoreOrderSummaryResponseDto> findOrders(TradeSearchCondition cond, Pageable pageable);
 
+    public CursorPageResponseDto<StoreOrderSummaryResponseDto> findOrdersByCursor(TradeSearchCondition cond, int size);
+
     public StoreOrderCreateResponseDto createOrder(StoreOrderCreateRequest request);
 
+    // 같은 idempotencyKey 로 다시 요청하면 처음 생성한 결과를 그대로 돌려준다.
+    public StoreOrderCreateResponseDto createOrder(StoreOrderCreateRequest request, String idempotencyKey);
+
+    public StoreOrderBulkCreateResponseDto createOrders(StoreOrderBulkCreateRequest request);
+
     public StoreOrderDetailResponseDto findStoreOrderDetails(Long storeOrderId);
 
     public StoreOrderUpdateStatusResponseDto updateOrderStatus(Long storeOrderId, OrderStatus newStatus);
 
+    public StoreOrderBulkApprovalResponseDto approveOrders(StoreOrderBulkApprovalRequest request);
+
     public StoreOrderStockCheckResponseDto checkStockForOrder(Long storeOrderId);
+
+    public Map<Long, StoreOrderStockCheckResponseDto> checkStockForOrders(List<Long> storeOrderIds);
 }
@@ -1,9 +1,14 @@
 package com.synerge.order101.order.model.service;
 
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
 import com.synerge.order101.common.enums.ShipmentStatus;
 import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.idempotency.IdempotencyStore;
+import com.synerge.order101.common.outbox.Outbox;
+import com.synerge.order101.common.outbox.OutboxEventType;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
 import com.synerge.order101.notification.model.repository.NotificationRepository;
 import com.synerge.order101.notification.model.service.NotificationService;
 import com.synerge.order101.order.exception.errorcode.OrderErrorCode;
@@ -11,17 +16,21 @@ import com.synerge.order101.order.model.dto.*;
 import com.synerge.order101.order.model.entity.StoreOrder;
 import com.synerge.order101.order.model.entity.StoreOrderDetail;
 import com.synerge.order101.order.model.entity.StoreOrderStatusLog;
+import com.synerge.order101.order.model.repository.StoreOrderDetailJdbcRepository;
 import com.synerge.order101.order.model.repository.StoreOrderDetailRepository;
 import com.synerge.order101.order.model.repository.StoreOrderRepository;
+import com.synerge.order101.order.model.repository.StoreOrderStatusLogJdbcRepository;
 import com.synerge.order101.order.model.repository.StoreOrderStatusLogRepository;
 import com.synerge.order101.outbound.model.service.OutboundService;
 import com.synerge.order101.product.model.entity.Product;
 import com.synerge.order101.product.model.repository.ProductRepository;
 import com.synerge.order101.purchase.model.dto.PurchaseSummaryResponseDto;
 import com.synerge.order101.settlement.event.StoreOrderSettlementReqEvent;
+import com.synerge.order101.settlement.model.dto.SettlementRequest;
 import com.synerge.order101.settlement.model.dto.SettlementSummaryDto;
 import com.synerge.order101.settlement.model.entity.Settlement;
 import com.synerge.order101.shipment.model.entity.Shipment;
+import com.synerge.order101.shipment.model.repository.ShipmentJdbcRepository;
 import com.synerge.order101.shipment.model.repository.ShipmentRepository;
 import com.synerge.order101.store.model.entity.Store;
 import com.synerge.order101.store.model.repository.StoreRepository;
@@ -29,12 +38,12 @@ import com.synerge.order101.user.model.entity.Role;
 import com.synerge.order101.user.model.entity.User;
 import com.synerge.order101.user.model.repository.UserRepository;
 import com.synerge.order101.warehouse.model.entity.Warehouse;
-import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
-import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
 import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
+import com.synerge.order101.warehouse.model.dto.response.WarehouseAllocation;
+import com.synerge.order101.warehouse.model.service.InventoryReservationService;
+import com.synerge.order101.warehouse.model.service.WarehouseAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -43,7 +52,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * TODO : 페이지 조회 로직 성능 TEST 및 개선
@@ -56,20 +74,30 @@ import java.util.List;
 @Slf4j
 public class StoreOrderServiceImpl implements StoreOrderService {
 
+    // 일괄 등록 한 번에 받을 수 있는 최대 주문 수
+    private static final int MAX_BULK_ORDERS = 100;
+
     private final StoreOrderRepository storeOrderRepository;
     private final StoreOrderDetailRepository storeOrderDetailRepository;
+    private final StoreOrderDetailJdbcRepository storeOrderDetailJdbcRepository;
     private final StoreOrderStatusLogRepository storeOrderStatusLogRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final StoreOrderStatusLogJdbcRepository storeOrderStatusLogJdbcRepository;
+    private final Outbox outbox;
 
     private final StoreRepository storeRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final WarehouseRepository warehouseRepository;
-    private final WarehouseInventoryRepository warehouseInventoryRepository;
     private final ShipmentRepository shipmentRepository;
+    private final ShipmentJdbcRepository shipmentJdbcRepository;
 
     private final NotificationService notificationService;
     private final OutboundService outboundService;
+    private final DailyProductSalesService dailyProductSalesService;
+    private final InventoryReservationService inventoryReservationService;
+    private final WarehouseAllocator warehouseAllocator;
+    private final IdempotencyStore idempotencyStore;
+    private final DocumentNumberAllocator documentNumberAllocator;
 
     /**
      * 주문 목록을 조회합니다.
@@ -78,9 +106,16 @@ public class StoreOrderServiceImpl implements StoreOrderService {
     @Transactional(readOnly = true)
     public Page<StoreOrderSummaryResponseDto> findOrders(TradeSearchCondition cond, Pageable pageable){
 
-        Page<StoreOrder> page = storeOrderRepository.search(cond, pageable);
+        return storeOrderRepository.search(cond, pageable);
+    }
 
-        return page.map(StoreOrderSummaryResponseDto::fromEntity);
+    /**
+     * 주문 목록을 커서 기반으로 조회합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<StoreOrderSummaryResponseDto> findOrdersByCursor(TradeSearchCondition cond, int size) {
+        return storeOrderRepository.searchByCursor(cond, size);
     }
 
 
@@ -118,80 +153,269 @@ public class StoreOrderServiceImpl implements StoreOrderService {
     @Transactional
     @Override
     public StoreOrderCreateResponseDto createOrder(StoreOrderCreateRequest request) {
+        return intake(List.of(request)).get(0);
+    }
+
+    /**
+     * Idempotency-Key 가 있는 주문 생성 (클라이언트 재시도 시 중복 주문 방지)
+     */
+    @Transactional
+    @Override
+    public StoreOrderCreateResponseDto createOrder(StoreOrderCreateRequest request, String idempotencyKey) {
+        return idempotencyStore.execute("store-order", idempotencyKey, request,
+                StoreOrderCreateResponseDto.class, () -> createOrder(request));
+    }
+
+    /**
+     * 여러 주문을 한 번에 생성합니다. (하나라도 실패하면 전체 롤백)
+     */
+    @Transactional
+    @Override
+    public StoreOrderBulkCreateResponseDto createOrders(StoreOrderBulkCreateRequest request) {
+        List<StoreOrderCreateRequest> orders = request.getOrders() == null ? List.of() : request.getOrders();
+        if (orders.size() > MAX_BULK_ORDERS) {
+            throw new CustomException(OrderErrorCode.TOO_MANY_ORDERS);
+        }
 
-        // store 조회
-        Store store = storeRepository.findById(request.getStoreId())
-                .orElseThrow(() -> new CustomException(OrderErrorCode.STORE_NOT_FOUND));
+        int lineCount = orders.stream()
+                .mapToInt(order -> order.getItems() == null ? 0 : order.getItems().size())
+                .sum();
 
-        // warehouse 선택 로직: 요청에 warehouseId가 있으면 사용, 없으면 store의 defaultWarehouse 사용
-        // TODO: 추후 거리/재고 기반 창고 선택 로직 추가 예정
-        Warehouse warehouse = selectWarehouse(request.getWarehouseId(), store);
+        return StoreOrderBulkCreateResponseDto.builder()
+                .results(orders.isEmpty() ? List.of() : intake(orders))
+                .lineCount(lineCount)
+                .build();
+    }
+
+    /**
+     * 주문 접수 공통 처리
+     * - 요청 전체의 상품을 한 번에 조회하고, 가맹점/사용자는 요청 안에서 한 번씩만 조회한다.
+     * - 주문 헤더는 주문번호/ID 가 필요해 건별로 저장하고, 상세는 모아서 JDBC 배치 한 번으로 저장한다.
+     */
+    private List<StoreOrderCreateResponseDto> intake(List<StoreOrderCreateRequest> requests) {
+        Map<Long, Product> productById = loadProducts(requests);
+        Map<Long, Store> storeById = new HashMap<>();
+        Map<Long, User> userById = new HashMap<>();
+
+        List<StoreOrderDetail> details = new ArrayList<>();
+        List<List<PlacedOrder>> savedByRequest = new ArrayList<>();
+
+        for (StoreOrderCreateRequest request : requests) {
+            // store 조회
+            Store store = storeById.get(request.getStoreId());
+            if (store == null) {
+                store = storeRepository.findById(request.getStoreId())
+                        .orElseThrow(() -> new CustomException(OrderErrorCode.STORE_NOT_FOUND));
+                storeById.put(request.getStoreId(), store);
+            }
+
+            // 요청에 warehouseId가 있으면 해당 창고 한 곳, 없으면 재고/비용 기준으로 창고 배정
+            Warehouse requestedWarehouse = request.getWarehouseId() == null ? null : selectWarehouse(request.getWarehouseId(), store);
 
-        // user 조회
-        User user = null;
-        user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new CustomException(OrderErrorCode.ORDER_NOT_FOUND));
+            // user 조회
+            User user = userById.get(request.getUserId());
+            if (user == null) {
+                user = userRepository.findById(request.getUserId())
+                        .orElseThrow(() -> new CustomException(OrderErrorCode.ORDER_NOT_FOUND));
+                userById.put(request.getUserId(), user);
+            }
+
+            List<OrderLine> lines = new ArrayList<>();
+            if (request.getItems() != null) {
+                for (StoreOrderCreateRequest.Item item : request.getItems()) {
+                    lines.add(new OrderLine(productById.get(item.getProductId()), item.getOrderQty()));
+                }
+            }
 
+            List<PlacedOrder> savedOrders = new ArrayList<>();
+            if (requestedWarehouse != null) {
+                savedOrders.add(placeOrder(store, requestedWarehouse, user, request.getRemark(), lines, details));
+            } else {
+                for (Map.Entry<Warehouse, List<OrderLine>> split : splitByWarehouse(store, lines).entrySet()) {
+                    savedOrders.add(placeOrder(store, split.getKey(), user, request.getRemark(), split.getValue(), details));
+                }
+            }
+            savedByRequest.add(savedOrders);
+        }
+
+        storeOrderDetailJdbcRepository.insertAll(details);
+
+        // 가맹점 발주 알림(테스트 X)
+        List<User> hqList = userRepository.findByRole(Role.HQ);
+
+        if (!hqList.isEmpty()) {
+            for (List<PlacedOrder> savedOrders : savedByRequest) {
+                for (PlacedOrder placed : savedOrders) {
+                    notificationService.notifyOrderCreatedToHQ(hqList, placed.order());
+                }
+            }
+        }
+
+        List<StoreOrderCreateResponseDto> results = new ArrayList<>();
+        for (List<PlacedOrder> savedOrders : savedByRequest) {
+            StoreOrder primary = savedOrders.get(0).order();
+            results.add(StoreOrderCreateResponseDto.builder()
+                    .storeOrderId(primary.getStoreOrderId())
+                    .orderNo(primary.getOrderNo())
+                    .orders(savedOrders.stream().map(this::toSplitOrder).toList())
+                    .fullyReserved(savedOrders.stream().allMatch(p -> p.unreserved().isEmpty()))
+                    .build());
+        }
+        return results;
+    }
+
+    private StoreOrderCreateResponseDto.SplitOrder toSplitOrder(PlacedOrder placed) {
+        StoreOrder order = placed.order();
+        return new StoreOrderCreateResponseDto.SplitOrder(
+                order.getStoreOrderId(), order.getOrderNo(),
+                order.getWarehouse() == null ? null : order.getWarehouse().getWarehouseId(),
+                placed.unreserved().entrySet().stream()
+                        .map(e -> new StoreOrderCreateResponseDto.UnreservedItem(e.getKey(), e.getValue()))
+                        .toList());
+    }
+
+    /**
+     * 요청 전체의 상품을 findAllById 한 번으로 조회한다.
+     */
+    private Map<Long, Product> loadProducts(List<StoreOrderCreateRequest> requests) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (StoreOrderCreateRequest request : requests) {
+            if (request.getItems() == null) continue;
+            for (StoreOrderCreateRequest.Item item : request.getItems()) {
+                productIds.add(item.getProductId());
+            }
+        }
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Product> productById = new HashMap<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            productById.put(product.getProductId(), product);
+        }
+        for (Long productId : productIds) {
+            if (!productById.containsKey(productId)) {
+                throw new IllegalArgumentException("Product not found: " + productId);
+            }
+        }
+        return productById;
+    }
+
+    // 주문 한 줄 (상품, 수량)
+    private record OrderLine(Product product, int orderQty) {}
+
+    // 저장된 주문과 가용 재고 부족으로 예약하지 못한 품목 (productId -> 수량)
+    private record PlacedOrder(StoreOrder order, Map<Long, Integer> unreserved) {}
+
+    /**
+     * 창고 하나에 주문을 저장하고 승인 대기 동안 재고를 예약한다.
+     * 상세는 details 에 모아 두고 호출한 쪽에서 한 번에 저장한다.
+     * 예약하지 못한 품목은 응답으로 돌려줘 호출한 쪽이 알 수 있게 한다. (주문 자체는 받는다)
+     */
+    private PlacedOrder placeOrder(Store store, Warehouse warehouse, User user, String remark,
+                                  List<OrderLine> lines, List<StoreOrderDetail> details) {
         StoreOrder order = StoreOrder
                 .builder()
                 .store(store)
                 .warehouse(warehouse)
                 .user(user)
+                .orderNo(documentNumberAllocator.next(StoreOrder.ORDER_NO_PREFIX))
                 .orderStatus(OrderStatus.SUBMITTED)
-                .remark(request.getRemark())
+                .remark(remark)
                 .build();
         StoreOrder savedOrder = storeOrderRepository.save(order);
 
-        // create and persist details
-        if (request.getItems() != null) {
-            for (StoreOrderCreateRequest.Item item : request.getItems()) {
-                Product product = productRepository.findById(item.getProductId())
-                        .orElseThrow(() -> new IllegalArgumentException("Product not found: " + item.getProductId()));
+        Map<Long, Integer> reserveQty = new LinkedHashMap<>();
+        for (OrderLine line : lines) {
+            Product product = line.product();
+            BigDecimal unitPrice = product.getPrice();
+            BigDecimal amount = unitPrice == null ? null : unitPrice.multiply(BigDecimal.valueOf(line.orderQty()));
 
-                BigDecimal unitPrice = product.getPrice();
-                BigDecimal amount = unitPrice == null ? null : unitPrice.multiply(BigDecimal.valueOf(item.getOrderQty()));
+            details.add(new StoreOrderDetail(savedOrder, product, line.orderQty(), unitPrice, amount));
+            reserveQty.merge(product.getProductId(), line.orderQty(), Integer::sum);
+        }
 
-                StoreOrderDetail detail = new StoreOrderDetail(savedOrder, product, item.getOrderQty(), unitPrice, amount);
-                // TODO : saveALl로 수정. 박진우
-                storeOrderDetailRepository.save(detail);
-            }
+        // 승인 대기 동안 창고 재고 예약
+        Map<Long, Integer> unreserved =
+                inventoryReservationService.reserve(savedOrder.getStoreOrderId(), warehouse.getWarehouseId(), reserveQty);
+
+        return new PlacedOrder(savedOrder, unreserved == null ? Map.of() : unreserved);
+    }
+
+    /**
+     * 창고 배정 결과대로 주문 줄을 창고별로 나눈다.
+     * 품목이 없거나 배정 결과가 없으면 가맹점 기본 창고 한 곳으로 둔다.
+     */
+    private Map<Warehouse, List<OrderLine>> splitByWarehouse(Store store, List<OrderLine> lines) {
+        Map<Long, Integer> qtyByProduct = new LinkedHashMap<>();
+        Map<Long, Product> productById = new HashMap<>();
+        for (OrderLine line : lines) {
+            qtyByProduct.merge(line.product().getProductId(), line.orderQty(), Integer::sum);
+            productById.putIfAbsent(line.product().getProductId(), line.product());
         }
 
-        // 가맹점 발주 알림(테스트 X)
-        List<User> hqList = userRepository.findByRole(Role.HQ);
+        List<WarehouseAllocation> allocations = warehouseAllocator.allocate(store.getStoreId(), qtyByProduct);
 
-        if (!hqList.isEmpty()) {
-            notificationService.notifyOrderCreatedToHQ(hqList, savedOrder);
+        Map<Warehouse, List<OrderLine>> result = new LinkedHashMap<>();
+        if (allocations.isEmpty()) {
+            result.put(selectWarehouse(null, store), lines);
+            return result;
         }
 
-        return StoreOrderCreateResponseDto.builder()
-                .storeOrderId(savedOrder.getStoreOrderId())
-                .orderNo(savedOrder.getOrderNo())
-                .build();
+        for (WarehouseAllocation allocation : allocations) {
+            Warehouse warehouse = warehouseRepository.findById(allocation.warehouseId())
+                    .orElseThrow(() -> new CustomException(OrderErrorCode.WAREHOUSE_NOT_FOUND));
+            List<OrderLine> split = new ArrayList<>();
+            allocation.qtyByProduct().forEach((productId, qty) -> split.add(new OrderLine(productById.get(productId), qty)));
+            result.put(warehouse, split);
+        }
+        return result;
     }
 
 
     /**
      * 주문 상태를 업데이트합니다.
+     * - 일괄 승인과 동시에 처리되어도 두 번 출고되지 않도록 주문 행을 잠그고,
+     *   승인(CONFIRMED)은 승인 대기(SUBMITTED) 주문에서만 허용합니다.
      */
     @Override
     @Transactional
     public StoreOrderUpdateStatusResponseDto updateOrderStatus(Long storeOrderId, OrderStatus newStatus) {
-        StoreOrder order = storeOrderRepository.findById(storeOrderId).orElseThrow(() ->
+        StoreOrder order = storeOrderRepository.findByIdForUpdate(storeOrderId).orElseThrow(() ->
                 new CustomException(OrderErrorCode.ORDER_NOT_FOUND));
 
         OrderStatus prev = order.getOrderStatus();
+        if (newStatus == OrderStatus.CONFIRMED && prev != OrderStatus.SUBMITTED) {
+            throw new CustomException(OrderErrorCode.INVALID_ORDER_STATUS);
+        }
 
         order.updateOrderState(newStatus);
 
         OrderStatus curStatus = order.getOrderStatus();
 
+        // 재고 예약 반영 (승인 대기 진입 시 예약, 반려/취소 시 해제 - 승인 시 소진은 출고 재고 차감에서 함께 처리)
+        if (prev == OrderStatus.SUBMITTED && curStatus != OrderStatus.SUBMITTED) {
+            if (curStatus != OrderStatus.CONFIRMED) {
+                inventoryReservationService.release(storeOrderId);
+            }
+        } else if (prev != OrderStatus.SUBMITTED && curStatus == OrderStatus.SUBMITTED) {
+            reserveFromDetails(order);
+        }
+
+        // 일 판매량 집계 반영 (승인 진입 시 증가, 승인 이탈 시 차감)
+        if (prev != OrderStatus.CONFIRMED && curStatus == OrderStatus.CONFIRMED) {
+            dailyProductSalesService.applyConfirmed(order);
+        } else if (prev == OrderStatus.CONFIRMED && curStatus != OrderStatus.CONFIRMED) {
+            dailyProductSalesService.revertConfirmed(order);
+        }
+
         if (curStatus == OrderStatus.CONFIRMED) {
             // 출고 처리
             outboundService.createOutbound(order);
 
-            // 주문 완료 이벤트 발행
-            eventPublisher.publishEvent(new StoreOrderSettlementReqEvent(order));
+            // 정산 요청 (같은 트랜잭션에서 아웃박스에 기록)
+            outbox.append(OutboxEventType.SETTLEMENT_REQUESTED,
+                    SettlementRequest.from(new StoreOrderSettlementReqEvent(order)));
 
             //배송 대기 시작
             Shipment shipment = Shipment.builder()
@@ -225,13 +449,173 @@ public class StoreOrderServiceImpl implements StoreOrderService {
                 .build();
     }
 
+    /**
+     * 승인 대기 주문 일괄 승인
+     * - 주문/상세는 한 번씩 읽고(주문은 잠금), 창고 보유 재고를 요청 순서대로 나눠 재고가 되는 주문만 승인한다.
+     * - 승인할 수 없는 주문(없음, 승인 대기 아님, 재고 부족)은 전체를 실패시키지 않고 사유와 함께 결과에 남긴다.
+     * - 재고 차감은 (창고, 상품)별로 합쳐 한 번, 출고/배송/상태 이력은 배치로 저장하고,
+     *   정산은 이벤트 하나로, 알림은 한 번에 저장한다.
+     */
+    @Override
+    @Transactional
+    public StoreOrderBulkApprovalResponseDto approveOrders(StoreOrderBulkApprovalRequest request) {
+        List<Long> storeOrderIds = request.getStoreOrderIds() == null ? List.of()
+                : request.getStoreOrderIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (storeOrderIds.size() > MAX_BULK_ORDERS) {
+            throw new CustomException(OrderErrorCode.TOO_MANY_ORDERS);
+        }
+        if (storeOrderIds.isEmpty()) {
+            return StoreOrderBulkApprovalResponseDto.builder().results(List.of()).build();
+        }
+
+        Map<Long, StoreOrder> orderById = new HashMap<>();
+        storeOrderRepository.findAllByIdForUpdate(storeOrderIds).forEach(o -> orderById.put(o.getStoreOrderId(), o));
+
+        Map<Long, List<StoreOrderDetail>> detailsByOrder = new HashMap<>();
+        if (!orderById.isEmpty()) {
+            for (StoreOrderDetail detail : storeOrderDetailRepository.findWithProductByStoreOrderIds(orderById.keySet())) {
+                detailsByOrder.computeIfAbsent(detail.getStoreOrder().getStoreOrderId(), k -> new ArrayList<>()).add(detail);
+            }
+        }
+
+        Map<Long, OrderErrorCode> failures = new HashMap<>();
+        List<StoreOrder> candidates = new ArrayList<>();
+        for (Long storeOrderId : storeOrderIds) {
+            StoreOrder order = orderById.get(storeOrderId);
+            if (order == null) {
+                failures.put(storeOrderId, OrderErrorCode.ORDER_NOT_FOUND);
+            } else if (order.getOrderStatus() != OrderStatus.SUBMITTED) {
+                failures.put(storeOrderId, OrderErrorCode.INVALID_ORDER_STATUS);
+            } else if (order.getWarehouse() == null) {
+                failures.put(storeOrderId, OrderErrorCode.WAREHOUSE_NOT_FOUND);
+            } else {
+                candidates.add(order);
+            }
+        }
+
+        List<StoreOrder> approved = allocateStock(candidates, detailsByOrder, failures);
+        Map<Long, String> outboundNos = approved.isEmpty() ? Map.of() : confirmAll(approved, detailsByOrder);
+
+        List<StoreOrderBulkApprovalResponseDto.Result> results = new ArrayList<>();
+        for (Long storeOrderId : storeOrderIds) {
+            StoreOrder order = orderById.get(storeOrderId);
+            OrderErrorCode failure = failures.get(storeOrderId);
+            results.add(StoreOrderBulkApprovalResponseDto.Result.builder()
+                    .storeOrderId(storeOrderId)
+                    .orderNo(order == null ? null : order.getOrderNo())
+                    .approved(failure == null)
+                    .outboundNo(outboundNos.get(storeOrderId))
+                    .failureCode(failure == null ? null : failure.getCode())
+                    .failureMessage(failure == null ? null : failure.getMessage())
+                    .build());
+        }
+
+        log.info("[일괄 승인] 요청 {}건, 승인 {}건, 실패 {}건", storeOrderIds.size(), approved.size(), failures.size());
+
+        return StoreOrderBulkApprovalResponseDto.builder()
+                .results(results)
+                .approvedCount(approved.size())
+                .failedCount(failures.size())
+                .build();
+    }
+
+    /**
+     * 창고별 가용 재고(보유 - 예약)를 한 번씩 읽어 요청 순서대로 주문에 나눠 준다.
+     * 승인 전 재고 확인(checkStockForOrders)과 같은 기준으로, 각 주문에는 자기 예약분을 다시 더해 판단한다.
+     * 품목 하나라도 남은 재고로 채울 수 없는 주문은 재고 부족으로 제외한다.
+     * 재고는 메모리 뷰가 아니라 잠근 재고 행에서 읽으므로 뒤따르는 출고 차감이 판단과 어긋나지 않는다.
+     * (창고 ID 순서로 잠가 동시 일괄 승인끼리 교착되지 않게 한다)
+     */
+    private List<StoreOrder> allocateStock(List<StoreOrder> candidates, Map<Long, List<StoreOrderDetail>> detailsByOrder,
+                                           Map<Long, OrderErrorCode> failures) {
+        Map<Long, Set<Long>> productsByWarehouse = new TreeMap<>();
+        for (StoreOrder order : candidates) {
+            Set<Long> productIds = productsByWarehouse.computeIfAbsent(order.getWarehouse().getWarehouseId(), k -> new HashSet<>());
+            for (StoreOrderDetail detail : detailsByOrder.getOrDefault(order.getStoreOrderId(), List.of())) {
+                productIds.add(detail.getProduct().getProductId());
+            }
+        }
+
+        // 창고 -> (상품 -> 남은 가용 수량)
+        Map<Long, Map<Long, Integer>> remaining = new HashMap<>();
+        productsByWarehouse.forEach((warehouseId, productIds) ->
+                remaining.put(warehouseId, new HashMap<>(inventoryReservationService.lockAvailableToPromise(warehouseId, productIds))));
+        Map<Long, Map<Long, Integer>> ownReservations = candidates.isEmpty() ? Map.of()
+                : inventoryReservationService.getActiveReservations(candidates.stream().map(StoreOrder::getStoreOrderId).toList());
+
+        List<StoreOrder> approved = new ArrayList<>();
+        for (StoreOrder order : candidates) {
+            Map<Long, Integer> stock = remaining.get(order.getWarehouse().getWarehouseId());
+            Map<Long, Integer> own = ownReservations.getOrDefault(order.getStoreOrderId(), Map.of());
+            Map<Long, Integer> required = new HashMap<>();
+            for (StoreOrderDetail detail : detailsByOrder.getOrDefault(order.getStoreOrderId(), List.of())) {
+                required.merge(detail.getProduct().getProductId(), detail.getOrderQty(), Integer::sum);
+            }
+
+            boolean enough = required.entrySet().stream()
+                    .allMatch(e -> stock.getOrDefault(e.getKey(), 0) + own.getOrDefault(e.getKey(), 0) >= e.getValue());
+            if (!enough) {
+                failures.put(order.getStoreOrderId(), OrderErrorCode.INSUFFICIENT_STOCK);
+                continue;
+            }
+
+            // 자기 예약분은 이미 가용 재고에서 빠져 있으므로 예약을 넘는 수량만 더 차감한다.
+            required.forEach((productId, qty) ->
+                    stock.merge(productId, -Math.max(0, qty - own.getOrDefault(productId, 0)), Integer::sum));
+            approved.add(order);
+        }
+        return approved;
+    }
+
+    /**
+     * 승인 확정 - updateOrderStatus(CONFIRMED) 와 같은 후속 처리를 주문 묶음 단위로 수행한다.
+     * @return storeOrderId -> 출고번호
+     */
+    private Map<Long, String> confirmAll(List<StoreOrder> orders, Map<Long, List<StoreOrderDetail>> detailsByOrder) {
+        List<StoreOrderStatusLog> logs = new ArrayList<>();
+        List<Shipment> shipments = new ArrayList<>();
+        for (StoreOrder order : orders) {
+            order.updateOrderState(OrderStatus.CONFIRMED);
+
+            logs.add(StoreOrderStatusLog.builder()
+                    .storeOrder(order)
+                    .prevStatus(OrderStatus.SUBMITTED)
+                    .curStatus(OrderStatus.CONFIRMED)
+                    .build());
+
+            shipments.add(Shipment.builder()
+                    .storeOrder(order)
+                    .store(order.getStore())
+                    .shipmentStatus(ShipmentStatus.WAITING)
+                    .inventoryApplied(false)
+                    .inTransitApplied(false)
+                    .build());
+        }
+
+        dailyProductSalesService.applyConfirmedAll(orders);
+
+        Map<Long, String> outboundNos = outboundService.createOutbounds(orders, detailsByOrder);
+
+        outbox.appendAll(OutboxEventType.SETTLEMENT_REQUESTED, orders.stream()
+                .map(order -> SettlementRequest.ofStoreOrder(order,
+                        detailsByOrder.getOrDefault(order.getStoreOrderId(), List.of())))
+                .toList());
+
+        shipmentJdbcRepository.insertAll(shipments);
+        storeOrderStatusLogJdbcRepository.insertAll(logs);
+
+        notificationService.notifyStoreOrderResults(orders);
+
+        return outboundNos;
+    }
+
     /**
      * 창고 선택 로직
      * 1. 요청에 warehouseId가 있으면 해당 창고 사용
      * 2. 없으면 store의 defaultWarehouse 사용
      * 3. defaultWarehouse도 없으면 예외 발생
-     * 
-     * TODO: 추후 거리/재고 기반 창고 선택 로직 추가 예정
+     *
+     * 거리/재고 기반 배정은 WarehouseAllocator 가 담당한다. (splitByWarehouse)
      */
     private Warehouse selectWarehouse(Long warehouseId, Store store) {
         // 1. 요청에 warehouseId가 명시된 경우
@@ -252,42 +636,96 @@ public class StoreOrderServiceImpl implements StoreOrderService {
 
     /**
      * 주문 승인 전 창고 재고 확인
-     * - 주문에 연결된 창고의 재고를 확인하여 부족한 품목 목록을 반환합니다.
+     * - 주문에 연결된 창고의 가용 재고(보유 - 다른 주문 예약)를 확인하여 부족한 품목 목록을 반환합니다.
      */
     @Override
     @Transactional(readOnly = true)
     public StoreOrderStockCheckResponseDto checkStockForOrder(Long storeOrderId) {
-        StoreOrder order = storeOrderRepository.findById(storeOrderId)
-                .orElseThrow(() -> new CustomException(OrderErrorCode.ORDER_NOT_FOUND));
-
-        List<StoreOrderDetail> details = storeOrderDetailRepository.findByStoreOrder_StoreOrderId(storeOrderId);
+        StoreOrderStockCheckResponseDto result = checkStockForOrders(List.of(storeOrderId)).get(storeOrderId);
+        if (result == null) {
+            throw new CustomException(OrderErrorCode.ORDER_NOT_FOUND);
+        }
+        return result;
+    }
 
-        List<StoreOrderStockCheckResponseDto.InsufficientStockItem> insufficientItems = new java.util.ArrayList<>();
-
-        for (StoreOrderDetail detail : details) {
-            Long productId = detail.getProduct().getProductId();
-            int requestedQty = detail.getOrderQty().intValue();
-
-            // 창고 재고 조회
-            int availableQty = warehouseInventoryRepository.findByProduct_ProductId(productId)
-                    .map(WarehouseInventory::getOnHandQuantity)
-                    .orElse(0);
-
-            if (availableQty < requestedQty) {
-                insufficientItems.add(StoreOrderStockCheckResponseDto.InsufficientStockItem.builder()
-                        .productId(productId)
-                        .productName(detail.getProduct().getProductName())
-                        .productCode(detail.getProduct().getProductCode())
-                        .requestedQty(requestedQty)
-                        .availableQty(availableQty)
-                        .shortageQty(requestedQty - availableQty)
-                        .build());
+    /**
+     * 여러 주문의 승인 전 재고 확인 (승인 대기 화면)
+     * - 주문/품목/예약을 각각 한 번에 읽고, 창고 재고는 메모리 뷰에서 조회합니다.
+     * - 각 주문의 가용 재고에는 자기 자신의 예약분을 다시 더해 계산합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, StoreOrderStockCheckResponseDto> checkStockForOrders(List<Long> storeOrderIds) {
+        Map<Long, StoreOrderStockCheckResponseDto> result = new LinkedHashMap<>();
+        if (storeOrderIds == null || storeOrderIds.isEmpty()) return result;
+
+        Map<Long, StoreOrder> orders = new HashMap<>();
+        storeOrderRepository.findAllById(storeOrderIds).forEach(o -> orders.put(o.getStoreOrderId(), o));
+        Map<Long, List<StoreOrderDetail>> detailsByOrder = new HashMap<>();
+        for (StoreOrderDetail detail : storeOrderDetailRepository.findWithProductByStoreOrderIds(storeOrderIds)) {
+            detailsByOrder.computeIfAbsent(detail.getStoreOrder().getStoreOrderId(), k -> new ArrayList<>()).add(detail);
+        }
+        Map<Long, Map<Long, Integer>> ownReservations = inventoryReservationService.getActiveReservations(storeOrderIds);
+
+        // 창고별로 필요한 상품을 모아 한 번씩 조회
+        Map<Long, Set<Long>> productsByWarehouse = new HashMap<>();
+        for (StoreOrder order : orders.values()) {
+            if (order.getWarehouse() == null) continue;
+            Set<Long> productIds = productsByWarehouse.computeIfAbsent(order.getWarehouse().getWarehouseId(), k -> new HashSet<>());
+            for (StoreOrderDetail detail : detailsByOrder.getOrDefault(order.getStoreOrderId(), List.of())) {
+                productIds.add(detail.getProduct().getProductId());
             }
         }
+        Map<Long, Map<Long, Integer>> atpByWarehouse = new HashMap<>();
+        productsByWarehouse.forEach((warehouseId, productIds) ->
+                atpByWarehouse.put(warehouseId, inventoryReservationService.getAvailableToPromise(warehouseId, productIds)));
+
+        for (Long storeOrderId : storeOrderIds) {
+            StoreOrder order = orders.get(storeOrderId);
+            if (order == null) continue;
+
+            Map<Long, Integer> atp = order.getWarehouse() == null
+                    ? Map.of()
+                    : atpByWarehouse.getOrDefault(order.getWarehouse().getWarehouseId(), Map.of());
+            Map<Long, Integer> own = ownReservations.getOrDefault(storeOrderId, Map.of());
+
+            List<StoreOrderStockCheckResponseDto.InsufficientStockItem> insufficientItems = new ArrayList<>();
+            for (StoreOrderDetail detail : detailsByOrder.getOrDefault(storeOrderId, List.of())) {
+                Long productId = detail.getProduct().getProductId();
+                int requestedQty = detail.getOrderQty().intValue();
+
+                // 창고 가용 재고 (자기 예약분 포함)
+                int availableQty = Math.max(0, atp.getOrDefault(productId, 0) + own.getOrDefault(productId, 0));
+
+                if (availableQty < requestedQty) {
+                    insufficientItems.add(StoreOrderStockCheckResponseDto.InsufficientStockItem.builder()
+                            .productId(productId)
+                            .productName(detail.getProduct().getProductName())
+                            .productCode(detail.getProduct().getProductCode())
+                            .requestedQty(requestedQty)
+                            .availableQty(availableQty)
+                            .shortageQty(requestedQty - availableQty)
+                            .build());
+                }
+            }
 
-        return StoreOrderStockCheckResponseDto.builder()
-                .hasEnoughStock(insufficientItems.isEmpty())
-                .insufficientItems(insufficientItems)
-                .build();
+            result.put(storeOrderId, StoreOrderStockCheckResponseDto.builder()
+                    .hasEnoughStock(insufficientItems.isEmpty())
+                    .insufficientItems(insufficientItems)
+                    .build());
+        }
+
+        return result;
+    }
+
+    // 승인 대기로 되돌아온 주문의 품목으로 다시 예약
+    private void reserveFromDetails(StoreOrder order) {
+        if (order.getWarehouse() == null) return;
+
+        Map<Long, Integer> reserveQty = new LinkedHashMap<>();
+        for (StoreOrderDetail detail : storeOrderDetailRepository.findByStoreOrder_StoreOrderId(order.getStoreOrderId())) {
+            reserveQty.merge(detail.getProduct().getProductId(), detail.getOrderQty(), Integer::sum);
+        }
+        inventoryReservationService.reserve(order.getStoreOrderId(), order.getWarehouse().getWarehouseId(), reserveQty);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.synerge.order101.order.scheduler;
+
+import com.synerge.order101.order.model.service.DailyProductSalesService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailySalesRollupScheduler {
+
+    // 안전재고/자동발주 계산에 쓰는 판매 이력 기간
+    private static final int ROLLUP_DAYS = 30;
+
+    private final DailyProductSalesService dailyProductSalesService;
+
+    /**
+     * 매일 새벽 2시 50분 일 판매량 집계 보정 (안전재고 업데이트 전)
+     * CRON: 0 50 2 * * *
+     * 집계가 비어 있으면 최근 30일 전체를 채우고, 아니면 전일~당일만 다시 집계한다.
+     */
+    @Scheduled(cron = "0 50 2 * * *", zone = "Asia/Seoul")
+    public void rebuildDailySales() {
+        log.info("▶ [일 판매량 집계 스케줄러] 실행 시작");
+
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate windowStart = today.minusDays(ROLLUP_DAYS);
+
+            LocalDate from = dailyProductSalesService.hasRollupSince(windowStart)
+                    ? today.minusDays(1)
+                    : windowStart;
+
+            dailyProductSalesService.rebuild(from, today.plusDays(1));
+            log.info("▶ [일 판매량 집계 스케줄러] {} 이후 재집계 완료", from);
+
+        } catch (Exception e) {
+            log.error("[일 판매량 집계 스케줄러] 오류 발생: {}", e.getMessage(), e);
+        }
+
+        log.info("▶ [일 판매량 집계 스케줄러] 실행 종료");
+    }
+}
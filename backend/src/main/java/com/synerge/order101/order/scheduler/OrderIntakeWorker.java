@@ -0,0 +1,68 @@
+package com.synerge.order101.order.scheduler;
+
+import com.synerge.order101.order.model.service.OrderIntakeService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 접수 대기열 워커
+ * - 스케줄러 스레드가 하나뿐이라 @Scheduled 대신 전용 가상 스레드에서 계속 꺼내 처리한다.
+ * - 대기열이 비어 있을 때만 poll-interval-ms 만큼 쉰다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.order-intake.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderIntakeWorker {
+
+    private final OrderIntakeService orderIntakeService;
+
+    @Value("${app.order-intake.poll-interval-ms:500}")
+    private long pollIntervalMs = 500;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("order-intake-worker").start(this::loop);
+        log.info("▶ [주문 접수 워커] 시작");
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                if (orderIntakeService.drainBatch() == 0) {
+                    Thread.sleep(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("[주문 접수 워커] 오류 발생: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        log.info("▶ [주문 접수 워커] 종료");
+    }
+}
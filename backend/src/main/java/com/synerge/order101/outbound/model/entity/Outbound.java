@@ -22,6 +22,8 @@ import java.time.LocalDateTime;
 @Table(name = "outbound")
 public class Outbound {
 
+    public static final String OUTBOUND_NO_PREFIX = "OUT-";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long outboundId;
@@ -0,0 +1,90 @@
+package com.synerge.order101.outbound.model.repository;
+
+import com.synerge.order101.outbound.model.entity.Outbound;
+import com.synerge.order101.outbound.model.entity.OutboundDetail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 출고/출고 상세 일괄 저장 (JDBC 배치)
+ * - IDENTITY 전략이라 JPA 로 저장하면 출고 한 건, 상세 한 줄마다 INSERT 를 따로 보낸다.
+ * - 배치 INSERT 는 생성된 ID 를 돌려받지 않으므로, 출고 ID 는 출고번호로 다시 조회한다. (OutboundRepository.findIdsByOutboundNos)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboundJdbcRepository {
+
+    private static final String INSERT_OUTBOUND_SQL = """
+        INSERT INTO outbound (warehouse_id, store_id, outbound_no, outbound_datetime, created_by)
+        VALUES (?, ?, ?, ?, ?)
+    """;
+
+    private static final String INSERT_DETAIL_SQL = """
+        INSERT INTO outbound_detail (outbound_id, product_id, outbound_qty, created_at)
+        VALUES (?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 출고별 반영 건수
+     */
+    public int[] insertAll(List<Outbound> outbounds) {
+        if (outbounds.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(INSERT_OUTBOUND_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Outbound outbound = outbounds.get(i);
+                ps.setLong(1, outbound.getWarehouse().getWarehouseId());
+                ps.setLong(2, outbound.getStore().getStoreId());
+                ps.setString(3, outbound.getOutboundNo());
+                ps.setTimestamp(4, now);
+                ps.setString(5, outbound.getCreatedBy());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return outbounds.size();
+            }
+        });
+    }
+
+    /**
+     * 상세의 출고는 ID 만 쓰므로 참조(getReferenceById)여도 된다.
+     * @return 줄별 반영 건수
+     */
+    public int[] insertDetails(List<OutboundDetail> details) {
+        if (details.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(INSERT_DETAIL_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                OutboundDetail detail = details.get(i);
+                ps.setLong(1, detail.getOutbound().getOutboundId());
+                ps.setLong(2, detail.getProduct().getProductId());
+                ps.setInt(3, detail.getOutboundQty());
+                ps.setTimestamp(4, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return details.size();
+            }
+        });
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface OutboundRepository extends JpaRepository<Outbound,Long> {
@@ -41,4 +43,12 @@ public interface OutboundRepository extends JpaRepository<Outbound,Long> {
                                    LocalDateTime end,
                                    Pageable pageable);
 
+    // 일괄 저장한 출고의 ID 조회 (출고번호, ID)
+    @Query("""
+        SELECT o.outboundNo, o.outboundId
+        FROM Outbound o
+        WHERE o.outboundNo IN :outboundNos
+    """)
+    List<Object[]> findIdsByOutboundNos(Collection<String> outboundNos);
+
 }
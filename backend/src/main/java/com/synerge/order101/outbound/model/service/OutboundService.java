@@ -1,6 +1,7 @@
 package com.synerge.order101.outbound.model.service;
 
 import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
 import com.synerge.order101.outbound.model.dto.OutboundDetailResponseDto;
 import com.synerge.order101.outbound.model.dto.OutboundResponseDto;
 import com.synerge.order101.outbound.model.dto.OutboundSearchRequestDto;
@@ -9,6 +10,7 @@ import com.synerge.order101.shipment.model.entity.Shipment;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.Map;
 
 public interface OutboundService {
     Page<OutboundResponseDto> getOutboundList(int page, int size);
@@ -17,5 +19,8 @@ public interface OutboundService {
 
     void createOutbound(StoreOrder storeOrder);
 
+    // 여러 주문의 출고를 한 번에 생성 (storeOrderId -> 출고번호)
+    Map<Long, String> createOutbounds(List<StoreOrder> storeOrders, Map<Long, List<StoreOrderDetail>> detailsByOrder);
+
     Page<OutboundResponseDto> searchOutboundList(OutboundSearchRequestDto request);
 }
@@ -1,6 +1,10 @@
 package com.synerge.order101.outbound.model.service;
 
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
+import com.synerge.order101.order.exception.errorcode.OrderErrorCode;
 import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
 import com.synerge.order101.order.model.repository.StoreOrderRepository;
 import com.synerge.order101.outbound.model.dto.OutboundDetailResponseDto;
 import com.synerge.order101.outbound.model.dto.OutboundResponseDto;
@@ -8,8 +12,15 @@ import com.synerge.order101.outbound.model.dto.OutboundSearchRequestDto;
 import com.synerge.order101.outbound.model.entity.Outbound;
 import com.synerge.order101.outbound.model.entity.OutboundDetail;
 import com.synerge.order101.outbound.model.repository.OutboundDetailRepository;
+import com.synerge.order101.outbound.model.repository.OutboundJdbcRepository;
 import com.synerge.order101.outbound.model.repository.OutboundRepository;
 import com.synerge.order101.shipment.event.ShipmentInTransitEvent;
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
+import com.synerge.order101.warehouse.model.dto.request.WarehouseMovementLine;
+import com.synerge.order101.warehouse.model.dto.response.StockDecreaseResultDto;
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.service.InventoryMovementService;
+import com.synerge.order101.warehouse.model.service.InventoryReservationService;
 import com.synerge.order101.warehouse.model.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +32,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -29,8 +44,12 @@ import java.util.List;
 public class OutboundServiceImpl implements OutboundService {
     private final OutboundRepository outboundRepository;
     private final OutboundDetailRepository outboundDetailRepository;
+    private final OutboundJdbcRepository outboundJdbcRepository;
     private final InventoryService inventoryService;
+    private final InventoryMovementService inventoryMovementService;
+    private final InventoryReservationService inventoryReservationService;
     private final StoreOrderRepository storeOrderRepository;
+    private final DocumentNumberAllocator documentNumberAllocator;
 
     @Override
     @Transactional(readOnly = true)
@@ -84,20 +103,112 @@ public class OutboundServiceImpl implements OutboundService {
         Outbound outbound = Outbound.create(
                 storeOrder.getWarehouse(),
                 storeOrder.getStore(),
-                generateOutboundNo(storeOrder),
+                documentNumberAllocator.next(Outbound.OUTBOUND_NO_PREFIX),
                 "SYSTEM"
         );
         outboundRepository.save(outbound);
 
-        // 출고 상세 생성 및 재고 차감
-        storeOrder.getStoreOrderDetails().forEach(detail -> {
-            // 출고 상세 저장
-            OutboundDetail outboundDetail = new OutboundDetail(outbound, detail.getProduct(), detail.getOrderQty());
-            outboundDetailRepository.save(outboundDetail);
+        // 주문 자신의 예약은 소진으로 닫고, 그 수량은 재고 차감 문장에서 함께 내린다.
+        Map<Long, Integer> ownReserved = new HashMap<>(inventoryReservationService
+                .consumeAll(List.of(storeOrder.getStoreOrderId()))
+                .getOrDefault(storeOrder.getStoreOrderId(), Map.of()));
 
-            // [중요] 재고 차감 (여기서 재고 부족 시 예외 발생하여 트랜잭션 롤백됨)
-            inventoryService.decreaseInventory(detail.getProduct().getProductId(), detail.getOrderQty());
+        // 출고 상세 생성
+        List<OutboundDetail> outboundDetails = new ArrayList<>();
+        List<StockDecreaseLine> lines = new ArrayList<>();
+        storeOrder.getStoreOrderDetails().forEach(detail -> {
+            Long productId = detail.getProduct().getProductId();
+            int reservedQty = Math.min(ownReserved.getOrDefault(productId, 0), detail.getOrderQty());
+            ownReserved.merge(productId, -reservedQty, Integer::sum);
+            outboundDetails.add(new OutboundDetail(outbound, detail.getProduct(), detail.getOrderQty()));
+            lines.add(new StockDecreaseLine(storeOrder.getWarehouse().getWarehouseId(), productId, detail.getOrderQty(), reservedQty));
         });
+        outboundDetailRepository.saveAll(outboundDetails);
+
+        // [중요] 재고 일괄 차감 (부족한 줄이 하나라도 있으면 예외 발생하여 트랜잭션 롤백됨)
+        StockDecreaseResultDto result = inventoryService.decreaseInventories(lines);
+        if (!result.isAllApplied()) {
+            log.warn("출고 재고 부족 storeOrderId={}, failedLines={}", storeOrder.getStoreOrderId(), result.failedLines());
+            throw new CustomException(OrderErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        // 재고 이동 원장 기록
+        Map<Long, Integer> shippedQty = new LinkedHashMap<>();
+        lines.forEach(line -> shippedQty.merge(line.productId(), line.quantity(), Integer::sum));
+        inventoryMovementService.recordWarehouse(ChangeType.OUTBOUND, outbound.getOutboundNo(),
+                storeOrder.getWarehouse().getWarehouseId(), shippedQty);
+    }
+
+    // 일괄 출고의 재고 차감 단위 (창고, 상품)
+    private record StockKey(Long warehouseId, Long productId) {}
+
+    /**
+     * 일괄 승인용 출고 생성
+     * - 출고/출고 상세는 JDBC 배치로 저장하고, 출고 ID 는 출고번호로 한 번에 다시 읽는다.
+     * - 재고 차감은 (창고, 상품)별로 합쳐 한 번에 보낸다. 주문들의 예약분도 같은 줄에서 함께 내린다.
+     *   부족한 줄이 있으면 예외로 전체를 롤백한다.
+     *   (호출하는 쪽에서 재고를 미리 나눠 승인 대상을 고르므로, 여기서 실패하는 것은 그 사이 재고가 바뀐 경우뿐이다)
+     */
+    @Override
+    @Transactional
+    public Map<Long, String> createOutbounds(List<StoreOrder> storeOrders, Map<Long, List<StoreOrderDetail>> detailsByOrder) {
+        Map<Long, String> outboundNoByOrder = new LinkedHashMap<>();
+        if (storeOrders.isEmpty()) return outboundNoByOrder;
+
+        List<Outbound> outbounds = new ArrayList<>();
+        for (StoreOrder storeOrder : storeOrders) {
+            Outbound outbound = Outbound.create(
+                    storeOrder.getWarehouse(),
+                    storeOrder.getStore(),
+                    documentNumberAllocator.next(Outbound.OUTBOUND_NO_PREFIX),
+                    "SYSTEM"
+            );
+            outbounds.add(outbound);
+            outboundNoByOrder.put(storeOrder.getStoreOrderId(), outbound.getOutboundNo());
+        }
+        outboundJdbcRepository.insertAll(outbounds);
+
+        Map<String, Long> outboundIdByNo = new HashMap<>();
+        for (Object[] row : outboundRepository.findIdsByOutboundNos(outboundNoByOrder.values())) {
+            outboundIdByNo.put((String) row[0], (Long) row[1]);
+        }
+
+        Map<Long, Map<Long, Integer>> reservedByOrder = inventoryReservationService.consumeAll(outboundNoByOrder.keySet());
+
+        List<OutboundDetail> outboundDetails = new ArrayList<>();
+        Map<StockKey, Integer> decreaseQty = new LinkedHashMap<>();
+        Map<StockKey, Integer> reservedQty = new HashMap<>();
+        List<WarehouseMovementLine> movements = new ArrayList<>();
+        for (StoreOrder storeOrder : storeOrders) {
+            String outboundNo = outboundNoByOrder.get(storeOrder.getStoreOrderId());
+            Outbound outbound = outboundRepository.getReferenceById(outboundIdByNo.get(outboundNo));
+            Long warehouseId = storeOrder.getWarehouse().getWarehouseId();
+
+            Map<Long, Integer> shippedQty = new LinkedHashMap<>();
+            for (StoreOrderDetail detail : detailsByOrder.getOrDefault(storeOrder.getStoreOrderId(), List.of())) {
+                Long productId = detail.getProduct().getProductId();
+                outboundDetails.add(new OutboundDetail(outbound, detail.getProduct(), detail.getOrderQty()));
+                decreaseQty.merge(new StockKey(warehouseId, productId), detail.getOrderQty(), Integer::sum);
+                shippedQty.merge(productId, detail.getOrderQty(), Integer::sum);
+            }
+            reservedByOrder.getOrDefault(storeOrder.getStoreOrderId(), Map.of()).forEach((productId, qty) ->
+                    reservedQty.merge(new StockKey(warehouseId, productId), Math.min(qty, shippedQty.getOrDefault(productId, 0)), Integer::sum));
+            movements.add(new WarehouseMovementLine(outboundNo, warehouseId, shippedQty));
+        }
+        outboundJdbcRepository.insertDetails(outboundDetails);
+
+        List<StockDecreaseLine> lines = new ArrayList<>();
+        decreaseQty.forEach((key, qty) ->
+                lines.add(new StockDecreaseLine(key.warehouseId(), key.productId(), qty, reservedQty.getOrDefault(key, 0))));
+        StockDecreaseResultDto result = inventoryService.decreaseInventories(lines);
+        if (!result.isAllApplied()) {
+            log.warn("일괄 출고 재고 부족 orders={}, failedLines={}", outboundNoByOrder.keySet(), result.failedLines());
+            throw new CustomException(OrderErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        inventoryMovementService.recordWarehouseAll(ChangeType.OUTBOUND, movements);
+
+        return outboundNoByOrder;
     }
 
     @Override
@@ -135,8 +246,4 @@ public class OutboundServiceImpl implements OutboundService {
         });
     }
 
-    private String generateOutboundNo(StoreOrder storeOrder) {
-        return "OUT-" + storeOrder.getStoreOrderId() + "-" + System.currentTimeMillis();
-    }
-
 }
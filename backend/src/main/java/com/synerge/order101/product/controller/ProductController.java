@@ -79,8 +79,13 @@ public class ProductController {
     @GetMapping("/{productId}/inventory")
     public ResponseEntity<BaseResponseDto<ProductInventoryDetailRes>> getInventory(@PathVariable Long productId,
                                                                                    @RequestParam(defaultValue = "1") int page,
-                                                                                   @RequestParam(defaultValue = "10") int numOfRows) {
-        var res = productService.getProductInventory(productId, page, numOfRows);
+                                                                                   @RequestParam(defaultValue = "10") int numOfRows,
+                                                                                   @RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(defaultValue = "false") boolean cursorMode) {
+        // cursorMode=true 또는 cursor 가 있으면 커서 페이징
+        var res = (cursorMode || cursor != null)
+                ? productService.getProductInventoryByCursor(productId, cursor, numOfRows)
+                : productService.getProductInventory(productId, page, numOfRows);
         return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, res));
     }
 }
@@ -12,8 +12,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class InventoryMovementRes {
+    private Long movementId;
     private String movementNo;
     private String type;
     private long qty;
     private LocalDateTime occurredAt;
+
+    // 이동이 일어난 위치 (창고 또는 가맹점 중 하나)
+    private Long warehouseId;
+    private Long storeId;
+
+    // 이동 직후 해당 위치의 보유 수량 (원장 도입 전 이력은 null)
+    private Integer balanceAfter;
 }
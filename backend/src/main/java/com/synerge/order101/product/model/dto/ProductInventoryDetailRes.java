@@ -17,4 +17,8 @@ public class ProductInventoryDetailRes {
     private int page;
     private int numOfRows;
     private int totalCount;
+
+    // 커서 조회 시에만 사용
+    private boolean hasNext;
+    private String nextCursor;
 }
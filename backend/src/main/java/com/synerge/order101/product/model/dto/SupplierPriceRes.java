@@ -0,0 +1,15 @@
+package com.synerge.order101.product.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class SupplierPriceRes {
+    private Long productId;
+    private BigDecimal purchasePrice;   // 공급가 (product_supplier.purchase_price)
+    private Integer leadTimeDays;
+    private BigDecimal productPrice;    // 판매가 (product.price)
+}
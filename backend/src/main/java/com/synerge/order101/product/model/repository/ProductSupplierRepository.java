@@ -1,5 +1,6 @@
 package com.synerge.order101.product.model.repository;
 
+import com.synerge.order101.product.model.dto.SupplierPriceRes;
 import com.synerge.order101.product.model.entity.Product;
 import com.synerge.order101.product.model.entity.ProductSupplier;
 import com.synerge.order101.supplier.model.entity.Supplier;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,6 +49,38 @@ public interface ProductSupplierRepository extends JpaRepository<ProductSupplier
 
     Optional<ProductSupplier> findByProductAndSupplier(Product product, Supplier supplier);
 
+    // 공급사 + 상품 목록의 공급가/리드타임 일괄 조회
+    @Query("""
+        select new com.synerge.order101.product.model.dto.SupplierPriceRes(
+            p.productId, ps.purchasePrice, ps.leadTimeDays, p.price
+        )
+        from ProductSupplier ps
+        join ps.product p
+        where ps.supplier.supplierId = :supplierId
+          and p.productId in :productIds
+    """)
+    List<SupplierPriceRes> findPricesBySupplierAndProducts(@Param("supplierId") Long supplierId,
+                                                           @Param("productIds") Collection<Long> productIds);
+
+    // 공급사의 전체 공급가/리드타임 조회
+    @Query("""
+        select new com.synerge.order101.product.model.dto.SupplierPriceRes(
+            p.productId, ps.purchasePrice, ps.leadTimeDays, p.price
+        )
+        from ProductSupplier ps
+        join ps.product p
+        where ps.supplier.supplierId = :supplierId
+    """)
+    List<SupplierPriceRes> findPricesBySupplier(@Param("supplierId") Long supplierId);
+
+    // 상품별 공급사/리드타임 전체 조회 - [productId, supplierId, leadTimeDays] (등록순)
+    @Query("""
+        select ps.product.productId, ps.supplier.supplierId, ps.leadTimeDays
+        from ProductSupplier ps
+        order by ps.productSupplierId
+    """)
+    List<Object[]> findAllLeadTimes();
+
     Optional<ProductSupplier> findByProduct_ProductIdAndSupplier_SupplierId(Long productId, Long supplierId);
 
     Optional<ProductSupplier> findTop1ByProduct(Product product);
@@ -22,4 +22,6 @@ public interface ProductService {
     ProductRes update(Long productId, ProductUpdateReq request, MultipartFile imageFile);
 
     ProductInventoryDetailRes getProductInventory(Long productId, int page, int numOfRows);
+
+    ProductInventoryDetailRes getProductInventoryByCursor(Long productId, String cursor, int numOfRows);
 }
@@ -4,9 +4,10 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.ItemsResponseDto;
+import com.synerge.order101.common.dto.TradeCursor;
 import com.synerge.order101.common.exception.CustomException;
-import com.synerge.order101.inbound.model.repository.InboundDetailRepository;
 import com.synerge.order101.inbound.model.repository.InboundRepository;
 import com.synerge.order101.product.exception.ProductErrorCode;
 import com.synerge.order101.product.model.dto.InventoryMovementRes;
@@ -27,8 +28,11 @@ import com.synerge.order101.product.model.repository.ProductSupplierRepository;
 import com.synerge.order101.supplier.exception.SupplierErrorCode;
 import com.synerge.order101.supplier.model.entity.Supplier;
 import com.synerge.order101.supplier.model.repository.SupplierRepository;
+import com.synerge.order101.warehouse.model.entity.InventoryMovement;
+import com.synerge.order101.warehouse.model.repository.InventoryMovementRepository;
 import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
 import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
+import com.synerge.order101.warehouse.model.service.InventorySearchProjector;
 import com.synerge.order101.warehouse.model.service.InventoryServiceImpl;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
@@ -52,7 +56,6 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -65,11 +68,13 @@ import java.util.UUID;
 public class ProductServiceImpl implements ProductService {
     private final ProductCategoryRepository productCategoryRepository;
     private final ProductRepository productRepository;
-    private final InboundDetailRepository inboundDetailRepository;
     private final WarehouseInventoryRepository warehouseInventoryRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
     private final SupplierRepository supplierRepository;
     private final ProductSupplierRepository productSupplierRepository;
     private final InventoryServiceImpl inventoryService;
+    private final ProductSupplierPriceResolver productSupplierPriceResolver;
+    private final InventorySearchProjector inventorySearchProjector;
 
     private final AmazonS3 amazonS3;
 
@@ -138,6 +143,7 @@ public class ProductServiceImpl implements ProductService {
                     .leadTimeDays(leadTimeDays)
                     .build();
             productSupplierRepository.save(ps);
+            productSupplierPriceResolver.invalidate(product.getProductId());
         }
 
         inventoryService.createInventory(product);
@@ -190,6 +196,10 @@ public class ProductServiceImpl implements ProductService {
                 small
         );
 
+        // 판매가 변경 반영
+        productSupplierPriceResolver.invalidate(product.getProductId());
+        inventorySearchProjector.refreshProducts(List.of(product.getProductId()));
+
         return ProductRes.builder()
                 .productName(product.getProductName())
                 .productCode(product.getProductCode())
@@ -207,40 +217,75 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public ProductInventoryDetailRes getProductInventory(Long productId, int page, int numOfRows) {
+        InventorySummaryRes summary = getInventorySummary(productId);
+
+        int pageIndex = Math.max(0, page - 1);
+
+        List<InventoryMovement> rows = inventoryMovementRepository.findLatest(productId, PageRequest.of(pageIndex, numOfRows));
+        long total = inventoryMovementRepository.countByProductId(productId);
+
+        return ProductInventoryDetailRes.builder()
+                .summary(summary)
+                .items(rows.stream().map(this::toMovementRes).toList())
+                .page(page)
+                .numOfRows(numOfRows)
+                .totalCount((int) total)
+                .hasNext((long) (pageIndex + 1) * numOfRows < total)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductInventoryDetailRes getProductInventoryByCursor(Long productId, String cursor, int numOfRows) {
+        InventorySummaryRes summary = getInventorySummary(productId);
+
+        // size + 1 건 조회해서 다음 페이지 여부 판단 (count 쿼리 없음)
+        PageRequest limit = PageRequest.of(0, numOfRows + 1);
+        List<InventoryMovement> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = inventoryMovementRepository.findLatest(productId, limit);
+        } else {
+            TradeCursor after = TradeCursor.decode(cursor);
+            rows = inventoryMovementRepository.findBefore(productId, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        CursorPageResponseDto<InventoryMovement> slice =
+                CursorPageResponseDto.of(rows, numOfRows, InventoryMovement::getOccurredAt, InventoryMovement::getMovementId);
+
+        return ProductInventoryDetailRes.builder()
+                .summary(summary)
+                .items(slice.getContent().stream().map(this::toMovementRes).toList())
+                .numOfRows(numOfRows)
+                .hasNext(slice.isHasNext())
+                .nextCursor(slice.getNextCursor())
+                .build();
+    }
+
+    private InventorySummaryRes getInventorySummary(Long productId) {
         Product product = productRepository.findById(productId).orElseThrow(() ->
                 new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND));
         long currentQty = warehouseInventoryRepository.sumOnHandAll(productId);
         long safetyQty = warehouseInventoryRepository.sumSafetyAll(productId);
 
-        InventorySummaryRes summary = InventorySummaryRes.builder()
+        return InventorySummaryRes.builder()
                 .productId(product.getProductId())
                 .productCode(product.getProductCode())
                 .productName(product.getProductName())
                 .currentQty(currentQty)
                 .safetyQty(safetyQty)
                 .build();
+    }
 
-        int pageIndex = Math.max(0, page - 1);
-        int limit = numOfRows;
-        int offset = pageIndex * numOfRows;
-
-        List<Object[]> rows = inboundDetailRepository.findMovements(productId, limit, offset);
-        long total =  inboundDetailRepository.countMovements(productId);
-
-        List<InventoryMovementRes> items = rows.stream()
-                .map(r -> InventoryMovementRes.builder()
-                        .movementNo((String) r[0])
-                        .type((String) r[1])
-                        .qty(((Number) r[2]).longValue())
-                        .occurredAt(((Timestamp) r[3]).toLocalDateTime())
-                        .build())
-                .toList();
-        return ProductInventoryDetailRes.builder()
-                .summary(summary)
-                .items(items)
-                .page(page)
-                .numOfRows(numOfRows)
-                .totalCount((int) total)
+    private InventoryMovementRes toMovementRes(InventoryMovement m) {
+        return InventoryMovementRes.builder()
+                .movementId(m.getMovementId())
+                .movementNo(m.getRefNo())
+                .type(m.getChangeType().getLabel())
+                .qty(m.getQuantity())
+                .occurredAt(m.getOccurredAt())
+                .warehouseId(m.getWarehouseId())
+                .storeId(m.getStoreId())
+                .balanceAfter(m.getBalanceAfter())
                 .build();
     }
 
@@ -339,6 +384,7 @@ public class ProductServiceImpl implements ProductService {
         // 나중에 유저 권한 검증 구현
         // cascade, orphan
         productRepository.delete(product);
+        inventorySearchProjector.refreshProducts(List.of(productId));
     }
 
     private String saveProductImage(MultipartFile imageFile) {
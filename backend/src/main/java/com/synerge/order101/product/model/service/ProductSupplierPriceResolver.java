@@ -0,0 +1,147 @@
+package com.synerge.order101.product.model.service;
+
+import com.synerge.order101.product.model.dto.SupplierPriceRes;
+import com.synerge.order101.product.model.repository.ProductSupplierRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공급사별 상품 공급가/리드타임 조회기
+ * - (공급사, 상품 목록) 단위로 한 번의 쿼리로 조회하고 메모리 인덱스에 보관한다.
+ * - 상품/공급 매핑이 바뀌면 invalidate 로 버전을 올리고 해당 상품을 인덱스에서 제거한다.
+ * - 조회 도중 버전이 바뀌면 방금 적재한 값은 버린다. (오래된 값이 다시 올라가는 것 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSupplierPriceResolver {
+
+    private final ProductSupplierRepository productSupplierRepository;
+
+    // supplierId -> (productId -> 공급가 정보)
+    private final Map<Long, Map<Long, SupplierPriceRes>> index = new ConcurrentHashMap<>();
+
+    // 공급사 전체 매핑이 적재된 공급사 ID
+    private final Map<Long, Boolean> completeSuppliers = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 공급사의 상품별 공급가 정보를 조회한다.
+     * 매핑이 없는 상품은 결과 Map 에 포함되지 않는다.
+     */
+    public Map<Long, SupplierPriceRes> resolve(Long supplierId, Collection<Long> productIds) {
+        Map<Long, SupplierPriceRes> result = new HashMap<>();
+        if (supplierId == null || productIds == null || productIds.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, SupplierPriceRes> supplierIndex = index.computeIfAbsent(supplierId, k -> new ConcurrentHashMap<>());
+
+        List<Long> misses = new ArrayList<>();
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            if (productId == null) continue;
+            SupplierPriceRes hit = supplierIndex.get(productId);
+            if (hit != null) {
+                result.put(productId, hit);
+            } else {
+                misses.add(productId);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long snapshot = version.get();
+        List<SupplierPriceRes> loaded = productSupplierRepository.findPricesBySupplierAndProducts(supplierId, misses);
+        for (SupplierPriceRes price : loaded) {
+            result.putIfAbsent(price.getProductId(), price);
+        }
+        publish(supplierIndex, loaded, snapshot);
+
+        return result;
+    }
+
+    /**
+     * 공급사가 취급하는 전체 상품의 공급가 정보를 조회한다.
+     */
+    public List<SupplierPriceRes> resolveAll(Long supplierId) {
+        if (supplierId == null) {
+            return List.of();
+        }
+
+        Map<Long, SupplierPriceRes> supplierIndex = index.computeIfAbsent(supplierId, k -> new ConcurrentHashMap<>());
+
+        if (completeSuppliers.containsKey(supplierId)) {
+            return List.copyOf(supplierIndex.values());
+        }
+
+        long snapshot = version.get();
+        List<SupplierPriceRes> loaded = productSupplierRepository.findPricesBySupplier(supplierId);
+        if (publish(supplierIndex, loaded, snapshot)) {
+            completeSuppliers.put(supplierId, Boolean.TRUE);
+        }
+
+        return loaded;
+    }
+
+    /**
+     * 상품의 공급 매핑/가격 변경 시 호출한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 비워서, 커밋 전 값을 다시 읽어간 경우를 정리한다.
+     */
+    public void invalidate(Long productId) {
+        evict(productId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(productId);
+                }
+            });
+        }
+    }
+
+    private void evict(Long productId) {
+        // 버전을 먼저 올려야 진행 중인 조회가 제거 이후에 값을 다시 넣지 못한다.
+        version.incrementAndGet();
+        completeSuppliers.clear();
+
+        if (productId == null) {
+            return;
+        }
+        for (Map<Long, SupplierPriceRes> supplierIndex : index.values()) {
+            supplierIndex.remove(productId);
+        }
+    }
+
+    private boolean publish(Map<Long, SupplierPriceRes> supplierIndex, List<SupplierPriceRes> loaded, long snapshot) {
+        if (version.get() != snapshot) {
+            return false;
+        }
+
+        for (SupplierPriceRes price : loaded) {
+            supplierIndex.putIfAbsent(price.getProductId(), price);
+        }
+
+        // 적재 중에 무효화가 끼어들었으면 방금 넣은 값을 되돌린다.
+        if (version.get() != snapshot) {
+            for (SupplierPriceRes price : loaded) {
+                supplierIndex.remove(price.getProductId(), price);
+            }
+            return false;
+        }
+        return true;
+    }
+}
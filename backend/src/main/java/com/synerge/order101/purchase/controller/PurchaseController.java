@@ -5,6 +5,7 @@ import com.synerge.order101.common.dto.BaseResponseDto;
 import com.synerge.order101.common.dto.ItemsResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.common.idempotency.IdempotencyStore;
 import com.synerge.order101.purchase.model.dto.*;
 import com.synerge.order101.purchase.model.entity.Purchase;
 import com.synerge.order101.purchase.model.service.PurchaseService;
@@ -31,10 +32,15 @@ public class PurchaseController {
      * - 모든 발주 목록을 조회한다.
      */
     @GetMapping
-    public ResponseEntity<Page<PurchaseSummaryResponseDto>> findPurchases(
+    public ResponseEntity<?> findPurchases(
             @ModelAttribute TradeSearchCondition cond,
             Pageable pageable
     ) {
+        // cursorMode=true 또는 cursor 가 있으면 커서 페이징
+        if (cond.isCursorPaging()) {
+            return ResponseEntity.ok(purchaseService.findPurchasesByCursor(cond, pageable.getPageSize()));
+        }
+
         Page<PurchaseSummaryResponseDto> response = purchaseService.findPurchases(cond, pageable);
         return ResponseEntity.ok(response);
     }
@@ -55,11 +61,14 @@ public class PurchaseController {
     /**
      * 3. 발주 생성
      * - 새로운 발주를 생성한다.
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재요청은 발주를 다시 만들지 않는다.
      */
     @PostMapping
-    public ResponseEntity<Purchase> createPurchase(@RequestBody PurchaseCreateRequest purchaseCreateRequest) {
+    public ResponseEntity<Purchase> createPurchase(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody PurchaseCreateRequest purchaseCreateRequest) {
 
-        purchaseService.createPurchase(purchaseCreateRequest);
+        purchaseService.createPurchase(purchaseCreateRequest, idempotencyKey);
 
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
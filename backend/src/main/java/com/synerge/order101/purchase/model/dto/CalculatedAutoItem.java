@@ -9,5 +9,6 @@ public class CalculatedAutoItem {
     Long productId;
     int orderQty;
     Long supplierId;
+    Long warehouseId;
 }
 
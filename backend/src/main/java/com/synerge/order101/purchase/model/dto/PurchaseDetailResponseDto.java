@@ -40,6 +40,27 @@ public class PurchaseDetailResponseDto {
     //  품목 세부 정보
     private List<PurchaseItemDto> purchaseItems;
 
+    // 헤더/품목 조회 결과(한 줄 = 품목 하나)를 응답으로 묶는다.
+    public static PurchaseDetailResponseDto fromRows(List<PurchaseDetailRowDto> rows) {
+        PurchaseDetailRowDto header = rows.get(0);
+
+        List<PurchaseItemDto> items = rows.stream()
+                .filter(row -> row.getPurchaseOrderLineId() != null)
+                .map(PurchaseItemDto::fromRow)
+                .toList();
+
+        return PurchaseDetailResponseDto.builder()
+                .orderStatus(header.getOrderStatus())
+                .purchaseId(header.getPurchaseId())
+                .orderType(header.getOrderType())
+                .poNo(header.getPoNo())
+                .supplierName(header.getSupplierName())
+                .requesterName(header.getRequesterName())
+                .requestedAt(header.getCreatedAt().toString())
+                .purchaseItems(items)
+                .build();
+    }
+
     @Getter
     @Builder
     public static class PurchaseItemDto{
@@ -61,6 +82,16 @@ public class PurchaseDetailResponseDto {
                     .build();
         }
 
+        public static PurchaseItemDto fromRow(PurchaseDetailRowDto row){
+            return PurchaseItemDto.builder()
+                    .productCode(row.getProductCode())
+                    .productName(row.getProductName())
+                    .unitPrice(row.getProductPrice())
+                    .purchasePrice(row.getPurchasePrice() != null ? row.getPurchasePrice() : BigDecimal.ZERO)
+                    .orderQty(row.getOrderQty())
+                    .build();
+        }
+
     }
 
 }
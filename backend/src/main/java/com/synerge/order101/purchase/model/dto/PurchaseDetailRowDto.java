@@ -0,0 +1,35 @@
+package com.synerge.order101.purchase.model.dto;
+
+import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.purchase.model.entity.Purchase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 발주 상세 화면 조회용 한 줄 (헤더 + 품목 + 공급가)
+ * 품목이 없는 발주는 품목 필드가 모두 null 인 한 줄로 조회된다.
+ */
+@Getter
+@AllArgsConstructor
+public class PurchaseDetailRowDto {
+
+    // 발주 헤더
+    private Long purchaseId;
+    private Purchase.OrderType orderType;
+    private OrderStatus orderStatus;
+    private String poNo;
+    private String supplierName;
+    private String requesterName;
+    private LocalDateTime createdAt;
+
+    // 품목
+    private Long purchaseOrderLineId;
+    private String productCode;
+    private String productName;
+    private BigDecimal productPrice;   // 판매가 (product.price)
+    private BigDecimal purchasePrice;  // 공급가 (product_supplier.purchase_price)
+    private Integer orderQty;
+}
@@ -28,6 +28,8 @@ import java.util.concurrent.ThreadLocalRandom;
 @Table(name = "purchase")
 public class Purchase {
 
+    public static final String PO_NO_PREFIX = "PO";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long purchaseId;
@@ -79,14 +81,15 @@ public class Purchase {
                 createdAt = now;
                 poDate = now;
         }
-        poNo = this.generatePoNo();
+        // 서비스에서 DocumentNumberAllocator 로 발급하지 않은 경우만 생성
+        if (poNo == null) poNo = this.generatePoNo();
     }
 
     public String generatePoNo() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
         String datePart = LocalDateTime.now().format(formatter);
         int randomNum = ThreadLocalRandom.current().nextInt(1000, 9999);
-        return "PO" + datePart + randomNum;
+        return PO_NO_PREFIX + datePart + randomNum;
     }
 
     public void updateOrderStatus(OrderStatus newOrderStatus) {
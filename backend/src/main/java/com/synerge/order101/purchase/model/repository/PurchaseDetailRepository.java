@@ -1,6 +1,7 @@
 package com.synerge.order101.purchase.model.repository;
 
 import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.purchase.model.dto.PurchaseDetailRowDto;
 import com.synerge.order101.purchase.model.entity.Purchase;
 import com.synerge.order101.purchase.model.entity.PurchaseDetail;
 import org.apache.ibatis.annotations.Param;
@@ -15,10 +16,37 @@ import java.util.List;
 public interface PurchaseDetailRepository extends JpaRepository<PurchaseDetail, Long> {
     List<PurchaseDetail> findByPurchase_PurchaseId(Long purchaseId);
 
+    // 발주 상세 화면: 헤더/품목/공급가를 한 번에 조회
     @Query("""
-        SELECT pd, wi.safetyQuantity, wi.onHandQuantity
+        SELECT new com.synerge.order101.purchase.model.dto.PurchaseDetailRowDto(
+            p.purchaseId, p.orderType, p.orderStatus, p.poNo, s.supplierName, u.name, p.createdAt,
+            pd.purchaseOrderLineId, pr.productCode, pr.productName, pr.price, ps.purchasePrice, pd.orderQty
+        )
+        FROM Purchase p
+        LEFT JOIN p.supplier s
+        LEFT JOIN p.user u
+        LEFT JOIN PurchaseDetail pd ON pd.purchase = p
+        LEFT JOIN pd.product pr
+        LEFT JOIN ProductSupplier ps ON ps.product = pr AND ps.supplier = s
+        WHERE p.purchaseId = :purchaseId
+        ORDER BY pd.purchaseOrderLineId ASC
+    """)
+    List<PurchaseDetailRowDto> findDetailRowsByPurchaseId(Long purchaseId);
+
+    // 품목 + 안전재고/현재고 + 최초 수량(라인별 첫 수정 이력)
+    @Query("""
+        SELECT pd, wi.safetyQuantity, wi.onHandQuantity, COALESCE(fh.beforeQty, fh.afterQty)
         FROM PurchaseDetail pd
+        JOIN FETCH pd.product
         LEFT JOIN WarehouseInventory wi ON wi.product.productId = pd.product.productId
+                                        AND wi.warehouse = pd.purchase.warehouse
+        LEFT JOIN (
+            SELECT h.purchaseOrderLineId AS lineId, h.beforeQty AS beforeQty, h.afterQty AS afterQty,
+                   ROW_NUMBER() OVER (PARTITION BY h.purchaseOrderLineId
+                                      ORDER BY h.updatedAt ASC, h.purchaseHistoryId ASC) AS rn
+            FROM PurchaseDetailHistory h
+            WHERE h.purchaseId = :purchaseId
+        ) fh ON fh.lineId = pd.purchaseOrderLineId AND fh.rn = 1
         WHERE pd.purchase.purchaseId = :purchaseId
         ORDER BY pd.purchaseOrderLineId ASC
     """)
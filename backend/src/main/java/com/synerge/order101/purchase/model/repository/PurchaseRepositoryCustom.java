@@ -1,5 +1,6 @@
 package com.synerge.order101.purchase.model.repository;
 
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
 import com.synerge.order101.purchase.model.dto.PurchaseSummaryResponseDto;
@@ -14,6 +15,9 @@ public interface PurchaseRepositoryCustom {
             Pageable pageable
     );
 
-    // StoreOrder/Settlement과 같은 TradeSearchCondition 기반 검색
-    Page<Purchase> search(TradeSearchCondition cond, Pageable pageable);
+    // StoreOrder/Settlement과 같은 TradeSearchCondition 기반 검색 (목록 화면용 DTO 프로젝션)
+    Page<PurchaseSummaryResponseDto> search(TradeSearchCondition cond, Pageable pageable);
+
+    // 커서(createdAt, id) 기반 검색: count 대신 한 건 더 조회해서 hasNext 판단
+    CursorPageResponseDto<PurchaseSummaryResponseDto> searchByCursor(TradeSearchCondition cond, int size);
 }
@@ -1,28 +1,42 @@
 package com.synerge.order101.purchase.model.repository;
 
 
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.common.dto.CursorPageResponseDto;
+import com.synerge.order101.common.dto.TradeCursor;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.purchase.model.dto.PurchaseSummaryResponseDto;
 import com.synerge.order101.purchase.model.entity.Purchase;
 import com.synerge.order101.purchase.model.entity.QPurchase;
+import com.synerge.order101.purchase.model.entity.QPurchaseDetail;
 import com.synerge.order101.supplier.model.entity.QSupplier;
 import com.synerge.order101.user.model.entity.QUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @RequiredArgsConstructor
 @Repository
 public class PurchaseRepositoryImpl implements PurchaseRepositoryCustom {
 
+    private static final String COUNT_DOMAIN = "purchase";
+
     private final JPAQueryFactory queryFactory;
+    private final TradeCountCache tradeCountCache;
     private final QPurchase purchase = QPurchase.purchase;
 
     @Override
@@ -59,43 +73,93 @@ public class PurchaseRepositoryImpl implements PurchaseRepositoryCustom {
     }
 
     @Override
-    public Page<Purchase> search(TradeSearchCondition cond, Pageable pageable) {
-        // 조건 매핑
-        String searchText = cond.getSearchText();
-        List<String> statusStrings = cond.getStatuses();
-        Long vendorId = cond.getVendorId();
-
+    public Page<PurchaseSummaryResponseDto> search(TradeSearchCondition cond, Pageable pageable) {
         // 목록
-        List<Purchase> content = queryFactory
-                .selectFrom(purchase)
-                .leftJoin(purchase.user, QUser.user).fetchJoin()
-                .leftJoin(purchase.supplier, QSupplier.supplier).fetchJoin()
-                .where(
-                        statusIn(statusStrings),
-                        searchTextContains(searchText),
-                        vendorIdEq(vendorId),
-                        createdAtAfterOrEq(cond.getFromDate()),
-                        createdAtBeforeOrEq(cond.getToDate())
-                )
+        List<PurchaseSummaryResponseDto> content = summaryQuery(cond)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(purchase.createdAt.desc())
                 .fetch();
 
-        // total (count 쿼리에는 JOIN 불필요, WHERE 절만 동일하게 적용)
+        // total: 마지막 페이지처럼 계산 가능하면 생략하고, 필요하면 정확한 count (캐시 추정치는 커서 조회의 withCount 에서만)
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(cond));
+    }
+
+    @Override
+    public CursorPageResponseDto<PurchaseSummaryResponseDto> searchByCursor(TradeSearchCondition cond, int size) {
+        TradeCursor cursor = StringUtils.hasText(cond.getCursor()) ? TradeCursor.decode(cond.getCursor()) : null;
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<PurchaseSummaryResponseDto> rows = summaryQuery(cond)
+                .where(cursorBefore(cursor))
+                .orderBy(purchase.createdAt.desc(), purchase.purchaseId.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        CursorPageResponseDto<PurchaseSummaryResponseDto> page = CursorPageResponseDto.of(rows, size,
+                PurchaseSummaryResponseDto::getRequestedAt, PurchaseSummaryResponseDto::getPurchaseId);
+
+        if (Boolean.TRUE.equals(cond.getWithCount())) {
+            return page.withTotalCount(tradeCountCache.get(COUNT_DOMAIN, cond, () -> count(cond)));
+        }
+        return page;
+    }
+
+    // 목록 프로젝션 (품목 수/총액은 DB 서브쿼리로 집계)
+    private JPAQuery<PurchaseSummaryResponseDto> summaryQuery(TradeSearchCondition cond) {
+        QPurchaseDetail purchaseDetail = QPurchaseDetail.purchaseDetail;
+
+        return queryFactory
+                .select(Projections.constructor(PurchaseSummaryResponseDto.class,
+                        purchase.purchaseId,
+                        QSupplier.supplier.supplierName,
+                        QUser.user.name,
+                        purchase.orderType,
+                        purchase.poNo,
+                        JPAExpressions
+                                .select(purchaseDetail.count().intValue())
+                                .from(purchaseDetail)
+                                .where(purchaseDetail.purchase.eq(purchase)),
+                        JPAExpressions
+                                .select(purchaseDetail.unitPrice.multiply(purchaseDetail.orderQty).sum()
+                                        .coalesce(BigDecimal.ZERO))
+                                .from(purchaseDetail)
+                                .where(purchaseDetail.purchase.eq(purchase)),
+                        purchase.orderStatus,
+                        purchase.createdAt
+                ))
+                .from(purchase)
+                .leftJoin(purchase.user, QUser.user)
+                .leftJoin(purchase.supplier, QSupplier.supplier)
+                .where(searchConditions(cond));
+    }
+
+    // count 쿼리에는 JOIN 불필요, WHERE 절만 동일하게 적용
+    private long count(TradeSearchCondition cond) {
         Long total = queryFactory
                 .select(purchase.count())
                 .from(purchase)
-                .where(
-                        statusIn(statusStrings),
-                        searchTextContains(searchText),
-                        vendorIdEq(vendorId),
-                        createdAtAfterOrEq(cond.getFromDate()),
-                        createdAtBeforeOrEq(cond.getToDate())
-                )
+                .where(searchConditions(cond))
                 .fetchOne();
+        return total != null ? total : 0;
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    private Predicate[] searchConditions(TradeSearchCondition cond) {
+        return new Predicate[]{
+                statusIn(cond.getStatuses()),
+                searchTextContains(cond.getSearchText()),
+                vendorIdEq(cond.getVendorId()),
+                createdAtAfterOrEq(cond.getFromDate()),
+                createdAtBeforeOrEq(cond.getToDate())
+        };
+    }
+
+    // (createdAt, id) 가 커서보다 앞선(더 오래된) 행만
+    private BooleanExpression cursorBefore(TradeCursor cursor) {
+        if (cursor == null) return null;
+        return purchase.createdAt.lt(cursor.getCreatedAt())
+                .or(purchase.createdAt.eq(cursor.getCreatedAt())
+                        .and(purchase.purchaseId.lt(cursor.getId())));
     }
 
     // --- 헬퍼 메서드들 ---
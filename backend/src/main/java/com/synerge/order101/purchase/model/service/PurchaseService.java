@@ -1,5 +1,6 @@
 package com.synerge.order101.purchase.model.service;
 
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
 import com.synerge.order101.purchase.model.dto.*;
@@ -12,12 +13,18 @@ public interface PurchaseService {
     // 발주 목록 조회 (TradeSearchCondition + Pageable)
     Page<PurchaseSummaryResponseDto> findPurchases(TradeSearchCondition cond, Pageable pageable);
 
+    // 발주 목록 조회 (커서 페이징)
+    CursorPageResponseDto<PurchaseSummaryResponseDto> findPurchasesByCursor(TradeSearchCondition cond, int size);
+
     // 발주 상세 조회
     PurchaseDetailResponseDto findPurchaseDetailsById(Long purchaseOrderId);
 
     // 발주 생성
     void createPurchase(PurchaseCreateRequest purchaseCreateRequest);
 
+    // 같은 idempotencyKey 로 다시 요청하면 발주를 새로 만들지 않는다.
+    void createPurchase(PurchaseCreateRequest purchaseCreateRequest, String idempotencyKey);
+
     // 발주 상태 업데이트
     PurchaseUpdateStatusResponseDto updatePurchaseStatus(Long purchaseOrderId, OrderStatus status);
 
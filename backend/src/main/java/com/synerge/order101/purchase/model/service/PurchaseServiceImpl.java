@@ -1,14 +1,18 @@
 package com.synerge.order101.purchase.model.service;
 
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
 import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.idempotency.IdempotencyStore;
+import com.synerge.order101.common.outbox.Outbox;
+import com.synerge.order101.common.outbox.OutboxEventType;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
 import com.synerge.order101.inbound.model.service.InboundService;
 import com.synerge.order101.notification.model.service.NotificationService;
-import com.synerge.order101.product.model.entity.Product;
-import com.synerge.order101.product.model.entity.ProductSupplier;
+import com.synerge.order101.product.model.dto.SupplierPriceRes;
 import com.synerge.order101.product.model.repository.ProductRepository;
-import com.synerge.order101.product.model.repository.ProductSupplierRepository;
+import com.synerge.order101.product.model.service.ProductSupplierPriceResolver;
 import com.synerge.order101.purchase.exception.PurchaseErrorCode;
 import com.synerge.order101.purchase.model.dto.*;
 import com.synerge.order101.purchase.model.entity.Purchase;
@@ -18,6 +22,7 @@ import com.synerge.order101.purchase.model.repository.PurchaseDetailHistoryRepos
 import com.synerge.order101.purchase.model.repository.PurchaseDetailRepository;
 import com.synerge.order101.purchase.model.repository.PurchaseRepository;
 import com.synerge.order101.settlement.event.PurchaseSettlementReqEvent;
+import com.synerge.order101.settlement.model.dto.SettlementRequest;
 import com.synerge.order101.supplier.model.entity.Supplier;
 import com.synerge.order101.supplier.model.repository.SupplierRepository;
 import com.synerge.order101.user.exception.UserErrorCode;
@@ -28,7 +33,6 @@ import com.synerge.order101.warehouse.model.entity.Warehouse;
 import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
 import com.synerge.order101.warehouse.model.service.InventoryService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,19 +60,21 @@ public class PurchaseServiceImpl implements PurchaseService {
 
     private final PurchaseRepository purchaseRepository;
     private final PurchaseDetailRepository purchaseDetailRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
     private final PurchaseDetailHistoryRepository purchaseDetailHistoryRepository;
 
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final SupplierRepository supplierRepository;
     private final WarehouseRepository warehouseRepository;
-    private final ProductSupplierRepository productSupplierRepository;
+    private final ProductSupplierPriceResolver productSupplierPriceResolver;
 
     private final InventoryService inventoryService;
     private final InboundService inboundService;
 
     private final NotificationService notificationService;
+    private final IdempotencyStore idempotencyStore;
+    private final DocumentNumberAllocator documentNumberAllocator;
 
     // 발주 목록 조회
     @Override
@@ -79,7 +85,14 @@ public class PurchaseServiceImpl implements PurchaseService {
             pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
         }
 
-        return purchaseRepository.search(cond, pageable).map(PurchaseSummaryResponseDto::fromEntity);
+        return purchaseRepository.search(cond, pageable);
+    }
+
+    // 발주 목록 조회 (커서 페이징)
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PurchaseSummaryResponseDto> findPurchasesByCursor(TradeSearchCondition cond, int size) {
+        return purchaseRepository.searchByCursor(cond, size);
     }
 
     // 발주 상세 조회
@@ -87,42 +100,26 @@ public class PurchaseServiceImpl implements PurchaseService {
     @Transactional(readOnly = true)
     public PurchaseDetailResponseDto findPurchaseDetailsById(Long purchaseId) {
 
-        Purchase purchase = purchaseRepository.findById(purchaseId).orElseThrow(
-                () -> new CustomException(PurchaseErrorCode.PURCHASE_NOT_FOUND
-                ));
-
-        List<PurchaseDetail> details = purchaseDetailRepository.findByPurchase_PurchaseId(purchaseId);
-        Long supplierId = purchase.getSupplier().getSupplierId();
-
-        // DTO 변환 (공급가 조회 포함)
-        PurchaseDetailResponseDto.PurchaseItemDto[] items = details.stream()
-                .map(detail -> {
-                    // product_supplier에서 공급가 조회
-                    BigDecimal purchasePrice = productSupplierRepository
-                            .findByProduct_ProductIdAndSupplier_SupplierId(
-                                    detail.getProduct().getProductId(), 
-                                    supplierId
-                            )
-                            .map(ProductSupplier::getPurchasePrice)
-                            .orElse(BigDecimal.ZERO);
-                    
-                    return PurchaseDetailResponseDto.PurchaseItemDto.fromEntity(detail, purchasePrice);
-                })
-                .toArray(PurchaseDetailResponseDto.PurchaseItemDto[]::new);
+        // 헤더/품목/공급가를 한 번의 쿼리로 조회
+        List<PurchaseDetailRowDto> rows = purchaseDetailRepository.findDetailRowsByPurchaseId(purchaseId);
+        if (rows.isEmpty()) {
+            throw new CustomException(PurchaseErrorCode.PURCHASE_NOT_FOUND);
+        }
 
-        return PurchaseDetailResponseDto.builder()
-                .orderStatus(purchase.getOrderStatus())
-                .purchaseId(purchase.getPurchaseId())
-                .orderType(purchase.getOrderType())
-                .poNo(purchase.getPoNo())
-                .supplierName(purchase.getSupplier().getSupplierName())
-                .requesterName(purchase.getUser().getName())
-                .requestedAt(purchase.getCreatedAt().toString())
-                .purchaseItems(List.of(items))
-                .build();
+        return PurchaseDetailResponseDto.fromRows(rows);
 
     }
 
+    // 발주 생성 (Idempotency-Key 가 있으면 재요청 시 다시 만들지 않는다)
+    @Override
+    @Transactional
+    public void createPurchase(PurchaseCreateRequest request, String idempotencyKey) {
+        idempotencyStore.execute("purchase", idempotencyKey, request, Void.class, () -> {
+            createPurchase(request);
+            return null;
+        });
+    }
+
     // 발주 생성
     @Override
     @Transactional
@@ -144,6 +141,7 @@ public class PurchaseServiceImpl implements PurchaseService {
         );
 
         Purchase purchase = Purchase.builder()
+                .poNo(documentNumberAllocator.next(Purchase.PO_NO_PREFIX))
                 .supplier(supplier)
                 .user(user)
                 .warehouse(warehouse)
@@ -153,21 +151,26 @@ public class PurchaseServiceImpl implements PurchaseService {
 
         purchaseRepository.save(purchase);
 
+        // 공급가 일괄 조회 (공급사 + 상품 목록 1회)
+        List<Long> productIds = request.getItems().stream()
+                .map(PurchaseCreateRequest.Item::getProductId)
+                .toList();
+        Map<Long, SupplierPriceRes> prices =
+                productSupplierPriceResolver.resolve(supplier.getSupplierId(), productIds);
+
         List<PurchaseDetail> detailsToSave = new ArrayList<>();
         for (PurchaseCreateRequest.Item item : request.getItems()) {
-            Product product = productRepository.findById(item.getProductId()).orElseThrow(
-                    () -> new CustomException(PurchaseErrorCode.PURCHASE_CREATION_FAILED));
-
-            ProductSupplier productSupplier = productSupplierRepository
-                    .findByProductAndSupplier(product, supplier) // supplier 객체는 이미 상위에서 조회됨
-                    .orElseThrow(() -> new CustomException(PurchaseErrorCode.PURCHASE_NOT_FOUND));
+            SupplierPriceRes price = prices.get(item.getProductId());
+            if (price == null) {
+                throw new CustomException(PurchaseErrorCode.PURCHASE_NOT_FOUND);
+            }
 
             PurchaseDetail detail = PurchaseDetail.builder()
-                    .product(product)
+                    .product(productRepository.getReferenceById(item.getProductId()))
                     .purchase(purchase)
                     .orderQty(item.getOrderQty())
                     .deadline(request.getDeadline())
-                    .unitPrice(productSupplier.getPurchasePrice())
+                    .unitPrice(price.getPurchasePrice())
                     .build();
 
             detailsToSave.add(detail);
@@ -209,8 +212,9 @@ public class PurchaseServiceImpl implements PurchaseService {
         OrderStatus curOrderStatus = purchase.getOrderStatus();
 
         if (curOrderStatus == OrderStatus.CONFIRMED) {
-            // 발주 완료 이벤트 발행
-            eventPublisher.publishEvent(new PurchaseSettlementReqEvent(purchase));
+            // 정산 요청 (같은 트랜잭션에서 아웃박스에 기록)
+            outbox.append(OutboxEventType.SETTLEMENT_REQUESTED,
+                    SettlementRequest.from(new PurchaseSettlementReqEvent(purchase)));
             // 입고 반영
             inboundService.createInbound(purchase);
         }
@@ -229,32 +233,38 @@ public class PurchaseServiceImpl implements PurchaseService {
         List<CalculatedAutoItem> autoItems = inventoryService.getAutoPurchaseItems();
         if (autoItems.isEmpty()) return;
 
-        Map<Long, List<CalculatedAutoItem>> groupedBySupplier =
-                autoItems.stream().collect(Collectors.groupingBy(CalculatedAutoItem::getSupplierId));
+        // 공급사 + 입고 창고 단위로 발주서를 나눈다.
+        Map<Long, Map<Long, List<CalculatedAutoItem>>> grouped = autoItems.stream()
+                .collect(Collectors.groupingBy(CalculatedAutoItem::getSupplierId,
+                        Collectors.groupingBy(CalculatedAutoItem::getWarehouseId)));
 
         Long systemUserId = userRepository.findByName("SYSTEM").get().getUserId();
-        Long warehouseId = 1L;
 
-        for (Map.Entry<Long, List<CalculatedAutoItem>> entry : groupedBySupplier.entrySet()) {
+        for (Map.Entry<Long, Map<Long, List<CalculatedAutoItem>>> supplierEntry : grouped.entrySet()) {
 
-            Long supplierId = entry.getKey();
+            Long supplierId = supplierEntry.getKey();
 
-            List<PurchaseCreateRequest.Item> items =
-                    entry.getValue().stream()
-                            .map(i -> new PurchaseCreateRequest.Item(i.getProductId(), i.getOrderQty()))
-                            .toList();
+            for (Map.Entry<Long, List<CalculatedAutoItem>> entry : supplierEntry.getValue().entrySet()) {
 
-            PurchaseCreateRequest request = new PurchaseCreateRequest(
-                    supplierId,
-                    systemUserId,
-                    warehouseId,
-                    Purchase.OrderType.AUTO,
-                    OrderStatus.DRAFT_AUTO,      // 자동초안
-                    LocalDate.now(),
-                    items
-            );
+                Long warehouseId = entry.getKey();
 
-            createPurchase(request);
+                List<PurchaseCreateRequest.Item> items =
+                        entry.getValue().stream()
+                                .map(i -> new PurchaseCreateRequest.Item(i.getProductId(), i.getOrderQty()))
+                                .toList();
+
+                PurchaseCreateRequest request = new PurchaseCreateRequest(
+                        supplierId,
+                        systemUserId,
+                        warehouseId,
+                        Purchase.OrderType.AUTO,
+                        OrderStatus.DRAFT_AUTO,      // 자동초안
+                        LocalDate.now(),
+                        items
+                );
+
+                createPurchase(request);
+            }
         }
     }
 
@@ -277,7 +287,7 @@ public class PurchaseServiceImpl implements PurchaseService {
         Purchase purchase = purchaseRepository.findById(purchaseId).orElseThrow(
                 () -> new CustomException(PurchaseErrorCode.PURCHASE_NOT_FOUND));
 
-        // PurchaseDetail + safetyQty + onHandQty 조회
+        // PurchaseDetail + safetyQty + onHandQty + 최초 수량 조회
         List<Object[]> results = purchaseDetailRepository.findDetailsWithSafetyQtyAndOnHandQty(purchaseId);
 
         // DTO 변환
@@ -287,11 +297,8 @@ public class PurchaseServiceImpl implements PurchaseService {
                     Integer safetyQty = (Integer) r[1];
                     Integer onHandQty = (Integer) r[2];   // 재고 추가
 
-                    // originalQty 계산
-                    Integer originalQty = purchaseDetailHistoryRepository
-                            .findTopByPurchaseOrderLineIdOrderByUpdatedAtAsc(detail.getPurchaseOrderLineId())
-                            .map(h -> h.getBeforeQty() == null ? h.getAfterQty() : h.getBeforeQty())
-                            .orElse(detail.getOrderQty());  // 수정 이력 없으면 현재 qty
+                    // originalQty: 첫 수정 이력 기준, 수정 이력 없으면 현재 qty
+                    Integer originalQty = r[3] != null ? (Integer) r[3] : detail.getOrderQty();
 
                     return AutoPurchaseDetailResponseDto.AutoPurchaseItemDto.fromEntity(
                             detail,
@@ -369,18 +376,24 @@ public class PurchaseServiceImpl implements PurchaseService {
         }
 
         // 2) ADD
+        Map<Long, SupplierPriceRes> prices = requestedMap.isEmpty()
+                ? Map.of()
+                : productSupplierPriceResolver.resolve(purchase.getSupplier().getSupplierId(), requestedMap.keySet());
+
         for (Map.Entry<Long, Integer> entry : requestedMap.entrySet()) {
             Long productId = entry.getKey();
             Integer qty = entry.getValue();
 
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new CustomException(PurchaseErrorCode.PURCHASE_CREATION_FAILED));
+            SupplierPriceRes price = prices.get(productId);
+            if (price == null) {
+                throw new CustomException(PurchaseErrorCode.PURCHASE_CREATION_FAILED);
+            }
 
             PurchaseDetail newDetail = PurchaseDetail.builder()
                     .purchase(purchase)
-                    .product(product)
+                    .product(productRepository.getReferenceById(productId))
                     .orderQty(qty)
-                    .unitPrice(product.getPrice())
+                    .unitPrice(price.getPurchasePrice())
                     .build();
 
             purchaseDetailRepository.save(newDetail);
@@ -440,8 +453,9 @@ public class PurchaseServiceImpl implements PurchaseService {
         purchase.updateOrderStatus(status);
 
         if (status == OrderStatus.CONFIRMED) {
-            // 정산 이벤트 발행
-            eventPublisher.publishEvent(new PurchaseSettlementReqEvent(purchase));
+            // 정산 요청 (같은 트랜잭션에서 아웃박스에 기록)
+            outbox.append(OutboxEventType.SETTLEMENT_REQUESTED,
+                    SettlementRequest.from(new PurchaseSettlementReqEvent(purchase)));
             // 입고 반영
             inboundService.createInbound(purchase);
         }
@@ -17,10 +17,15 @@ public class SettlementController {
     private final SettlementService settlementService;
 
     @GetMapping
-    public ResponseEntity<Page<SettlementSummaryDto>> getSettlements(
+    public ResponseEntity<?> getSettlements(
             @ModelAttribute TradeSearchCondition cond,
             Pageable pageable
     ) {
+        // cursorMode=true 또는 cursor 가 있으면 커서 페이징
+        if (cond.isCursorPaging()) {
+            return ResponseEntity.ok(settlementService.getSettlementsByCursor(cond, pageable.getPageSize()));
+        }
+
         Page<SettlementSummaryDto> results = settlementService.getSettlements(cond, pageable);
 
         return ResponseEntity.ok(results);
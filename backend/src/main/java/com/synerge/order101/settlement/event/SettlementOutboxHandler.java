@@ -0,0 +1,46 @@
+package com.synerge.order101.settlement.event;
+
+import com.synerge.order101.common.outbox.OutboxEventType;
+import com.synerge.order101.common.outbox.OutboxHandler;
+import com.synerge.order101.settlement.model.dto.SettlementRequest;
+import com.synerge.order101.settlement.model.service.SettlementBatchService;
+import com.synerge.order101.settlement.model.service.SettlementService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문/발주 확정 -> 정산 생성 (아웃박스 SETTLEMENT_REQUESTED 묶음 처리)
+ * - 정산 묶음 모드(app.settlement.batching.enabled)면 문서별 정산 대신 적립 원장에 쌓는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementOutboxHandler implements OutboxHandler<SettlementRequest> {
+
+    private final SettlementService settlementService;
+    private final SettlementBatchService settlementBatchService;
+
+    @Value("${app.settlement.batching.enabled:false}")
+    private boolean batching;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.SETTLEMENT_REQUESTED;
+    }
+
+    @Override
+    public Class<SettlementRequest> payloadType() {
+        return SettlementRequest.class;
+    }
+
+    @Override
+    public void handle(List<SettlementRequest> requests) {
+        if (batching) {
+            settlementBatchService.accrue(requests);
+        } else {
+            settlementService.createSettlements(requests);
+        }
+    }
+}
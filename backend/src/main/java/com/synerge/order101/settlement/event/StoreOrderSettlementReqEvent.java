@@ -2,27 +2,38 @@ package com.synerge.order101.settlement.event;
 
 import com.synerge.order101.common.enums.SettlementType;
 import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
 import com.synerge.order101.purchase.model.entity.Purchase;
 import com.synerge.order101.settlement.model.repository.SettlementRepository;
 import com.synerge.order101.store.model.entity.Store;
 import com.synerge.order101.supplier.model.entity.Supplier;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 
 public record StoreOrderSettlementReqEvent(StoreOrder storeOrder) implements SettlementReqEvent {
 
     @Override
     public BigDecimal settlementAmount() {
-        return storeOrder.getStoreOrderDetails().stream()
-                .map(detail -> detail.getAmount()
-                        .multiply(BigDecimal.valueOf(detail.getOrderQty())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return amountOf(storeOrder.getStoreOrderDetails());
     }
 
     @Override
     public Integer settlementQty() {
 
-        return storeOrder.getStoreOrderDetails().stream()
+        return qtyOf(storeOrder.getStoreOrderDetails());
+    }
+
+    // 일괄 승인처럼 상세를 따로 읽어 둔 경우에도 같은 기준으로 계산하도록 분리
+    public static BigDecimal amountOf(Collection<StoreOrderDetail> details) {
+        return details.stream()
+                .map(detail -> detail.getAmount()
+                        .multiply(BigDecimal.valueOf(detail.getOrderQty())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    public static int qtyOf(Collection<StoreOrderDetail> details) {
+        return details.stream()
                 .mapToInt(detail -> detail.getOrderQty() != null ? detail.getOrderQty() : 0)
                 .sum();
     }
@@ -0,0 +1,17 @@
+package com.synerge.order101.settlement.model.dto;
+
+import com.synerge.order101.common.enums.SettlementType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 정산 묶음 합산 결과 - 거래처 한 곳의 기간 합계
+public record SettlementAccrualTotal(
+        SettlementType type,
+        Long vendorId,
+        BigDecimal amount,
+        Long qty,
+        LocalDateTime firstAccruedAt,
+        Long documents
+) {
+}
@@ -0,0 +1,45 @@
+package com.synerge.order101.settlement.model.dto;
+
+import com.synerge.order101.common.enums.SettlementType;
+import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
+import com.synerge.order101.settlement.event.SettlementReqEvent;
+import com.synerge.order101.settlement.event.StoreOrderSettlementReqEvent;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * 아웃박스에 저장되는 정산 생성 요청
+ * - 엔티티 대신 ID 와 금액/수량만 담아 JSON 으로 저장한다.
+ * - 금액/수량은 주문/발주 확정 시점에 계산해 둔다.
+ */
+public record SettlementRequest(
+        SettlementType type,
+        Long storeOrderId,
+        Long purchaseId,
+        Long storeId,
+        Long supplierId,
+        BigDecimal amount,
+        Integer qty
+) {
+
+    public static SettlementRequest from(SettlementReqEvent event) {
+        return new SettlementRequest(
+                event.settlementType(),
+                event.storeOrder() != null ? event.storeOrder().getStoreOrderId() : null,
+                event.purchase() != null ? event.purchase().getPurchaseId() : null,
+                event.store() != null ? event.store().getStoreId() : null,
+                event.supplier() != null ? event.supplier().getSupplierId() : null,
+                event.settlementAmount(),
+                event.settlementQty());
+    }
+
+    // 일괄 승인처럼 상세를 따로 읽어 둔 경우
+    public static SettlementRequest ofStoreOrder(StoreOrder order, Collection<StoreOrderDetail> details) {
+        return new SettlementRequest(SettlementType.AR, order.getStoreOrderId(), null,
+                order.getStore().getStoreId(), null,
+                StoreOrderSettlementReqEvent.amountOf(details),
+                StoreOrderSettlementReqEvent.qtyOf(details));
+    }
+}
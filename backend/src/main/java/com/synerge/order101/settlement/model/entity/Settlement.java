@@ -22,10 +22,18 @@ import java.util.concurrent.ThreadLocalRandom;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "settlement")
+@Table(
+        name = "settlement",
+        indexes = {
+                // 상태 일괄 전환 시 상태 + ID 범위로 찾는다.
+                @Index(name = "idx_settlement_status_id", columnList = "settlement_status, settlement_id")
+        }
+)
 @Builder
 public class Settlement {
 
+    public static final String SETTLEMENT_NO_PREFIX = "SETL-";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long settlementId;
@@ -80,10 +88,18 @@ public class Settlement {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // 정산 묶음 모드에서 합산한 기간 (문서 한 건짜리 정산은 null)
+    @Column
+    private LocalDateTime periodStart;
+
+    @Column
+    private LocalDateTime periodEnd;
+
     @PrePersist
     public void onCreate() {
         this.createdAt = LocalDateTime.now();
-        this.settlementNo = generateSettlementNo();
+        // 서비스에서 DocumentNumberAllocator 로 발급하지 않은 경우만 생성
+        if (this.settlementNo == null) this.settlementNo = generateSettlementNo();
         this.settlementStatus = SettlementStatus.DRAFT;
     }
 
@@ -96,7 +112,7 @@ public class Settlement {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
         String datePart = LocalDateTime.now().format(formatter);
         int randomNum = ThreadLocalRandom.current().nextInt(1000, 9999);
-        return "SETL-" + datePart + randomNum;
+        return SETTLEMENT_NO_PREFIX + datePart + randomNum;
     }
 
 
@@ -0,0 +1,81 @@
+package com.synerge.order101.settlement.model.entity;
+
+import com.synerge.order101.common.enums.SettlementType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 정산 적립 원장 (정산 묶음 모드)
+ * - 확정된 주문/발주마다 한 줄씩 쌓고, SettlementBatchService.rollUp 이 거래처별로 합산해 정산 한 건으로 만든다.
+ * - 주문/발주 ID 는 유니크라 같은 요청이 다시 와도 두 번 적립되지 않는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "settlement_accrual",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_settlement_accrual_store_order", columnNames = "store_order_id"),
+                @UniqueConstraint(name = "uk_settlement_accrual_purchase", columnNames = "purchase_id")
+        },
+        indexes = {
+                @Index(name = "idx_settlement_accrual_open", columnList = "settlement_id, accrued_at"),
+                @Index(name = "idx_settlement_accrual_rollup", columnList = "rollup_token, settlement_type, vendor_id")
+        }
+)
+public class SettlementAccrual {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "accrual_id")
+    private Long accrualId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "settlement_type", nullable = false, length = 10)
+    private SettlementType settlementType;
+
+    // AR 이면 가맹점 ID, AP 이면 공급사 ID
+    @Column(name = "vendor_id", nullable = false)
+    private Long vendorId;
+
+    @Column(name = "store_order_id")
+    private Long storeOrderId;
+
+    @Column(name = "purchase_id")
+    private Long purchaseId;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "qty", nullable = false)
+    private Integer qty;
+
+    @Column(name = "accrued_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime accruedAt;
+
+    // 합산 중인 묶음 표시 (같은 트랜잭션에서 settlement_id 가 채워진다)
+    @Column(name = "rollup_token", length = 36)
+    private String rollupToken;
+
+    // 합산되어 만들어진 정산. null 이면 아직 정산 전
+    @Column(name = "settlement_id")
+    private Long settlementId;
+
+    public static SettlementAccrual of(SettlementType type, Long vendorId, Long storeOrderId, Long purchaseId,
+                                       BigDecimal amount, Integer qty) {
+        SettlementAccrual accrual = new SettlementAccrual();
+        accrual.settlementType = type;
+        accrual.vendorId = vendorId;
+        accrual.storeOrderId = storeOrderId;
+        accrual.purchaseId = purchaseId;
+        accrual.amount = amount != null ? amount : BigDecimal.ZERO;
+        accrual.qty = qty != null ? qty : 0;
+        accrual.accruedAt = LocalDateTime.now();
+        return accrual;
+    }
+}
@@ -0,0 +1,55 @@
+package com.synerge.order101.settlement.model.repository;
+
+import com.synerge.order101.settlement.model.entity.SettlementAccrual;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 정산 적립 일괄 저장 (JDBC 배치)
+ * - 일괄 승인처럼 한 번에 많은 문서가 확정되는 경우 IDENTITY 키의 한 줄씩 INSERT 를 피한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementAccrualJdbcRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO settlement_accrual
+            (settlement_type, vendor_id, store_order_id, purchase_id, amount, qty, accrued_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] insertAll(List<SettlementAccrual> accruals) {
+        if (accruals.isEmpty()) {
+            return new int[0];
+        }
+
+        return jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SettlementAccrual accrual = accruals.get(i);
+                ps.setString(1, accrual.getSettlementType().name());
+                ps.setLong(2, accrual.getVendorId());
+                ps.setObject(3, accrual.getStoreOrderId(), Types.BIGINT);
+                ps.setObject(4, accrual.getPurchaseId(), Types.BIGINT);
+                ps.setBigDecimal(5, accrual.getAmount());
+                ps.setInt(6, accrual.getQty());
+                ps.setTimestamp(7, Timestamp.valueOf(accrual.getAccruedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return accruals.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.synerge.order101.settlement.model.repository;
+
+import com.synerge.order101.common.enums.SettlementType;
+import com.synerge.order101.settlement.model.dto.SettlementAccrualTotal;
+import com.synerge.order101.settlement.model.entity.SettlementAccrual;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SettlementAccrualRepository extends JpaRepository<SettlementAccrual, Long> {
+
+    // 이미 적립된 주문 ID (중복 적립 확인)
+    @Query("""
+        select a.storeOrderId
+        from SettlementAccrual a
+        where a.storeOrderId in :storeOrderIds
+    """)
+    List<Long> findAccruedStoreOrderIds(@Param("storeOrderIds") Collection<Long> storeOrderIds);
+
+    // 이미 적립된 발주 ID
+    @Query("""
+        select a.purchaseId
+        from SettlementAccrual a
+        where a.purchaseId in :purchaseIds
+    """)
+    List<Long> findAccruedPurchaseIds(@Param("purchaseIds") Collection<Long> purchaseIds);
+
+    // 기간 안의 아직 정산 전 적립을 이번 합산 묶음으로 표시. 반환: 표시한 행 수
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update SettlementAccrual a
+        set a.rollupToken = :rollupToken
+        where a.settlementId is null
+          and a.rollupToken is null
+          and a.accruedAt < :periodEnd
+    """)
+    int claimForRollup(@Param("rollupToken") String rollupToken,
+                       @Param("periodEnd") LocalDateTime periodEnd);
+
+    // 묶음을 거래처별로 합산
+    @Query("""
+        select new com.synerge.order101.settlement.model.dto.SettlementAccrualTotal(
+            a.settlementType, a.vendorId, sum(a.amount), sum(a.qty), min(a.accruedAt), count(a))
+        from SettlementAccrual a
+        where a.rollupToken = :rollupToken
+        group by a.settlementType, a.vendorId
+        order by a.settlementType, a.vendorId
+    """)
+    List<SettlementAccrualTotal> sumByVendor(@Param("rollupToken") String rollupToken);
+
+    // 합산에 쓰인 적립을 만들어진 정산에 연결
+    @Modifying
+    @Query("""
+        update SettlementAccrual a
+        set a.settlementId = :settlementId
+        where a.rollupToken = :rollupToken
+          and a.settlementType = :type
+          and a.vendorId = :vendorId
+    """)
+    int assignSettlement(@Param("rollupToken") String rollupToken,
+                         @Param("type") SettlementType type,
+                         @Param("vendorId") Long vendorId,
+                         @Param("settlementId") Long settlementId);
+
+    long countBySettlementIdIsNull();
+}
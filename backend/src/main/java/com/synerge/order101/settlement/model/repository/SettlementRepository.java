@@ -1,8 +1,11 @@
 package com.synerge.order101.settlement.model.repository;
 
 import com.synerge.order101.settlement.model.entity.Settlement;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
@@ -10,7 +13,55 @@ import org.springframework.stereotype.Repository;
 public interface SettlementRepository extends JpaRepository<Settlement, Long> , SettlementRepositoryCustom{
     boolean existsByPurchase_PurchaseId(Long purchasePurchaseId);
     boolean existsByStoreOrder_StoreOrderId(Long storeOrderId);
-    java.util.List<Settlement> findBySettlementStatus(Settlement.SettlementStatus settlementStatus);
     java.util.Optional<Settlement> findBySettlementNo(String settlementNo);
 
+    // 이미 정산이 만들어진 주문 ID (일괄 정산 생성 시 중복 확인)
+    @Query("""
+        select s.storeOrder.storeOrderId
+        from Settlement s
+        where s.storeOrder.storeOrderId in :storeOrderIds
+    """)
+    java.util.List<Long> findStoreOrderIdsWithSettlement(java.util.Collection<Long> storeOrderIds);
+
+    // 이미 정산이 만들어진 발주 ID
+    @Query("""
+        select s.purchase.purchaseId
+        from Settlement s
+        where s.purchase.purchaseId in :purchaseIds
+    """)
+    java.util.List<Long> findPurchaseIdsWithSettlement(java.util.Collection<Long> purchaseIds);
+
+    @Query("select max(s.settlementId) from Settlement s")
+    Long findMaxSettlementId();
+
+    // 상태 일괄 전환 묶음의 끝 ID - (afterId, maxId] 에서 status 인 행을 ID 순으로 세어 page 번째 ID
+    @Query("""
+        select s.settlementId
+        from Settlement s
+        where s.settlementStatus = :status
+          and s.settlementId > :afterId
+          and s.settlementId <= :maxId
+        order by s.settlementId
+    """)
+    java.util.List<Long> findChunkBoundary(@Param("status") Settlement.SettlementStatus status,
+                                           @Param("afterId") Long afterId,
+                                           @Param("maxId") Long maxId,
+                                           Pageable pageable);
+
+    // ID 범위 안의 from 상태 정산을 한 번에 전환. 반환: 바뀐 행 수
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Settlement s
+        set s.settlementStatus = :to,
+            s.settledDate = :settledDate
+        where s.settlementStatus = :from
+          and s.settlementId > :afterId
+          and s.settlementId <= :toId
+    """)
+    int rotateStatusInRange(@Param("from") Settlement.SettlementStatus from,
+                            @Param("to") Settlement.SettlementStatus to,
+                            @Param("settledDate") java.time.LocalDateTime settledDate,
+                            @Param("afterId") Long afterId,
+                            @Param("toId") Long toId);
+
 }
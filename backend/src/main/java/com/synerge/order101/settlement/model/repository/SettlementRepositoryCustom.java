@@ -1,8 +1,9 @@
 package com.synerge.order101.settlement.model.repository;
 
 
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
-import com.synerge.order101.settlement.model.entity.Settlement;
+import com.synerge.order101.settlement.model.dto.SettlementSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,7 +15,15 @@ public interface SettlementRepositoryCustom{
      * @param pageable 페이징 정보
      * @return 페이징된 정산 목록
      */
-    Page<Settlement> search(TradeSearchCondition cond, Pageable pageable);
+    Page<SettlementSummaryDto> search(TradeSearchCondition cond, Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 기반 정산 목록 조회
+     * @param cond 검색 조건 (cursor 가 없으면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 목록과 hasNext/nextCursor
+     */
+    CursorPageResponseDto<SettlementSummaryDto> searchByCursor(TradeSearchCondition cond, int size);
 
 
 }
@@ -1,14 +1,21 @@
 package com.synerge.order101.settlement.model.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.common.dto.CursorPageResponseDto;
+import com.synerge.order101.common.dto.TradeCursor;
 import com.synerge.order101.common.enums.SettlementType;
 import com.synerge.order101.common.dto.TradeSearchCondition;
+import com.synerge.order101.settlement.model.dto.SettlementSummaryDto;
 import com.synerge.order101.settlement.model.entity.Settlement;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 // implementation is detected by Spring Data JPA by naming convention (SettlementRepositoryImpl)
 // no @Repository annotation to avoid it being created as an independent repository bean
 import org.springframework.util.StringUtils;
@@ -16,6 +23,7 @@ import org.springframework.util.StringUtils;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 // unused imports removed
@@ -26,40 +34,121 @@ import static com.synerge.order101.supplier.model.entity.QSupplier.supplier;
 @RequiredArgsConstructor
 public class SettlementRepositoryImpl implements SettlementRepositoryCustom {
 
+    private static final String COUNT_DOMAIN = "settlement";
+
     private final JPAQueryFactory queryFactory;
+    private final TradeCountCache tradeCountCache;
 
     @Override
-    public Page<Settlement> search(TradeSearchCondition cond, Pageable pageable) {
+    public Page<SettlementSummaryDto> search(TradeSearchCondition cond, Pageable pageable) {
         //데이터 목록 조회 - LEFT JOIN으로 존재하지 않는 연관 엔터티 처리
-        List<Settlement> content = queryFactory
-                .selectFrom(settlement)
-                .leftJoin(settlement.store, store)
-                .leftJoin(settlement.supplier, supplier)
-                .where(
-                    statusIn(cond.getStatuses()),
-                    typeIn(cond.getTypes()),
-                    searchTextContains(cond.getSearchText()),
-                    DateBetween(cond.getFromDate(), cond.getToDate()),
-                    vendorIdEq(cond.getVendorId())
-                )
+        List<SettlementSummaryDto> content = summaryQuery(cond)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(settlement.createdAt.desc())
-                .fetch();
-        // 전체 카운트 조회
+                .fetch()
+                .stream()
+                .map(this::toSummary)
+                .toList();
+
+        // 전체 카운트: 계산 가능하면 생략하고, 필요하면 정확한 count (캐시 추정치는 커서 조회의 withCount 에서만)
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(cond));
+    }
+
+    @Override
+    public CursorPageResponseDto<SettlementSummaryDto> searchByCursor(TradeSearchCondition cond, int size) {
+        TradeCursor cursor = StringUtils.hasText(cond.getCursor()) ? TradeCursor.decode(cond.getCursor()) : null;
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<SettlementSummaryDto> rows = summaryQuery(cond)
+                .where(cursorBefore(cursor))
+                .orderBy(settlement.createdAt.desc(), settlement.settlementId.desc())
+                .limit(size + 1L)
+                .fetch()
+                .stream()
+                .map(this::toSummary)
+                .toList();
+
+        CursorPageResponseDto<SettlementSummaryDto> page = CursorPageResponseDto.of(rows, size,
+                SettlementSummaryDto::getCreatedAt, SettlementSummaryDto::getSettlementId);
+
+        if (Boolean.TRUE.equals(cond.getWithCount())) {
+            return page.withTotalCount(tradeCountCache.get(COUNT_DOMAIN, cond, () -> count(cond)));
+        }
+        return page;
+    }
+
+    private JPAQuery<Tuple> summaryQuery(TradeSearchCondition cond) {
+        return queryFactory
+                .select(
+                        settlement.settlementId,
+                        settlement.settlementType,
+                        settlement.settlementNo,
+                        settlement.supplier.supplierId,
+                        supplier.supplierName,
+                        settlement.store.storeId,
+                        store.storeName,
+                        settlement.createdAt,
+                        settlement.settledDate,
+                        settlement.productsAmount,
+                        settlement.productsQty,
+                        settlement.settlementStatus
+                )
+                .from(settlement)
+                .leftJoin(settlement.store, store)
+                .leftJoin(settlement.supplier, supplier)
+                .where(searchConditions(cond));
+    }
+
+    private long count(TradeSearchCondition cond) {
         Long total = queryFactory
                 .select(settlement.count())
                 .from(settlement)
-                .where(
-                        statusIn(cond.getStatuses()),
-                        typeIn(cond.getTypes()),
-                        searchTextContains(cond.getSearchText()),
-                        DateBetween(cond.getFromDate(), cond.getToDate()),
-                        vendorIdEq(cond.getVendorId())
-                )
+                .where(searchConditions(cond))
                 .fetchOne();
+        return total != null ? total : 0;
+    }
+
+    private Predicate[] searchConditions(TradeSearchCondition cond) {
+        return new Predicate[]{
+                statusIn(cond.getStatuses()),
+                typeIn(cond.getTypes()),
+                searchTextContains(cond.getSearchText()),
+                DateBetween(cond.getFromDate(), cond.getToDate()),
+                vendorIdEq(cond.getVendorId())
+        };
+    }
+
+    // (createdAt, id) 가 커서보다 앞선(더 오래된) 행만
+    private BooleanExpression cursorBefore(TradeCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return settlement.createdAt.lt(cursor.getCreatedAt())
+                .or(settlement.createdAt.eq(cursor.getCreatedAt())
+                        .and(settlement.settlementId.lt(cursor.getId())));
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    // FK 는 있는데 조인 결과가 없으면 삭제된 거래처로 표시
+    private SettlementSummaryDto toSummary(Tuple row) {
+        String supplierName = row.get(settlement.supplier.supplierId) == null ? null
+                : Optional.ofNullable(row.get(supplier.supplierName)).orElse("삭제된 공급사");
+        String storeName = row.get(settlement.store.storeId) == null ? null
+                : Optional.ofNullable(row.get(store.storeName)).orElse("삭제된 가맹점");
+        Settlement.SettlementStatus status = row.get(settlement.settlementStatus);
+
+        return SettlementSummaryDto.builder()
+                .settlementId(row.get(settlement.settlementId))
+                .settlementNo(row.get(settlement.settlementNo))
+                .settlementType(row.get(settlement.settlementType))
+                .settledAt(row.get(settlement.settledDate))
+                .supplierName(supplierName)
+                .storeName(storeName)
+                .createdAt(row.get(settlement.createdAt))
+                .settlementAmount(row.get(settlement.productsAmount))
+                .settlementQty(row.get(settlement.productsQty))
+                .settlementStatus(status != null ? status.name() : null)
+                .build();
     }
 
     // --- 동적 쿼리 조건을 생성하는 BooleanExpression 메소드들 ---
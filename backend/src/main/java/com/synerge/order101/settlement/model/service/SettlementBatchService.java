@@ -0,0 +1,15 @@
+package com.synerge.order101.settlement.model.service;
+
+import com.synerge.order101.settlement.model.dto.SettlementRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SettlementBatchService {
+
+    // 확정된 주문/발주를 적립 원장에 쌓는다. (정산 묶음 모드)
+    void accrue(List<SettlementRequest> requests);
+
+    // periodEnd 이전 적립을 거래처별 정산으로 합산한다. 반환: 만들어진 정산 수
+    int rollUp(LocalDateTime periodEnd);
+}
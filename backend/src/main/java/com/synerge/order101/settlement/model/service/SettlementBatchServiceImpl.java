@@ -0,0 +1,118 @@
+package com.synerge.order101.settlement.model.service;
+
+import com.synerge.order101.common.enums.SettlementType;
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.exception.errorcode.CommonErrorCode;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
+import com.synerge.order101.settlement.model.dto.SettlementAccrualTotal;
+import com.synerge.order101.settlement.model.dto.SettlementRequest;
+import com.synerge.order101.settlement.model.entity.Settlement;
+import com.synerge.order101.settlement.model.entity.SettlementAccrual;
+import com.synerge.order101.settlement.model.repository.SettlementAccrualJdbcRepository;
+import com.synerge.order101.settlement.model.repository.SettlementAccrualRepository;
+import com.synerge.order101.settlement.model.repository.SettlementRepository;
+import com.synerge.order101.store.model.repository.StoreRepository;
+import com.synerge.order101.supplier.model.repository.SupplierRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 정산 묶음 모드
+ * - 문서마다 정산을 만들지 않고 적립 원장에 쌓아 두었다가, 기간마다 거래처별 GROUP BY 한 번으로 정산 한 건씩 만든다.
+ * - 합산은 적립에 rollup_token 을 찍고 그 묶음만 집계/연결하므로, 합산 중에 들어온 적립은 다음 기간으로 넘어간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementBatchServiceImpl implements SettlementBatchService {
+
+    private final SettlementAccrualRepository settlementAccrualRepository;
+    private final SettlementAccrualJdbcRepository settlementAccrualJdbcRepository;
+    private final SettlementRepository settlementRepository;
+    private final DocumentNumberAllocator documentNumberAllocator;
+    private final StoreRepository storeRepository;
+    private final SupplierRepository supplierRepository;
+
+    /**
+     * 같은 요청이 다시 전달되거나 문서별 정산이 이미 있는 주문/발주는 건너뛴다. (모드를 바꾼 직후 중복 정산 방지)
+     */
+    @Override
+    @Transactional
+    public void accrue(List<SettlementRequest> requests) {
+        if (requests.isEmpty()) return;
+
+        List<Long> storeOrderIds = requests.stream().map(SettlementRequest::storeOrderId).filter(Objects::nonNull).toList();
+        List<Long> purchaseIds = requests.stream().map(SettlementRequest::purchaseId).filter(Objects::nonNull).toList();
+
+        Set<Long> existingOrders = new HashSet<>(settlementAccrualRepository.findAccruedStoreOrderIds(storeOrderIds));
+        existingOrders.addAll(settlementRepository.findStoreOrderIdsWithSettlement(storeOrderIds));
+        Set<Long> existingPurchases = new HashSet<>(settlementAccrualRepository.findAccruedPurchaseIds(purchaseIds));
+        existingPurchases.addAll(settlementRepository.findPurchaseIdsWithSettlement(purchaseIds));
+
+        List<SettlementAccrual> accruals = new ArrayList<>();
+        for (SettlementRequest request : requests) {
+            boolean ar = request.type() == SettlementType.AR;
+            Long vendorId = ar ? request.storeId() : request.supplierId();
+            if (vendorId == null) {
+                throw new CustomException(CommonErrorCode.INVALID_REQUEST);
+            }
+            boolean fresh = ar
+                    ? existingOrders.add(request.storeOrderId())
+                    : existingPurchases.add(request.purchaseId());
+            if (!fresh) {
+                log.warn("이미 적립/정산되어 건너뜀 type={}, storeOrderId={}, purchaseId={}",
+                        request.type(), request.storeOrderId(), request.purchaseId());
+                continue;
+            }
+            accruals.add(SettlementAccrual.of(request.type(), vendorId,
+                    request.storeOrderId(), request.purchaseId(), request.amount(), request.qty()));
+        }
+
+        settlementAccrualJdbcRepository.insertAll(accruals);
+    }
+
+    @Override
+    @Transactional
+    public int rollUp(LocalDateTime periodEnd) {
+        String rollupToken = UUID.randomUUID().toString();
+        int claimed = settlementAccrualRepository.claimForRollup(rollupToken, periodEnd);
+        if (claimed == 0) return 0;
+
+        List<SettlementAccrualTotal> totals = settlementAccrualRepository.sumByVendor(rollupToken);
+
+        List<Settlement> settlements = new ArrayList<>(totals.size());
+        for (SettlementAccrualTotal total : totals) {
+            boolean ar = total.type() == SettlementType.AR;
+            settlements.add(Settlement.builder()
+                    .settlementNo(documentNumberAllocator.next(Settlement.SETTLEMENT_NO_PREFIX))
+                    .settlementType(total.type())
+                    .productsAmount(total.amount())
+                    .productsQty(Math.toIntExact(total.qty()))
+                    .store(ar ? storeRepository.getReferenceById(total.vendorId()) : null)
+                    .supplier(ar ? null : supplierRepository.getReferenceById(total.vendorId()))
+                    .periodStart(total.firstAccruedAt())
+                    .periodEnd(periodEnd)
+                    .build());
+        }
+        settlementRepository.saveAll(settlements);
+
+        for (int i = 0; i < totals.size(); i++) {
+            SettlementAccrualTotal total = totals.get(i);
+            settlementAccrualRepository.assignSettlement(rollupToken, total.type(), total.vendorId(),
+                    settlements.get(i).getSettlementId());
+        }
+
+        log.info("정산 묶음 합산 완료: 적립 {}건 -> 정산 {}건 (~{})", claimed, settlements.size(), periodEnd);
+        return settlements.size();
+    }
+}
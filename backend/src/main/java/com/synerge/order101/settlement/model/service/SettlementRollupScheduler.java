@@ -0,0 +1,35 @@
+package com.synerge.order101.settlement.model.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduler that rolls the settlement accrual ledger up into one settlement per vendor per day.
+ * Only active in batching mode (app.settlement.batching.enabled=true).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.settlement.batching.enabled", havingValue = "true")
+public class SettlementRollupScheduler {
+
+    private final SettlementBatchService settlementBatchService;
+
+    /**
+     * Runs daily at 00:10 and settles everything accrued before today.
+     */
+    @Scheduled(cron = "${app.settlement.batching.cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void rollUpPreviousPeriod() {
+        try {
+            int created = settlementBatchService.rollUp(LocalDate.now().atStartOfDay());
+            log.info("SettlementRollupScheduler: created {} settlements", created);
+        } catch (Exception ex) {
+            log.error("SettlementRollupScheduler: roll-up failed, accruals stay open for the next run", ex);
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.synerge.order101.settlement.model.service;
 
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.settlement.model.dto.SettlementDetailResponseDto;
+import com.synerge.order101.settlement.model.dto.SettlementRequest;
 import com.synerge.order101.settlement.model.dto.SettlementSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface SettlementService {
     public Page<SettlementSummaryDto> getSettlements(TradeSearchCondition cond, Pageable pageable);
+
+    CursorPageResponseDto<SettlementSummaryDto> getSettlementsByCursor(TradeSearchCondition cond, int size);
     
     SettlementDetailResponseDto getSettlementDetail(String settlementNo);
+
+    void createSettlements(List<SettlementRequest> requests);
 }
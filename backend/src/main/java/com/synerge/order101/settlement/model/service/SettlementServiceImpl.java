@@ -3,38 +3,57 @@ package com.synerge.order101.settlement.model.service;
 import com.synerge.order101.common.enums.SettlementType;
 import com.synerge.order101.common.exception.CustomException;
 import com.synerge.order101.common.exception.errorcode.CommonErrorCode;
-import com.synerge.order101.settlement.event.SettlementReqEvent;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
+import com.synerge.order101.order.model.repository.StoreOrderRepository;
+import com.synerge.order101.purchase.model.repository.PurchaseRepository;
+import com.synerge.order101.common.dto.CursorPageResponseDto;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.settlement.model.dto.SettlementDetailResponseDto;
+import com.synerge.order101.settlement.model.dto.SettlementRequest;
 import com.synerge.order101.settlement.model.dto.SettlementSummaryDto;
 import com.synerge.order101.settlement.model.entity.Settlement;
 import com.synerge.order101.settlement.model.repository.SettlementRepository;
+import com.synerge.order101.store.model.repository.StoreRepository;
+import com.synerge.order101.supplier.model.repository.SupplierRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SettlementServiceImpl implements SettlementService{
 
     private final SettlementRepository settlementRepository;
+    private final DocumentNumberAllocator documentNumberAllocator;
+    private final StoreOrderRepository storeOrderRepository;
+    private final PurchaseRepository purchaseRepository;
+    private final StoreRepository storeRepository;
+    private final SupplierRepository supplierRepository;
 
     @Override
     @Transactional(readOnly = true)
     public Page<SettlementSummaryDto> getSettlements(TradeSearchCondition cond, Pageable pageable) {
 
-        Page<Settlement> page = settlementRepository.search(cond, pageable);
+        return settlementRepository.search(cond, pageable);
 
-        return page.map(SettlementSummaryDto::fromEntity);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<SettlementSummaryDto> getSettlementsByCursor(TradeSearchCondition cond, int size) {
+        return settlementRepository.searchByCursor(cond, size);
     }
 
     @Override
@@ -96,6 +115,12 @@ public class SettlementServiceImpl implements SettlementService{
             }
         }
 
+        // 정산 묶음 모드로 합산된 정산은 합산 기간을 그대로 쓴다. (품목은 문서가 여러 건이라 비워 둔다)
+        if (settlement.getPeriodEnd() != null) {
+            periodStart = settlement.getPeriodStart();
+            periodEnd = settlement.getPeriodEnd();
+        }
+
         return SettlementDetailResponseDto.builder()
                 .settlementNo(settlement.getSettlementNo())
                 .settlementType(settlement.getSettlementType().name())
@@ -111,26 +136,43 @@ public class SettlementServiceImpl implements SettlementService{
                 .build();
     }
 
-    @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void handleSettlementRequired(SettlementReqEvent event){
-
-        if(event.existSettlement(settlementRepository)){
-            throw new CustomException(CommonErrorCode.INVALID_REQUEST);
+    /**
+     * 아웃박스로 전달된 정산 요청들을 하나의 트랜잭션에서 생성한다.
+     * 같은 요청이 다시 전달될 수 있으므로, 이미 정산이 있는 주문/발주는 실패시키지 않고 건너뛴다.
+     */
+    @Override
+    @Transactional
+    public void createSettlements(List<SettlementRequest> requests) {
+        if (requests.isEmpty()) return;
+
+        Set<Long> existingOrders = new HashSet<>(settlementRepository.findStoreOrderIdsWithSettlement(
+                requests.stream().map(SettlementRequest::storeOrderId).filter(Objects::nonNull).toList()));
+        Set<Long> existingPurchases = new HashSet<>(settlementRepository.findPurchaseIdsWithSettlement(
+                requests.stream().map(SettlementRequest::purchaseId).filter(Objects::nonNull).toList()));
+
+        List<Settlement> settlements = new ArrayList<>();
+        for (SettlementRequest request : requests) {
+            boolean created = request.type() == SettlementType.AR
+                    ? existingOrders.add(request.storeOrderId())
+                    : existingPurchases.add(request.purchaseId());
+            if (!created) {
+                log.warn("정산이 이미 존재하여 건너뜀 type={}, storeOrderId={}, purchaseId={}",
+                        request.type(), request.storeOrderId(), request.purchaseId());
+                continue;
+            }
+            settlements.add(Settlement.builder()
+                    .settlementNo(documentNumberAllocator.next(Settlement.SETTLEMENT_NO_PREFIX))
+                    .settlementType(request.type())
+                    .productsAmount(request.amount())
+                    .productsQty(request.qty())
+                    .store(request.storeId() != null ? storeRepository.getReferenceById(request.storeId()) : null)
+                    .supplier(request.supplierId() != null ? supplierRepository.getReferenceById(request.supplierId()) : null)
+                    .purchase(request.purchaseId() != null ? purchaseRepository.getReferenceById(request.purchaseId()) : null)
+                    .storeOrder(request.storeOrderId() != null ? storeOrderRepository.getReferenceById(request.storeOrderId()) : null)
+                    .build());
         }
 
-        // 정산 실행
-        Settlement settlement = Settlement.builder()
-                .settlementType(event.settlementType())
-                .productsAmount(event.settlementAmount())
-                .productsQty(event.settlementQty())
-                .store(event.store())
-                .supplier(event.supplier())
-                .purchase(event.purchase())
-                .storeOrder(event.storeOrder())
-                .build();
-
-        settlementRepository.save(settlement);
+        settlementRepository.saveAll(settlements);
     }
 
 }
@@ -2,17 +2,25 @@ package com.synerge.order101.settlement.model.service;
 
 import com.synerge.order101.settlement.model.entity.Settlement;
 import com.synerge.order101.settlement.model.repository.SettlementRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Scheduler that promotes Settlement entries from DRAFT to ISSUED every 30 minutes.
+ * Scheduler that rotates Settlement statuses every 10 minutes.
+ * - Rows are converted with set-based UPDATEs over settlement_id ranges (chunk-size rows each, one transaction per chunk),
+ *   so memory and lock time stay flat however many settlements exist.
+ * - Metrics: settlement.rotation.rows{transition}, settlement.rotation.duration{transition}
  */
 @Component
 @RequiredArgsConstructor
@@ -20,49 +28,64 @@ import java.util.List;
 public class SettlementStatusScheduler {
 
     private final SettlementRepository settlementRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.settlement.rotation.chunk-size:1000}")
+    private int chunkSize = 1000;
 
     /**
      * Runs every 10 minutes.
      * - ISSUED -> DRAFT
      * - (existing) DRAFT -> VOID
-     * Both lists are captured before any changes to avoid cascading conversions within the same run.
+     * DRAFT -> VOID runs first, and both are bounded by the max id at start,
+     * so rows converted to DRAFT in this run are not voided until the next one.
      */
     @Scheduled(cron = "0 */10 * * * *")
-    @Transactional
     public void rotateSettlementStatuses() {
         log.info("SettlementStatusScheduler: running rotateSettlementStatuses at {}", LocalDateTime.now());
 
-        List<Settlement> issuedList = settlementRepository.findBySettlementStatus(Settlement.SettlementStatus.ISSUED);
-        List<Settlement> draftList = settlementRepository.findBySettlementStatus(Settlement.SettlementStatus.DRAFT);
+        Long maxId = settlementRepository.findMaxSettlementId();
+        if (maxId == null) return;
 
-        int toDraft = 0;
-        int toVoid = 0;
+        long toVoid = rotate(Settlement.SettlementStatus.DRAFT, Settlement.SettlementStatus.VOID,
+                LocalDateTime.now(), maxId, "draft_to_void");
+        long toDraft = rotate(Settlement.SettlementStatus.ISSUED, Settlement.SettlementStatus.DRAFT,
+                null, maxId, "issued_to_draft");
 
-        if (issuedList != null && !issuedList.isEmpty()) {
-            for (Settlement s : issuedList) {
-                try {
-                    s.markAsDraft();
-                    settlementRepository.save(s);
-                    toDraft++;
-                } catch (Exception ex) {
-                    log.error("SettlementStatusScheduler: failed to convert ISSUED->DRAFT id={}", s.getSettlementId(), ex);
-                }
-            }
-        }
+        log.info("SettlementStatusScheduler: converted {} ISSUED->DRAFT and {} DRAFT->VOID", toDraft, toVoid);
+    }
 
-        if (draftList != null && !draftList.isEmpty()) {
-            for (Settlement s : draftList) {
-                try {
-                    s.markAsVoid();
-                    settlementRepository.save(s);
-                    toVoid++;
-                } catch (Exception ex) {
-                    log.error("SettlementStatusScheduler: failed to convert DRAFT->VOID id={}", s.getSettlementId(), ex);
-                }
+    // Converts (0, maxId] in chunk-size slices and returns the number of rows converted.
+    private long rotate(Settlement.SettlementStatus from, Settlement.SettlementStatus to,
+                        LocalDateTime settledDate, long maxId, String transition) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long started = System.nanoTime();
+        long converted = 0;
+        long cursor = 0;
+
+        while (cursor < maxId) {
+            long afterId = cursor;
+            List<Long> boundary = settlementRepository.findChunkBoundary(from, afterId, maxId,
+                    PageRequest.of(chunkSize - 1, 1));
+            long toId = boundary.isEmpty() ? maxId : boundary.get(0);
+
+            try {
+                Integer updated = tx.execute(status ->
+                        settlementRepository.rotateStatusInRange(from, to, settledDate, afterId, toId));
+                converted += updated == null ? 0 : updated;
+            } catch (Exception ex) {
+                log.error("SettlementStatusScheduler: failed to convert {}->{} ids ({}, {}]", from, to, afterId, toId, ex);
             }
+            cursor = toId;
         }
 
-        log.info("SettlementStatusScheduler: converted {} ISSUED->DRAFT and {} DRAFT->VOID", toDraft, toVoid);
+        long elapsed = System.nanoTime() - started;
+        meterRegistry.counter("settlement.rotation.rows", "transition", transition).increment(converted);
+        meterRegistry.timer("settlement.rotation.duration", "transition", transition)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("SettlementStatusScheduler: {}->{} {} rows in {} ms ({} rows/s)", from, to, converted,
+                TimeUnit.NANOSECONDS.toMillis(elapsed), converted * 1_000_000_000L / Math.max(elapsed, 1));
+        return converted;
     }
-
 }
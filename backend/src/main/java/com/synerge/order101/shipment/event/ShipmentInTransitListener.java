@@ -2,69 +2,108 @@ package com.synerge.order101.shipment.event;
 
 import com.synerge.order101.common.enums.ShipmentStatus;
 import com.synerge.order101.common.exception.CustomException;
-import com.synerge.order101.common.exception.errorcode.CommonErrorCode;
+import com.synerge.order101.common.outbox.OutboxEventType;
+import com.synerge.order101.common.outbox.OutboxHandler;
+import com.synerge.order101.order.model.entity.StoreOrder;
 import com.synerge.order101.order.model.repository.StoreOrderDetailRepository;
 import com.synerge.order101.order.model.repository.StoreOrderRepository;
 import com.synerge.order101.shipment.exception.ShipmentErrorCode;
 import com.synerge.order101.shipment.model.entity.Shipment;
 import com.synerge.order101.shipment.model.repository.ShipmentRepository;
-import com.synerge.order101.store.model.entity.StoreInventory;
+import com.synerge.order101.store.model.dto.StoreStockDelta;
+import com.synerge.order101.store.model.repository.StoreInventoryJdbcRepository;
 import com.synerge.order101.store.model.repository.StoreInventoryRepository;
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.service.InventoryMovementService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 배송 출발 -> 가맹점 입고예정 반영 (아웃박스 SHIPMENT_IN_TRANSIT 묶음 처리)
+ * - 묶음의 배송을 잠가 아직 반영 안 된 것만 고르고, 모든 주문 품목을 한 번의 upsert 배치로 반영한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ShipmentInTransitListener {
+public class ShipmentInTransitListener implements OutboxHandler<ShipmentInTransitEvent> {
 
     private final ShipmentRepository shipmentRepository;
     private final StoreOrderRepository storeOrderRepository;
     private final StoreOrderDetailRepository storeOrderDetailRepository;
     private final StoreInventoryRepository storeInventoryRepository;
+    private final StoreInventoryJdbcRepository storeInventoryJdbcRepository;
+    private final InventoryMovementService inventoryMovementService;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.SHIPMENT_IN_TRANSIT;
+    }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void applyInTransit(ShipmentInTransitEvent event) {
+    @Override
+    public Class<ShipmentInTransitEvent> payloadType() {
+        return ShipmentInTransitEvent.class;
+    }
 
+    @Override
+    @Transactional
+    public void handle(List<ShipmentInTransitEvent> events) {
         try {
-            Shipment shipment = shipmentRepository.findById(event.shipmentId())
-                    .orElseThrow(() -> new CustomException(CommonErrorCode.INVALID_REQUEST));
+            Map<Long, ShipmentInTransitEvent> byShipment = events.stream()
+                    .collect(Collectors.toMap(ShipmentInTransitEvent::shipmentId, Function.identity(),
+                            (a, b) -> a, LinkedHashMap::new));
 
-            if (Boolean.TRUE.equals(shipment.getInTransitApplied())) {
-                log.info("in_transit already applied: {}", shipment.getShipmentId());
-                return;
+            List<ShipmentInTransitEvent> targets = new ArrayList<>();
+            List<Shipment> locked = shipmentRepository.lockInTransitNotApplied(byShipment.keySet());
+            for (Shipment shipment : locked) {
+                if (shipment.getShipmentStatus() != ShipmentStatus.IN_TRANSIT) {
+                    log.info("skip applyInTransit, status != IN_TRANSIT: {}", shipment.getShipmentId());
+                    continue;
+                }
+                targets.add(byShipment.get(shipment.getShipmentId()));
             }
-            if (shipment.getShipmentStatus() != ShipmentStatus.IN_TRANSIT) {
-                log.info("skip applyInTransit, status != IN_TRANSIT: {}", shipment.getShipmentId());
-                return;
+            if (targets.size() < byShipment.size()) {
+                log.info("in_transit already applied or skipped: {}건", byShipment.size() - targets.size());
             }
+            if (targets.isEmpty()) return;
 
-            var order = storeOrderRepository.findById(event.storeOrderId())
-                    .orElseThrow(() -> new CustomException(CommonErrorCode.INVALID_REQUEST));
+            List<Long> orderIds = targets.stream().map(ShipmentInTransitEvent::storeOrderId).distinct().toList();
+            Map<Long, StoreOrder> orders = storeOrderRepository.findAllById(orderIds).stream()
+                    .collect(Collectors.toMap(StoreOrder::getStoreOrderId, Function.identity()));
+            Map<Long, Map<Long, Integer>> qtyByOrder = ShipmentStockLines.qtyByOrder(orderIds,
+                    storeOrderDetailRepository.findWithProductByStoreOrderIds(orderIds));
 
-            var lines = storeOrderDetailRepository.findByStoreOrder_StoreOrderId(order.getStoreOrderId());
-            if (lines.isEmpty()) throw new CustomException(CommonErrorCode.INVALID_REQUEST);
-
-            lines.forEach(d -> {
-                StoreInventory inv = storeInventoryRepository
-                        .findByStoreAndProduct(order.getStore(), d.getProduct())
-                        .orElseGet(() -> StoreInventory.create(order.getStore(), d.getProduct()));
+            List<StoreStockDelta> deltas = new ArrayList<>();
+            for (ShipmentInTransitEvent event : targets) {
+                qtyByOrder.get(event.storeOrderId()).forEach((productId, qty) ->
+                        deltas.add(StoreStockDelta.inTransit(event.storeId(), productId, qty)));
+            }
+            storeInventoryJdbcRepository.upsertAll(deltas);
 
-                inv.increaseInTransit(d.getOrderQty().intValue());
-                storeInventoryRepository.save(inv);
-            });
+            // 입고예정만 늘어나므로 현재고는 반영 전후가 같다.
+            Map<Long, Map<Long, Integer>> onHand = ShipmentStockLines.onHandByStore(storeInventoryRepository,
+                    targets.stream().map(ShipmentInTransitEvent::storeId).distinct().toList(), qtyByOrder.values());
+            for (ShipmentInTransitEvent event : targets) {
+                StoreOrder order = orders.get(event.storeOrderId());
+                inventoryMovementService.recordStoreAll(ChangeType.STORE_IN_TRANSIT,
+                        order == null ? null : order.getOrderNo(), event.storeId(),
+                        qtyByOrder.get(event.storeOrderId()), onHand.getOrDefault(event.storeId(), Map.of()));
+            }
 
-            shipment.markInTransitApplied();
-            shipmentRepository.save(shipment);
+            locked.stream()
+                    .filter(s -> s.getShipmentStatus() == ShipmentStatus.IN_TRANSIT)
+                    .forEach(Shipment::markInTransitApplied);
 
-            log.info("in_transit applied: shipmentId={}", shipment.getShipmentId());
+            log.info("in_transit applied: {}건", targets.size());
 
         } catch (CustomException e) {
             throw e;
@@ -74,4 +113,4 @@ public class ShipmentInTransitListener {
             throw new CustomException(ShipmentErrorCode.EVENT_LISTENER_FAILED);
         }
     }
-}
\ No newline at end of file
+}
@@ -2,82 +2,120 @@ package com.synerge.order101.shipment.event;
 
 import com.synerge.order101.common.enums.ShipmentStatus;
 import com.synerge.order101.common.exception.CustomException;
-import com.synerge.order101.common.exception.errorcode.CommonErrorCode;
+import com.synerge.order101.common.outbox.OutboxEventType;
+import com.synerge.order101.common.outbox.OutboxHandler;
 import com.synerge.order101.order.model.entity.StoreOrder;
-import com.synerge.order101.order.model.entity.StoreOrderDetail;
 import com.synerge.order101.order.model.repository.StoreOrderDetailRepository;
 import com.synerge.order101.order.model.repository.StoreOrderRepository;
 import com.synerge.order101.shipment.exception.ShipmentErrorCode;
 import com.synerge.order101.shipment.model.entity.Shipment;
 import com.synerge.order101.shipment.model.repository.ShipmentRepository;
-import com.synerge.order101.store.model.entity.StoreInventory;
+import com.synerge.order101.store.model.dto.StoreStockDelta;
+import com.synerge.order101.store.model.repository.StoreInventoryJdbcRepository;
 import com.synerge.order101.store.model.repository.StoreInventoryRepository;
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.service.InventoryMovementService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 배송 완료 -> 가맹점 현재고 반영 (아웃박스 SHIPMENT_DELIVERED 묶음 처리)
+ * - 입고예정이 잡혀 있던 배송은 입고예정에서 현재고로 옮기고, 아니면 현재고만 늘린다.
+ * - 묶음의 배송을 잠가 아직 반영 안 된 것만 고르고, 모든 주문 품목을 한 번의 upsert 배치로 반영한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ShipmentInventoryListener {
+public class ShipmentInventoryListener implements OutboxHandler<ShipmentDeliveredEvent> {
 
     private final ShipmentRepository shipmentRepository;
     private final StoreOrderRepository storeOrderRepository;
     private final StoreOrderDetailRepository storeOrderDetailRepository;
     private final StoreInventoryRepository storeInventoryRepository;
+    private final StoreInventoryJdbcRepository storeInventoryJdbcRepository;
+    private final InventoryMovementService inventoryMovementService;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.SHIPMENT_DELIVERED;
+    }
+
+    @Override
+    public Class<ShipmentDeliveredEvent> payloadType() {
+        return ShipmentDeliveredEvent.class;
+    }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void applyInventory(ShipmentDeliveredEvent event) {
+    @Override
+    @Transactional
+    public void handle(List<ShipmentDeliveredEvent> events) {
         try {
-            Shipment shipment = shipmentRepository.findById(event.shipmentId())
-                    .orElseThrow(() -> new CustomException(CommonErrorCode.INVALID_REQUEST));
+            Map<Long, ShipmentDeliveredEvent> byShipment = events.stream()
+                    .collect(Collectors.toMap(ShipmentDeliveredEvent::shipmentId, Function.identity(),
+                            (a, b) -> a, LinkedHashMap::new));
 
-            if (Boolean.TRUE.equals(shipment.getInventoryApplied())) {
-                log.info("already applied (delivered): shipmentId={}", event.shipmentId());
-                return;
+            List<Shipment> locked = shipmentRepository.lockInventoryNotApplied(byShipment.keySet());
+            if (locked.size() < byShipment.size()) {
+                log.info("already applied (delivered): {}건", byShipment.size() - locked.size());
             }
-            if (shipment.getShipmentStatus() != ShipmentStatus.DELIVERED) {
-                throw new CustomException(ShipmentErrorCode.SHIPMENT_NOT_DELIVERED);
+            if (locked.isEmpty()) return;
+            for (Shipment shipment : locked) {
+                if (shipment.getShipmentStatus() != ShipmentStatus.DELIVERED) {
+                    throw new CustomException(ShipmentErrorCode.SHIPMENT_NOT_DELIVERED);
+                }
             }
 
-            StoreOrder order = storeOrderRepository.findById(event.storeOrderId())
-                    .orElseThrow(() -> new CustomException(CommonErrorCode.INVALID_REQUEST));
-
-            List<StoreOrderDetail> lines = storeOrderDetailRepository
-                    .findByStoreOrder_StoreOrderId(order.getStoreOrderId());
-            if (lines.isEmpty()) throw new CustomException(CommonErrorCode.INVALID_REQUEST);
-
-            boolean hadTransitPhase = Boolean.TRUE.equals(shipment.getInTransitApplied());
-
-            lines.forEach(d -> {
-                StoreInventory inv = storeInventoryRepository
-                        .findByStoreAndProduct(order.getStore(), d.getProduct())
-                        .orElseGet(() -> StoreInventory.create(order.getStore(), d.getProduct()));
-
-                int qty = d.getOrderQty().intValue();
-
+            List<ShipmentDeliveredEvent> targets = locked.stream()
+                    .map(s -> byShipment.get(s.getShipmentId()))
+                    .toList();
+            List<Long> orderIds = targets.stream().map(ShipmentDeliveredEvent::storeOrderId).distinct().toList();
+            Map<Long, StoreOrder> orders = storeOrderRepository.findAllById(orderIds).stream()
+                    .collect(Collectors.toMap(StoreOrder::getStoreOrderId, Function.identity()));
+            Map<Long, Map<Long, Integer>> qtyByOrder = ShipmentStockLines.qtyByOrder(orderIds,
+                    storeOrderDetailRepository.findWithProductByStoreOrderIds(orderIds));
+
+            List<StoreStockDelta> deltas = new ArrayList<>();
+            for (Shipment shipment : locked) {
+                ShipmentDeliveredEvent event = byShipment.get(shipment.getShipmentId());
+                boolean hadTransitPhase = Boolean.TRUE.equals(shipment.getInTransitApplied());
+                qtyByOrder.get(event.storeOrderId()).forEach((productId, qty) ->
+                        deltas.add(StoreStockDelta.received(event.storeId(), productId, qty, hadTransitPhase)));
+            }
+            storeInventoryJdbcRepository.upsertAll(deltas);
+
+            // 반영 후 현재고에서 뒤 배송부터 거꾸로 빼 가며 배송별 반영 직후 잔량을 구한다.
+            Map<Long, Map<Long, Integer>> onHand = ShipmentStockLines.onHandByStore(storeInventoryRepository,
+                    targets.stream().map(ShipmentDeliveredEvent::storeId).distinct().toList(), qtyByOrder.values());
+            List<Map<Long, Integer>> balances = new ArrayList<>(targets.size());
+            for (int i = targets.size() - 1; i >= 0; i--) {
+                ShipmentDeliveredEvent event = targets.get(i);
+                Map<Long, Integer> storeOnHand = onHand.getOrDefault(event.storeId(), new HashMap<>());
+                balances.add(0, new HashMap<>(storeOnHand));
+                qtyByOrder.get(event.storeOrderId()).forEach((productId, qty) ->
+                        storeOnHand.computeIfPresent(productId, (k, v) -> Math.max(v - qty, 0)));
+            }
 
-                if (hadTransitPhase) {
-                    inv.moveTransitToOnHand(qty);
-                } else {
-                    inv.increaseOnHand(qty);
-                }
-                storeInventoryRepository.save(inv);
-            });
+            for (int i = 0; i < targets.size(); i++) {
+                ShipmentDeliveredEvent event = targets.get(i);
+                StoreOrder order = orders.get(event.storeOrderId());
+                inventoryMovementService.recordStoreAll(ChangeType.STORE_RECEIVED,
+                        order == null ? null : order.getOrderNo(), event.storeId(),
+                        qtyByOrder.get(event.storeOrderId()), balances.get(i));
+            }
 
-            shipment.markInventoryApplied();
-            shipmentRepository.save(shipment);
+            locked.forEach(Shipment::markInventoryApplied);
 
-            log.info("store inventory applied (delivered): shipmentId={}, storeOrderId={}",
-                    event.shipmentId(), event.storeOrderId());
+            log.info("store inventory applied (delivered): {}건", locked.size());
 
         } catch (CustomException e) {
             throw e;
@@ -87,4 +125,4 @@ public class ShipmentInventoryListener {
             throw new CustomException(ShipmentErrorCode.EVENT_LISTENER_FAILED);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package com.synerge.order101.shipment.event;
+
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.exception.errorcode.CommonErrorCode;
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
+import com.synerge.order101.store.model.repository.StoreInventoryRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 배송 묶음 재고 반영 공통 - 주문별 상품 수량 집계, 가맹점별 현재고 조회
+final class ShipmentStockLines {
+
+    private ShipmentStockLines() {
+    }
+
+    // storeOrderId -> (productId -> qty). 품목이 없는 주문이 있으면 INVALID_REQUEST
+    static Map<Long, Map<Long, Integer>> qtyByOrder(Collection<Long> storeOrderIds, List<StoreOrderDetail> details) {
+        Map<Long, Map<Long, Integer>> result = new LinkedHashMap<>();
+        storeOrderIds.forEach(id -> result.put(id, new LinkedHashMap<>()));
+
+        for (StoreOrderDetail d : details) {
+            Map<Long, Integer> lines = result.get(d.getStoreOrder().getStoreOrderId());
+            int qty = d.getOrderQty();
+            if (lines != null && qty > 0) {
+                lines.merge(d.getProduct().getProductId(), qty, Integer::sum);
+            }
+        }
+
+        if (result.values().stream().anyMatch(Map::isEmpty)) {
+            throw new CustomException(CommonErrorCode.INVALID_REQUEST);
+        }
+        return result;
+    }
+
+    // storeId -> (productId -> onHandQty)
+    static Map<Long, Map<Long, Integer>> onHandByStore(StoreInventoryRepository repository,
+                                                       Collection<Long> storeIds,
+                                                       Collection<Map<Long, Integer>> lines) {
+        Set<Long> productIds = new HashSet<>();
+        lines.forEach(l -> productIds.addAll(l.keySet()));
+
+        Map<Long, Map<Long, Integer>> result = new HashMap<>();
+        for (Object[] row : repository.findOnHandQty(storeIds, productIds)) {
+            result.computeIfAbsent((Long) row[0], k -> new HashMap<>())
+                    .put((Long) row[1], ((Number) row[2]).intValue());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,13 @@
+package com.synerge.order101.shipment.model.dto;
+
+import com.synerge.order101.common.enums.ShipmentStatus;
+
+import java.time.LocalDateTime;
+
+// 배송 상태 전환 예약 (status 인 배송을 dueAt 이 되면 다음 상태로)
+public record ShipmentTimer(
+        Long shipmentId,
+        ShipmentStatus status,
+        LocalDateTime dueAt
+) {
+}
@@ -16,7 +16,13 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "shipment")
+@Table(
+        name = "shipment",
+        indexes = {
+                @Index(name = "idx_shipment_status_created", columnList = "shipment_status, created_at"),
+                @Index(name = "idx_shipment_status_updated", columnList = "shipment_status, updated_at")
+        }
+)
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
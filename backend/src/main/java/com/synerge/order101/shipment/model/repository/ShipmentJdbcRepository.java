@@ -0,0 +1,65 @@
+package com.synerge.order101.shipment.model.repository;
+
+import com.synerge.order101.shipment.model.entity.Shipment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배송 일괄 생성 (JDBC 배치)
+ * - 일괄 승인 시 주문마다 생기는 배송 대기 행을 한 번의 배치로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShipmentJdbcRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO shipment (outbound_id, store_id, store_order_id, shipment_status,
+                              inventory_applied, in_transit_applied, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 배송별 반영 건수
+     */
+    public int[] insertAll(List<Shipment> shipments) {
+        if (shipments.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Shipment shipment = shipments.get(i);
+                if (shipment.getOutbound() == null) {
+                    ps.setNull(1, Types.BIGINT);
+                } else {
+                    ps.setLong(1, shipment.getOutbound().getOutboundId());
+                }
+                ps.setLong(2, shipment.getStore().getStoreId());
+                ps.setLong(3, shipment.getStoreOrder().getStoreOrderId());
+                ps.setString(4, shipment.getShipmentStatus().name());
+                ps.setBoolean(5, Boolean.TRUE.equals(shipment.getInventoryApplied()));
+                ps.setBoolean(6, Boolean.TRUE.equals(shipment.getInTransitApplied()));
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return shipments.size();
+            }
+        });
+    }
+}
@@ -3,13 +3,17 @@ package com.synerge.order101.shipment.model.repository;
 import com.synerge.order101.common.enums.ShipmentStatus;
 import com.synerge.order101.order.model.entity.StoreOrder;
 import com.synerge.order101.shipment.model.entity.Shipment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,48 +23,115 @@ public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
     int countByStore_StoreIdAndShipmentStatus(Long storeId, ShipmentStatus shipmentStatus);
     List<Shipment> findByStoreOrder(StoreOrder storeOrder);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    // 전환 스케줄 등록용 [shipmentId, createdAt] - since 이후 생성된 대기 배송 (idx_shipment_status_created)
     @Query("""
-    update Shipment s
-       set s.shipmentStatus = :nextStatus,
-           s.updatedAt      = :now
-     where s.shipmentStatus = :currentStatus
-       and s.createdAt      <= :threshold
-  """)
-    int updateFromCreatedAt(@Param("currentStatus") ShipmentStatus currentStatus,
-                            @Param("nextStatus")   ShipmentStatus nextStatus,
-                            @Param("threshold")    LocalDateTime threshold,
-                            @Param("now")          LocalDateTime now);
+      select s.shipmentId, s.createdAt
+        from Shipment s
+       where s.shipmentStatus = com.synerge.order101.common.enums.ShipmentStatus.WAITING
+         and s.createdAt >= :since
+    """)
+    List<Object[]> findWaitingCreatedSince(@Param("since") LocalDateTime since);
+
+    // 전환 스케줄 등록용 [shipmentId, updatedAt] - since 이후 입고예정이 반영된 배송 중 배송 (idx_shipment_status_updated)
+    @Query("""
+      select s.shipmentId, s.updatedAt
+        from Shipment s
+       where s.shipmentStatus = com.synerge.order101.common.enums.ShipmentStatus.IN_TRANSIT
+         and s.inTransitApplied = true
+         and s.inventoryApplied = false
+         and s.updatedAt >= :since
+    """)
+    List<Object[]> findInTransitUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 백스톱용 [shipmentId, createdAt] - 전환 시각이 이미 지난 대기 배송 (idx_shipment_status_created)
+    @Query("""
+      select s.shipmentId, s.createdAt
+        from Shipment s
+       where s.shipmentStatus = com.synerge.order101.common.enums.ShipmentStatus.WAITING
+         and s.createdAt <= :threshold
+       order by s.createdAt
+    """)
+    List<Object[]> findWaitingCreatedBefore(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    // 백스톱용 [shipmentId, updatedAt] - 배송 완료 시각이 이미 지난 배송 중 배송 (idx_shipment_status_updated)
+    @Query("""
+      select s.shipmentId, s.updatedAt
+        from Shipment s
+       where s.shipmentStatus = com.synerge.order101.common.enums.ShipmentStatus.IN_TRANSIT
+         and s.inTransitApplied = true
+         and s.inventoryApplied = false
+         and s.updatedAt <= :threshold
+       order by s.updatedAt
+    """)
+    List<Object[]> findInTransitUpdatedBefore(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    // 전환 시각이 된 대기 배송 중 아직 조건을 만족하는 것만 잠근다. (다른 서버가 먼저 옮겼으면 빠진다)
+    @Query(value = """
+    SELECT s.shipment_id
+      FROM shipment s
+     WHERE s.shipment_id IN (:shipmentIds)
+       AND s.shipment_status = 'WAITING'
+       AND s.created_at <= :threshold
+     ORDER BY s.shipment_id
+     FOR UPDATE
+  """, nativeQuery = true)
+    List<Long> lockWaitingDue(@Param("shipmentIds") Collection<Long> shipmentIds,
+                              @Param("threshold") LocalDateTime threshold);
+
+    // 배송 완료로 넘길 배송 중 배송 (입고예정 반영 후 threshold 경과)
+    @Query(value = """
+    SELECT s.shipment_id
+      FROM shipment s
+     WHERE s.shipment_id IN (:shipmentIds)
+       AND s.shipment_status = 'IN_TRANSIT'
+       AND s.updated_at <= :threshold
+       AND s.in_transit_applied = true
+       AND s.inventory_applied = false
+     ORDER BY s.shipment_id
+     FOR UPDATE
+  """, nativeQuery = true)
+    List<Long> lockInTransitDue(@Param("shipmentIds") Collection<Long> shipmentIds,
+                                @Param("threshold") LocalDateTime threshold);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
     update Shipment s
        set s.shipmentStatus = :nextStatus,
            s.updatedAt      = :now
-     where s.shipmentStatus = :currentStatus
-       and s.updatedAt      <= :threshold
-       and s.inTransitApplied = true
-       and s.inventoryApplied = false
+     where s.shipmentId in :shipmentIds
+       and s.shipmentStatus = :currentStatus
   """)
-    int updateFromUpdatedAt(@Param("currentStatus") ShipmentStatus currentStatus,
-                            @Param("nextStatus")   ShipmentStatus nextStatus,
-                            @Param("threshold")    LocalDateTime threshold,
-                            @Param("now")          LocalDateTime now);
+    int transition(@Param("shipmentIds") Collection<Long> shipmentIds,
+                   @Param("currentStatus") ShipmentStatus currentStatus,
+                   @Param("nextStatus")   ShipmentStatus nextStatus,
+                   @Param("now")          LocalDateTime now);
 
+    // 이벤트 발행용 [shipmentId, storeOrderId, storeId]
+    @Query("""
+      select s.shipmentId, s.storeOrder.storeOrderId, s.store.storeId
+        from Shipment s
+       where s.shipmentId in :shipmentIds
+       order by s.shipmentId
+    """)
+    List<Object[]> findEventKeys(@Param("shipmentIds") Collection<Long> shipmentIds);
 
+    // 입고예정 반영 대상 잠금 (이미 반영된 배송은 빠진다 - 같은 이벤트가 두 번 와도 재고는 한 번만 반영)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
       select s from Shipment s
-       where s.shipmentStatus = com.synerge.order101.common.enums.ShipmentStatus.IN_TRANSIT
+       where s.shipmentId in :shipmentIds
          and s.inTransitApplied = false
+       order by s.shipmentId
     """)
-    List<Shipment> findInTransitNotApplied();
+    List<Shipment> lockInTransitNotApplied(@Param("shipmentIds") Collection<Long> shipmentIds);
 
+    // 재고 반영 대상 잠금 (이미 반영된 배송은 빠진다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
       select s from Shipment s
-       where s.shipmentStatus = com.synerge.order101.common.enums.ShipmentStatus.DELIVERED
+       where s.shipmentId in :shipmentIds
          and s.inventoryApplied = false
+       order by s.shipmentId
     """)
-    List<Shipment> findDeliveredNotApplied();
-
-
+    List<Shipment> lockInventoryNotApplied(@Param("shipmentIds") Collection<Long> shipmentIds);
 }
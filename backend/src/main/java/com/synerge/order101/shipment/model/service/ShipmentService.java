@@ -2,96 +2,141 @@ package com.synerge.order101.shipment.model.service;
 
 
 import com.synerge.order101.common.enums.ShipmentStatus;
-import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.common.outbox.Outbox;
+import com.synerge.order101.common.outbox.OutboxEventType;
 import com.synerge.order101.order.model.repository.StoreOrderRepository;
 import com.synerge.order101.shipment.event.ShipmentDeliveredEvent;
 import com.synerge.order101.shipment.event.ShipmentInTransitEvent;
-import com.synerge.order101.shipment.model.entity.Shipment;
+import com.synerge.order101.shipment.model.dto.ShipmentTimer;
 import com.synerge.order101.shipment.model.repository.ShipmentRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-
+import java.util.Set;
+
+/**
+ * 배송 상태 자동 전환
+ * - 전환 시각은 ShipmentScheduler 의 타이밍 휠이 관리하고, 여기서는 전환 시각이 된 배송 ID 만 받아 처리한다.
+ * - 받은 ID 중 DB 에서 아직 조건을 만족하는 것만 잠가서 상태를 바꾸고, 주문의 배송 상태도 한 번의 UPDATE 로 반영한다.
+ * - 재고 반영 이벤트는 이번에 전환된 배송에만, 같은 트랜잭션의 아웃박스로 발행한다.
+ *   (처리 실패 시 재시도/DEAD 는 OutboxDispatcher 가 맡는다)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ShipmentService {
 
     private final ShipmentRepository shipmentRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
     private final StoreOrderRepository storeOrderRepository;
 
+    // 일단 테스트 용으로 3분 설정. (생성 후 배송 중까지)
+    @Value("${app.shipment.in-transit-after-minutes:3}")
+    private long inTransitAfterMinutes = 3;
+
+    // 일단 테스트 용으로 5분 설정. (입고예정 반영 후 배송 완료까지)
+    @Value("${app.shipment.delivered-after-minutes:5}")
+    private long deliveredAfterMinutes = 5;
+
+    /**
+     * since 이후 생성/갱신된 배송의 다음 전환 예약 (since 를 충분히 과거로 주면 전체 재구성)
+     */
+    @Transactional(readOnly = true)
+    public List<ShipmentTimer> findTimers(LocalDateTime since) {
+        return toTimers(shipmentRepository.findWaitingCreatedSince(since),
+                shipmentRepository.findInTransitUpdatedSince(since));
+    }
 
+    /**
+     * 전환 시각이 이미 지났는데 아직 전환되지 않은 배송 (상태별 최대 limit 건, 오래된 순)
+     * - 조회 구간 겹침보다 늦게 커밋되어 catch-up 에서 빠진 배송을 다시 휠에 올리는 백스톱용
+     */
+    @Transactional(readOnly = true)
+    public List<ShipmentTimer> findOverdueTimers(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        Pageable page = PageRequest.of(0, limit);
+        return toTimers(shipmentRepository.findWaitingCreatedBefore(now.minusMinutes(inTransitAfterMinutes), page),
+                shipmentRepository.findInTransitUpdatedBefore(now.minusMinutes(deliveredAfterMinutes), page));
+    }
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    private List<ShipmentTimer> toTimers(List<Object[]> waiting, List<Object[]> inTransit) {
+        List<ShipmentTimer> timers = new ArrayList<>();
+        for (Object[] row : waiting) {
+            timers.add(new ShipmentTimer((Long) row[0], ShipmentStatus.WAITING,
+                    ((LocalDateTime) row[1]).plusMinutes(inTransitAfterMinutes)));
+        }
+        for (Object[] row : inTransit) {
+            timers.add(new ShipmentTimer((Long) row[0], ShipmentStatus.IN_TRANSIT,
+                    ((LocalDateTime) row[1]).plusMinutes(deliveredAfterMinutes)));
+        }
+        return timers;
+    }
 
+    /**
+     * 전환 시각이 된 배송을 다음 상태로 넘긴다. 반환: 실제로 전환된 배송 수
+     */
     @Transactional
-    public void updateShipmentStatus() {
+    public int transitionDue(ShipmentStatus from, Collection<Long> shipmentIds) {
+        if (shipmentIds.isEmpty()) return 0;
         LocalDateTime now = LocalDateTime.now();
 
-        // 일단 테스트 용으로 5분 설정.
-        int w2t = shipmentRepository.updateFromCreatedAt(
-                ShipmentStatus.WAITING, ShipmentStatus.IN_TRANSIT,
-                now.minusMinutes(3), now
-        );
-
-        if (w2t > 0) {
-            entityManager.clear();
-
-            List<Shipment> list = shipmentRepository.findByShipmentStatus(ShipmentStatus.IN_TRANSIT);
-            for (Shipment sh : list) {
-                StoreOrder order = sh.getStoreOrder();
-                // StoreOrder status가 CONFIRMED일 때만 업데이트
-                if (order != null && order.getOrderStatus() != null &&
-                    order.getOrderStatus().toString().equals("CONFIRMED")) {
-                    order.updateShipmentStatus(ShipmentStatus.IN_TRANSIT);
-                    storeOrderRepository.save(order);
-                }
-            }
-        }
+        if (from == ShipmentStatus.WAITING) {
+            List<Object[]> moved = transition(
+                    shipmentRepository.lockWaitingDue(shipmentIds, now.minusMinutes(inTransitAfterMinutes)),
+                    ShipmentStatus.WAITING, ShipmentStatus.IN_TRANSIT, now);
 
-        // 일단 테스트 용으로 30분 설정.
-        int t2d = shipmentRepository.updateFromUpdatedAt(
-                ShipmentStatus.IN_TRANSIT, ShipmentStatus.DELIVERED,
-                now.minusMinutes(5), now
-        );
-
-        if (t2d > 0) {
-            entityManager.clear();
-
-            List<Shipment> list = shipmentRepository.findByShipmentStatus(ShipmentStatus.DELIVERED);
-            for (Shipment sh : list) {
-                StoreOrder order = sh.getStoreOrder();
-                // StoreOrder status가 CONFIRMED일 때만 업데이트
-                if (order != null && order.getOrderStatus() != null &&
-                    order.getOrderStatus().toString().equals("CONFIRMED")) {
-                    order.updateShipmentStatus(ShipmentStatus.DELIVERED);
-                    storeOrderRepository.save(order);
-                }
-            }
+            // IN_TRANSIT 입고예정 반영 이벤트
+            outbox.appendAll(OutboxEventType.SHIPMENT_IN_TRANSIT, moved.stream()
+                    .map(row -> new ShipmentInTransitEvent((Long) row[0], (Long) row[1], (Long) row[2]))
+                    .toList());
+            return moved.size();
         }
 
+        if (from == ShipmentStatus.IN_TRANSIT) {
+            List<Object[]> moved = transition(
+                    shipmentRepository.lockInTransitDue(shipmentIds, now.minusMinutes(deliveredAfterMinutes)),
+                    ShipmentStatus.IN_TRANSIT, ShipmentStatus.DELIVERED, now);
 
-        // IN_TRANSIT 입고예정 반영 이벤트
-        for (Shipment s : shipmentRepository.findInTransitNotApplied()) {
-            eventPublisher.publishEvent(new ShipmentInTransitEvent(
-                    s.getShipmentId(), s.getStoreOrder().getStoreOrderId(), s.getStore().getStoreId()
-            ));
+            // DELIVERED 재고 반영 이벤트
+            outbox.appendAll(OutboxEventType.SHIPMENT_DELIVERED, moved.stream()
+                    .map(row -> new ShipmentDeliveredEvent((Long) row[0], (Long) row[1], (Long) row[2]))
+                    .toList());
+            return moved.size();
         }
 
-        // DELIVERED 재고 반영 이벤트
-        for (Shipment s : shipmentRepository.findDeliveredNotApplied()) {
-            eventPublisher.publishEvent(new ShipmentDeliveredEvent(
-                    s.getShipmentId(), s.getStoreOrder().getStoreOrderId(), s.getStore().getStoreId()
-            ));
+        return 0;
+    }
+
+    /**
+     * 잠근 배송들을 from -> to 로 바꾸고 승인된 주문의 배송 상태를 맞춘다.
+     * 반환: 이벤트 발행용 [shipmentId, storeOrderId, storeId]
+     */
+    private List<Object[]> transition(List<Long> shipmentIds, ShipmentStatus from, ShipmentStatus to,
+                                      LocalDateTime now) {
+        if (shipmentIds.isEmpty()) return List.of();
+
+        shipmentRepository.transition(shipmentIds, from, to, now);
+        List<Object[]> rows = shipmentRepository.findEventKeys(shipmentIds);
+
+        Set<Long> storeOrderIds = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) storeOrderIds.add((Long) row[1]);
+        }
+        if (!storeOrderIds.isEmpty()) {
+            storeOrderRepository.updateShipmentStatusOfConfirmed(storeOrderIds, to, now);
         }
+
+        log.info("[배송 상태] {} -> {} {}건", from, to, rows.size());
+        return rows;
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,189 @@
 package com.synerge.order101.shipment.scheduler;
 
+import com.synerge.order101.common.enums.ShipmentStatus;
+import com.synerge.order101.shipment.model.dto.ShipmentTimer;
 import com.synerge.order101.shipment.model.service.ShipmentService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배송 상태 자동 전환 스케줄러 (계층형 타이밍 휠)
+ * - 시작 시 DB 의 대기/배송 중 배송을 읽어 다음 전환 시각으로 휠에 올리고, 전환 시각이 된 배송만 묶어서 전환한다.
+ * - 이후에는 마지막 조회 이후 생성/갱신된 배송만 인덱스 범위로 읽어 휠에 더한다. (다른 서버에서 만든 배송 포함)
+ * - 조회 구간 겹침보다 늦게 커밋된 배송은 catch-up 에서 빠지므로, 낮은 주기의 백스톱이
+ *   전환 시각이 이미 지난 배송을 (상태, 시각) 인덱스로 읽어 다시 휠에 올린다.
+ * - 전환할 때 DB 에서 조건을 다시 확인하므로, 같은 배송이 여러 번 올라가거나 서버 여러 대가 함께 돌아도 한 번만 전환된다.
+ * - 공용 스케줄러 스레드가 다른 작업에 묶여도 늦지 않도록 전용 가상 스레드에서 돈다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.shipment.scheduler.enabled", havingValue = "true", matchIfMissing = true)
 public class ShipmentScheduler {
+
+    // 시작 시 전체 재구성용 조회 시작 시각
+    private static final LocalDateTime REBUILD_FROM = LocalDateTime.of(2000, 1, 1, 0, 0);
+
     private final ShipmentService shipmentService;
 
-    @Scheduled(cron = "0 * * * * *")
-    public void run(){
-        log.debug("Start Shipment Status Update Scheduler");
-        shipmentService.updateShipmentStatus();
-        log.debug("End Shipment Status Update Scheduler");
+    @Value("${app.shipment.tick-ms:1000}")
+    private long tickMs = 1000;
+
+    @Value("${app.shipment.wheel-size:64}")
+    private int wheelSize = 64;
+
+    // 새로 생성/갱신된 배송 조회 주기
+    @Value("${app.shipment.catch-up-ms:5000}")
+    private long catchUpMs = 5000;
+
+    // 조회 구간 겹침 (조회 시점에 아직 커밋되지 않았던 배송을 다음 조회에서 줍는다)
+    @Value("${app.shipment.catch-up-overlap-seconds:60}")
+    private long catchUpOverlapSeconds = 60;
+
+    // 전환 시각이 지난 배송을 다시 올리는 백스톱 주기
+    @Value("${app.shipment.backstop-ms:300000}")
+    private long backstopMs = 300_000;
+
+    // 한 번에 전환할 최대 배송 수
+    @Value("${app.shipment.transition-batch-size:1000}")
+    private int batchSize = 1000;
+
+    private TimingWheel<ShipmentTimer> wheel;
+    private LocalDateTime scannedFrom;
+    private long nextCatchUpAt;
+    private long nextBackstopAt;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("shipment-scheduler").start(this::loop);
+        log.info("▶ [배송 스케줄러] 시작");
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                tick(System.currentTimeMillis());
+                Thread.sleep(tickMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("[배송 스케줄러] 오류 발생: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(tickMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        log.info("▶ [배송 스케줄러] 종료");
+    }
+
+    // 한 칸 진행: (주기마다) 새 배송 등록 -> 만료된 전환 실행
+    void tick(long nowMillis) {
+        if (wheel == null) {
+            wheel = new TimingWheel<>(tickMs, wheelSize, nowMillis);
+            // 시작 시 전체 재구성이 지난 배송까지 올리므로 백스톱은 한 주기 뒤부터
+            nextBackstopAt = nowMillis + backstopMs;
+        }
+
+        if (nowMillis >= nextCatchUpAt) {
+            catchUp(nowMillis);
+            nextCatchUpAt = nowMillis + catchUpMs;
+        }
+
+        if (nowMillis >= nextBackstopAt) {
+            backstop();
+            nextBackstopAt = nowMillis + backstopMs;
+        }
+
+        List<ShipmentTimer> due = wheel.advance(nowMillis);
+        if (!due.isEmpty()) {
+            fire(due, nowMillis);
+        }
+    }
+
+    int pending() {
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    private void catchUp(long nowMillis) {
+        boolean rebuild = scannedFrom == null;
+        LocalDateTime scanStart = toLocalDateTime(nowMillis);
+
+        List<ShipmentTimer> timers = shipmentService.findTimers(rebuild ? REBUILD_FROM : scannedFrom);
+        for (ShipmentTimer timer : timers) {
+            wheel.schedule(timer, toMillis(timer.dueAt()));
+        }
+        scannedFrom = scanStart.minusSeconds(catchUpOverlapSeconds);
+
+        if (rebuild) {
+            log.info("[배송 스케줄러] 전환 예약 재구성 {}건", timers.size());
+        }
+    }
+
+    private void backstop() {
+        List<ShipmentTimer> timers = shipmentService.findOverdueTimers(batchSize);
+        for (ShipmentTimer timer : timers) {
+            wheel.schedule(timer, toMillis(timer.dueAt()));
+        }
+        if (!timers.isEmpty()) {
+            log.info("[배송 스케줄러] 전환 시각이 지난 배송 {}건 다시 예약", timers.size());
+        }
+    }
+
+    private void fire(List<ShipmentTimer> due, long nowMillis) {
+        Map<ShipmentStatus, List<ShipmentTimer>> byStatus = new LinkedHashMap<>();
+        for (ShipmentTimer timer : due) {
+            byStatus.computeIfAbsent(timer.status(), s -> new ArrayList<>()).add(timer);
+        }
+
+        byStatus.forEach((status, timers) -> {
+            for (int from = 0; from < timers.size(); from += batchSize) {
+                List<ShipmentTimer> chunk = timers.subList(from, Math.min(from + batchSize, timers.size()));
+                try {
+                    shipmentService.transitionDue(status, chunk.stream().map(ShipmentTimer::shipmentId).toList());
+                } catch (Exception e) {
+                    // 전환 실패 시 다음 조회 주기에 다시 시도
+                    log.warn("[배송 스케줄러] {} 전환 실패 {}건, 재시도 예약: {}", status, chunk.size(), e.getMessage());
+                    chunk.forEach(timer -> wheel.schedule(timer, nowMillis + catchUpMs));
+                }
+            }
+        });
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
     }
 }
@@ -0,0 +1,150 @@
+package com.synerge.order101.shipment.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠
+ * - 0단은 tick 단위 wheelSize 칸, 그 위 단은 아래 단 한 바퀴를 한 칸으로 하는 wheelSize 칸. 필요할 때만 단을 늘린다.
+ * - 예약/만료 모두 O(1) (위 단의 칸은 차례가 오면 아래 단으로 다시 나눠 담는다)
+ * - 같은 key 를 다시 예약하면 이전 예약은 무시된다. (지울 때 칸을 뒤지지 않고 만료 시점에 걸러낸다)
+ * - 동시에 호출해도 되지만 한 스레드에서 advance 하는 것을 전제로 한다.
+ */
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+
+    // 단별 칸
+    private final List<List<Entry<K>>[]> levels = new ArrayList<>();
+    // 예약된 key -> 만료 tick (여기 없는 key 의 칸 항목은 취소된 것)
+    private final Map<K, Long> deadlines = new HashMap<>();
+    // 예약 시점에 이미 지난 key
+    private final List<K> overdue = new ArrayList<>();
+
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize >= 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // deadlineMillis 가 되면 advance 에서 돌려준다. (tick 단위로 올림, 일찍 만료되지 않는다)
+    public synchronized void schedule(K key, long deadlineMillis) {
+        long tick = Math.ceilDiv(deadlineMillis, tickMillis);
+        Long previous = deadlines.put(key, tick);
+        if (previous != null && previous == tick) {
+            return;
+        }
+        place(key, tick);
+    }
+
+    public synchronized boolean cancel(K key) {
+        return deadlines.remove(key) != null;
+    }
+
+    // nowMillis 까지 시계를 돌리고 만료된 key 를 예약 시각 순으로 돌려준다.
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        for (K key : overdue) {
+            if (deadlines.remove(key) != null) expired.add(key);
+        }
+        overdue.clear();
+
+        long nowTick = nowMillis / tickMillis;
+        while (currentTick < nowTick) {
+            currentTick++;
+            cascade(expired);
+
+            List<Entry<K>> bucket = bucket(0, currentTick);
+            for (Entry<K> entry : bucket) {
+                fire(entry, expired);
+            }
+            bucket.clear();
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private void place(K key, long tick) {
+        if (tick <= currentTick) {
+            overdue.add(key);
+            return;
+        }
+
+        long span = 1;
+        for (int level = 0; ; level++) {
+            if ((tick / span) - (currentTick / span) < wheelSize) {
+                bucket(level, tick / span).add(new Entry<>(key, tick));
+                return;
+            }
+            span = Math.multiplyExact(span, wheelSize);
+        }
+    }
+
+    // 위 단의 칸 차례가 오면 그 칸을 비우고 아래 단으로 다시 나눠 담는다. (높은 단부터)
+    private void cascade(List<K> expired) {
+        for (int level = levels.size() - 1; level >= 1; level--) {
+            long span = span(level);
+            if (currentTick % span != 0) continue;
+
+            List<Entry<K>> bucket = bucket(level, currentTick / span);
+            if (bucket.isEmpty()) continue;
+
+            List<Entry<K>> moving = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Entry<K> entry : moving) {
+                if (!isLive(entry)) continue;
+                if (entry.tick() <= currentTick) {
+                    fire(entry, expired);
+                } else {
+                    place(entry.key(), entry.tick());
+                }
+            }
+        }
+    }
+
+    private long span(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        return span;
+    }
+
+    private void fire(Entry<K> entry, List<K> expired) {
+        if (isLive(entry)) {
+            deadlines.remove(entry.key());
+            expired.add(entry.key());
+        }
+    }
+
+    private boolean isLive(Entry<K> entry) {
+        Long tick = deadlines.get(entry.key());
+        return tick != null && tick == entry.tick();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Entry<K>> bucket(int level, long slot) {
+        while (levels.size() <= level) {
+            List<Entry<K>>[] buckets = new List[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayList<>();
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level)[(int) (slot % wheelSize)];
+    }
+
+    private record Entry<K>(K key, long tick) {
+    }
+}
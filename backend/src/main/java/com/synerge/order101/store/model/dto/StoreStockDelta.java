@@ -0,0 +1,20 @@
+package com.synerge.order101.store.model.dto;
+
+// 가맹점 재고 증감 한 줄 (없으면 새 행으로 생성, 결과는 0 미만으로 내려가지 않음)
+public record StoreStockDelta(
+        Long storeId,
+        Long productId,
+        int onHandDelta,
+        int inTransitDelta
+) {
+
+    // 배송 출발 - 입고예정 증가
+    public static StoreStockDelta inTransit(Long storeId, Long productId, int qty) {
+        return new StoreStockDelta(storeId, productId, 0, qty);
+    }
+
+    // 배송 완료 - 현재고 증가 (입고예정으로 잡혀 있던 수량이면 입고예정에서 옮긴다)
+    public static StoreStockDelta received(Long storeId, Long productId, int qty, boolean fromTransit) {
+        return new StoreStockDelta(storeId, productId, qty, fromTransit ? -qty : 0);
+    }
+}
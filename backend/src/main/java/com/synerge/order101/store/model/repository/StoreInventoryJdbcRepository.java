@@ -0,0 +1,57 @@
+package com.synerge.order101.store.model.repository;
+
+import com.synerge.order101.store.model.dto.StoreStockDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 가맹점 재고 수량 변경 (JDBC 배치)
+ * - ux_store_inventory_store_product 기준 upsert 로 행 생성과 증감을 한 문장에서 처리한다.
+ *   (조회 후 저장하지 않으므로 동시 배송 반영 시 수량이 덮어써지지 않는다)
+ * - 배송 한 건의 모든 줄, 또는 여러 배송의 줄을 한 번의 배치로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreInventoryJdbcRepository {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO store_inventory (store_id, product_id, on_hand_qty, in_transit_qty, updated_at)
+        VALUES (?, ?, ?, ?, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            on_hand_qty = GREATEST(on_hand_qty + ?, 0),
+            in_transit_qty = GREATEST(in_transit_qty + ?, 0),
+            updated_at = NOW(6)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] upsertAll(List<StoreStockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return new int[0];
+        }
+
+        return jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StoreStockDelta delta = deltas.get(i);
+                ps.setLong(1, delta.storeId());
+                ps.setLong(2, delta.productId());
+                ps.setInt(3, Math.max(delta.onHandDelta(), 0));
+                ps.setInt(4, Math.max(delta.inTransitDelta(), 0));
+                ps.setInt(5, delta.onHandDelta());
+                ps.setInt(6, delta.inTransitDelta());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+}
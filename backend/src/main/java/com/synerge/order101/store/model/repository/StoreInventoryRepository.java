@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -31,4 +33,14 @@ public interface StoreInventoryRepository extends JpaRepository<StoreInventory,L
 
 
     Optional<StoreInventory> findByStore_StoreIdAndProduct_ProductId(Long storeId, Long productId);
+
+    // 재고 원장 잔량 기록용 [storeId, productId, onHandQty]
+    @Query("""
+        select si.store.storeId, si.product.productId, si.onHandQty
+        from StoreInventory si
+        where si.store.storeId in :storeIds
+          and si.product.productId in :productIds
+    """)
+    List<Object[]> findOnHandQty(@Param("storeIds") Collection<Long> storeIds,
+                                 @Param("productIds") Collection<Long> productIds);
 }
@@ -22,4 +22,8 @@ public interface StoreRepository extends JpaRepository<Store,Long> {
 
     // 추가: 주소와 storeName(부분 일치) 조합으로 페이징 검색
     Page<Store> findByAddressAndStoreNameContainingIgnoreCase(String address, String storeName, Pageable pageable);
+
+    // 창고 배정용: [storeId, defaultWarehouseId]
+    @Query("SELECT s.storeId, s.defaultWarehouse.warehouseId FROM Store s WHERE s.defaultWarehouse IS NOT NULL")
+    List<Object[]> findAllDefaultWarehouseIds();
 }
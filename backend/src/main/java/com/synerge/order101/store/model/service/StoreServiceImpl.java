@@ -13,6 +13,7 @@ import com.synerge.order101.store.model.repository.StoreInventoryRepository;
 import com.synerge.order101.store.model.repository.StoreRepository;
 import com.synerge.order101.warehouse.model.entity.Warehouse;
 import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
+import com.synerge.order101.warehouse.model.service.WarehouseCostMatrix;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -33,6 +34,7 @@ public class StoreServiceImpl implements StoreService {
     private final StoreInventoryRepository storeInventoryRepository;
     private final ProductRepository productRepository;
     private final WarehouseRepository warehouseRepository;
+    private final WarehouseCostMatrix warehouseCostMatrix;
 
     @Override
     @Transactional(readOnly = true)
@@ -92,6 +94,11 @@ public class StoreServiceImpl implements StoreService {
         saved.updateStoreCode(generatedCode);
         Store updated = storeRepository.save(saved);
 
+        // 기본 창고가 지정되면 출고 창고 순위가 바뀐다
+        if (wh != null) {
+            warehouseCostMatrix.invalidate();
+        }
+
         return StoreRes.builder()
                 .storeId(updated.getStoreId())
                 .storeCode(updated.getStoreCode())
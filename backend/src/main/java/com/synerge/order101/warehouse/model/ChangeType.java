@@ -1,6 +1,15 @@
 package com.synerge.order101.warehouse.model;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public enum ChangeType {
-    INBOUND,
-    OUTBOUND
+    INBOUND("입고"),
+    OUTBOUND("출고"),
+    STORE_IN_TRANSIT("배송중"),
+    STORE_RECEIVED("매장입고");
+
+    private final String label;
 }
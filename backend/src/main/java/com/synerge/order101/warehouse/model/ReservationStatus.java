@@ -0,0 +1,7 @@
+package com.synerge.order101.warehouse.model;
+
+public enum ReservationStatus {
+    ACTIVE,     // 승인 대기 주문이 잡고 있는 예약
+    RELEASED,   // 반려/취소로 해제
+    CONSUMED    // 승인되어 출고로 전환
+}
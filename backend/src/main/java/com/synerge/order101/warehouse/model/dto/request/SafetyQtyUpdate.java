@@ -0,0 +1,7 @@
+package com.synerge.order101.warehouse.model.dto.request;
+
+// 안전재고 배치 갱신 한 줄 (재고 행, 안전재고)
+public record SafetyQtyUpdate(
+        Long inventoryId,
+        int safetyQty
+) {}
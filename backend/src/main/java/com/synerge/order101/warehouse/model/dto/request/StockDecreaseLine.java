@@ -0,0 +1,13 @@
+package com.synerge.order101.warehouse.model.dto.request;
+
+// 재고 차감 요청 한 줄 (창고, 상품, 수량, 같은 문장에서 해제할 주문 자신의 예약 수량)
+public record StockDecreaseLine(
+        Long warehouseId,
+        Long productId,
+        int quantity,
+        int reservedQty
+) {
+    public StockDecreaseLine(Long warehouseId, Long productId, int quantity) {
+        this(warehouseId, productId, quantity, 0);
+    }
+}
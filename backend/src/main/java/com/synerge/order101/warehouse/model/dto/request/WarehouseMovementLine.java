@@ -0,0 +1,10 @@
+package com.synerge.order101.warehouse.model.dto.request;
+
+import java.util.Map;
+
+// 창고 재고 변동 원장 한 건 (참조 번호, 창고, 상품별 수량)
+public record WarehouseMovementLine(
+        String refNo,
+        Long warehouseId,
+        Map<Long, Integer> qtyByProduct
+) {}
@@ -0,0 +1,12 @@
+package com.synerge.order101.warehouse.model.dto.response;
+
+/**
+ * 안전재고 배치 실행 결과
+ * - resumedFromInventoryId: 같은 날 중단된 작업을 이어서 실행했으면 시작 키, 처음부터 실행했으면 null
+ */
+public record SafetyStockJobResultDto(
+        long processedCount,
+        long updatedCount,
+        int failedChunks,
+        Long resumedFromInventoryId
+) {}
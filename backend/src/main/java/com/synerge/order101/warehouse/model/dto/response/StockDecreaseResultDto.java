@@ -0,0 +1,19 @@
+package com.synerge.order101.warehouse.model.dto.response;
+
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
+
+import java.util.List;
+
+/**
+ * 재고 일괄 차감 결과
+ * - failedIndexes: 요청 목록 기준 차감하지 못한 줄의 위치 (재고 부족 또는 재고 없음)
+ */
+public record StockDecreaseResultDto(
+        int requestedCount,
+        List<Integer> failedIndexes,
+        List<StockDecreaseLine> failedLines
+) {
+    public boolean isAllApplied() {
+        return failedIndexes.isEmpty();
+    }
+}
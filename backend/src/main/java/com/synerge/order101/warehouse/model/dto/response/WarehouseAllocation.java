@@ -0,0 +1,9 @@
+package com.synerge.order101.warehouse.model.dto.response;
+
+import java.util.Map;
+
+// 창고 한 곳에 배정된 상품별 수량 (productId -> qty, 요청 순서 유지)
+public record WarehouseAllocation(
+        Long warehouseId,
+        Map<Long, Integer> qtyByProduct
+) {}
@@ -0,0 +1,82 @@
+package com.synerge.order101.warehouse.model.entity;
+
+import com.synerge.order101.warehouse.model.ChangeType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 이동 원장 (추가만 한다)
+ * - 입고/출고는 창고(warehouse_id), 배송중/매장입고는 가맹점(store_id) 기준 한 줄이다.
+ * - balance_after 는 같은 위치(창고 또는 가맹점)의 해당 상품 보유 수량을 이동 직후 기준으로 담는다.
+ * - 상품 재고 화면은 (product_id, occurred_at, movement_id) 인덱스로 키셋 조회만 한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "inventory_movement",
+        indexes = @Index(name = "idx_inventory_movement_product", columnList = "product_id, occurred_at, movement_id")
+)
+public class InventoryMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "movement_id")
+    private Long movementId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "warehouse_id")
+    private Long warehouseId;
+
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private ChangeType changeType;
+
+    @Column(name = "ref_no", length = 50)
+    private String refNo;
+
+    @Column(name = "qty", nullable = false)
+    private Integer quantity;
+
+    // 과거 이력 이관분은 알 수 없어 null
+    @Column(name = "balance_after")
+    private Integer balanceAfter;
+
+    @Column(name = "occurred_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime occurredAt;
+
+    public static InventoryMovement ofWarehouse(Long warehouseId, Long productId, ChangeType changeType,
+                                                String refNo, int quantity, int balanceAfter, LocalDateTime occurredAt) {
+        InventoryMovement movement = new InventoryMovement();
+        movement.warehouseId = warehouseId;
+        movement.productId = productId;
+        movement.changeType = changeType;
+        movement.refNo = refNo;
+        movement.quantity = quantity;
+        movement.balanceAfter = balanceAfter;
+        movement.occurredAt = occurredAt;
+        return movement;
+    }
+
+    public static InventoryMovement ofStore(Long storeId, Long productId, ChangeType changeType,
+                                            String refNo, int quantity, int balanceAfter, LocalDateTime occurredAt) {
+        InventoryMovement movement = new InventoryMovement();
+        movement.storeId = storeId;
+        movement.productId = productId;
+        movement.changeType = changeType;
+        movement.refNo = refNo;
+        movement.quantity = quantity;
+        movement.balanceAfter = balanceAfter;
+        movement.occurredAt = occurredAt;
+        return movement;
+    }
+}
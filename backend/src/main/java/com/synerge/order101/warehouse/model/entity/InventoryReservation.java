@@ -0,0 +1,72 @@
+package com.synerge.order101.warehouse.model.entity;
+
+import com.synerge.order101.warehouse.model.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 원장
+ * - 가맹점 주문이 승인 대기(SUBMITTED)에 들어가면 (창고, 상품)별로 한 줄씩 ACTIVE 로 생성된다.
+ * - 승인되면 CONSUMED, 반려/취소되면 RELEASED 로 닫히고 warehouse_inventory.reserved_qty 에서 빠진다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "inventory_reservation",
+        indexes = {
+                @Index(name = "idx_inventory_reservation_order", columnList = "store_order_id, status"),
+                @Index(name = "idx_inventory_reservation_product", columnList = "warehouse_id, product_id, status")
+        }
+)
+public class InventoryReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Column(name = "store_order_id", nullable = false)
+    private Long storeOrderId;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private Long warehouseId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "reserved_qty", nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(columnDefinition = "DATETIME(6)")
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @Column(columnDefinition = "DATETIME(6)")
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public static InventoryReservation active(Long storeOrderId, Long warehouseId, Long productId, int quantity) {
+        InventoryReservation reservation = new InventoryReservation();
+        reservation.storeOrderId = storeOrderId;
+        reservation.warehouseId = warehouseId;
+        reservation.productId = productId;
+        reservation.quantity = quantity;
+        reservation.status = ReservationStatus.ACTIVE;
+        return reservation;
+    }
+
+    public void close(ReservationStatus closedStatus) {
+        this.status = closedStatus;
+    }
+}
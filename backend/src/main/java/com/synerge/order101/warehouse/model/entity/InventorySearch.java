@@ -0,0 +1,75 @@
+package com.synerge.order101.warehouse.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 창고 재고 목록 검색용 평탄화 테이블 (warehouse_inventory 1행 = 1행)
+ * - 상품 코드/이름, 소/중/대분류 ID, 보유/안전재고, 판매가를 한 행에 담아 조인 없이 조회한다.
+ * - 원본(warehouse_inventory, product) 이 바뀌면 InventorySearchProjector 가 같은 트랜잭션에서 반영한다. (재고는 수량 컬럼만, 상품은 행 재구성)
+ * - 정렬 옵션마다 (대, 중, 소분류, 정렬 컬럼) 과 (정렬 컬럼) 인덱스를 둔다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "inventory_search",
+        uniqueConstraints = @UniqueConstraint(name = "uk_inventory_search_product", columnNames = {"product_id", "warehouse_id"}),
+        indexes = {
+                @Index(name = "idx_inventory_search_cat", columnList = "large_category_id, medium_category_id, small_category_id, inventory_id"),
+                @Index(name = "idx_inventory_search_cat_code", columnList = "large_category_id, medium_category_id, small_category_id, product_code"),
+                @Index(name = "idx_inventory_search_cat_on_hand", columnList = "large_category_id, medium_category_id, small_category_id, on_hand_qty"),
+                @Index(name = "idx_inventory_search_cat_safety", columnList = "large_category_id, medium_category_id, small_category_id, safety_qty"),
+                @Index(name = "idx_inventory_search_code", columnList = "product_code"),
+                @Index(name = "idx_inventory_search_on_hand", columnList = "on_hand_qty"),
+                @Index(name = "idx_inventory_search_safety", columnList = "safety_qty")
+        }
+)
+public class InventorySearch {
+
+    // warehouse_inventory.inventory_id 그대로 사용
+    @Id
+    @Column(name = "inventory_id")
+    private Long inventoryId;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private Long warehouseId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "product_code", length = 100, nullable = false)
+    private String productCode;
+
+    @Column(name = "product_name", length = 200, nullable = false)
+    private String productName;
+
+    // 키워드 검색용 소문자 상품명 (행마다 LOWER 를 계산하지 않도록)
+    @Column(name = "search_name", length = 200, nullable = false)
+    private String searchName;
+
+    @Column(name = "category_name", length = 80)
+    private String categoryName;
+
+    @Column(name = "small_category_id")
+    private Long smallCategoryId;
+
+    @Column(name = "medium_category_id")
+    private Long mediumCategoryId;
+
+    @Column(name = "large_category_id")
+    private Long largeCategoryId;
+
+    @Column(name = "on_hand_qty", nullable = false)
+    private Integer onHandQuantity;
+
+    @Column(name = "safety_qty", nullable = false)
+    private Integer safetyQuantity;
+
+    @Column(name = "price", precision = 15, scale = 2, nullable = false)
+    private BigDecimal price;
+}
@@ -0,0 +1,46 @@
+package com.synerge.order101.warehouse.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점 -> 창고 배송 비용
+ * - 거리/운임 등을 하나의 비용 값으로 환산해 둔다. 값이 작을수록 우선 배정된다.
+ * - 행이 없는 조합은 WarehouseCostMatrix 의 기본 비용을 쓴다.
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+        name = "store_warehouse_cost",
+        uniqueConstraints = @UniqueConstraint(name = "uk_store_warehouse_cost", columnNames = {"store_id", "warehouse_id"})
+)
+public class StoreWarehouseCost {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "store_warehouse_cost_id")
+    private Long storeWarehouseCostId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private Long warehouseId;
+
+    @Column(name = "cost", nullable = false)
+    private Integer cost;
+
+    @Column(columnDefinition = "DATETIME(6)")
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -4,6 +4,7 @@ package com.synerge.order101.warehouse.model.entity;
 import com.synerge.order101.product.model.entity.Product;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,7 +14,11 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "warehouse_inventory")
+@DynamicUpdate
+@Table(
+        name = "warehouse_inventory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_warehouse_inventory", columnNames = {"warehouse_id", "product_id"})
+)
 public class WarehouseInventory {
 
     @Id
@@ -24,7 +29,7 @@ public class WarehouseInventory {
     @JoinColumn(name = "warehouse_id", nullable = false)
     private Warehouse warehouse;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
@@ -36,6 +41,11 @@ public class WarehouseInventory {
     @Column(name = "safety_qty", nullable = false)
     private Integer safetyQuantity = 0;
 
+    // 승인 대기 주문이 예약한 수량 (가용 재고 = 보유 - 예약)
+    @Builder.Default
+    @Column(name = "reserved_qty", nullable = false)
+    private Integer reservedQuantity = 0;
+
     @Column(columnDefinition = "DATETIME(6)")
     @UpdateTimestamp
     private LocalDateTime updatedAt;
@@ -0,0 +1,60 @@
+package com.synerge.order101.warehouse.model.repository;
+
+import com.synerge.order101.warehouse.model.entity.InventoryMovement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
+
+    // 최신순 (첫 페이지 / 페이지 번호 조회)
+    @Query("""
+        select m from InventoryMovement m
+        where m.productId = :pid
+        order by m.occurredAt desc, m.movementId desc
+    """)
+    List<InventoryMovement> findLatest(@Param("pid") Long productId, Pageable pageable);
+
+    // 커서 이후 (occurredAt, movementId) 보다 이전 행
+    @Query("""
+        select m from InventoryMovement m
+        where m.productId = :pid
+          and (m.occurredAt < :at or (m.occurredAt = :at and m.movementId < :id))
+        order by m.occurredAt desc, m.movementId desc
+    """)
+    List<InventoryMovement> findBefore(@Param("pid") Long productId,
+                                       @Param("at") LocalDateTime occurredAt,
+                                       @Param("id") Long movementId,
+                                       Pageable pageable);
+
+    long countByProductId(Long productId);
+
+    boolean existsByMovementIdIsNotNull();
+
+    /**
+     * 원장 도입 전 입고/출고 상세 이관 (원장이 비어 있을 때 한 번만 실행)
+     * 당시 잔량은 알 수 없으므로 balance_after 는 비워 둔다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO inventory_movement (product_id, warehouse_id, store_id, change_type, ref_no, qty, balance_after, occurred_at)
+        SELECT d.product_id, i.warehouse_id, NULL, 'INBOUND', i.inbound_no, d.received_qty, NULL, i.inbound_datetime
+        FROM inbound_detail d
+        JOIN inbound i ON i.inbound_id = d.inbound_id
+        WHERE i.inbound_datetime IS NOT NULL
+        UNION ALL
+        SELECT d.product_id, o.warehouse_id, NULL, 'OUTBOUND', o.outbound_no, d.outbound_qty, NULL, o.outbound_datetime
+        FROM outbound_detail d
+        JOIN outbound o ON o.outbound_id = d.outbound_id
+        WHERE o.outbound_datetime IS NOT NULL
+        ORDER BY 8, 1
+    """, nativeQuery = true)
+    int backfillFromDetails();
+}
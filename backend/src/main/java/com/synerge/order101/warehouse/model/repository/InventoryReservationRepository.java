@@ -0,0 +1,17 @@
+package com.synerge.order101.warehouse.model.repository;
+
+import com.synerge.order101.warehouse.model.ReservationStatus;
+import com.synerge.order101.warehouse.model.entity.InventoryReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservation, Long> {
+
+    List<InventoryReservation> findByStoreOrderIdAndStatus(Long storeOrderId, ReservationStatus status);
+
+    List<InventoryReservation> findByStoreOrderIdInAndStatus(Collection<Long> storeOrderIds, ReservationStatus status);
+}
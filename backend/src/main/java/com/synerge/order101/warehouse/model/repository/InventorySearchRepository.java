@@ -0,0 +1,113 @@
+package com.synerge.order101.warehouse.model.repository;
+
+import com.synerge.order101.warehouse.model.dto.response.InventoryResponseDto;
+import com.synerge.order101.warehouse.model.entity.InventorySearch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface InventorySearchRepository extends JpaRepository<InventorySearch, Long> {
+
+    String PROJECT_SELECT = """
+        INSERT INTO inventory_search (inventory_id, warehouse_id, product_id, product_code, product_name, search_name,
+                                      category_name, small_category_id, medium_category_id, large_category_id,
+                                      on_hand_qty, safety_qty, price)
+        SELECT wi.inventory_id, wi.warehouse_id, p.product_id, p.product_code, p.product_name, LOWER(p.product_name),
+               sc.category_name, sc.product_category_id, mc.product_category_id, lc.product_category_id,
+               wi.on_hand_qty, wi.safety_qty, p.price
+        FROM warehouse_inventory wi
+        JOIN product p ON p.product_id = wi.product_id
+        JOIN product_category sc ON sc.product_category_id = p.product_category_id
+        LEFT JOIN product_category mc ON mc.product_category_id = sc.parent_category_id
+        LEFT JOIN product_category lc ON lc.product_category_id = mc.parent_category_id
+        """;
+
+    /**
+     * 재고 목록 검색
+     * 분류 조건은 상위 분류까지 채워서 넘겨야 (대, 중, 소분류, 정렬 컬럼) 인덱스를 앞에서부터 탄다.
+     */
+    @Query(
+            value = """
+    SELECT new com.synerge.order101.warehouse.model.dto.response.InventoryResponseDto(
+        s.inventoryId,
+        s.productId,
+        s.productCode,
+        s.categoryName,
+        s.productName,
+        s.onHandQuantity,
+        s.safetyQuantity,
+        s.price
+    )
+    FROM InventorySearch s
+    WHERE (:largeCategoryId IS NULL OR s.largeCategoryId = :largeCategoryId)
+      AND (:mediumCategoryId IS NULL OR s.mediumCategoryId = :mediumCategoryId)
+      AND (:smallCategoryId IS NULL OR s.smallCategoryId = :smallCategoryId)
+      AND (:keyword IS NULL OR s.searchName LIKE CONCAT('%', :keyword, '%'))
+    """,
+            countQuery = """
+    SELECT COUNT(s)
+    FROM InventorySearch s
+    WHERE (:largeCategoryId IS NULL OR s.largeCategoryId = :largeCategoryId)
+      AND (:mediumCategoryId IS NULL OR s.mediumCategoryId = :mediumCategoryId)
+      AND (:smallCategoryId IS NULL OR s.smallCategoryId = :smallCategoryId)
+      AND (:keyword IS NULL OR s.searchName LIKE CONCAT('%', :keyword, '%'))
+    """
+    )
+    Page<InventoryResponseDto> search(@Param("largeCategoryId") Long largeCategoryId,
+                                      @Param("mediumCategoryId") Long mediumCategoryId,
+                                      @Param("smallCategoryId") Long smallCategoryId,
+                                      @Param("keyword") String keyword,
+                                      Pageable pageable);
+
+    // 창고 상품 재고/안전재고만 갱신 (상품/분류 컬럼은 그대로, 원본 행은 inventory_id 로 찾는다)
+    @Modifying
+    @Query(value = """
+        UPDATE inventory_search s
+        SET on_hand_qty = (SELECT wi.on_hand_qty FROM warehouse_inventory wi WHERE wi.inventory_id = s.inventory_id),
+            safety_qty = (SELECT wi.safety_qty FROM warehouse_inventory wi WHERE wi.inventory_id = s.inventory_id)
+        WHERE s.warehouse_id = :warehouseId
+          AND s.product_id IN (:productIds)
+        """, nativeQuery = true)
+    int updateStockByWarehouseAndProducts(@Param("warehouseId") Long warehouseId,
+                                          @Param("productIds") Collection<Long> productIds);
+
+    // 창고 상품 단위 재구성
+    @Modifying
+    @Query(value = "DELETE FROM inventory_search WHERE warehouse_id = :warehouseId AND product_id IN (:productIds)",
+            nativeQuery = true)
+    int deleteByWarehouseAndProducts(@Param("warehouseId") Long warehouseId,
+                                     @Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query(value = PROJECT_SELECT + " WHERE wi.warehouse_id = :warehouseId AND wi.product_id IN (:productIds)",
+            nativeQuery = true)
+    int projectByWarehouseAndProducts(@Param("warehouseId") Long warehouseId,
+                                      @Param("productIds") Collection<Long> productIds);
+
+    // 상품 단위 재구성 (상품 정보 변경 시 전 창고)
+    @Modifying
+    @Query(value = "DELETE FROM inventory_search WHERE product_id IN (:productIds)", nativeQuery = true)
+    int deleteByProducts(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query(value = PROJECT_SELECT + " WHERE wi.product_id IN (:productIds)", nativeQuery = true)
+    int projectByProducts(@Param("productIds") Collection<Long> productIds);
+
+    // 전체 재구성
+    @Modifying
+    @Query(value = "DELETE FROM inventory_search", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = PROJECT_SELECT, nativeQuery = true)
+    int projectAll();
+
+    boolean existsByInventoryIdIsNotNull();
+}
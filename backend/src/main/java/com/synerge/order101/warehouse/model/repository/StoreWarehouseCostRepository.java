@@ -0,0 +1,16 @@
+package com.synerge.order101.warehouse.model.repository;
+
+import com.synerge.order101.warehouse.model.entity.StoreWarehouseCost;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StoreWarehouseCostRepository extends JpaRepository<StoreWarehouseCost, Long> {
+
+    // [storeId, warehouseId, cost]
+    @Query("select c.storeId, c.warehouseId, c.cost from StoreWarehouseCost c")
+    List<Object[]> findAllCosts();
+}
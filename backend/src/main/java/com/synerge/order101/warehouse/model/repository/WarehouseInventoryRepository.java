@@ -1,28 +1,50 @@
 package com.synerge.order101.warehouse.model.repository;
 
 
-import com.synerge.order101.product.model.entity.Product;
-import com.synerge.order101.warehouse.model.dto.response.InventoryResponseDto;
 import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface WarehouseInventoryRepository extends JpaRepository<WarehouseInventory,Long> {
 
+    // 저재고 추적기 재구성용: [warehouseId, productId]
     @Query("""
-        select count(wi)
+        select wi.warehouse.warehouseId, wi.product.productId
         from WarehouseInventory wi
         where wi.onHandQuantity <= wi.safetyQuantity
     """)
-    long countLowStockSku();
+    List<Object[]> findLowStockKeys();
+
+    // 저재고 추적기 갱신용: [productId, onHand, safety]
+    @Query("""
+        select wi.product.productId, wi.onHandQuantity, wi.safetyQuantity
+        from WarehouseInventory wi
+        where wi.warehouse.warehouseId = :warehouseId
+          and wi.product.productId in :productIds
+    """)
+    List<Object[]> findThresholdLevels(@Param("warehouseId") Long warehouseId,
+                                       @Param("productIds") Collection<Long> productIds);
+
+    // 안전재고 배치용 키셋 조회: [inventoryId, warehouseId, productId, safetyQty]
+    @Query("""
+        select wi.inventoryId, wi.warehouse.warehouseId, wi.product.productId, wi.safetyQuantity
+        from WarehouseInventory wi
+        where wi.inventoryId > :after
+        order by wi.inventoryId
+    """)
+    List<Object[]> findSafetyRowsAfter(@Param("after") Long afterInventoryId, Pageable pageable);
+
     // 전체 리스트 조회
     @Query("""
         select wi
@@ -43,7 +65,29 @@ public interface WarehouseInventoryRepository extends JpaRepository<WarehouseInv
     """)
     Page<WarehouseInventory> findAllWithProduct(Pageable pageable);
 
-    Optional<WarehouseInventory> findByProduct_ProductId(Long productId);
+    Optional<WarehouseInventory> findByWarehouse_WarehouseIdAndProduct_ProductId(Long warehouseId, Long productId);
+
+    // 창고별 보유/예약 수량 조회 - [productId, onHandQty, reservedQty]
+    @Query("""
+        select wi.product.productId, wi.onHandQuantity, wi.reservedQuantity
+        from WarehouseInventory wi
+        where wi.warehouse.warehouseId = :warehouseId
+          and wi.product.productId in :productIds
+    """)
+    List<Object[]> findStockLevels(@Param("warehouseId") Long warehouseId,
+                                   @Param("productIds") Collection<Long> productIds);
+
+    // 일괄 승인용 재고 행 (판단 후 차감까지 다른 승인/예약이 끼어들지 않도록 상품 ID 순서로 잠근다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select wi
+        from WarehouseInventory wi
+        where wi.warehouse.warehouseId = :warehouseId
+          and wi.product.productId in :productIds
+        order by wi.product.productId
+    """)
+    List<WarehouseInventory> findStockLevelsForUpdate(@Param("warehouseId") Long warehouseId,
+                                                      @Param("productIds") Collection<Long> productIds);
 
     @Query("""
         SELECT wi
@@ -63,49 +107,4 @@ public interface WarehouseInventoryRepository extends JpaRepository<WarehouseInv
     long sumSafetyAll(@Param("pid") Long productId);
 
 
-    Optional<WarehouseInventory> findByProduct(Product product);
-
-    @Query(
-            value = """
-    SELECT new com.synerge.order101.warehouse.model.dto.response.InventoryResponseDto(
-        i.inventoryId,
-        p.productId,
-        p.productCode,
-        pc.categoryName,
-        p.productName,
-        i.onHandQuantity,
-        i.safetyQuantity,
-        p.price
-    )
-    FROM WarehouseInventory i
-    JOIN i.product p
-    JOIN p.productCategory pc
-    LEFT JOIN pc.parent medium
-    LEFT JOIN medium.parent large
-    WHERE (:largeCategoryId IS NULL OR large.productCategoryId = :largeCategoryId)
-      AND (:mediumCategoryId IS NULL OR medium.productCategoryId = :mediumCategoryId)
-      AND (:smallCategoryId IS NULL OR pc.productCategoryId = :smallCategoryId)
-      AND (:keyword IS NULL OR LOWER(p.productName) LIKE LOWER(CONCAT('%', :keyword, '%')))
-    """,
-            countQuery = """
-    SELECT COUNT(DISTINCT i.inventoryId)
-    FROM WarehouseInventory i
-    JOIN i.product p
-    JOIN p.productCategory pc
-    LEFT JOIN pc.parent medium
-    LEFT JOIN medium.parent large
-    WHERE (:largeCategoryId IS NULL OR large.productCategoryId = :largeCategoryId)
-      AND (:mediumCategoryId IS NULL OR medium.productCategoryId = :mediumCategoryId)
-      AND (:smallCategoryId IS NULL OR pc.productCategoryId = :smallCategoryId)
-      AND (:keyword IS NULL OR LOWER(p.productName) LIKE LOWER(CONCAT('%', :keyword, '%')))
-    """
-    )
-    Page<InventoryResponseDto> searchInventory(
-            Long largeCategoryId,
-            Long mediumCategoryId,
-            Long smallCategoryId,
-            String keyword,
-            Pageable pageable
-    );
-
 }
@@ -0,0 +1,162 @@
+package com.synerge.order101.warehouse.model.repository;
+
+import com.synerge.order101.warehouse.model.dto.request.SafetyQtyUpdate;
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
+import com.synerge.order101.warehouse.model.entity.InventoryReservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 창고 재고 수량 변경 (JDBC 배치)
+ * - 조건부 UPDATE 로 가용 수량 확인과 차감을 한 문장에서 처리해 동시 승인 시 초과 출고를 막는다.
+ *   출고 차감은 다른 주문의 예약분을 건드리지 않도록 (보유 - 다른 주문 예약)으로 판단하고,
+ *   출고되는 주문 자신의 예약분은 같은 문장에서 함께 내린다.
+ * - 줄마다 반영 건수(0/1)를 돌려주므로 어떤 줄이 실패했는지 알 수 있다.
+ * - 예약도 (보유 - 예약) 가용 수량 안에서만 잡히도록 조건부로 더하고, 해제는 원장 줄 단위로 한 번에 보낸다.
+ * - 안전재고 배치는 바뀐 행만 inventory_id 기준으로 한 번에 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WarehouseStockJdbcRepository {
+
+    private static final String DECREASE_SQL = """
+        UPDATE warehouse_inventory
+        SET on_hand_qty = on_hand_qty - ?,
+            reserved_qty = GREATEST(reserved_qty - ?, 0),
+            updated_at = NOW(6)
+        WHERE warehouse_id = ?
+          AND product_id = ?
+          AND on_hand_qty - (reserved_qty - ?) >= ?
+    """;
+
+    private static final String RESERVE_SQL = """
+        UPDATE warehouse_inventory
+        SET reserved_qty = reserved_qty + ?
+        WHERE warehouse_id = ?
+          AND product_id = ?
+          AND on_hand_qty - reserved_qty >= ?
+    """;
+
+    private static final String ADJUST_RESERVED_SQL = """
+        UPDATE warehouse_inventory
+        SET reserved_qty = GREATEST(reserved_qty + ?, 0)
+        WHERE warehouse_id = ?
+          AND product_id = ?
+    """;
+
+    private static final String UPDATE_SAFETY_SQL = """
+        UPDATE warehouse_inventory
+        SET safety_qty = ?
+        WHERE inventory_id = ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 요청 줄 순서대로 조건부 차감을 배치 실행한다. 줄의 reservedQty 만큼 예약 수량도 함께 내린다.
+     * @return 줄별 반영 건수 (0 이면 가용 재고 부족 또는 재고 없음)
+     */
+    public int[] decreaseOnHand(List<StockDecreaseLine> lines) {
+        if (lines.isEmpty()) {
+            return new int[0];
+        }
+
+        return jdbcTemplate.batchUpdate(DECREASE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StockDecreaseLine line = lines.get(i);
+                ps.setInt(1, line.quantity());
+                ps.setInt(2, line.reservedQty());
+                ps.setLong(3, line.warehouseId());
+                ps.setLong(4, line.productId());
+                ps.setInt(5, line.reservedQty());
+                ps.setInt(6, line.quantity());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lines.size();
+            }
+        });
+    }
+
+    /**
+     * 가용 수량(보유 - 예약)이 남은 줄만 예약 수량을 더한다.
+     * @return 줄별 반영 건수 (0 이면 가용 재고 부족 또는 재고 없음)
+     */
+    public int[] reserve(List<InventoryReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return new int[0];
+        }
+
+        return jdbcTemplate.batchUpdate(RESERVE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                InventoryReservation reservation = reservations.get(i);
+                ps.setInt(1, reservation.getQuantity());
+                ps.setLong(2, reservation.getWarehouseId());
+                ps.setLong(3, reservation.getProductId());
+                ps.setInt(4, reservation.getQuantity());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return reservations.size();
+            }
+        });
+    }
+
+    /**
+     * 예약 원장 줄만큼 예약 수량을 증감한다. (sign: 예약 1, 해제 -1)
+     * @return 줄별 반영 건수 (0 이면 해당 창고에 재고 행 없음)
+     */
+    public int[] adjustReserved(List<InventoryReservation> reservations, int sign) {
+        if (reservations.isEmpty()) {
+            return new int[0];
+        }
+
+        return jdbcTemplate.batchUpdate(ADJUST_RESERVED_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                InventoryReservation reservation = reservations.get(i);
+                ps.setInt(1, sign * reservation.getQuantity());
+                ps.setLong(2, reservation.getWarehouseId());
+                ps.setLong(3, reservation.getProductId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return reservations.size();
+            }
+        });
+    }
+
+    /**
+     * 재고 행별 안전재고를 배치로 갱신한다.
+     */
+    public int[] updateSafety(List<SafetyQtyUpdate> updates) {
+        if (updates.isEmpty()) {
+            return new int[0];
+        }
+
+        return jdbcTemplate.batchUpdate(UPDATE_SAFETY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SafetyQtyUpdate update = updates.get(i);
+                ps.setInt(1, update.safetyQty());
+                ps.setLong(2, update.inventoryId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return updates.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 창고/상품별 보유·예약 수량 메모리 뷰
+ * - 승인 화면의 재고 확인을 주문 수와 무관하게 메모리에서 답하기 위한 조회용 뷰다. (차감 판단은 DB 조건부 UPDATE 가 한다)
+ * - 없는 키만 한 번의 쿼리로 채우고, 재고/예약이 바뀌면 invalidate 로 상품 단위로 비운다.
+ * - 다른 경로(다른 인스턴스 등)의 변경을 놓쳐도 TTL 이 지나면 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryAvailabilityView {
+
+    private static final long TTL_NANOS = 5_000_000_000L;
+
+    private final WarehouseInventoryRepository warehouseInventoryRepository;
+
+    // warehouseId -> (productId -> 수량)
+    private final Map<Long, Map<Long, StockLevel>> index = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    public record StockLevel(int onHand, int reserved, long loadedAt) {
+        public int available() {
+            return onHand - reserved;
+        }
+    }
+
+    /**
+     * 창고의 상품별 보유/예약 수량을 조회한다.
+     * 재고 행이 없는 상품은 (0, 0) 으로 채운다.
+     */
+    public Map<Long, StockLevel> get(Long warehouseId, Collection<Long> productIds) {
+        Map<Long, StockLevel> result = new HashMap<>();
+        if (warehouseId == null || productIds == null || productIds.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, StockLevel> warehouseIndex = index.computeIfAbsent(warehouseId, k -> new ConcurrentHashMap<>());
+        long now = System.nanoTime();
+
+        List<Long> misses = new ArrayList<>();
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            if (productId == null) continue;
+            StockLevel hit = warehouseIndex.get(productId);
+            if (hit != null && now - hit.loadedAt() < TTL_NANOS) {
+                result.put(productId, hit);
+            } else {
+                misses.add(productId);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long snapshot = version.get();
+        Map<Long, StockLevel> loaded = new HashMap<>();
+        for (Object[] row : warehouseInventoryRepository.findStockLevels(warehouseId, misses)) {
+            loaded.put((Long) row[0], new StockLevel(((Number) row[1]).intValue(), ((Number) row[2]).intValue(), now));
+        }
+        for (Long productId : misses) {
+            loaded.putIfAbsent(productId, new StockLevel(0, 0, now));
+        }
+        result.putAll(loaded);
+
+        // 조회 도중 무효화가 있었으면 적재하지 않는다.
+        if (version.get() == snapshot) {
+            warehouseIndex.putAll(loaded);
+            if (version.get() != snapshot) {
+                loaded.forEach(warehouseIndex::remove);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 상품 재고/예약 변경 시 호출한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 비운다.
+     */
+    public void invalidate(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        evict(ids);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(ids);
+                }
+            });
+        }
+    }
+
+    private void evict(Collection<Long> productIds) {
+        version.incrementAndGet();
+        for (Map<Long, StockLevel> warehouseIndex : index.values()) {
+            productIds.forEach(warehouseIndex::remove);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.dto.request.WarehouseMovementLine;
+
+import java.util.List;
+import java.util.Map;
+
+public interface InventoryMovementService {
+
+    // 창고 재고 변동 기록 (재고 반영 이후, 같은 트랜잭션에서 호출)
+    void recordWarehouse(ChangeType changeType, String refNo, Long warehouseId, Map<Long, Integer> qtyByProduct);
+
+    // 여러 건을 한 번에 반영한 뒤의 창고 재고 변동 기록 (목록 순서대로 반영된 것으로 잔량을 계산)
+    void recordWarehouseAll(ChangeType changeType, List<WarehouseMovementLine> lines);
+
+    // 가맹점 재고 변동 기록 (balanceAfter: 반영 이후 가맹점 보유 수량)
+    void recordStore(ChangeType changeType, String refNo, Long storeId, Long productId, int quantity, int balanceAfter);
+
+    // 가맹점 재고 변동 일괄 기록 (balanceByProduct: 반영 이후 상품별 보유 수량)
+    void recordStoreAll(ChangeType changeType, String refNo, Long storeId,
+                        Map<Long, Integer> qtyByProduct, Map<Long, Integer> balanceByProduct);
+
+    // 원장이 비어 있으면 과거 입고/출고 상세를 한 번 이관
+    int backfillIfEmpty();
+}
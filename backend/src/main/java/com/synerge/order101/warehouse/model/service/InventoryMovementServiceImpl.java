@@ -0,0 +1,143 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.dto.request.WarehouseMovementLine;
+import com.synerge.order101.warehouse.model.entity.InventoryMovement;
+import com.synerge.order101.warehouse.model.repository.InventoryMovementRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryMovementServiceImpl implements InventoryMovementService {
+
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final WarehouseInventoryRepository warehouseInventoryRepository;
+
+    /**
+     * 잔량은 재고 행을 갱신한 뒤 같은 트랜잭션에서 다시 읽는다.
+     * 갱신한 행은 이 트랜잭션이 잠그고 있으므로 커밋 전까지 다른 변경이 끼어들지 않는다.
+     */
+    @Override
+    @Transactional
+    public void recordWarehouse(ChangeType changeType, String refNo, Long warehouseId, Map<Long, Integer> qtyByProduct) {
+        if (warehouseId == null || qtyByProduct == null || qtyByProduct.isEmpty()) return;
+
+        // 엔티티로 변경한 재고(입고)도 잔량 조회 전에 반영
+        warehouseInventoryRepository.flush();
+
+        Map<Long, Integer> balances = new HashMap<>();
+        for (Object[] row : warehouseInventoryRepository.findStockLevels(warehouseId, qtyByProduct.keySet())) {
+            balances.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<InventoryMovement> movements = new ArrayList<>();
+        qtyByProduct.forEach((productId, qty) -> {
+            if (qty == null || qty <= 0) return;
+            movements.add(InventoryMovement.ofWarehouse(warehouseId, productId, changeType, refNo, qty,
+                    balances.getOrDefault(productId, 0), now));
+        });
+
+        inventoryMovementRepository.saveAll(movements);
+    }
+
+    /**
+     * 잔량은 창고별로 한 번만 읽고, 목록 뒤에서부터 거슬러 올라가며 각 건 반영 직후의 잔량을 계산한다.
+     * (입고는 잔량을 늘리고 출고는 줄인 것으로 본다)
+     */
+    @Override
+    @Transactional
+    public void recordWarehouseAll(ChangeType changeType, List<WarehouseMovementLine> lines) {
+        if (lines == null || lines.isEmpty()) return;
+
+        warehouseInventoryRepository.flush();
+
+        Map<Long, Set<Long>> productsByWarehouse = new HashMap<>();
+        for (WarehouseMovementLine line : lines) {
+            if (line.warehouseId() == null || line.qtyByProduct() == null) continue;
+            productsByWarehouse.computeIfAbsent(line.warehouseId(), k -> new HashSet<>()).addAll(line.qtyByProduct().keySet());
+        }
+
+        // 창고 -> (상품 -> 현재 잔량)
+        Map<Long, Map<Long, Integer>> balances = new HashMap<>();
+        productsByWarehouse.forEach((warehouseId, productIds) -> {
+            Map<Long, Integer> byProduct = new HashMap<>();
+            for (Object[] row : warehouseInventoryRepository.findStockLevels(warehouseId, productIds)) {
+                byProduct.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+            balances.put(warehouseId, byProduct);
+        });
+
+        int sign = changeType == ChangeType.INBOUND ? 1 : -1;
+        LocalDateTime now = LocalDateTime.now();
+        List<InventoryMovement> movements = new ArrayList<>();
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            WarehouseMovementLine line = lines.get(i);
+            if (line.warehouseId() == null || line.qtyByProduct() == null) continue;
+            Map<Long, Integer> running = balances.get(line.warehouseId());
+
+            line.qtyByProduct().forEach((productId, qty) -> {
+                if (qty == null || qty <= 0) return;
+                int balanceAfter = running.getOrDefault(productId, 0);
+                movements.add(InventoryMovement.ofWarehouse(line.warehouseId(), productId, changeType,
+                        line.refNo(), qty, balanceAfter, now));
+                // 이 건이 반영되기 전의 잔량
+                running.put(productId, balanceAfter - sign * qty);
+            });
+        }
+        Collections.reverse(movements);
+
+        inventoryMovementRepository.saveAll(movements);
+    }
+
+    @Override
+    @Transactional
+    public void recordStore(ChangeType changeType, String refNo, Long storeId, Long productId, int quantity, int balanceAfter) {
+        if (quantity <= 0) return;
+
+        inventoryMovementRepository.save(InventoryMovement.ofStore(storeId, productId, changeType, refNo, quantity,
+                balanceAfter, LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional
+    public void recordStoreAll(ChangeType changeType, String refNo, Long storeId,
+                               Map<Long, Integer> qtyByProduct, Map<Long, Integer> balanceByProduct) {
+        if (storeId == null || qtyByProduct == null || qtyByProduct.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<InventoryMovement> movements = new ArrayList<>();
+        qtyByProduct.forEach((productId, qty) -> {
+            if (qty == null || qty <= 0) return;
+            movements.add(InventoryMovement.ofStore(storeId, productId, changeType, refNo, qty,
+                    balanceByProduct.getOrDefault(productId, 0), now));
+        });
+
+        inventoryMovementRepository.saveAll(movements);
+    }
+
+    @Override
+    @Transactional
+    public int backfillIfEmpty() {
+        if (inventoryMovementRepository.existsByMovementIdIsNotNull()) {
+            return 0;
+        }
+        int inserted = inventoryMovementRepository.backfillFromDetails();
+        log.info("inventory_movement backfill: {} rows", inserted);
+        return inserted;
+    }
+}
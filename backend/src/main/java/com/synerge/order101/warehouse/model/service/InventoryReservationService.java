@@ -0,0 +1,25 @@
+package com.synerge.order101.warehouse.model.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface InventoryReservationService {
+
+    // 승인 대기 주문의 (상품별 수량) 예약 생성 - 가용 재고 안에서만 잡고, 잡지 못한 품목(productId -> 수량)을 돌려준다
+    Map<Long, Integer> reserve(Long storeOrderId, Long warehouseId, Map<Long, Integer> qtyByProduct);
+
+    // 반려/취소된 주문의 예약 해제
+    void release(Long storeOrderId);
+
+    // 출고되는 주문들의 예약 원장 소진 - storeOrderId -> (productId -> 소진 수량), 예약 수량은 출고 차감에서 함께 내린다
+    Map<Long, Map<Long, Integer>> consumeAll(Collection<Long> storeOrderIds);
+
+    // 주문별 활성 예약 수량 - storeOrderId -> (productId -> 수량)
+    Map<Long, Map<Long, Integer>> getActiveReservations(Collection<Long> storeOrderIds);
+
+    // 창고 상품별 가용 재고 (보유 - 예약) - 메모리 뷰 조회, 화면 표시용
+    Map<Long, Integer> getAvailableToPromise(Long warehouseId, Collection<Long> productIds);
+
+    // 창고 상품별 가용 재고 (보유 - 예약) - DB 재고 행을 잠그고 읽는다, 호출한 트랜잭션 안에서 차감까지 할 때 사용
+    Map<Long, Integer> lockAvailableToPromise(Long warehouseId, Collection<Long> productIds);
+}
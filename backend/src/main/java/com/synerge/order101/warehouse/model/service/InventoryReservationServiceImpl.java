@@ -0,0 +1,148 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.ReservationStatus;
+import com.synerge.order101.warehouse.model.entity.InventoryReservation;
+import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
+import com.synerge.order101.warehouse.model.repository.InventoryReservationRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseStockJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryReservationServiceImpl implements InventoryReservationService {
+
+    private final InventoryReservationRepository inventoryReservationRepository;
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final WarehouseInventoryRepository warehouseInventoryRepository;
+    private final InventoryAvailabilityView inventoryAvailabilityView;
+
+    @Override
+    @Transactional
+    public Map<Long, Integer> reserve(Long storeOrderId, Long warehouseId, Map<Long, Integer> qtyByProduct) {
+        Map<Long, Integer> shortage = new LinkedHashMap<>();
+        if (warehouseId == null || qtyByProduct.isEmpty()) return shortage;
+
+        List<InventoryReservation> reservations = new ArrayList<>();
+        qtyByProduct.forEach((productId, qty) -> {
+            if (qty != null && qty > 0) {
+                reservations.add(InventoryReservation.active(storeOrderId, warehouseId, productId, qty));
+            }
+        });
+        if (reservations.isEmpty()) return shortage;
+
+        // 가용 수량 안에서 잡힌 줄만 원장에 남긴다.
+        int[] counts = warehouseStockJdbcRepository.reserve(reservations);
+        List<InventoryReservation> reserved = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("재고 예약 결과를 확인할 수 없습니다.");
+            }
+            InventoryReservation reservation = reservations.get(i);
+            if (counts[i] == 0) {
+                shortage.put(reservation.getProductId(), reservation.getQuantity());
+            } else {
+                reserved.add(reservation);
+            }
+        }
+
+        if (!reserved.isEmpty()) {
+            inventoryReservationRepository.saveAll(reserved);
+            inventoryAvailabilityView.invalidate(reserved.stream().map(InventoryReservation::getProductId).toList());
+        }
+        if (!shortage.isEmpty()) {
+            log.warn("재고 예약 가용 재고 부족 storeOrderId={}, warehouseId={}, shortage={}", storeOrderId, warehouseId, shortage);
+        }
+        return shortage;
+    }
+
+    @Override
+    @Transactional
+    public void release(Long storeOrderId) {
+        close(storeOrderId, ReservationStatus.RELEASED);
+    }
+
+    /**
+     * 원장만 소진으로 닫는다. 예약 수량(reserved_qty)은 출고 재고 차감 문장에서
+     * StockDecreaseLine.reservedQty 로 함께 내려가므로 여기서는 건드리지 않는다.
+     */
+    @Override
+    @Transactional
+    public Map<Long, Map<Long, Integer>> consumeAll(Collection<Long> storeOrderIds) {
+        Map<Long, Map<Long, Integer>> consumed = new HashMap<>();
+        if (storeOrderIds.isEmpty()) return consumed;
+
+        List<InventoryReservation> reservations =
+                inventoryReservationRepository.findByStoreOrderIdInAndStatus(storeOrderIds, ReservationStatus.ACTIVE);
+        for (InventoryReservation r : reservations) {
+            r.close(ReservationStatus.CONSUMED);
+            consumed.computeIfAbsent(r.getStoreOrderId(), k -> new HashMap<>())
+                    .merge(r.getProductId(), r.getQuantity(), Integer::sum);
+        }
+        if (!reservations.isEmpty()) {
+            log.debug("재고 예약 CONSUMED orders={}, lines={}", storeOrderIds.size(), reservations.size());
+        }
+        return consumed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Map<Long, Integer>> getActiveReservations(Collection<Long> storeOrderIds) {
+        Map<Long, Map<Long, Integer>> result = new HashMap<>();
+        if (storeOrderIds.isEmpty()) return result;
+
+        for (InventoryReservation r : inventoryReservationRepository.findByStoreOrderIdInAndStatus(storeOrderIds, ReservationStatus.ACTIVE)) {
+            result.computeIfAbsent(r.getStoreOrderId(), k -> new HashMap<>())
+                    .merge(r.getProductId(), r.getQuantity(), Integer::sum);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Long, Integer> getAvailableToPromise(Long warehouseId, Collection<Long> productIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        inventoryAvailabilityView.get(warehouseId, productIds)
+                .forEach((productId, level) -> result.put(productId, level.available()));
+        return result;
+    }
+
+    /**
+     * 메모리 뷰는 TTL 동안 다른 인스턴스의 변경을 놓칠 수 있으므로, 승인 판단은 잠근 재고 행에서 읽는다.
+     * 재고 행이 없는 상품은 0 으로 채운다.
+     */
+    @Override
+    @Transactional
+    public Map<Long, Integer> lockAvailableToPromise(Long warehouseId, Collection<Long> productIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        if (warehouseId == null || productIds.isEmpty()) return result;
+
+        for (WarehouseInventory wi : warehouseInventoryRepository.findStockLevelsForUpdate(warehouseId, productIds)) {
+            result.put(wi.getProduct().getProductId(), wi.getOnHandQuantity() - wi.getReservedQuantity());
+        }
+        productIds.forEach(productId -> result.putIfAbsent(productId, 0));
+        return result;
+    }
+
+    private void close(Long storeOrderId, ReservationStatus closedStatus) {
+        List<InventoryReservation> reservations =
+                inventoryReservationRepository.findByStoreOrderIdAndStatus(storeOrderId, ReservationStatus.ACTIVE);
+        if (reservations.isEmpty()) return;
+
+        reservations.forEach(r -> r.close(closedStatus));
+        warehouseStockJdbcRepository.adjustReserved(reservations, -1);
+        inventoryAvailabilityView.invalidate(reservations.stream().map(InventoryReservation::getProductId).toList());
+        log.debug("재고 예약 {} storeOrderId={}, lines={}", closedStatus, storeOrderId, reservations.size());
+    }
+}
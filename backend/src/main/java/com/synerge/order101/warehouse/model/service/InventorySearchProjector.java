@@ -0,0 +1,68 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.repository.InventorySearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * inventory_search 동기화
+ * - 원본 행을 바꾼 트랜잭션 안에서 반영한다. (원본과 같이 커밋/롤백)
+ * - 재고/안전재고 변경은 두 수량 컬럼만 UPDATE 하고, 상품/분류 변경 때만 행을 지우고 INSERT ... SELECT 로 다시 만든다.
+ * - JPA 로 바꾼 값이 먼저 반영되도록 반영 전에 flush 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventorySearchProjector {
+
+    private final InventorySearchRepository inventorySearchRepository;
+
+    // 창고 상품 재고/안전재고 변경 시 - 수량 컬럼만 갱신하고, 검색 행이 없는 상품이 있으면 그 창고분만 다시 만든다.
+    @Transactional
+    public void refreshStock(Long warehouseId, Collection<Long> productIds) {
+        if (warehouseId == null || productIds == null || productIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(new HashSet<>(productIds));
+
+        inventorySearchRepository.flush();
+        int updated = inventorySearchRepository.updateStockByWarehouseAndProducts(warehouseId, ids);
+        if (updated < ids.size()) {
+            inventorySearchRepository.deleteByWarehouseAndProducts(warehouseId, ids);
+            inventorySearchRepository.projectByWarehouseAndProducts(warehouseId, ids);
+        }
+    }
+
+    // 상품 정보(이름, 코드, 가격, 분류) 변경 시 전 창고 행
+    @Transactional
+    public void refreshProducts(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(new HashSet<>(productIds));
+
+        inventorySearchRepository.flush();
+        inventorySearchRepository.deleteByProducts(ids);
+        inventorySearchRepository.projectByProducts(ids);
+    }
+
+    // 전체 행이 바뀌는 작업 이후 / 최초 구성
+    @Transactional
+    public int rebuild() {
+        inventorySearchRepository.flush();
+        inventorySearchRepository.deleteAllRows();
+        int rows = inventorySearchRepository.projectAll();
+        log.info("inventory_search rebuild: {} rows", rows);
+        return rows;
+    }
+
+    @Transactional
+    public int rebuildIfEmpty() {
+        if (inventorySearchRepository.existsByInventoryIdIsNotNull()) {
+            return 0;
+        }
+        return rebuild();
+    }
+}
@@ -1,7 +1,9 @@
 package com.synerge.order101.warehouse.model.service;
 
 import com.synerge.order101.purchase.model.dto.CalculatedAutoItem;
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
 import com.synerge.order101.warehouse.model.dto.response.InventoryResponseDto;
+import com.synerge.order101.warehouse.model.dto.response.StockDecreaseResultDto;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -9,9 +11,11 @@ import java.util.List;
 public interface InventoryService {
     Page<InventoryResponseDto> getInventoryList(int page, int numOfRows, Long largeCategoryId, Long mediumCategoryId, Long smallCategoryId, String keyword, String sortBy);
 
-    void decreaseInventory(Long productId, int quantity);
+    void decreaseInventory(Long warehouseId, Long productId, int quantity);
 
-    void increaseInventory(Long productId, int quantity);
+    StockDecreaseResultDto decreaseInventories(List<StockDecreaseLine> lines);
+
+    void increaseInventory(Long warehouseId, Long productId, int quantity);
 
     void updateDailySafetyStock();
 
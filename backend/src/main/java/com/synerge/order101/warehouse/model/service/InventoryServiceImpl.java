@@ -1,14 +1,18 @@
 package com.synerge.order101.warehouse.model.service;
 
-import com.synerge.order101.order.model.repository.StoreOrderDetailRepository;
 import com.synerge.order101.product.model.entity.Product;
-import com.synerge.order101.product.model.entity.ProductSupplier;
+import com.synerge.order101.product.model.entity.ProductCategory;
+import com.synerge.order101.product.model.repository.ProductCategoryRepository;
 import com.synerge.order101.purchase.model.dto.CalculatedAutoItem;
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
 import com.synerge.order101.warehouse.model.dto.response.InventoryResponseDto;
+import com.synerge.order101.warehouse.model.dto.response.StockDecreaseResultDto;
 import com.synerge.order101.warehouse.model.entity.Warehouse;
 import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
+import com.synerge.order101.warehouse.model.repository.InventorySearchRepository;
 import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
 import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseStockJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,28 +21,48 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class InventoryServiceImpl implements InventoryService {
+
     private final WarehouseRepository warehouseRepository;
     private final WarehouseInventoryRepository warehouseInventoryRepository;
-    private final StoreOrderDetailRepository storeOrderDetailRepository;
-
-    // 새로운 상품 추가
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final InventoryAvailabilityView inventoryAvailabilityView;
+    private final LowStockTracker lowStockTracker;
+    private final InventorySearchRepository inventorySearchRepository;
+    private final InventorySearchProjector inventorySearchProjector;
+    private final SafetyStockJob safetyStockJob;
+    private final ProductCategoryRepository productCategoryRepository;
+    private final SalesWindowLoader salesWindowLoader;
+
+    // 새로운 상품 추가 (운영 중인 모든 창고에 재고 행 생성)
     public void createInventory(Product product) {
-        Warehouse warehouse = warehouseRepository.findById(1L).orElseThrow();
-
-        WarehouseInventory inventory = WarehouseInventory.builder()
-                .warehouse(warehouse)
-                .product(product)
-                .updatedAt(LocalDateTime.now())
-                .build();
+        List<Warehouse> warehouses = warehouseRepository.findAll().stream()
+                .filter(Warehouse::isActive)
+                .toList();
+        if (warehouses.isEmpty()) {
+            warehouses = List.of(warehouseRepository.findById(1L).orElseThrow());
+        }
 
-        warehouseInventoryRepository.save(inventory);
+        List<WarehouseInventory> inventories = warehouses.stream()
+                .map(warehouse -> WarehouseInventory.builder()
+                        .warehouse(warehouse)
+                        .product(product)
+                        .updatedAt(LocalDateTime.now())
+                        .build())
+                .toList();
+
+        warehouseInventoryRepository.saveAll(inventories);
+        warehouses.forEach(warehouse -> lowStockTracker.touch(warehouse.getWarehouseId(), List.of(product.getProductId())));
+        inventorySearchProjector.refreshProducts(List.of(product.getProductId()));
     }
 
     // 재고 조회
@@ -46,12 +70,13 @@ public class InventoryServiceImpl implements InventoryService {
     @Transactional
     public Page<InventoryResponseDto> getInventoryList(int page, int numOfRows, Long largeCategoryId, Long mediumCategoryId, Long smallCategoryId, String keyword, String sortBy) {
 
-        Sort sort = Sort.unsorted();
+        // 정렬 옵션마다 inventory_search 에 (분류, 정렬 컬럼) 인덱스가 있다.
+        Sort sort = Sort.by("inventoryId").ascending();
 
         if (sortBy != null && !sortBy.isBlank()) {
             sort = switch (sortBy) {
-                case "productCodeAsc" -> Sort.by("product.productCode").ascending();
-                case "productCodeDesc" -> Sort.by("product.productCode").descending();
+                case "productCodeAsc" -> Sort.by("productCode").ascending();
+                case "productCodeDesc" -> Sort.by("productCode").descending();
 
                 case "onHandQtyAsc" -> Sort.by("onHandQuantity").ascending();
                 case "onHandQtyDesc" -> Sort.by("onHandQuantity").descending();
@@ -59,105 +84,113 @@ public class InventoryServiceImpl implements InventoryService {
                 case "safetyQtyAsc" -> Sort.by("safetyQuantity").ascending();
                 case "safetyQtyDesc" -> Sort.by("safetyQuantity").descending();
 
-                default -> Sort.unsorted();
+                default -> sort;
             };
         }
 
         Pageable pageable = PageRequest.of(page - 1, numOfRows, sort);
 
-        return warehouseInventoryRepository.searchInventory(largeCategoryId, mediumCategoryId, smallCategoryId, keyword, pageable);
+        // 하위 분류만 지정해도 상위 분류를 채워서 인덱스 앞 컬럼부터 조건이 걸리게 한다.
+        ProductCategory small = smallCategoryId != null ? productCategoryRepository.findById(smallCategoryId).orElse(null) : null;
+        if (small != null && small.getParent() != null) {
+            mediumCategoryId = small.getParent().getProductCategoryId();
+        }
+        ProductCategory medium = mediumCategoryId != null ? productCategoryRepository.findById(mediumCategoryId).orElse(null) : null;
+        if (medium != null && medium.getParent() != null) {
+            largeCategoryId = medium.getParent().getProductCategoryId();
+        }
+
+        String normalizedKeyword = (keyword == null || keyword.isBlank()) ? null : keyword.trim().toLowerCase();
+
+        return inventorySearchRepository.search(largeCategoryId, mediumCategoryId, smallCategoryId, normalizedKeyword, pageable);
     }
 
     // 출고 반영
     @Override
     @Transactional
-    public void decreaseInventory(Long productId, int quantity) {
-        WarehouseInventory inventory = warehouseInventoryRepository.findByProduct_ProductId(productId)
+    public void decreaseInventory(Long warehouseId, Long productId, int quantity) {
+        StockDecreaseResultDto result = decreaseInventories(List.of(new StockDecreaseLine(warehouseId, productId, quantity)));
+        if (result.isAllApplied()) return;
+
+        // 실패 사유 구분 (실패했을 때만 조회)
+        WarehouseInventory inventory = warehouseInventoryRepository.findByWarehouse_WarehouseIdAndProduct_ProductId(warehouseId, productId)
                 .orElseThrow(() -> new IllegalStateException("해당 상품의 재고를 찾을 수 없습니다."));
 
-        inventory.decrease(quantity);
+        throw new IllegalStateException("재고 부족: 요청 수량=" + quantity + ", 보유 수량=" + inventory.getOnHandQuantity());
+    }
+
+    // 출고 일괄 반영 (줄별 조건부 차감, 실패한 줄 보고)
+    @Override
+    @Transactional
+    public StockDecreaseResultDto decreaseInventories(List<StockDecreaseLine> lines) {
+        // 영속성 컨텍스트의 변경분을 먼저 반영해야 JDBC 차감과 순서가 어긋나지 않는다.
+        warehouseInventoryRepository.flush();
+
+        int[] counts = warehouseStockJdbcRepository.decreaseOnHand(lines);
+        inventoryAvailabilityView.invalidate(lines.stream().map(StockDecreaseLine::productId).toList());
+        Map<Long, List<Long>> productsByWarehouse = lines.stream()
+                .collect(Collectors.groupingBy(StockDecreaseLine::warehouseId,
+                        Collectors.mapping(StockDecreaseLine::productId, Collectors.toList())));
+        productsByWarehouse.forEach(lowStockTracker::touch);
+        productsByWarehouse.forEach(inventorySearchProjector::refreshStock);
+
+        List<Integer> failedIndexes = new ArrayList<>();
+        List<StockDecreaseLine> failedLines = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                // 드라이버가 줄별 결과를 주지 않으면 성공/실패를 구분할 수 없으므로 전체를 되돌린다.
+                throw new IllegalStateException("재고 차감 결과를 확인할 수 없습니다.");
+            }
+            if (counts[i] == 0) {
+                failedIndexes.add(i);
+                failedLines.add(lines.get(i));
+            }
+        }
+
+        return new StockDecreaseResultDto(lines.size(), failedIndexes, failedLines);
     }
 
     // 입고 반영
     @Override
     @Transactional
-    public void increaseInventory(Long productId, int quantity) {
-        WarehouseInventory inventory = warehouseInventoryRepository.findByProduct_ProductId(productId)
+    public void increaseInventory(Long warehouseId, Long productId, int quantity) {
+        WarehouseInventory inventory = warehouseInventoryRepository.findByWarehouse_WarehouseIdAndProduct_ProductId(warehouseId, productId)
                 .orElseThrow(() -> new IllegalStateException("해당 상품의 재고를 찾을 수 없습니다."));
 
         inventory.increase(quantity);
+        inventoryAvailabilityView.invalidate(List.of(productId));
+        lowStockTracker.touch(warehouseId, List.of(productId));
+        inventorySearchProjector.refreshStock(warehouseId, List.of(productId));
     }
 
-    // 안전재고 업데이트
+    // 안전재고 업데이트 (청크 단위 병렬 배치)
     @Override
-    @Transactional
     public void updateDailySafetyStock() {
-        List<WarehouseInventory> inventoryList =
-                warehouseInventoryRepository.findAllWithProductAndSupplier();
-
-        for (WarehouseInventory inv : inventoryList) {
-            Long productId = inv.getProduct().getProductId();
-
-            List<Integer> sales = storeOrderDetailRepository.findDailySalesQtySince(
-                    productId,
-                    LocalDateTime.now().minusDays(30)
-            );
-
-            if (sales.isEmpty()) continue;
-
-            // 최고판매량
-            int dMax = sales.stream().mapToInt(i -> i).max().orElse(0);
-            // 평균판매량
-            double dAvg = sales.stream().mapToInt(i -> i).average().orElse(0);
-
-            // 리드타임
-            List<ProductSupplier> psList = inv.getProduct().getProductSupplier();
-
-            ProductSupplier ps = psList.getFirst();
-            int lt = ps.getLeadTimeDays();
-
-            // 안전재고 계산
-            int safety = (int) Math.max(0,
-                    Math.ceil((dMax - dAvg) * lt)
-            );
-
-            // 재고 업데이트
-            inv.updateSafetyQty(safety);
-        }
+        safetyStockJob.run();
     }
 
     // 자동 발주 대상 조회
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<CalculatedAutoItem> getAutoPurchaseItems() {
         List<CalculatedAutoItem> result = new ArrayList<>();
 
         List<WarehouseInventory> inventoryList = warehouseInventoryRepository.findAllWithProduct();
+        if (inventoryList.isEmpty()) return result;
+        // 최근 판매 이력/리드타임 (안전재고 배치와 같은 기간, 같은 공급 매핑 기준)
+        SalesWindowLoader.SalesWindow window = salesWindowLoader.load();
 
         for (WarehouseInventory inv : inventoryList) {
+            int slot = window.slot(inv.getProduct().getProductId());
+            if (slot < 0 || !window.hasSupplier(slot)) continue;
 
-            Long productId = inv.getProduct().getProductId();
             int currentQty = inv.getOnHandQuantity();
             int safetyQty = inv.getSafetyQuantity();
 
-            // 최근 30일 판매량 조회
-            List<Integer> sales = storeOrderDetailRepository.findDailySalesQtySince(
-                    productId,
-                    LocalDateTime.now().minusDays(30)
-            );
-
-            if (sales.isEmpty()) continue;
-
-            double avgDailySales = sales.stream().mapToInt(i -> i).average().orElse(0);
-
-            // 리드타임 조회
-            List<ProductSupplier> psList = inv.getProduct().getProductSupplier();
-
-            ProductSupplier ps = psList.getFirst();
-            int leadTime = ps.getLeadTimeDays();
+            double avgDailySales = window.avgDailySales(slot);
 
             // 목표재고 계산
-            int targetStock = (int) Math.ceil(safetyQty + (avgDailySales * leadTime));
+            int targetStock = (int) Math.ceil(safetyQty + (avgDailySales * window.leadTime(slot)));
 
             // 자동발주 필요 여부
             if (currentQty < safetyQty) {
@@ -165,9 +198,10 @@ public class InventoryServiceImpl implements InventoryService {
 
                 if (orderQty > 0) {
                     result.add(new CalculatedAutoItem(
-                            productId,
+                            inv.getProduct().getProductId(),
                             orderQty,
-                            ps.getSupplier().getSupplierId()
+                            window.supplierId(slot),
+                            inv.getWarehouse().getWarehouseId()
                     ));
                 }
             }
@@ -0,0 +1,160 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저재고(보유 <= 안전재고) 창고 재고 행 추적기
+ * - 대시보드가 매번 전체 재고를 세지 않도록 (창고, 상품) 집합과 정확한 개수를 메모리에 유지한다.
+ * - 재고/안전재고가 바뀐 행은 touch 로 커밋 이후 DB 값을 다시 읽어 집합에 넣거나 뺀다. (증감값이 아니라 상태로 판단)
+ * - 기동 시와 주기적으로 rebuild 해서 다른 경로(다른 인스턴스, 직접 수정 등)의 변경을 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LowStockTracker {
+
+    private final WarehouseInventoryRepository warehouseInventoryRepository;
+
+    private volatile Snapshot current = new Snapshot();
+
+    // 재구성 중에 들어온 갱신은 새 집합에 다시 적용한다.
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Queue<Touch> touchedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    public record Sku(Long warehouseId, Long productId) {}
+
+    private record Touch(Long warehouseId, List<Long> productIds) {}
+
+    public long count() {
+        return current.count.get();
+    }
+
+    public List<Sku> skus() {
+        return current.skus.stream()
+                .sorted(Comparator.comparing(Sku::warehouseId).thenComparing(Sku::productId))
+                .toList();
+    }
+
+    public boolean isLowStock(Long warehouseId, Long productId) {
+        return current.skus.contains(new Sku(warehouseId, productId));
+    }
+
+    /**
+     * 창고 상품의 재고/안전재고가 바뀌었을 때 호출한다.
+     * 트랜잭션 안이면 커밋 이후에 반영한다. (롤백된 변경은 반영하지 않음)
+     */
+    public void touch(Long warehouseId, Collection<Long> productIds) {
+        if (warehouseId == null || productIds == null || productIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(new HashSet<>(productIds));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(warehouseId, ids);
+                }
+            });
+        } else {
+            apply(warehouseId, ids);
+        }
+    }
+
+    /**
+     * 전체 재고 행이 바뀌는 작업(안전재고 일괄 계산 등) 이후 호출한다.
+     */
+    public void rebuildAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild();
+                }
+            });
+        } else {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 기준으로 집합을 다시 만든다.
+     *
+     * @return 이전 집합과 달랐던 행 수 (추적 누락 확인용)
+     */
+    public synchronized int rebuild() {
+        Snapshot previous = current;
+        Snapshot fresh = new Snapshot();
+
+        rebuilding.set(true);
+        try {
+            for (Object[] row : warehouseInventoryRepository.findLowStockKeys()) {
+                fresh.set(new Sku((Long) row[0], (Long) row[1]), true);
+            }
+            current = fresh;
+        } finally {
+            rebuilding.set(false);
+        }
+
+        Touch touch;
+        while ((touch = touchedDuringRebuild.poll()) != null) {
+            apply(touch.warehouseId(), touch.productIds());
+        }
+
+        int drift = 0;
+        for (Sku sku : previous.skus) {
+            if (!fresh.skus.contains(sku)) drift++;
+        }
+        for (Sku sku : fresh.skus) {
+            if (!previous.skus.contains(sku)) drift++;
+        }
+        return drift;
+    }
+
+    private void apply(Long warehouseId, List<Long> productIds) {
+        if (rebuilding.get()) {
+            touchedDuringRebuild.add(new Touch(warehouseId, productIds));
+        }
+
+        Set<Long> low = new HashSet<>();
+        for (Object[] row : warehouseInventoryRepository.findThresholdLevels(warehouseId, productIds)) {
+            if (((Number) row[1]).intValue() <= ((Number) row[2]).intValue()) {
+                low.add((Long) row[0]);
+            }
+        }
+
+        Snapshot snapshot = current;
+        for (Long productId : productIds) {
+            // 재고 행이 없어진 상품은 집합에서 뺀다.
+            snapshot.set(new Sku(warehouseId, productId), low.contains(productId));
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Set<Sku> skus = ConcurrentHashMap.newKeySet();
+        private final AtomicLong count = new AtomicLong();
+
+        void set(Sku sku, boolean low) {
+            if (low) {
+                if (skus.add(sku)) count.incrementAndGet();
+            } else {
+                if (skus.remove(sku)) count.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.common.batch.BatchCheckpoint;
+import com.synerge.order101.common.batch.BatchCheckpointRepository;
+import com.synerge.order101.warehouse.model.dto.request.SafetyQtyUpdate;
+import com.synerge.order101.warehouse.model.dto.response.SafetyStockJobResultDto;
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseStockJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 일일 안전재고 재계산 배치
+ * - 안전재고는 상품 단위 값이라 판매 이력/리드타임으로 상품별 값을 먼저 한 번 계산한다.
+ * - 재고 행은 inventory_id 키셋으로 (청크 크기 x 병렬도) 만큼 읽어 청크로 나누고, 고정 크기 풀에서 청크마다 별도 트랜잭션으로 바뀐 행만 배치 UPDATE 한다.
+ * - 청크는 일시적 DB 오류(락 대기, 데드락 등)에 한해 재시도하고, 끝내 실패한 청크는 건너뛰고 기록만 남긴다. (다음 실행에서 다시 계산됨)
+ * - 한 묶음이 끝날 때마다 마지막 키를 batch_checkpoint 에 남기고, 같은 날 중단된 작업은 그 다음 키부터 이어서 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SafetyStockJob {
+
+    static final String JOB_NAME = "safety-stock";
+
+    private final WarehouseInventoryRepository warehouseInventoryRepository;
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final SalesWindowLoader salesWindowLoader;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final LowStockTracker lowStockTracker;
+    private final InventorySearchProjector inventorySearchProjector;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.safety-stock.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${app.safety-stock.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${app.safety-stock.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    private record Row(Long inventoryId, Long warehouseId, Long productId, int safetyQty) {}
+
+    private record ChunkResult(int processed, int updated, boolean failed) {}
+
+    public synchronized SafetyStockJobResultDto run() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDate businessDate = LocalDate.now();
+
+        BatchCheckpoint checkpoint = batchCheckpointRepository.findById(JOB_NAME).orElse(null);
+        boolean resumed = checkpoint != null && checkpoint.isResumable(businessDate);
+        if (checkpoint == null) {
+            checkpoint = BatchCheckpoint.start(JOB_NAME, businessDate);
+        } else if (!resumed) {
+            checkpoint.restart(businessDate);
+        }
+        long resumedFrom = checkpoint.getLastKey();
+        if (resumed) {
+            log.info("[안전재고 배치] inventory_id {} 이후부터 이어서 실행", resumedFrom);
+        }
+        checkpoint = batchCheckpointRepository.save(checkpoint);
+
+        Map<Long, Integer> safetyByProduct = computeSafetyByProduct();
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        RetryTemplate retry = RetryTemplate.builder()
+                .maxAttempts(maxAttempts)
+                .exponentialBackoff(200, 2, 2_000)
+                .retryOn(TransientDataAccessException.class)
+                .traversingCauses()
+                .build();
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "safety-stock-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            long after = resumedFrom;
+            while (true) {
+                List<Row> rows = warehouseInventoryRepository
+                        .findSafetyRowsAfter(after, PageRequest.of(0, chunkSize * parallelism)).stream()
+                        .map(r -> new Row((Long) r[0], (Long) r[1], (Long) r[2], ((Number) r[3]).intValue()))
+                        .toList();
+                if (rows.isEmpty()) break;
+
+                List<CompletableFuture<ChunkResult>> futures = new ArrayList<>();
+                for (int from = 0; from < rows.size(); from += chunkSize) {
+                    List<Row> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+                    futures.add(CompletableFuture.supplyAsync(
+                            () -> processChunk(chunk, safetyByProduct, tx, retry), executor));
+                }
+
+                long processed = 0, updated = 0;
+                int failed = 0;
+                for (CompletableFuture<ChunkResult> future : futures) {
+                    ChunkResult result = future.join();
+                    processed += result.processed();
+                    updated += result.updated();
+                    if (result.failed()) failed++;
+                }
+
+                after = rows.get(rows.size() - 1).inventoryId();
+                checkpoint.advance(after, processed, updated, failed);
+                checkpoint = batchCheckpointRepository.save(checkpoint);
+            }
+
+            checkpoint.complete();
+            checkpoint = batchCheckpointRepository.save(checkpoint);
+        } finally {
+            executor.shutdown();
+            sample.stop(meterRegistry.timer("safety_stock.job.duration"));
+        }
+
+        // 전체 행의 기준이 바뀌었으므로 저재고 집합을 다시 구성
+        lowStockTracker.rebuildAfterCommit();
+
+        log.info("[안전재고 배치] 완료: 처리 {}건, 변경 {}건, 실패 청크 {}개",
+                checkpoint.getProcessedCount(), checkpoint.getUpdatedCount(), checkpoint.getFailedChunks());
+
+        return new SafetyStockJobResultDto(
+                checkpoint.getProcessedCount(),
+                checkpoint.getUpdatedCount(),
+                checkpoint.getFailedChunks(),
+                resumed ? resumedFrom : null
+        );
+    }
+
+    private ChunkResult processChunk(List<Row> chunk, Map<Long, Integer> safetyByProduct,
+                                     TransactionTemplate tx, RetryTemplate retry) {
+        Long firstId = chunk.get(0).inventoryId();
+        Long lastId = chunk.get(chunk.size() - 1).inventoryId();
+
+        try {
+            int updated = retry.execute(context -> {
+                if (context.getRetryCount() > 0) {
+                    counter("safety_stock.chunk.retries").increment();
+                    log.warn("[안전재고 배치] 청크 {}~{} 재시도 {}회", firstId, lastId, context.getRetryCount());
+                }
+                return tx.execute(status -> writeChunk(chunk, safetyByProduct));
+            });
+
+            counter("safety_stock.rows.processed").increment(chunk.size());
+            counter("safety_stock.rows.updated").increment(updated);
+            meterRegistry.counter("safety_stock.chunks", "result", "success").increment();
+            return new ChunkResult(chunk.size(), updated, false);
+        } catch (Exception e) {
+            meterRegistry.counter("safety_stock.chunks", "result", "failed").increment();
+            log.error("[안전재고 배치] 청크 {}~{} 실패: {}", firstId, lastId, e.getMessage(), e);
+            return new ChunkResult(0, 0, true);
+        }
+    }
+
+    private int writeChunk(List<Row> chunk, Map<Long, Integer> safetyByProduct) {
+        List<SafetyQtyUpdate> updates = new ArrayList<>();
+        List<Row> changed = new ArrayList<>();
+        for (Row row : chunk) {
+            Integer safety = safetyByProduct.get(row.productId());
+            if (safety == null || safety == row.safetyQty()) continue;
+            updates.add(new SafetyQtyUpdate(row.inventoryId(), safety));
+            changed.add(row);
+        }
+        if (updates.isEmpty()) return 0;
+
+        warehouseStockJdbcRepository.updateSafety(updates);
+        changed.stream()
+                .collect(Collectors.groupingBy(Row::warehouseId,
+                        Collectors.mapping(Row::productId, Collectors.toList())))
+                .forEach(inventorySearchProjector::refreshStock);
+        return updates.size();
+    }
+
+    /**
+     * 판매 이력이 있고 공급 매핑이 있는 상품만 안전재고를 계산한다.
+     * 안전재고 = (최고 일판매량 - 평균 일판매량) x 리드타임 (첫 번째 공급 매핑 기준)
+     */
+    private Map<Long, Integer> computeSafetyByProduct() {
+        SalesWindowLoader.SalesWindow window = salesWindowLoader.load();
+
+        Map<Long, Integer> result = new HashMap<>();
+        for (Long productId : window.productIds()) {
+            int slot = window.slot(productId);
+            if (!window.hasSupplier(slot)) continue;
+            double avg = window.avgDailySales(slot);
+            result.put(productId, (int) Math.max(0, Math.ceil((window.maxDailySales(slot) - avg) * window.leadTime(slot))));
+        }
+        return result;
+    }
+
+    private Counter counter(String name) {
+        return meterRegistry.counter(name);
+    }
+}
@@ -0,0 +1,114 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.order.model.repository.DailyProductSalesRepository;
+import com.synerge.order101.product.model.repository.ProductSupplierRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 판매 이력 / 리드타임 적재
+ * - 안전재고 배치(SafetyStockJob)와 자동발주 계산(InventoryServiceImpl)이 같은 기간, 같은 기준으로 읽도록 한 곳에서 적재한다.
+ * - 일 판매량 집계와 상품별 첫 번째 공급 매핑을 한 번씩 읽어, 판매 이력이 있는 상품마다 슬롯 하나씩 배열로 담는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesWindowLoader {
+
+    // 판매 이력 기간
+    static final int SALES_WINDOW_DAYS = 30;
+
+    private final DailyProductSalesRepository dailyProductSalesRepository;
+    private final ProductSupplierRepository productSupplierRepository;
+
+    public SalesWindow load() {
+        // productId -> 상품 슬롯 (판매 이력이 있는 상품만)
+        Map<Long, Integer> slotByProduct = new HashMap<>();
+        List<Object[]> salesRows = dailyProductSalesRepository.findSalesSince(LocalDate.now().minusDays(SALES_WINDOW_DAYS));
+        for (Object[] row : salesRows) {
+            if (row[0] == null || row[1] == null) continue;
+            slotByProduct.putIfAbsent((Long) row[0], slotByProduct.size());
+        }
+        SalesWindow window = new SalesWindow(slotByProduct);
+
+        // 판매 이력: 상품별 합계/최대/판매일수
+        for (Object[] row : salesRows) {
+            if (row[0] == null || row[1] == null) continue;
+            int slot = slotByProduct.get((Long) row[0]);
+            int qty = ((Number) row[1]).intValue();
+            window.salesSum[slot] += qty;
+            window.salesMax[slot] = Math.max(window.salesMax[slot], qty);
+            window.salesDays[slot]++;
+        }
+
+        // 리드타임: 상품별 첫 번째 공급 매핑 기준
+        for (Object[] row : productSupplierRepository.findAllLeadTimes()) {
+            Integer slot = slotByProduct.get((Long) row[0]);
+            if (slot == null || window.hasSupplier[slot]) continue;
+            window.hasSupplier[slot] = true;
+            window.supplierIds[slot] = (Long) row[1];
+            window.leadTimes[slot] = row[2] == null ? 0 : ((Number) row[2]).intValue();
+        }
+
+        return window;
+    }
+
+    /**
+     * 상품 슬롯별 판매 이력/공급 정보. 판매 이력이 없는 상품은 슬롯이 없다. (slot == -1)
+     */
+    public static final class SalesWindow {
+        private final Map<Long, Integer> slotByProduct;
+        private final long[] salesSum;
+        private final int[] salesMax;
+        private final int[] salesDays;
+        private final long[] supplierIds;
+        private final int[] leadTimes;
+        private final boolean[] hasSupplier;
+
+        private SalesWindow(Map<Long, Integer> slotByProduct) {
+            int products = slotByProduct.size();
+            this.slotByProduct = slotByProduct;
+            this.salesSum = new long[products];
+            this.salesMax = new int[products];
+            this.salesDays = new int[products];
+            this.supplierIds = new long[products];
+            this.leadTimes = new int[products];
+            this.hasSupplier = new boolean[products];
+        }
+
+        public int slot(Long productId) {
+            Integer slot = slotByProduct.get(productId);
+            return slot == null ? -1 : slot;
+        }
+
+        // 판매 이력이 있는 상품 ID
+        public List<Long> productIds() {
+            return new ArrayList<>(slotByProduct.keySet());
+        }
+
+        public double avgDailySales(int slot) {
+            return (double) salesSum[slot] / salesDays[slot];
+        }
+
+        public int maxDailySales(int slot) {
+            return salesMax[slot];
+        }
+
+        public boolean hasSupplier(int slot) {
+            return hasSupplier[slot];
+        }
+
+        public long supplierId(int slot) {
+            return supplierIds[slot];
+        }
+
+        public int leadTime(int slot) {
+            return leadTimes[slot];
+        }
+    }
+}
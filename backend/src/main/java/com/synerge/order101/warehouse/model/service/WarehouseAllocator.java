@@ -0,0 +1,132 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.order.exception.errorcode.OrderErrorCode;
+import com.synerge.order101.warehouse.model.dto.response.WarehouseAllocation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가맹점 주문 창고 배정기
+ * - 창고 순서는 WarehouseCostMatrix(가맹점 기준 비용 순), 가용 재고는 InventoryAvailabilityView(보유 - 예약) 로 판단한다.
+ * - 한 창고가 전 품목을 채울 수 있으면 그중 가장 싼 창고 한 곳에 배정한다.
+ * - 아니면 품목별로 한 창고에서 다 채울 수 있는 가장 싼 창고를 고르고, 그것도 안 되면 비용 순으로 나눠 채운다.
+ * - 어느 창고에도 없는 잔량은 가장 싼 창고에 남긴다. (승인 단계의 재고 확인에서 부족으로 표시된다)
+ */
+@Component
+@RequiredArgsConstructor
+public class WarehouseAllocator {
+
+    private final WarehouseCostMatrix warehouseCostMatrix;
+    private final InventoryAvailabilityView inventoryAvailabilityView;
+
+    /**
+     * @param qtyByProduct productId -> 주문 수량
+     * @return 창고별 배정 결과 (비용 순, 배정 수량이 없는 창고는 제외)
+     */
+    public List<WarehouseAllocation> allocate(Long storeId, Map<Long, Integer> qtyByProduct) {
+        if (qtyByProduct == null || qtyByProduct.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> warehouseIds = warehouseCostMatrix.rank(storeId);
+        if (warehouseIds.isEmpty()) {
+            throw new CustomException(OrderErrorCode.WAREHOUSE_NOT_FOUND);
+        }
+
+        List<Long> productIds = new ArrayList<>(qtyByProduct.keySet());
+        int[] qty = new int[productIds.size()];
+        for (int p = 0; p < qty.length; p++) {
+            qty[p] = qtyByProduct.get(productIds.get(p));
+        }
+
+        int[][] atp = new int[warehouseIds.size()][];
+        for (int w = 0; w < atp.length; w++) {
+            Map<Long, InventoryAvailabilityView.StockLevel> levels =
+                    inventoryAvailabilityView.get(warehouseIds.get(w), productIds);
+            atp[w] = new int[qty.length];
+            for (int p = 0; p < qty.length; p++) {
+                InventoryAvailabilityView.StockLevel level = levels.get(productIds.get(p));
+                atp[w][p] = level == null ? 0 : Math.max(level.available(), 0);
+            }
+        }
+
+        int[][] plan = plan(qty, atp);
+
+        List<WarehouseAllocation> result = new ArrayList<>();
+        for (int w = 0; w < plan.length; w++) {
+            Map<Long, Integer> assigned = new LinkedHashMap<>();
+            for (int p = 0; p < qty.length; p++) {
+                if (plan[w][p] > 0) {
+                    assigned.put(productIds.get(p), plan[w][p]);
+                }
+            }
+            if (!assigned.isEmpty()) {
+                result.add(new WarehouseAllocation(warehouseIds.get(w), assigned));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 배정 계산 (창고는 이미 비용 순으로 정렬되어 있다고 본다)
+     *
+     * @param qty 품목별 주문 수량
+     * @param atp [창고][품목] 가용 수량
+     * @return [창고][품목] 배정 수량
+     */
+    static int[][] plan(int[] qty, int[][] atp) {
+        int warehouses = atp.length;
+        int lines = qty.length;
+        int[][] plan = new int[warehouses][lines];
+
+        // 1. 전 품목을 채울 수 있는 가장 싼 창고 한 곳
+        for (int w = 0; w < warehouses; w++) {
+            if (coversAll(qty, atp[w])) {
+                System.arraycopy(qty, 0, plan[w], 0, lines);
+                return plan;
+            }
+        }
+
+        for (int p = 0; p < lines; p++) {
+            if (qty[p] <= 0) continue;
+
+            // 2. 품목을 통째로 채울 수 있는 가장 싼 창고
+            int whole = -1;
+            for (int w = 0; w < warehouses; w++) {
+                if (atp[w][p] >= qty[p]) {
+                    whole = w;
+                    break;
+                }
+            }
+            if (whole >= 0) {
+                plan[whole][p] = qty[p];
+                continue;
+            }
+
+            // 3. 비용 순으로 나눠 채우고, 남는 수량은 가장 싼 창고에 둔다.
+            int remaining = qty[p];
+            for (int w = 0; w < warehouses && remaining > 0; w++) {
+                int take = Math.min(remaining, atp[w][p]);
+                plan[w][p] = take;
+                remaining -= take;
+            }
+            plan[0][p] += remaining;
+        }
+        return plan;
+    }
+
+    private static boolean coversAll(int[] qty, int[] available) {
+        for (int p = 0; p < qty.length; p++) {
+            if (available[p] < qty[p]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,138 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.store.model.repository.StoreRepository;
+import com.synerge.order101.warehouse.model.entity.Warehouse;
+import com.synerge.order101.warehouse.model.repository.StoreWarehouseCostRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가맹점 -> 창고 비용 행렬 (메모리 스냅샷)
+ * - 운영 중인 창고, 가맹점 기본 창고, store_warehouse_cost 를 한 번에 읽어 배열로 들고 있는다.
+ * - 비용 행이 없으면 기본 창고는 0, 나머지 창고는 DEFAULT_COST 로 본다.
+ * - 가맹점 생성(기본 창고 지정)은 커밋 후 invalidate 로 바로 버린다.
+ * - 창고/비용 행은 수정 화면이 없어 DB 에서 직접 바꾸므로, 이 변경은 TTL(60초)이 지나야 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarehouseCostMatrix {
+
+    static final int DEFAULT_COST = 1_000;
+
+    private static final long TTL_NANOS = 60_000_000_000L;
+
+    private final WarehouseRepository warehouseRepository;
+    private final StoreRepository storeRepository;
+    private final StoreWarehouseCostRepository storeWarehouseCostRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 가맹점 기준으로 비용이 낮은 순서의 창고 ID 목록을 반환한다. (비용이 같으면 창고 ID 순)
+     */
+    public List<Long> rank(Long storeId) {
+        return current().rank(storeId);
+    }
+
+    /**
+     * 스냅샷을 버린다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 버린다. (커밋 전에 다른 요청이 옛 값으로 다시 읽는 경우)
+     */
+    public void invalidate() {
+        snapshot = null;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null || System.nanoTime() - s.loadedAt >= TTL_NANOS) {
+            s = load();
+            snapshot = s;
+        }
+        return s;
+    }
+
+    private Snapshot load() {
+        long[] warehouseIds = warehouseRepository.findAll().stream()
+                .filter(Warehouse::isActive)
+                .mapToLong(Warehouse::getWarehouseId)
+                .sorted()
+                .toArray();
+
+        Map<Long, Integer> slotOf = new HashMap<>();
+        for (int i = 0; i < warehouseIds.length; i++) {
+            slotOf.put(warehouseIds[i], i);
+        }
+
+        Map<Long, int[]> costs = new HashMap<>();
+        for (Object[] row : storeRepository.findAllDefaultWarehouseIds()) {
+            Integer slot = slotOf.get((Long) row[1]);
+            if (slot == null) continue;
+            costs.computeIfAbsent((Long) row[0], k -> defaultCosts(warehouseIds.length))[slot] = 0;
+        }
+        for (Object[] row : storeWarehouseCostRepository.findAllCosts()) {
+            Integer slot = slotOf.get((Long) row[1]);
+            if (slot == null) continue;
+            costs.computeIfAbsent((Long) row[0], k -> defaultCosts(warehouseIds.length))[slot] = ((Number) row[2]).intValue();
+        }
+
+        return new Snapshot(warehouseIds, costs, System.nanoTime());
+    }
+
+    private static int[] defaultCosts(int size) {
+        int[] costs = new int[size];
+        Arrays.fill(costs, DEFAULT_COST);
+        return costs;
+    }
+
+    static final class Snapshot {
+
+        private final long[] warehouseIds;
+        private final Map<Long, int[]> costs;
+        private final long loadedAt;
+
+        // storeId -> 정렬된 창고 ID (처음 조회할 때 계산)
+        private final Map<Long, List<Long>> rankings = new ConcurrentHashMap<>();
+
+        Snapshot(long[] warehouseIds, Map<Long, int[]> costs, long loadedAt) {
+            this.warehouseIds = warehouseIds;
+            this.costs = costs;
+            this.loadedAt = loadedAt;
+        }
+
+        List<Long> rank(Long storeId) {
+            return rankings.computeIfAbsent(storeId, this::computeRank);
+        }
+
+        private List<Long> computeRank(Long storeId) {
+            int[] storeCosts = costs.getOrDefault(storeId, defaultCosts(warehouseIds.length));
+
+            List<Integer> slots = new ArrayList<>(warehouseIds.length);
+            for (int i = 0; i < warehouseIds.length; i++) {
+                slots.add(i);
+            }
+            slots.sort(Comparator.<Integer>comparingInt(i -> storeCosts[i]).thenComparingLong(i -> warehouseIds[i]));
+
+            return slots.stream().map(i -> warehouseIds[i]).toList();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.synerge.order101.warehouse.scheduler;
+
+import com.synerge.order101.warehouse.model.service.InventoryMovementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 이동 원장 최초 이관
+ * 원장이 비어 있을 때만 과거 입고/출고 상세를 옮긴다. (이후 기동 시에는 아무것도 하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.inventory-movement.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class InventoryMovementBackfillRunner implements CommandLineRunner {
+
+    private final InventoryMovementService inventoryMovementService;
+
+    @Override
+    public void run(String... args) {
+        try {
+            inventoryMovementService.backfillIfEmpty();
+        } catch (Exception e) {
+            log.error("[재고 이동 원장 이관] 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
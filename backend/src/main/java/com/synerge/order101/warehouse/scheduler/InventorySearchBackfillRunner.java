@@ -0,0 +1,30 @@
+package com.synerge.order101.warehouse.scheduler;
+
+import com.synerge.order101.warehouse.model.service.InventorySearchProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 검색 테이블 최초 구성
+ * inventory_search 가 비어 있을 때만 창고 재고 전체로 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.inventory-search.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class InventorySearchBackfillRunner implements CommandLineRunner {
+
+    private final InventorySearchProjector inventorySearchProjector;
+
+    @Override
+    public void run(String... args) {
+        try {
+            inventorySearchProjector.rebuildIfEmpty();
+        } catch (Exception e) {
+            log.error("[재고 검색 테이블 구성] 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.synerge.order101.warehouse.scheduler;
+
+import com.synerge.order101.warehouse.model.service.LowStockTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LowStockReconcileScheduler {
+
+    private final LowStockTracker lowStockTracker;
+
+    /**
+     * 기동 시 저재고 집합 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            lowStockTracker.rebuild();
+            log.info("▶ [저재고 추적] 초기 구성 완료: {}건", lowStockTracker.count());
+        } catch (Exception e) {
+            log.error("[저재고 추적] 초기 구성 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 10분마다 DB 기준으로 다시 맞춘다. (다른 인스턴스/직접 수정분 반영)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void reconcile() {
+        try {
+            int drift = lowStockTracker.rebuild();
+            if (drift > 0) {
+                log.warn("[저재고 추적] 재구성 시 {}건 불일치 보정", drift);
+            }
+        } catch (Exception e) {
+            log.error("[저재고 추적] 재구성 오류: {}", e.getMessage(), e);
+        }
+    }
+}
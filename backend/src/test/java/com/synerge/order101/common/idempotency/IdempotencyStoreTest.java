@@ -0,0 +1,174 @@
+package com.synerge.order101.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.exception.errorcode.CommonErrorCode;
+import com.synerge.order101.order.model.dto.StoreOrderCreateRequest;
+import com.synerge.order101.order.model.dto.StoreOrderCreateResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("IdempotencyStoreTest")
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    private static final String REDIS_KEY = "idem:store-order:key-1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private IdempotencyStore store;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(redisTemplate, objectMapper);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private StoreOrderCreateRequest request(int qty) {
+        return StoreOrderCreateRequest.builder()
+                .storeId(1L)
+                .userId(10L)
+                .items(List.of(new StoreOrderCreateRequest.Item(100L, qty)))
+                .build();
+    }
+
+    private StoreOrderCreateResponseDto create() {
+        calls.incrementAndGet();
+        return new StoreOrderCreateResponseDto(500L, "SO-1",
+                List.of(new StoreOrderCreateResponseDto.SplitOrder(500L, "SO-1", 3L, List.of())), true);
+    }
+
+    private String entry(StoreOrderCreateRequest request, boolean done, StoreOrderCreateResponseDto response) throws Exception {
+        String fingerprint = DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+        return objectMapper.writeValueAsString(new IdempotencyStore.Entry(fingerprint, done,
+                response == null ? null : objectMapper.writeValueAsString(response)));
+    }
+
+    @Test
+    @DisplayName("키가 없으면 Redis 를 거치지 않고 그대로 실행")
+    void execute_WithoutKey() {
+        StoreOrderCreateResponseDto result =
+                store.execute("store-order", null, request(3), StoreOrderCreateResponseDto.class, this::create);
+
+        assertThat(result.getStoreOrderId()).isEqualTo(500L);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("처음 온 키는 실행 후 응답을 완료 상태로 저장")
+    void execute_FirstRequest_StoresResponse() throws Exception {
+        // given
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        // when
+        store.execute("store-order", "key-1", request(3), StoreOrderCreateResponseDto.class, this::create);
+
+        // then
+        ArgumentCaptor<String> saved = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(REDIS_KEY), saved.capture(), eq(Duration.ofHours(24)));
+        assertThat(saved.getValue()).isEqualTo(entry(request(3), true, create()));
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키, 같은 요청의 재시도는 저장된 응답을 돌려주고 다시 실행하지 않음")
+    void execute_Replay_ReturnsCached() throws Exception {
+        // given
+        StoreOrderCreateResponseDto original = create();
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(REDIS_KEY)).willReturn(entry(request(3), true, original));
+
+        // when
+        StoreOrderCreateResponseDto replayed =
+                store.execute("store-order", "key-1", request(3), StoreOrderCreateResponseDto.class, this::create);
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(replayed.getStoreOrderId()).isEqualTo(500L);
+        assertThat(replayed.getOrders()).extracting(StoreOrderCreateResponseDto.SplitOrder::getWarehouseId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 요청이면 IDEMPOTENCY_KEY_REUSED")
+    void execute_KeyReused() throws Exception {
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(REDIS_KEY)).willReturn(entry(request(3), true, create()));
+
+        assertThatThrownBy(() -> store.execute("store-order", "key-1", request(5),
+                StoreOrderCreateResponseDto.class, this::create))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(CommonErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("앞선 요청이 처리 중이면 IDEMPOTENCY_IN_PROGRESS")
+    void execute_InProgress() throws Exception {
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(REDIS_KEY)).willReturn(entry(request(3), false, null));
+
+        assertThatThrownBy(() -> store.execute("store-order", "key-1", request(3),
+                StoreOrderCreateResponseDto.class, this::create))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(CommonErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 키를 풀어 재시도를 허용")
+    void execute_Failure_ReleasesKey() {
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        assertThatThrownBy(() -> store.execute("store-order", "key-1", request(3),
+                StoreOrderCreateResponseDto.class, () -> {
+                    throw new CustomException(CommonErrorCode.INVALID_REQUEST);
+                }))
+                .isInstanceOf(CustomException.class);
+        verify(redisTemplate).delete(REDIS_KEY);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 키 없이 실행")
+    void execute_RedisDown() {
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        StoreOrderCreateResponseDto result =
+                store.execute("store-order", "key-1", request(3), StoreOrderCreateResponseDto.class, this::create);
+
+        assertThat(result.getStoreOrderId()).isEqualTo(500L);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
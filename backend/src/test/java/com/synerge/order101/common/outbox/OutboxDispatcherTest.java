@@ -0,0 +1,262 @@
+package com.synerge.order101.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OutboxDispatcherTest")
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PingHandler handler = new PingHandler();
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxDispatcher dispatcher;
+
+    private static final String TOKEN = "token-a";
+
+    record Ping(Long id) {
+    }
+
+    // 실패할 id 가 들어 있는 묶음이면 예외
+    static class PingHandler implements OutboxHandler<Ping> {
+        final List<List<Long>> calls = new ArrayList<>();
+        Long failOn;
+
+        @Override
+        public OutboxEventType type() {
+            return OutboxEventType.SHIPMENT_IN_TRANSIT;
+        }
+
+        @Override
+        public Class<Ping> payloadType() {
+            return Ping.class;
+        }
+
+        @Override
+        public void handle(List<Ping> payloads) {
+            calls.add(payloads.stream().map(Ping::id).toList());
+            if (payloads.stream().anyMatch(p -> p.id().equals(failOn))) {
+                throw new IllegalStateException("boom");
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new OutboxDispatcher(outboxEventRepository, List.of(handler), objectMapper,
+                transactionManager, meterRegistry);
+    }
+
+    private OutboxEvent claimed(Long outboxId, OutboxEventType type, String payload, int attempts) {
+        OutboxEvent event = OutboxEvent.pending(type, payload);
+        ReflectionTestUtils.setField(event, "outboxId", outboxId);
+        ReflectionTestUtils.setField(event, "status", OutboxEvent.Status.PROCESSING);
+        ReflectionTestUtils.setField(event, "claimToken", TOKEN);
+        ReflectionTestUtils.setField(event, "attempts", attempts);
+        return event;
+    }
+
+    private OutboxEvent ping(Long outboxId, int attempts) {
+        return claimed(outboxId, OutboxEventType.SHIPMENT_IN_TRANSIT, "{\"id\":" + outboxId + "}", attempts);
+    }
+
+    private void givenClaimed(OutboxEvent... events) {
+        List<Long> ids = Arrays.stream(events).map(OutboxEvent::getOutboxId).toList();
+        given(outboxEventRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).willReturn(ids);
+        given(outboxEventRepository.findByClaimTokenOrderByOutboxIdAsc(anyString())).willReturn(List.of(events));
+        for (OutboxEvent event : events) {
+            given(outboxEventRepository.findByIdForUpdate(event.getOutboxId())).willReturn(Optional.of(event));
+        }
+    }
+
+    // 선점이 유지된 행은 모두 완료 표시된다.
+    private void givenMarkDoneKeepsClaim() {
+        given(outboxEventRepository.markDone(anyCollection(), eq(TOKEN), any()))
+                .willAnswer(inv -> inv.<Collection<?>>getArgument(0).size());
+    }
+
+    @Test
+    @DisplayName("선점한 이벤트를 종류별로 한 번에 처리하고 DONE 으로 기록")
+    void drainBatch_HandlesAsOneBatch() {
+        // given
+        given(outboxEventRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L));
+        given(outboxEventRepository.findByClaimTokenOrderByOutboxIdAsc(anyString()))
+                .willReturn(List.of(ping(1L, 1), ping(2L, 1)));
+        givenMarkDoneKeepsClaim();
+
+        // when
+        int drained = dispatcher.drainBatch();
+
+        // then
+        assertThat(drained).isEqualTo(2);
+        assertThat(handler.calls).containsExactly(List.of(1L, 2L));
+        verify(outboxEventRepository).claim(eq(List.of(1L, 2L)), anyString(), any());
+        verify(outboxEventRepository).markDone(eq(List.of(1L, 2L)), eq(TOKEN), any());
+        assertThat(meterRegistry.counter("outbox.dispatched", "type", "SHIPMENT_IN_TRANSIT", "result", "done")
+                .count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("묶음이 실패하면 한 건씩 다시 처리해 실패한 건만 재시도 예약")
+    void drainBatch_BatchFailure_FallsBackToSingle() {
+        // given
+        handler.failOn = 2L;
+        OutboxEvent ok = ping(1L, 1);
+        OutboxEvent failing = ping(2L, 1);
+        given(outboxEventRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L));
+        given(outboxEventRepository.findByClaimTokenOrderByOutboxIdAsc(anyString())).willReturn(List.of(ok, failing));
+        given(outboxEventRepository.findByIdForUpdate(2L)).willReturn(Optional.of(failing));
+        givenMarkDoneKeepsClaim();
+
+        // when
+        dispatcher.drainBatch();
+
+        // then
+        assertThat(handler.calls).containsExactly(List.of(1L, 2L), List.of(1L), List.of(2L));
+        verify(outboxEventRepository).markDone(eq(List.of(1L)), eq(TOKEN), any());
+        assertThat(failing.getStatus()).isEqualTo(OutboxEvent.Status.PENDING);
+        assertThat(failing.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(failing.getLastError()).isEqualTo("boom");
+        assertThat(meterRegistry.counter("outbox.dispatched", "type", "SHIPMENT_IN_TRANSIT", "result", "retry")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("시도 횟수 한도에 닿으면 DEAD")
+    void drainBatch_MaxAttempts_Dead() {
+        // given
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        handler.failOn = 1L;
+        OutboxEvent event = ping(1L, 3);
+        givenClaimed(event);
+        givenMarkDoneKeepsClaim();
+
+        // when
+        dispatcher.drainBatch();
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.DEAD);
+        assertThat(meterRegistry.counter("outbox.dispatched", "type", "SHIPMENT_IN_TRANSIT", "result", "dead")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 원문이나 처리기가 없는 종류는 재시도 없이 DEAD")
+    void drainBatch_Unprocessable_Dead() {
+        // given
+        OutboxEvent broken = claimed(1L, OutboxEventType.SHIPMENT_IN_TRANSIT, "not-json", 1);
+        OutboxEvent unknown = claimed(2L, OutboxEventType.SETTLEMENT_REQUESTED, "{}", 1);
+        givenClaimed(broken, unknown);
+
+        // when
+        dispatcher.drainBatch();
+
+        // then
+        assertThat(broken.getStatus()).isEqualTo(OutboxEvent.Status.DEAD);
+        assertThat(unknown.getStatus()).isEqualTo(OutboxEvent.Status.DEAD);
+        assertThat(handler.calls).isEmpty();
+        verify(outboxEventRepository, never()).markDone(anyCollection(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("releaseStale 후 다른 디스패처가 다시 선점한 건은 처리기를 돌리지 않고 상태도 덮어쓰지 않는다")
+    void drainBatch_SkipsWhenClaimLost() {
+        // given
+        given(outboxEventRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L));
+        given(outboxEventRepository.findByClaimTokenOrderByOutboxIdAsc(anyString()))
+                .willReturn(List.of(ping(1L, 1), ping(2L, 1)));
+        // 묶음 완료 표시에서 2번이 빠지고(1건만 반영), 한 건씩 다시 처리할 때 1번만 반영된다.
+        given(outboxEventRepository.markDone(eq(List.of(1L, 2L)), eq(TOKEN), any())).willReturn(1);
+        given(outboxEventRepository.markDone(eq(List.of(1L)), eq(TOKEN), any())).willReturn(1);
+        given(outboxEventRepository.markDone(eq(List.of(2L)), eq(TOKEN), any())).willReturn(0);
+
+        // when
+        dispatcher.drainBatch();
+
+        // then
+        assertThat(handler.calls).containsExactly(List.of(1L));
+        assertThat(meterRegistry.counter("outbox.dispatched", "type", "SHIPMENT_IN_TRANSIT", "result", "done")
+                .count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("outbox.dispatched", "type", "SHIPMENT_IN_TRANSIT", "result", "skipped")
+                .count()).isEqualTo(1.0);
+        verify(outboxEventRepository, never()).findByIdForUpdate(2L);
+    }
+
+    @Test
+    @DisplayName("재시도/DEAD 기록 시점에 선점이 다른 디스패처로 넘어갔으면 기록하지 않는다")
+    void drainBatch_FinishSkipsWhenClaimLost() {
+        // given
+        handler.failOn = 1L;
+        given(outboxEventRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(1L));
+        given(outboxEventRepository.findByClaimTokenOrderByOutboxIdAsc(anyString())).willReturn(List.of(ping(1L, 1)));
+        givenMarkDoneKeepsClaim();
+        // 처리 도중 되돌려져 다른 디스패처가 새 토큰으로 선점
+        given(outboxEventRepository.findByIdForUpdate(1L)).willAnswer(inv -> {
+            OutboxEvent current = ping(1L, 2);
+            ReflectionTestUtils.setField(current, "claimToken", "token-b");
+            return Optional.of(current);
+        });
+
+        // when
+        dispatcher.drainBatch();
+
+        // then
+        assertThat(meterRegistry.counter("outbox.dispatched", "type", "SHIPMENT_IN_TRANSIT", "result", "retry")
+                .count()).isZero();
+        assertThat(meterRegistry.counter("outbox.dispatched", "type", "SHIPMENT_IN_TRANSIT", "result", "skipped")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘고 최대값에서 멈춘다")
+    void backoff_DoublesUpToMax() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(5);
+        assertThat(dispatcher.backoff(2)).isEqualTo(10);
+        assertThat(dispatcher.backoff(4)).isEqualTo(40);
+        assertThat(dispatcher.backoff(10)).isEqualTo(600);
+        assertThat(dispatcher.backoff(50)).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트가 없으면 0")
+    void drainBatch_Empty() {
+        given(outboxEventRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of());
+
+        assertThat(dispatcher.drainBatch()).isZero();
+        verify(outboxEventRepository, never()).claim(anyCollection(), anyString(), any());
+    }
+}
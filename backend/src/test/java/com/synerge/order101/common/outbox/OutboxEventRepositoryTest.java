@@ -0,0 +1,94 @@
+package com.synerge.order101.common.outbox;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxEventRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, OutboxEventJdbcRepository.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("배치로 쌓은 이벤트 중 때가 된 대기 건만 쌓인 순서대로 고른다")
+    void findDueIds_OnlyDuePending() {
+        // given
+        outboxEventJdbcRepository.insertAll(List.of(
+                OutboxEvent.pending(OutboxEventType.SHIPMENT_IN_TRANSIT, "{\"shipmentId\":1}"),
+                OutboxEvent.pending(OutboxEventType.SHIPMENT_IN_TRANSIT, "{\"shipmentId\":2}")));
+        OutboxEvent later = em.persist(OutboxEvent.pending(OutboxEventType.SETTLEMENT_REQUESTED, "{}"));
+        later.retry(LocalDateTime.now().plusMinutes(5), "boom");
+        em.flush();
+
+        // when
+        List<Long> due = outboxEventRepository.findDueIds(LocalDateTime.now().plusSeconds(1), PageRequest.of(0, 10));
+
+        // then
+        assertThat(due).hasSize(2).isSorted().doesNotContain(later.getOutboxId());
+        assertThat(outboxEventRepository.findAllById(due))
+                .extracting(OutboxEvent::getPayload)
+                .containsExactlyInAnyOrder("{\"shipmentId\":1}", "{\"shipmentId\":2}");
+    }
+
+    @Test
+    @DisplayName("이미 선점된 건은 다시 선점되지 않고, 오래 멈춘 건은 대기로 돌아간다")
+    void claim_IsExclusive_AndStaleIsReleased() {
+        // given
+        List<Long> ids = List.of(
+                em.persist(OutboxEvent.pending(OutboxEventType.SHIPMENT_DELIVERED, "{}")).getOutboxId(),
+                em.persist(OutboxEvent.pending(OutboxEventType.SHIPMENT_DELIVERED, "{}")).getOutboxId(),
+                em.persist(OutboxEvent.pending(OutboxEventType.SHIPMENT_DELIVERED, "{}")).getOutboxId());
+        em.flush();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        int first = outboxEventRepository.claim(ids.subList(0, 2), "token-a", now);
+        int second = outboxEventRepository.claim(ids, "token-b", now);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(outboxEventRepository.findByClaimTokenOrderByOutboxIdAsc("token-a"))
+                .extracting(OutboxEvent::getOutboxId)
+                .containsExactly(ids.get(0), ids.get(1));
+        assertThat(outboxEventRepository.findByClaimTokenOrderByOutboxIdAsc("token-b"))
+                .extracting(OutboxEvent::getAttempts)
+                .containsExactly(1);
+
+        // 다른 토큰으로는 완료 표시되지 않는다.
+        assertThat(outboxEventRepository.markDone(ids.subList(0, 1), "token-b", now)).isZero();
+        assertThat(outboxEventRepository.markDone(ids.subList(0, 1), "token-a", now)).isEqualTo(1);
+        int released = outboxEventRepository.releaseStale(now.plusSeconds(1), now.plusSeconds(1));
+        assertThat(released).isEqualTo(2);
+        assertThat(outboxEventRepository.countByStatus(OutboxEvent.Status.PENDING)).isEqualTo(2);
+        assertThat(outboxEventRepository.deleteDoneBefore(now.plusSeconds(1))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.synerge.order101.common.sequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("DocumentNumberAllocatorTest")
+@ExtendWith(MockitoExtension.class)
+class DocumentNumberAllocatorTest {
+
+    @Mock
+    private DocumentSequenceJdbcRepository documentSequenceJdbcRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DocumentNumberAllocator allocator;
+
+    private final String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+    @BeforeEach
+    void setUp() {
+        allocator = new DocumentNumberAllocator(documentSequenceJdbcRepository, transactionManager);
+        ReflectionTestUtils.setField(allocator, "blockSize", 3);
+    }
+
+    @Test
+    @DisplayName("블록 안에서는 DB 를 다시 거치지 않고 순서대로 발급")
+    void next_HandsOutBlockInOrder() {
+        // given - 첫 블록 1~3, 두 번째 블록 4~6
+        given(documentSequenceJdbcRepository.lease(eq("OR"), any(LocalDate.class), eq(3))).willReturn(3L, 6L);
+
+        // when
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            numbers.add(allocator.next("OR"));
+        }
+
+        // then
+        assertThat(numbers).containsExactly(
+                "OR" + today + "000001", "OR" + today + "000002", "OR" + today + "000003", "OR" + today + "000004");
+        verify(documentSequenceJdbcRepository, times(2)).lease(eq("OR"), any(LocalDate.class), eq(3));
+    }
+
+    @Test
+    @DisplayName("접두어마다 일련번호를 따로 쓴다")
+    void next_SeparateSequencePerPrefix() {
+        given(documentSequenceJdbcRepository.lease(eq("OR"), any(LocalDate.class), eq(3))).willReturn(3L);
+        given(documentSequenceJdbcRepository.lease(eq("PO"), any(LocalDate.class), eq(3))).willReturn(30L);
+
+        assertThat(allocator.next("OR")).isEqualTo("OR" + today + "000001");
+        assertThat(allocator.next("PO")).isEqualTo("PO" + today + "000028");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 받아도 번호가 겹치지 않는다")
+    void next_ConcurrentCallsAreUnique() throws Exception {
+        // given - DB 처럼 예약할 때마다 블록 끝이 size 만큼 증가
+        AtomicLong leased = new AtomicLong();
+        given(documentSequenceJdbcRepository.lease(eq("OR"), any(LocalDate.class), anyInt()))
+                .willAnswer(invocation -> leased.addAndGet(invocation.<Integer>getArgument(2)));
+
+        // when
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        numbers.add(allocator.next("OR"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // then
+        assertThat(numbers).hasSize(2_000);
+        assertThat(leased.get()).isLessThan(2_000 + 3 * 8);
+    }
+}
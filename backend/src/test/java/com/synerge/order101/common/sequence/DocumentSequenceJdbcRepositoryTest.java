@@ -0,0 +1,42 @@
+package com.synerge.order101.common.sequence;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DocumentSequenceJdbcRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, DocumentSequenceJdbcRepository.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class DocumentSequenceJdbcRepositoryTest {
+
+    @Autowired
+    private DocumentSequenceJdbcRepository documentSequenceJdbcRepository;
+
+    @Test
+    @DisplayName("접두어/일자별로 블록을 이어서 예약하고, 날짜가 바뀌면 1 부터 다시 시작")
+    void lease_ContinuesPerPrefixAndDay() {
+        LocalDate day = LocalDate.of(2026, 10, 18);
+
+        assertThat(documentSequenceJdbcRepository.lease("OR", day, 50)).isEqualTo(50);
+        assertThat(documentSequenceJdbcRepository.lease("OR", day, 50)).isEqualTo(100);
+        assertThat(documentSequenceJdbcRepository.lease("PO", day, 20)).isEqualTo(20);
+        assertThat(documentSequenceJdbcRepository.lease("OR", day.plusDays(1), 50)).isEqualTo(50);
+        assertThat(documentSequenceJdbcRepository.lease("OR", day, 10)).isEqualTo(110);
+    }
+}
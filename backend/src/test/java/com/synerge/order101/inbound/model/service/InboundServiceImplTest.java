@@ -9,6 +9,7 @@ import com.synerge.order101.product.model.entity.Product;
 import com.synerge.order101.supplier.model.entity.Supplier;
 import com.synerge.order101.inbound.model.repository.InboundDetailRepository;
 import com.synerge.order101.inbound.model.repository.InboundRepository;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +40,9 @@ class InboundServiceImplTest {
 
     private static final Logger log = LoggerFactory.getLogger(InboundServiceImplTest.class);
 
+    @Mock
+    private DocumentNumberAllocator documentNumberAllocator;
+
     @InjectMocks
     private InboundServiceImpl inboundService;
 
@@ -0,0 +1,138 @@
+package com.synerge.order101.order.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
+import com.synerge.order101.product.model.entity.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DailyProductSalesRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class DailyProductSalesRepositoryTest {
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("주문 품목은 (상품, 일자)별로 한 행에 누적되고 차감도 반영된다")
+    void addOrderSales_Upserts() {
+        // given
+        LocalDate today = LocalDate.now();
+        Product p1 = product("DS-U1");
+        Product p2 = product("DS-U2");
+
+        StoreOrder first = order(OrderStatus.CONFIRMED, today.atTime(1, 0));
+        line(first, p1, 2);
+        line(first, p1, 3);
+        line(first, p2, 4);
+        StoreOrder second = order(OrderStatus.CONFIRMED, today.atTime(2, 0));
+        line(second, p1, 7);
+        em.flush();
+
+        // when
+        dailyProductSalesRepository.addOrderSales(first.getStoreOrderId(), 1);
+        dailyProductSalesRepository.addOrderSales(second.getStoreOrderId(), 1);
+        dailyProductSalesRepository.addOrderSales(first.getStoreOrderId(), -1);   // 첫 주문 승인 취소
+        em.clear();
+
+        // then
+        assertThat(dailyProductSalesRepository.findAll()).hasSize(2);
+
+        List<Object[]> sales = dailyProductSalesRepository.findSalesSince(today);
+        assertThat(sales).hasSize(1);
+        assertThat(sales.get(0)[0]).isEqualTo(p1.getProductId());
+        assertThat(sales.get(0)[1]).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("재집계는 기간 내 승인 주문만 (상품, 일자)별로 다시 만든다")
+    void rebuild_AggregatesConfirmedOrders() {
+        // given
+        LocalDate today = LocalDate.now();
+        Product p1 = product("DS-P1");
+        Product p2 = product("DS-P2");
+
+        StoreOrder todayOrder = order(OrderStatus.CONFIRMED, today.atTime(1, 0));
+        line(todayOrder, p1, 2);
+        line(todayOrder, p2, 4);
+        StoreOrder todayOrder2 = order(OrderStatus.CONFIRMED, today.atTime(5, 0));
+        line(todayOrder2, p1, 3);
+        StoreOrder yesterdayOrder = order(OrderStatus.CONFIRMED, today.minusDays(1).atTime(1, 0));
+        line(yesterdayOrder, p1, 6);
+        StoreOrder submitted = order(OrderStatus.SUBMITTED, today.atTime(3, 0));
+        line(submitted, p1, 100);
+        StoreOrder outOfRange = order(OrderStatus.CONFIRMED, today.minusDays(5).atTime(1, 0));
+        line(outOfRange, p1, 50);
+
+        em.flush();
+
+        // 집계가 어긋나 있던 상태 (미승인 주문 반영 + 기간 밖 집계)
+        dailyProductSalesRepository.addOrderSales(submitted.getStoreOrderId(), 1);
+        dailyProductSalesRepository.addOrderSales(outOfRange.getStoreOrderId(), 1);
+
+        // when
+        int deleted = dailyProductSalesRepository.deleteBetween(today.minusDays(1), today.plusDays(1));
+        int inserted = dailyProductSalesRepository.insertAggregatedBetween(
+                today.minusDays(1).atStartOfDay(), today.plusDays(1).atStartOfDay());
+        em.clear();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(inserted).isEqualTo(3);
+
+        List<Object[]> sales = dailyProductSalesRepository.findSalesSince(today.minusDays(1));
+        assertThat(sales)
+                .extracting(r -> List.of(r[0], r[1]))
+                .containsExactlyInAnyOrder(
+                        List.of(p1.getProductId(), 5),
+                        List.of(p2.getProductId(), 4),
+                        List.of(p1.getProductId(), 6));
+        // 기간 밖 집계는 그대로 유지
+        assertThat(dailyProductSalesRepository.findSalesSince(today.minusDays(5))).hasSize(4);
+    }
+
+    private Product product(String code) {
+        return em.persist(Product.builder()
+                .productCode(code).productName("상품 " + code).price(BigDecimal.valueOf(100)).build());
+    }
+
+    private StoreOrder order(OrderStatus status, LocalDateTime orderDatetime) {
+        return em.persist(StoreOrder.builder()
+                .orderStatus(status)
+                .orderDatetime(orderDatetime)
+                .createdAt(orderDatetime)
+                .build());
+    }
+
+    private void line(StoreOrder order, Product product, int qty) {
+        em.persist(StoreOrderDetail.builder()
+                .storeOrder(order).product(product).orderQty(qty)
+                .unitPrice(BigDecimal.valueOf(100)).amount(BigDecimal.valueOf(100L * qty)).build());
+    }
+}
@@ -0,0 +1,89 @@
+package com.synerge.order101.order.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.order.model.entity.OrderIntake;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderIntakeRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class OrderIntakeRepositoryTest {
+
+    @Autowired
+    private OrderIntakeRepository orderIntakeRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private List<Long> enqueue(Long storeId, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(em.persist(OrderIntake.pending(UUID.randomUUID().toString(), storeId, "{}")).getIntakeId());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("대기 건이 많은 가맹점이 있어도 가맹점별로 돌아가며 고른다")
+    void findFairPendingIds_RoundRobinByStore() {
+        // given - 가맹점 1 이 먼저 10건, 이후 가맹점 2, 3 이 1건씩
+        List<Long> store1 = enqueue(1L, 10);
+        List<Long> store2 = enqueue(2L, 1);
+        List<Long> store3 = enqueue(3L, 1);
+        em.flush();
+
+        // when
+        List<Long> picked = orderIntakeRepository.findFairPendingIds(2, 4);
+
+        // then - 각 가맹점의 첫 건이 먼저, 그 다음 가맹점 1 의 두 번째 건
+        assertThat(picked).containsExactly(store1.get(0), store2.get(0), store3.get(0), store1.get(1));
+    }
+
+    @Test
+    @DisplayName("이미 선점된 건은 다시 선점되지 않고, 오래 멈춘 건은 대기열로 돌아간다")
+    void claim_IsExclusive_AndStaleIsReleased() {
+        // given
+        List<Long> ids = enqueue(1L, 3);
+        em.flush();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        int first = orderIntakeRepository.claim(ids.subList(0, 2), "token-a", now);
+        int second = orderIntakeRepository.claim(ids, "token-b", now);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(orderIntakeRepository.findByClaimTokenOrderByIntakeIdAsc("token-a"))
+                .extracting(OrderIntake::getIntakeId)
+                .containsExactly(ids.get(0), ids.get(1));
+        assertThat(orderIntakeRepository.findByClaimTokenOrderByIntakeIdAsc("token-b"))
+                .extracting(OrderIntake::getAttempts)
+                .containsExactly(1);
+
+        int released = orderIntakeRepository.releaseStale(now.plusSeconds(1), now.plusSeconds(1));
+        assertThat(released).isEqualTo(3);
+        assertThat(orderIntakeRepository.countByStatus(OrderIntake.Status.PENDING)).isEqualTo(3);
+    }
+}
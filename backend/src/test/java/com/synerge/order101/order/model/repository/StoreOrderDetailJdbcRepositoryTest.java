@@ -0,0 +1,126 @@
+package com.synerge.order101.order.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.store.model.entity.Store;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StoreOrderDetailJdbcRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, StoreOrderDetailJdbcRepository.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class StoreOrderDetailJdbcRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StoreOrderDetailJdbcRepositoryTest.class);
+
+    @Autowired
+    private StoreOrderDetailJdbcRepository storeOrderDetailJdbcRepository;
+
+    @Autowired
+    private StoreOrderDetailRepository storeOrderDetailRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private List<StoreOrderDetail> lines(StoreOrder order, List<Product> products, int count) {
+        List<StoreOrderDetail> details = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = products.get(i % products.size());
+            details.add(new StoreOrderDetail(order, product, i % 7 + 1, product.getPrice(),
+                    product.getPrice().multiply(BigDecimal.valueOf(i % 7 + 1))));
+        }
+        return details;
+    }
+
+    @Test
+    @DisplayName("상세를 한 번의 배치로 저장하고 JPA 로 다시 읽을 수 있다")
+    void insertAll_PersistsAllLines() {
+        // given
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-J").storeName("배치 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        Product product = em.persist(Product.builder()
+                .productCode("SOD-1").productName("상품").price(BigDecimal.valueOf(250)).build());
+        StoreOrder order = em.persist(StoreOrder.builder().store(store).build());
+        em.flush();
+
+        // when
+        int[] counts = storeOrderDetailJdbcRepository.insertAll(lines(order, List.of(product), 3));
+        em.clear();
+
+        // then
+        assertThat(counts).containsOnly(1);
+        List<StoreOrderDetail> saved = storeOrderDetailRepository.findByStoreOrder_StoreOrderId(order.getStoreOrderId());
+        assertThat(saved).hasSize(3);
+        assertThat(saved).extracting(StoreOrderDetail::getOrderQty).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(saved).allSatisfy(d -> assertThat(d.getCreatedAt()).isNotNull());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[벤치마크] 상세 한 줄당 저장 시간 - JPA 건별 저장 vs JDBC 배치 (mvn -Pbenchmark test)")
+    void benchmark_LatencyPerLine() {
+        // given
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-BM").storeName("벤치 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            products.add(em.persist(Product.builder()
+                    .productCode("BM-" + i).productName("상품" + i).price(BigDecimal.valueOf(100 + i)).build()));
+        }
+        StoreOrder warmUp = em.persist(StoreOrder.builder().store(store).build());
+        StoreOrder perEntity = em.persist(StoreOrder.builder().store(store).build());
+        StoreOrder batched = em.persist(StoreOrder.builder().store(store).build());
+        em.flush();
+
+        int lines = 2_000;
+        storeOrderDetailRepository.saveAll(lines(warmUp, products, 200));
+        storeOrderDetailJdbcRepository.insertAll(lines(warmUp, products, 200));
+        em.flush();
+
+        // when
+        long started = System.nanoTime();
+        for (StoreOrderDetail detail : lines(perEntity, products, lines)) {
+            storeOrderDetailRepository.save(detail);
+        }
+        em.flush();
+        double perEntityMicros = (System.nanoTime() - started) / 1_000.0 / lines;
+
+        started = System.nanoTime();
+        storeOrderDetailJdbcRepository.insertAll(lines(batched, products, lines));
+        double batchedMicros = (System.nanoTime() - started) / 1_000.0 / lines;
+
+        log.info("store_order_detail insert: {} lines, JPA per-entity {}us/line, JDBC batch {}us/line",
+                lines, String.format("%.1f", perEntityMicros), String.format("%.1f", batchedMicros));
+
+        // then
+        em.clear();
+        assertThat(storeOrderDetailRepository.findByStoreOrder_StoreOrderId(perEntity.getStoreOrderId())).hasSize(lines);
+        assertThat(storeOrderDetailRepository.findByStoreOrder_StoreOrderId(batched.getStoreOrderId())).hasSize(lines);
+    }
+}
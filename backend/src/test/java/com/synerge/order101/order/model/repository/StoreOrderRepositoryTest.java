@@ -0,0 +1,99 @@
+package com.synerge.order101.order.model.repository;
+
+import com.synerge.order101.common.dto.TradeSearchCondition;
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.order.model.dto.StoreOrderSummaryResponseDto;
+import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.store.model.entity.Store;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StoreOrderRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class StoreOrderRepositoryTest {
+
+    @Autowired
+    private StoreOrderRepository storeOrderRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("주문 목록은 품목 수/금액/수량을 집계해 한 번의 목록 쿼리로 조회된다")
+    void search_AggregatesInTwoStatements() {
+        // given
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-L").storeName("목록 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        Product product = em.persist(Product.builder()
+                .productCode("SO-P1").productName("상품").price(BigDecimal.valueOf(500)).build());
+
+        StoreOrder withLines = em.persist(StoreOrder.builder()
+                .store(store).createdAt(LocalDateTime.now().minusDays(1)).build());
+        em.persist(StoreOrderDetail.builder()
+                .storeOrder(withLines).product(product).orderQty(2)
+                .unitPrice(BigDecimal.valueOf(500)).amount(BigDecimal.valueOf(1000)).build());
+        em.persist(StoreOrderDetail.builder()
+                .storeOrder(withLines).product(product).orderQty(3)
+                .unitPrice(BigDecimal.valueOf(500)).amount(null).build());
+
+        StoreOrder withoutStore = em.persist(StoreOrder.builder()
+                .createdAt(LocalDateTime.now()).build());
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Page<StoreOrderSummaryResponseDto> page = storeOrderRepository.search(new TradeSearchCondition(), PageRequest.of(0, 10));
+
+        // then
+        // 첫 페이지가 다 차지 않으면 전체 건수를 알 수 있으므로 count 쿼리는 생략된다.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+
+        StoreOrderSummaryResponseDto first = page.getContent().get(0);
+        assertThat(first.getStoreOrderId()).isEqualTo(withoutStore.getStoreOrderId());
+        assertThat(first.getStoreName()).isEqualTo("삭제된 매장");
+        assertThat(first.getItemCount()).isZero();
+        assertThat(first.getTotalQTY()).isZero();
+        assertThat(first.getTotalAmount()).isEqualByComparingTo("0");
+
+        StoreOrderSummaryResponseDto second = page.getContent().get(1);
+        assertThat(second.getStoreName()).isEqualTo("목록 가맹점");
+        assertThat(second.getItemCount()).isEqualTo(2);
+        assertThat(second.getTotalQTY()).isEqualTo(5);
+        assertThat(second.getTotalAmount()).isEqualByComparingTo("1000");
+    }
+}
@@ -0,0 +1,218 @@
+package com.synerge.order101.order.model.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.order.exception.errorcode.OrderErrorCode;
+import com.synerge.order101.order.model.dto.OrderIntakeResponseDto;
+import com.synerge.order101.order.model.dto.StoreOrderCreateRequest;
+import com.synerge.order101.order.model.dto.StoreOrderCreateResponseDto;
+import com.synerge.order101.order.model.entity.OrderIntake;
+import com.synerge.order101.order.model.repository.OrderIntakeRepository;
+import com.synerge.order101.store.model.repository.StoreRepository;
+import com.synerge.order101.user.model.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OrderIntakeServiceImplTest")
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeServiceImplTest {
+
+    @Mock
+    private OrderIntakeRepository orderIntakeRepository;
+    @Mock
+    private StoreRepository storeRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private StoreOrderService storeOrderService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private OrderIntakeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new OrderIntakeServiceImpl(orderIntakeRepository, storeRepository, userRepository,
+                storeOrderService, objectMapper, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(service, "capacity", 2);
+        ReflectionTestUtils.setField(service, "maxAttempts", 2);
+    }
+
+    private StoreOrderCreateRequest request() {
+        return StoreOrderCreateRequest.builder()
+                .storeId(1L)
+                .userId(10L)
+                .items(List.of(new StoreOrderCreateRequest.Item(100L, 3)))
+                .build();
+    }
+
+    private OrderIntake claimed(Long intakeId, int attempts) throws Exception {
+        return claimed(intakeId, attempts, request());
+    }
+
+    private OrderIntake claimed(Long intakeId, int attempts, StoreOrderCreateRequest request) throws Exception {
+        OrderIntake intake = OrderIntake.pending("trk-" + intakeId, 1L, objectMapper.writeValueAsString(request));
+        ReflectionTestUtils.setField(intake, "intakeId", intakeId);
+        ReflectionTestUtils.setField(intake, "status", OrderIntake.Status.PROCESSING);
+        ReflectionTestUtils.setField(intake, "claimToken", "tok-" + intakeId);
+        ReflectionTestUtils.setField(intake, "attempts", attempts);
+        return intake;
+    }
+
+    @Test
+    @DisplayName("접수 - 대기열에 PENDING 으로 쌓고 추적 ID 를 반환")
+    void enqueue_Success() {
+        // given
+        given(storeRepository.existsById(1L)).willReturn(true);
+        given(userRepository.existsById(10L)).willReturn(true);
+        given(orderIntakeRepository.countByStatus(OrderIntake.Status.PENDING)).willReturn(1L);
+        given(orderIntakeRepository.save(any(OrderIntake.class))).will(returnsFirstArg());
+
+        // when
+        OrderIntakeResponseDto result = service.enqueue(request());
+
+        // then
+        assertThat(result.getTrackingId()).isNotBlank();
+        assertThat(result.getStatus()).isEqualTo("PENDING");
+        assertThat(meterRegistry.counter("order_intake.enqueued").count()).isEqualTo(1.0);
+        verify(storeOrderService, never()).createOrder(any());
+    }
+
+    @Test
+    @DisplayName("접수 - 대기 건수가 한도에 닿으면 INTAKE_QUEUE_FULL")
+    void enqueue_QueueFull() {
+        // given
+        given(storeRepository.existsById(1L)).willReturn(true);
+        given(userRepository.existsById(10L)).willReturn(true);
+        given(orderIntakeRepository.countByStatus(OrderIntake.Status.PENDING)).willReturn(2L);
+
+        // when & then
+        assertThatThrownBy(() -> service.enqueue(request()))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.INTAKE_QUEUE_FULL);
+        verify(orderIntakeRepository, never()).save(any());
+        assertThat(meterRegistry.counter("order_intake.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("접수 - 품목이 없으면 INVALID_ORDER_REQUEST")
+    void enqueue_InvalidRequest() {
+        StoreOrderCreateRequest empty = StoreOrderCreateRequest.builder().storeId(1L).userId(10L).items(List.of()).build();
+
+        assertThatThrownBy(() -> service.enqueue(empty))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.INVALID_ORDER_REQUEST);
+        verify(orderIntakeRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("처리 - 선점한 건을 주문으로 만들고 DONE 으로 기록")
+    void drainBatch_CreatesOrders() throws Exception {
+        // given
+        OrderIntake first = claimed(1L, 1);
+        OrderIntake second = claimed(2L, 1);
+        given(orderIntakeRepository.findFairPendingIds(5, 50)).willReturn(List.of(1L, 2L));
+        given(orderIntakeRepository.findByClaimTokenOrderByIntakeIdAsc(anyString())).willReturn(List.of(first, second));
+        given(orderIntakeRepository.findByIdForUpdate(1L)).willReturn(Optional.of(first));
+        given(orderIntakeRepository.findByIdForUpdate(2L)).willReturn(Optional.of(second));
+        given(storeOrderService.createOrder(any(StoreOrderCreateRequest.class)))
+                .willReturn(new StoreOrderCreateResponseDto(500L, "SO-1", List.of(), true));
+
+        // when
+        int drained = service.drainBatch();
+
+        // then
+        assertThat(drained).isEqualTo(2);
+        verify(orderIntakeRepository).claim(eq(List.of(1L, 2L)), anyString(), any());
+        assertThat(first.getStatus()).isEqualTo(OrderIntake.Status.DONE);
+        assertThat(second.getStatus()).isEqualTo(OrderIntake.Status.DONE);
+        assertThat(first.getStoreOrderId()).isEqualTo(500L);
+        assertThat(meterRegistry.counter("order_intake.processed", "result", "done").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("처리 - 업무 오류는 FAILED, 일시 오류는 시도 횟수 안에서 다시 대기열로")
+    void drainBatch_FailureAndRetry() throws Exception {
+        // given
+        OrderIntake rejected = claimed(1L, 1, StoreOrderCreateRequest.builder().storeId(1L).userId(10L)
+                .items(List.of(new StoreOrderCreateRequest.Item(999L, 1))).build());
+        OrderIntake transientFail = claimed(2L, 1);
+
+        given(orderIntakeRepository.findFairPendingIds(5, 50)).willReturn(List.of(1L, 2L));
+        given(orderIntakeRepository.findByClaimTokenOrderByIntakeIdAsc(anyString()))
+                .willReturn(List.of(rejected, transientFail));
+        given(orderIntakeRepository.findByIdForUpdate(1L)).willReturn(Optional.of(rejected));
+        given(orderIntakeRepository.findByIdForUpdate(2L)).willReturn(Optional.of(transientFail));
+        given(storeOrderService.createOrder(any(StoreOrderCreateRequest.class))).willAnswer(invocation -> {
+            StoreOrderCreateRequest req = invocation.getArgument(0);
+            if (req.getItems().get(0).getProductId() == 999L) {
+                throw new CustomException(OrderErrorCode.ORDER_NOT_FOUND);
+            }
+            throw new CannotAcquireLockException("lock wait timeout");
+        });
+
+        // when
+        service.drainBatch();
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(OrderIntake.Status.FAILED);
+        assertThat(transientFail.getStatus()).isEqualTo(OrderIntake.Status.PENDING);
+        assertThat(transientFail.getClaimToken()).isNull();
+        assertThat(meterRegistry.counter("order_intake.processed", "result", "retry").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 - 멈춘 건으로 되돌려져 다른 워커가 다시 선점한 건은 주문을 만들지 않고 건너뛴다")
+    void drainBatch_SkipsWhenClaimLost() throws Exception {
+        // given - 선점 후 releaseStale + 재선점으로 토큰이 바뀐 상태
+        OrderIntake mine = claimed(1L, 1);
+        OrderIntake reclaimed = claimed(1L, 2);
+        ReflectionTestUtils.setField(reclaimed, "claimToken", "other-worker");
+        given(orderIntakeRepository.findFairPendingIds(5, 50)).willReturn(List.of(1L));
+        given(orderIntakeRepository.findByClaimTokenOrderByIntakeIdAsc(anyString())).willReturn(List.of(mine));
+        given(orderIntakeRepository.findByIdForUpdate(1L)).willReturn(Optional.of(reclaimed));
+
+        // when
+        service.drainBatch();
+
+        // then
+        verify(storeOrderService, never()).createOrder(any());
+        assertThat(reclaimed.getStatus()).isEqualTo(OrderIntake.Status.PROCESSING);
+        assertThat(meterRegistry.counter("order_intake.processed", "result", "skipped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 - 대기 건이 없으면 0")
+    void drainBatch_Empty() {
+        given(orderIntakeRepository.findFairPendingIds(5, 50)).willReturn(List.of());
+
+        assertThat(service.drainBatch()).isZero();
+        verify(orderIntakeRepository, never()).claim(any(), anyString(), any());
+    }
+}
@@ -4,19 +4,30 @@ import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
 import com.synerge.order101.common.enums.ShipmentStatus;
 import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.outbox.Outbox;
+import com.synerge.order101.common.outbox.OutboxEventType;
 import com.synerge.order101.notification.model.service.NotificationService;
 import com.synerge.order101.order.exception.errorcode.OrderErrorCode;
+import com.synerge.order101.order.model.dto.StoreOrderBulkApprovalRequest;
+import com.synerge.order101.order.model.dto.StoreOrderBulkApprovalResponseDto;
+import com.synerge.order101.order.model.dto.StoreOrderBulkCreateRequest;
+import com.synerge.order101.order.model.dto.StoreOrderBulkCreateResponseDto;
 import com.synerge.order101.order.model.dto.StoreOrderCreateRequest;
 import com.synerge.order101.order.model.dto.StoreOrderCreateResponseDto;
 import com.synerge.order101.order.model.dto.StoreOrderDetailResponseDto;
+import com.synerge.order101.order.model.dto.StoreOrderStockCheckResponseDto;
 import com.synerge.order101.order.model.dto.StoreOrderSummaryResponseDto;
 import com.synerge.order101.order.model.entity.StoreOrder;
 import com.synerge.order101.order.model.entity.StoreOrderDetail;
+import com.synerge.order101.order.model.repository.StoreOrderDetailJdbcRepository;
 import com.synerge.order101.order.model.repository.StoreOrderDetailRepository;
 import com.synerge.order101.order.model.repository.StoreOrderRepository;
+import com.synerge.order101.order.model.repository.StoreOrderStatusLogJdbcRepository;
 import com.synerge.order101.order.model.repository.StoreOrderStatusLogRepository;
+import com.synerge.order101.outbound.model.service.OutboundService;
 import com.synerge.order101.product.model.entity.Product;
 import com.synerge.order101.product.model.repository.ProductRepository;
+import com.synerge.order101.shipment.model.repository.ShipmentJdbcRepository;
 import com.synerge.order101.shipment.model.repository.ShipmentRepository;
 import com.synerge.order101.store.model.entity.Store;
 import com.synerge.order101.store.model.repository.StoreRepository;
@@ -26,6 +37,10 @@ import com.synerge.order101.user.model.repository.UserRepository;
 import com.synerge.order101.warehouse.model.entity.Warehouse;
 import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
 import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
+import com.synerge.order101.warehouse.model.dto.response.WarehouseAllocation;
+import com.synerge.order101.warehouse.model.service.InventoryReservationService;
+import com.synerge.order101.warehouse.model.service.WarehouseAllocator;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,7 +48,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -43,12 +57,18 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -62,11 +82,17 @@ class StoreOrderServiceImplTest {
     @Mock
     private StoreOrderDetailRepository storeOrderDetailRepository;
 
+    @Mock
+    private StoreOrderDetailJdbcRepository storeOrderDetailJdbcRepository;
+
     @Mock
     private StoreOrderStatusLogRepository storeOrderStatusLogRepository;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private StoreOrderStatusLogJdbcRepository storeOrderStatusLogJdbcRepository;
+
+    @Mock
+    private Outbox outbox;
 
     @Mock
     private StoreRepository storeRepository;
@@ -86,9 +112,27 @@ class StoreOrderServiceImplTest {
     @Mock
     private ShipmentRepository shipmentRepository;
 
+    @Mock
+    private ShipmentJdbcRepository shipmentJdbcRepository;
+
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private OutboundService outboundService;
+
+    @Mock
+    private DailyProductSalesService dailyProductSalesService;
+
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+
+    @Mock
+    private WarehouseAllocator warehouseAllocator;
+
+    @Mock
+    private DocumentNumberAllocator documentNumberAllocator;
+
     @InjectMocks
     private StoreOrderServiceImpl storeOrderService;
 
@@ -155,8 +199,8 @@ class StoreOrderServiceImplTest {
         // given
         TradeSearchCondition condition = new TradeSearchCondition();
         Pageable pageable = PageRequest.of(0, 10);
-        List<StoreOrder> orders = List.of(storeOrder);
-        Page<StoreOrder> orderPage = new PageImpl<>(orders, pageable, 1);
+        List<StoreOrderSummaryResponseDto> orders = List.of(StoreOrderSummaryResponseDto.fromEntity(storeOrder));
+        Page<StoreOrderSummaryResponseDto> orderPage = new PageImpl<>(orders, pageable, 1);
 
         given(storeOrderRepository.search(condition, pageable)).willReturn(orderPage);
 
@@ -229,9 +273,8 @@ class StoreOrderServiceImplTest {
         given(storeRepository.findById(1L)).willReturn(Optional.of(store));
         given(warehouseRepository.findById(1L)).willReturn(Optional.of(warehouse));
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+        given(productRepository.findAllById(Set.of(1L))).willReturn(List.of(product));
         given(storeOrderRepository.save(any(StoreOrder.class))).willReturn(storeOrder);
-        given(storeOrderDetailRepository.save(any(StoreOrderDetail.class))).willReturn(orderDetail);
 
         // when
         StoreOrderCreateResponseDto result = storeOrderService.createOrder(request);
@@ -239,12 +282,166 @@ class StoreOrderServiceImplTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getStoreOrderId()).isEqualTo(1L);
+        assertThat(result.isFullyReserved()).isTrue();
+        assertThat(result.getOrders().get(0).getUnreservedItems()).isEmpty();
         verify(storeRepository, times(1)).findById(1L);
         verify(warehouseRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).findById(1L);
-        verify(productRepository, times(1)).findById(1L);
+        verify(productRepository, times(1)).findAllById(Set.of(1L));
         verify(storeOrderRepository, times(1)).save(any(StoreOrder.class));
-        verify(storeOrderDetailRepository, times(1)).save(any(StoreOrderDetail.class));
+        verify(storeOrderDetailJdbcRepository, times(1)).insertAll(argThat(details -> details.size() == 1));
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 가용 재고가 모자라 예약하지 못한 품목은 응답에 남긴다")
+    void createOrder_ReportsUnreservedItems() {
+        // given
+        StoreOrderCreateRequest request = StoreOrderCreateRequest.builder()
+                .storeId(1L)
+                .warehouseId(1L)
+                .userId(1L)
+                .items(List.of(StoreOrderCreateRequest.Item.builder().productId(1L).orderQty(10).build()))
+                .build();
+
+        given(storeRepository.findById(1L)).willReturn(Optional.of(store));
+        given(warehouseRepository.findById(1L)).willReturn(Optional.of(warehouse));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(productRepository.findAllById(Set.of(1L))).willReturn(List.of(product));
+        given(storeOrderRepository.save(any(StoreOrder.class))).willReturn(storeOrder);
+        given(inventoryReservationService.reserve(eq(1L), any(), eq(Map.of(1L, 10)))).willReturn(Map.of(1L, 10));
+
+        // when
+        StoreOrderCreateResponseDto result = storeOrderService.createOrder(request);
+
+        // then
+        assertThat(result.getStoreOrderId()).isEqualTo(1L);
+        assertThat(result.isFullyReserved()).isFalse();
+        assertThat(result.getOrders()).singleElement()
+                .satisfies(split -> assertThat(split.getUnreservedItems())
+                        .extracting(StoreOrderCreateResponseDto.UnreservedItem::getProductId,
+                                StoreOrderCreateResponseDto.UnreservedItem::getUnreservedQty)
+                        .containsExactly(tuple(1L, 10)));
+    }
+
+    @Test
+    @DisplayName("창고 미지정 주문은 배정 결과대로 창고별 주문으로 나뉜다")
+    void createOrder_SplitsByAllocation() {
+        // given
+        Product other = Product.builder().productId(2L).productCode("P002").productName("상품2").price(BigDecimal.valueOf(500)).build();
+        Warehouse east = Warehouse.builder().warehouseId(1L).warehouseName("동부").build();
+        Warehouse west = Warehouse.builder().warehouseId(2L).warehouseName("서부").build();
+
+        StoreOrderCreateRequest request = StoreOrderCreateRequest.builder()
+                .storeId(1L)
+                .userId(1L)
+                .items(List.of(
+                        StoreOrderCreateRequest.Item.builder().productId(1L).orderQty(10).build(),
+                        StoreOrderCreateRequest.Item.builder().productId(2L).orderQty(4).build()))
+                .build();
+
+        given(storeRepository.findById(1L)).willReturn(Optional.of(store));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(productRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(product, other));
+        given(warehouseAllocator.allocate(1L, Map.of(1L, 10, 2L, 4))).willReturn(List.of(
+                new WarehouseAllocation(1L, Map.of(1L, 10)),
+                new WarehouseAllocation(2L, Map.of(2L, 4))));
+        given(warehouseRepository.findById(1L)).willReturn(Optional.of(east));
+        given(warehouseRepository.findById(2L)).willReturn(Optional.of(west));
+        given(storeOrderRepository.save(any(StoreOrder.class))).willAnswer(invocation -> {
+            StoreOrder saved = invocation.getArgument(0);
+            return StoreOrder.builder()
+                    .storeOrderId(saved.getWarehouse().getWarehouseId() * 100)
+                    .warehouse(saved.getWarehouse())
+                    .build();
+        });
+
+        // when
+        StoreOrderCreateResponseDto result = storeOrderService.createOrder(request);
+
+        // then
+        assertThat(result.getStoreOrderId()).isEqualTo(100L);
+        assertThat(result.getOrders())
+                .extracting(StoreOrderCreateResponseDto.SplitOrder::getWarehouseId)
+                .containsExactly(1L, 2L);
+        verify(storeOrderDetailJdbcRepository, times(1)).insertAll(argThat(details -> details.size() == 2));
+        verify(inventoryReservationService).reserve(100L, 1L, Map.of(1L, 10));
+        verify(inventoryReservationService).reserve(200L, 2L, Map.of(2L, 4));
+    }
+
+    @Test
+    @DisplayName("일괄 주문 생성 - 상품은 한 번에 조회하고 상세는 한 번의 배치로 저장한다")
+    void createOrders_FetchesProductsOnceAndBatchesDetails() {
+        // given
+        Product other = Product.builder().productId(2L).productCode("P002").productName("상품2").price(BigDecimal.valueOf(500)).build();
+        List<StoreOrderCreateRequest> week = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            week.add(StoreOrderCreateRequest.builder()
+                    .storeId(1L)
+                    .warehouseId(1L)
+                    .userId(1L)
+                    .items(List.of(
+                            StoreOrderCreateRequest.Item.builder().productId(1L).orderQty(10 + day).build(),
+                            StoreOrderCreateRequest.Item.builder().productId(2L).orderQty(3).build()))
+                    .build());
+        }
+
+        given(storeRepository.findById(1L)).willReturn(Optional.of(store));
+        given(warehouseRepository.findById(1L)).willReturn(Optional.of(warehouse));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(productRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(product, other));
+        given(storeOrderRepository.save(any(StoreOrder.class))).willReturn(storeOrder);
+
+        // when
+        StoreOrderBulkCreateResponseDto result = storeOrderService.createOrders(
+                StoreOrderBulkCreateRequest.builder().orders(week).build());
+
+        // then
+        assertThat(result.getResults()).hasSize(7);
+        assertThat(result.getLineCount()).isEqualTo(14);
+        verify(storeRepository, times(1)).findById(1L);
+        verify(userRepository, times(1)).findById(1L);
+        verify(productRepository, times(1)).findAllById(Set.of(1L, 2L));
+        verify(productRepository, never()).findById(anyLong());
+        verify(storeOrderRepository, times(7)).save(any(StoreOrder.class));
+        verify(storeOrderDetailJdbcRepository, times(1)).insertAll(argThat(details -> details.size() == 14));
+        verify(storeOrderDetailRepository, never()).save(any(StoreOrderDetail.class));
+    }
+
+    @Test
+    @DisplayName("일괄 주문 생성 실패 - 없는 상품이 있으면 주문을 저장하지 않는다")
+    void createOrders_ProductNotFound() {
+        // given
+        StoreOrderCreateRequest request = StoreOrderCreateRequest.builder()
+                .storeId(1L)
+                .warehouseId(1L)
+                .userId(1L)
+                .items(List.of(StoreOrderCreateRequest.Item.builder().productId(99L).orderQty(1).build()))
+                .build();
+        given(productRepository.findAllById(Set.of(99L))).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> storeOrderService.createOrders(
+                StoreOrderBulkCreateRequest.builder().orders(List.of(request)).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(storeOrderRepository, never()).save(any(StoreOrder.class));
+        verify(storeOrderDetailJdbcRepository, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("일괄 주문 생성 실패 - 한 번에 받을 수 있는 주문 수 초과")
+    void createOrders_TooMany() {
+        // given
+        List<StoreOrderCreateRequest> orders = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            orders.add(StoreOrderCreateRequest.builder().storeId(1L).userId(1L).build());
+        }
+
+        // when & then
+        assertThatThrownBy(() -> storeOrderService.createOrders(
+                StoreOrderBulkCreateRequest.builder().orders(orders).build()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.TOO_MANY_ORDERS);
+        verify(storeRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -299,7 +496,7 @@ class StoreOrderServiceImplTest {
         // given
         TradeSearchCondition condition = new TradeSearchCondition();
         Pageable pageable = PageRequest.of(0, 10);
-        Page<StoreOrder> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<StoreOrderSummaryResponseDto> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
         given(storeOrderRepository.search(condition, pageable)).willReturn(emptyPage);
 
@@ -312,4 +509,248 @@ class StoreOrderServiceImplTest {
         assertThat(result.getTotalElements()).isEqualTo(0);
         verify(storeOrderRepository, times(1)).search(condition, pageable);
     }
+
+    @Test
+    @DisplayName("주문 승인 시 일 판매량 집계에 반영")
+    void updateOrderStatus_Confirmed_AppliesDailySales() {
+        // given
+        given(storeOrderRepository.findByIdForUpdate(1L)).willReturn(Optional.of(storeOrder));
+
+        // when
+        storeOrderService.updateOrderStatus(1L, OrderStatus.CONFIRMED);
+
+        // then
+        verify(dailyProductSalesService, times(1)).applyConfirmed(storeOrder);
+        verify(dailyProductSalesService, never()).revertConfirmed(any());
+        verify(outboundService, times(1)).createOutbound(storeOrder);
+    }
+
+    @Test
+    @DisplayName("승인된 주문이 취소되면 일 판매량 집계에서 차감")
+    void updateOrderStatus_CancelledAfterConfirm_RevertsDailySales() {
+        // given
+        storeOrder.updateOrderState(OrderStatus.CONFIRMED);
+        given(storeOrderRepository.findByIdForUpdate(1L)).willReturn(Optional.of(storeOrder));
+
+        // when
+        storeOrderService.updateOrderStatus(1L, OrderStatus.CANCELLED);
+
+        // then
+        verify(dailyProductSalesService, times(1)).revertConfirmed(storeOrder);
+        verify(dailyProductSalesService, never()).applyConfirmed(any());
+    }
+
+    @Test
+    @DisplayName("반려는 일 판매량 집계에 영향 없음")
+    void updateOrderStatus_Rejected_NoDailySales() {
+        // given
+        given(storeOrderRepository.findByIdForUpdate(1L)).willReturn(Optional.of(storeOrder));
+
+        // when
+        storeOrderService.updateOrderStatus(1L, OrderStatus.REJECTED);
+
+        // then
+        verifyNoInteractions(dailyProductSalesService);
+    }
+
+    @Test
+    @DisplayName("승인 대기 주문이 승인되면 출고에서 예약을 소진하고, 반려되면 해제")
+    void updateOrderStatus_ClosesReservation() {
+        // given
+        StoreOrder other = StoreOrder.builder()
+                .storeOrderId(2L)
+                .orderStatus(OrderStatus.SUBMITTED)
+                .build();
+        given(storeOrderRepository.findByIdForUpdate(1L)).willReturn(Optional.of(storeOrder));
+        given(storeOrderRepository.findByIdForUpdate(2L)).willReturn(Optional.of(other));
+
+        // when
+        storeOrderService.updateOrderStatus(1L, OrderStatus.CONFIRMED);
+        storeOrderService.updateOrderStatus(2L, OrderStatus.REJECTED);
+
+        // then
+        verify(outboundService).createOutbound(storeOrder);
+        verify(inventoryReservationService, never()).release(1L);
+        verify(inventoryReservationService).release(2L);
+        verify(inventoryReservationService, never()).reserve(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("승인 대기가 아닌 주문은 단건 승인할 수 없음 (중복 출고 방지)")
+    void updateOrderStatus_ConfirmedTwice_Rejected() {
+        // given
+        storeOrder.updateOrderState(OrderStatus.CONFIRMED);
+        given(storeOrderRepository.findByIdForUpdate(1L)).willReturn(Optional.of(storeOrder));
+
+        // when & then
+        assertThatThrownBy(() -> storeOrderService.updateOrderStatus(1L, OrderStatus.CONFIRMED))
+                .isInstanceOf(CustomException.class);
+        verifyNoInteractions(outboundService, outbox, dailyProductSalesService);
+        verify(shipmentRepository, never()).save(any());
+    }
+
+    private StoreOrder submitted(Long storeOrderId, Warehouse wh) {
+        return StoreOrder.builder()
+                .storeOrderId(storeOrderId)
+                .store(store)
+                .warehouse(wh)
+                .user(user)
+                .orderNo("OR-" + storeOrderId)
+                .orderStatus(OrderStatus.SUBMITTED)
+                .build();
+    }
+
+    private StoreOrderDetail line(StoreOrder order, Product p, int qty) {
+        return StoreOrderDetail.builder()
+                .storeOrder(order)
+                .product(p)
+                .orderQty(qty)
+                .unitPrice(p.getPrice())
+                .amount(p.getPrice().multiply(BigDecimal.valueOf(qty)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("일괄 승인 - 보유 재고를 요청 순서대로 나눠 승인하고, 승인하지 못한 주문은 사유를 남긴다")
+    void approveOrders_ApprovesWithinStockAndReportsFailures() {
+        // given
+        Warehouse wh = Warehouse.builder().warehouseId(7L).build();
+        StoreOrder first = submitted(1L, wh);
+        StoreOrder second = submitted(2L, wh);
+        StoreOrder confirmed = submitted(3L, wh);
+        confirmed.updateOrderState(OrderStatus.CONFIRMED);
+
+        given(storeOrderRepository.findAllByIdForUpdate(List.of(1L, 2L, 3L, 99L)))
+                .willReturn(List.of(first, second, confirmed));
+        given(storeOrderDetailRepository.findWithProductByStoreOrderIds(any()))
+                .willReturn(List.of(line(first, product, 10), line(second, product, 8), line(confirmed, product, 1)));
+        // 보유 15 중 첫 주문이 10 을 예약 -> 가용 5. 첫 주문은 자기 예약분으로 승인, 두 번째 주문(8)은 재고 부족
+        given(inventoryReservationService.lockAvailableToPromise(eq(7L), any())).willReturn(Map.of(1L, 5));
+        given(inventoryReservationService.getActiveReservations(List.of(1L, 2L))).willReturn(Map.of(1L, Map.of(1L, 10)));
+        given(outboundService.createOutbounds(eq(List.of(first)), anyMap())).willReturn(Map.of(1L, "OUT-1"));
+
+        StoreOrderBulkApprovalRequest request = StoreOrderBulkApprovalRequest.builder()
+                .storeOrderIds(List.of(1L, 2L, 3L, 99L, 1L))
+                .build();
+
+        // when
+        StoreOrderBulkApprovalResponseDto response = storeOrderService.approveOrders(request);
+
+        // then
+        assertThat(response.getApprovedCount()).isEqualTo(1);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getResults())
+                .extracting(StoreOrderBulkApprovalResponseDto.Result::getStoreOrderId,
+                        StoreOrderBulkApprovalResponseDto.Result::isApproved,
+                        StoreOrderBulkApprovalResponseDto.Result::getOutboundNo,
+                        StoreOrderBulkApprovalResponseDto.Result::getFailureCode)
+                .containsExactly(
+                        tuple(1L, true, "OUT-1", null),
+                        tuple(2L, false, null, "INSUFFICIENT_STOCK"),
+                        tuple(3L, false, null, "INVALID_ORDER_STATUS"),
+                        tuple(99L, false, null, "ORDER_NOT_FOUND"));
+
+        assertThat(first.getOrderStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(second.getOrderStatus()).isEqualTo(OrderStatus.SUBMITTED);
+        verify(dailyProductSalesService).applyConfirmedAll(List.of(first));
+        verify(outbox).appendAll(eq(OutboxEventType.SETTLEMENT_REQUESTED), argThat(requests -> requests.size() == 1));
+        verify(shipmentJdbcRepository).insertAll(argThat(shipments -> shipments.size() == 1));
+        verify(storeOrderStatusLogJdbcRepository).insertAll(argThat(logs -> logs.size() == 1
+                && logs.get(0).getCurStatus() == OrderStatus.CONFIRMED));
+        verify(notificationService).notifyStoreOrderResults(List.of(first));
+
+        // 승인 판단은 메모리 뷰가 아니라 잠근 재고 행 기준
+        verify(inventoryReservationService, never()).getAvailableToPromise(any(), any());
+
+        // 건별 승인 경로는 타지 않는다
+        verify(outboundService, never()).createOutbound(any());
+        verify(shipmentRepository, never()).save(any());
+        verify(storeOrderStatusLogRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("일괄 승인 - 승인할 주문이 없으면 출고/정산/알림을 만들지 않는다")
+    void approveOrders_NothingApproved() {
+        // given
+        Warehouse wh = Warehouse.builder().warehouseId(7L).build();
+        StoreOrder order = submitted(1L, wh);
+        given(storeOrderRepository.findAllByIdForUpdate(List.of(1L))).willReturn(List.of(order));
+        given(storeOrderDetailRepository.findWithProductByStoreOrderIds(any()))
+                .willReturn(List.of(line(order, product, 10)));
+        given(inventoryReservationService.lockAvailableToPromise(eq(7L), any())).willReturn(Map.of());
+
+        // when
+        StoreOrderBulkApprovalResponseDto response = storeOrderService.approveOrders(
+                StoreOrderBulkApprovalRequest.builder().storeOrderIds(List.of(1L)).build());
+
+        // then
+        assertThat(response.getApprovedCount()).isZero();
+        assertThat(response.getResults()).singleElement()
+                .extracting(StoreOrderBulkApprovalResponseDto.Result::getFailureCode)
+                .isEqualTo("INSUFFICIENT_STOCK");
+        verifyNoInteractions(outboundService, outbox, shipmentJdbcRepository, notificationService);
+        verify(inventoryReservationService, never()).consumeAll(any());
+    }
+
+    @Test
+    @DisplayName("일괄 승인 실패 - 한 번에 받을 수 있는 주문 수 초과")
+    void approveOrders_TooMany() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= 101; i++) {
+            ids.add(i);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> storeOrderService.approveOrders(
+                StoreOrderBulkApprovalRequest.builder().storeOrderIds(ids).build()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.TOO_MANY_ORDERS);
+        verifyNoInteractions(storeOrderRepository);
+    }
+
+    @Test
+    @DisplayName("재고 확인 - 다른 주문의 예약을 제외하고 자기 예약분은 가용 재고로 본다")
+    void checkStockForOrder_UsesAvailableToPromise() {
+        // given
+        warehouse = Warehouse.builder().warehouseId(7L).build();
+        storeOrder = StoreOrder.builder()
+                .storeOrderId(1L)
+                .warehouse(warehouse)
+                .orderStatus(OrderStatus.SUBMITTED)
+                .build();
+        Product other = Product.builder().productId(2L).productName("부족 상품").productCode("TEST-002").build();
+        StoreOrderDetail enough = StoreOrderDetail.builder().storeOrder(storeOrder).product(product).orderQty(10).build();
+        StoreOrderDetail shortage = StoreOrderDetail.builder().storeOrder(storeOrder).product(other).orderQty(8).build();
+
+        given(storeOrderRepository.findAllById(List.of(1L))).willReturn(List.of(storeOrder));
+        given(storeOrderDetailRepository.findWithProductByStoreOrderIds(List.of(1L))).willReturn(List.of(enough, shortage));
+        // 보유 - 전체 예약: 상품1 = 0 (자기 예약 10 포함), 상품2 = 3 (다른 주문 예약 때문에 부족)
+        given(inventoryReservationService.getActiveReservations(List.of(1L)))
+                .willReturn(Map.of(1L, Map.of(1L, 10, 2L, 2)));
+        given(inventoryReservationService.getAvailableToPromise(eq(7L), any()))
+                .willReturn(Map.of(1L, 0, 2L, 3));
+
+        // when
+        StoreOrderStockCheckResponseDto result = storeOrderService.checkStockForOrder(1L);
+
+        // then
+        assertThat(result.isHasEnoughStock()).isFalse();
+        assertThat(result.getInsufficientItems()).hasSize(1);
+        assertThat(result.getInsufficientItems().get(0).getProductId()).isEqualTo(2L);
+        assertThat(result.getInsufficientItems().get(0).getAvailableQty()).isEqualTo(5);
+        assertThat(result.getInsufficientItems().get(0).getShortageQty()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재고 확인 실패 - 존재하지 않는 주문")
+    void checkStockForOrder_NotFound() {
+        // given
+        given(storeOrderRepository.findAllById(List.of(999L))).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> storeOrderService.checkStockForOrder(999L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.ORDER_NOT_FOUND);
+    }
 }
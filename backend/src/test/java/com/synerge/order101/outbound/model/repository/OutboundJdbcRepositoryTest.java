@@ -0,0 +1,90 @@
+package com.synerge.order101.outbound.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.outbound.model.entity.Outbound;
+import com.synerge.order101.outbound.model.entity.OutboundDetail;
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.store.model.entity.Store;
+import com.synerge.order101.warehouse.model.entity.Warehouse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboundJdbcRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, OutboundJdbcRepository.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class OutboundJdbcRepositoryTest {
+
+    @Autowired
+    private OutboundJdbcRepository outboundJdbcRepository;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundDetailRepository outboundDetailRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("출고를 배치로 저장한 뒤 출고번호로 ID 를 찾아 상세를 배치로 저장한다")
+    void insertAll_ThenDetailsByLookedUpIds() {
+        // given
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-O").warehouseName("창고").build());
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-O").storeName("출고 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        Product product = em.persist(Product.builder()
+                .productCode("OB-1").productName("상품").price(BigDecimal.valueOf(100)).build());
+        em.flush();
+
+        List<Outbound> outbounds = List.of(
+                Outbound.create(warehouse, store, "OUT-1-1", "SYSTEM"),
+                Outbound.create(warehouse, store, "OUT-2-1", "SYSTEM"));
+
+        // when
+        int[] counts = outboundJdbcRepository.insertAll(outbounds);
+        Map<String, Long> idByNo = new HashMap<>();
+        for (Object[] row : outboundRepository.findIdsByOutboundNos(List.of("OUT-1-1", "OUT-2-1"))) {
+            idByNo.put((String) row[0], (Long) row[1]);
+        }
+        outboundJdbcRepository.insertDetails(List.of(
+                new OutboundDetail(outboundRepository.getReferenceById(idByNo.get("OUT-1-1")), product, 5),
+                new OutboundDetail(outboundRepository.getReferenceById(idByNo.get("OUT-2-1")), product, 3)));
+        em.clear();
+
+        // then
+        assertThat(counts).containsOnly(1);
+        assertThat(idByNo).containsOnlyKeys("OUT-1-1", "OUT-2-1");
+        assertThat(outboundRepository.findById(idByNo.get("OUT-1-1")))
+                .get()
+                .satisfies(o -> {
+                    assertThat(o.getCreatedBy()).isEqualTo("SYSTEM");
+                    assertThat(o.getOutboundDatetime()).isNotNull();
+                });
+        assertThat(outboundDetailRepository.findByOutbound(idByNo.get("OUT-2-1")))
+                .singleElement()
+                .extracting(OutboundDetail::getOutboundQty)
+                .isEqualTo(3);
+    }
+}
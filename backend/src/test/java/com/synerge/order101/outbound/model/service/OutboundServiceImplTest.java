@@ -1,5 +1,7 @@
 package com.synerge.order101.outbound.model.service;
 
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.order.exception.errorcode.OrderErrorCode;
 import com.synerge.order101.order.model.entity.StoreOrder;
 import com.synerge.order101.order.model.entity.StoreOrderDetail;
 import com.synerge.order101.order.model.repository.StoreOrderRepository;
@@ -9,11 +11,19 @@ import com.synerge.order101.outbound.model.dto.OutboundSearchRequestDto;
 import com.synerge.order101.outbound.model.entity.Outbound;
 import com.synerge.order101.outbound.model.entity.OutboundDetail;
 import com.synerge.order101.outbound.model.repository.OutboundDetailRepository;
+import com.synerge.order101.outbound.model.repository.OutboundJdbcRepository;
 import com.synerge.order101.outbound.model.repository.OutboundRepository;
 import com.synerge.order101.store.model.entity.Store;
 import com.synerge.order101.warehouse.model.entity.Warehouse;
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
+import com.synerge.order101.warehouse.model.dto.request.WarehouseMovementLine;
+import com.synerge.order101.warehouse.model.dto.response.StockDecreaseResultDto;
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.service.InventoryMovementService;
+import com.synerge.order101.warehouse.model.service.InventoryReservationService;
 import com.synerge.order101.warehouse.model.service.InventoryService;
 import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,8 +38,11 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +55,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class OutboundServiceImplTest {
 
+    @Mock
+    private DocumentNumberAllocator documentNumberAllocator;
+
     @InjectMocks
     private OutboundServiceImpl outboundService;
 
@@ -50,9 +66,15 @@ class OutboundServiceImplTest {
     @Mock
     private OutboundDetailRepository outboundDetailRepository;
     @Mock
+    private OutboundJdbcRepository outboundJdbcRepository;
+    @Mock
     private InventoryService inventoryService;
     @Mock
+    private InventoryMovementService inventoryMovementService;
+    @Mock
     private StoreOrderRepository storeOrderRepository;
+    @Mock
+    private InventoryReservationService inventoryReservationService;
 
     @Test
     @DisplayName("출고 생성 및 재고 차감 테스트")
@@ -76,6 +98,12 @@ class OutboundServiceImplTest {
                 .storeOrderDetails(List.of(orderDetail))
                 .build();
 
+        // 승인 대기 동안 잡아 둔 예약은 같은 차감 줄에서 함께 내린다
+        given(inventoryReservationService.consumeAll(List.of(100L))).willReturn(Map.of(100L, Map.of(10L, 50)));
+        List<StockDecreaseLine> lines = List.of(new StockDecreaseLine(1L, 10L, 50, 50));
+        given(inventoryService.decreaseInventories(lines))
+                .willReturn(new StockDecreaseResultDto(1, List.of(), List.of()));
+
         // when
         outboundService.createOutbound(mockOrder);
 
@@ -83,16 +111,92 @@ class OutboundServiceImplTest {
         // 1. 출고(Outbound)가 저장되었는지 검증
         verify(outboundRepository, times(1)).save(any(Outbound.class));
 
-        // 2. 출고 상세(OutboundDetail)가 저장되었는지 검증
-        verify(outboundDetailRepository, times(1)).save(any());
+        // 2. 출고 상세(OutboundDetail)가 한 번에 저장되었는지 검증
+        verify(outboundDetailRepository, times(1)).saveAll(anyList());
+
+        // 3. 재고 서비스(InventoryService)가 한 번의 일괄 차감으로 호출되었는지 검증
+        verify(inventoryService, times(1)).decreaseInventories(lines);
+        verify(inventoryService, never()).decreaseInventory(anyLong(), anyLong(), anyInt());
 
-        // 3. 재고 서비스(InventoryService)가 호출되어 재고가 차감되었는지 검증
-        verify(inventoryService, times(1)).decreaseInventory(mockProduct.getProductId(), 50);
+        // 4. 재고 이동 원장에 출고가 기록되었는지 검증
+        verify(inventoryMovementService, times(1)).recordWarehouse(eq(ChangeType.OUTBOUND), any(), eq(1L), eq(Map.of(10L, 50)));
 
-        // 4. (Console 확인용) 실제 테스트 실행 시 SLF4J 로그가 콘솔에 찍히는지 확인
+        // 5. (Console 확인용) 실제 테스트 실행 시 SLF4J 로그가 콘솔에 찍히는지 확인
         System.out.println(">>> 테스트 성공: createOutbound 로직이 정상 수행되었습니다.");
     }
 
+    @Test
+    @DisplayName("출고 생성 - 재고 부족 줄이 있으면 예외")
+    void createOutbound_InsufficientStock() {
+        // given
+        Product cola = Product.builder().productId(10L).productCode("P001").productName("콜라").build();
+        Product cider = Product.builder().productId(11L).productCode("P002").productName("사이다").build();
+
+        StoreOrder mockOrder = StoreOrder.builder()
+                .storeOrderId(101L)
+                .warehouse(Warehouse.builder().warehouseId(1L).build())
+                .storeOrderDetails(List.of(
+                        StoreOrderDetail.builder().product(cola).orderQty(5).build(),
+                        StoreOrderDetail.builder().product(cider).orderQty(500).build()))
+                .build();
+
+        StockDecreaseLine failed = new StockDecreaseLine(1L, 11L, 500);
+        given(inventoryService.decreaseInventories(anyList()))
+                .willReturn(new StockDecreaseResultDto(2, List.of(1), List.of(failed)));
+
+        // when & then
+        assertThatThrownBy(() -> outboundService.createOutbound(mockOrder))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.INSUFFICIENT_STOCK);
+    }
+
+    @Test
+    @DisplayName("일괄 출고 - 출고/상세는 배치로 저장하고 재고는 (창고, 상품)별로 합쳐 한 번에 차감한다")
+    void createOutbounds_AggregatesDecrease() {
+        // given
+        Warehouse warehouse = Warehouse.builder().warehouseId(1L).build();
+        Store store = Store.builder().storeId(1L).build();
+        Product cola = Product.builder().productId(10L).build();
+        Product cider = Product.builder().productId(11L).build();
+
+        StoreOrder first = StoreOrder.builder().storeOrderId(100L).store(store).warehouse(warehouse).build();
+        StoreOrder second = StoreOrder.builder().storeOrderId(101L).store(store).warehouse(warehouse).build();
+        Map<Long, List<StoreOrderDetail>> detailsByOrder = Map.of(
+                100L, List.of(StoreOrderDetail.builder().product(cola).orderQty(5).build(),
+                        StoreOrderDetail.builder().product(cider).orderQty(2).build()),
+                101L, List.of(StoreOrderDetail.builder().product(cola).orderQty(3).build()));
+
+        given(outboundRepository.findIdsByOutboundNos(anyCollection())).willAnswer(inv -> {
+            List<Object[]> rows = new ArrayList<>();
+            long id = 1;
+            for (Object no : (Collection<?>) inv.getArgument(0)) {
+                rows.add(new Object[]{no, id++});
+            }
+            return rows;
+        });
+        given(outboundRepository.getReferenceById(anyLong()))
+                .willAnswer(inv -> Outbound.builder().outboundId(inv.getArgument(0)).build());
+        // 첫 주문만 예약이 있었다 (콜라 5, 사이다 2)
+        given(inventoryReservationService.consumeAll(anyCollection()))
+                .willReturn(Map.of(100L, Map.of(10L, 5, 11L, 2)));
+        List<StockDecreaseLine> lines = List.of(new StockDecreaseLine(1L, 10L, 8, 5), new StockDecreaseLine(1L, 11L, 2, 2));
+        given(inventoryService.decreaseInventories(lines))
+                .willReturn(new StockDecreaseResultDto(2, List.of(), List.of()));
+
+        // when
+        Map<Long, String> outboundNos = outboundService.createOutbounds(List.of(first, second), detailsByOrder);
+
+        // then
+        assertThat(outboundNos).containsOnlyKeys(100L, 101L);
+        verify(outboundJdbcRepository).insertAll(argThat(outbounds -> outbounds.size() == 2));
+        verify(outboundJdbcRepository).insertDetails(argThat(details -> details.size() == 3));
+        verify(inventoryService, times(1)).decreaseInventories(lines);
+        verify(outboundRepository, never()).save(any(Outbound.class));
+        verify(inventoryMovementService).recordWarehouseAll(eq(ChangeType.OUTBOUND), eq(List.of(
+                new WarehouseMovementLine(outboundNos.get(100L), 1L, Map.of(10L, 5, 11L, 2)),
+                new WarehouseMovementLine(outboundNos.get(101L), 1L, Map.of(10L, 3)))));
+    }
+
     @Test
     @DisplayName("출고 목록 조회 테스트 - 정상 케이스")
     void getOutboundList_Success() {
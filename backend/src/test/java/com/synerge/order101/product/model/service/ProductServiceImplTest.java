@@ -2,8 +2,8 @@ package com.synerge.order101.product.model.service;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.synerge.order101.common.dto.ItemsResponseDto;
+import com.synerge.order101.common.dto.TradeCursor;
 import com.synerge.order101.common.exception.CustomException;
-import com.synerge.order101.inbound.model.repository.InboundDetailRepository;
 import com.synerge.order101.product.model.dto.ProductCreateReq;
 import com.synerge.order101.product.model.dto.ProductCreateRes;
 import com.synerge.order101.product.model.dto.ProductInventoryDetailRes;
@@ -19,7 +19,11 @@ import com.synerge.order101.product.model.repository.ProductRepository;
 import com.synerge.order101.product.model.repository.ProductSupplierRepository;
 import com.synerge.order101.supplier.model.entity.Supplier;
 import com.synerge.order101.supplier.model.repository.SupplierRepository;
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.entity.InventoryMovement;
+import com.synerge.order101.warehouse.model.repository.InventoryMovementRepository;
 import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import com.synerge.order101.warehouse.model.service.InventorySearchProjector;
 import com.synerge.order101.warehouse.model.service.InventoryServiceImpl;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
@@ -33,9 +37,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -66,10 +70,10 @@ class ProductServiceImplTest {
     private ProductRepository productRepository;
 
     @Mock
-    private InboundDetailRepository inboundDetailRepository;
+    private WarehouseInventoryRepository warehouseInventoryRepository;
 
     @Mock
-    private WarehouseInventoryRepository warehouseInventoryRepository;
+    private InventoryMovementRepository inventoryMovementRepository;
 
     @Mock
     private SupplierRepository supplierRepository;
@@ -80,6 +84,12 @@ class ProductServiceImplTest {
     @Mock
     private InventoryServiceImpl inventoryService;
 
+    @Mock
+    private ProductSupplierPriceResolver productSupplierPriceResolver;
+
+    @Mock
+    private InventorySearchProjector inventorySearchProjector;
+
     @Mock
     private AmazonS3 amazonS3;
 
@@ -164,8 +174,6 @@ class ProductServiceImplTest {
         Long productId = 1L;
         int page = 1;
         int numOfRows = 10;
-        int limit = numOfRows;
-        int offset = 0; // pageIndex 0
 
         Product product = mock(Product.class);
         given(productRepository.findById(productId)).willReturn(Optional.of(product));
@@ -176,17 +184,11 @@ class ProductServiceImplTest {
         given(warehouseInventoryRepository.sumOnHandAll(productId)).willReturn(100L);
         given(warehouseInventoryRepository.sumSafetyAll(productId)).willReturn(20L);
 
-        List<Object[]> rows = List.<Object[]>of(
-                new Object[]{
-                        "IN-001",
-                        "INBOUND",
-                        10L,
-                        Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 10, 0))
-                }
-        );
-        given(inboundDetailRepository.findMovements(productId, limit, offset))
-                .willReturn(rows);
-        given(inboundDetailRepository.countMovements(productId))
+        InventoryMovement movement = InventoryMovement.ofWarehouse(1L, productId, ChangeType.INBOUND, "IN-001",
+                10, 100, LocalDateTime.of(2025, 1, 1, 10, 0));
+        given(inventoryMovementRepository.findLatest(productId, PageRequest.of(0, numOfRows)))
+                .willReturn(List.of(movement));
+        given(inventoryMovementRepository.countByProductId(productId))
                 .willReturn(1L);
 
         // When
@@ -199,6 +201,40 @@ class ProductServiceImplTest {
         assertThat(res.getSummary().getSafetyQty()).isEqualTo(20L);
         assertThat(res.getItems()).hasSize(1);
         assertThat(res.getItems().get(0).getMovementNo()).isEqualTo("IN-001");
+        assertThat(res.getItems().get(0).getType()).isEqualTo("입고");
+        assertThat(res.getItems().get(0).getBalanceAfter()).isEqualTo(100);
+        assertThat(res.isHasNext()).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("재고 이동 이력 커서 조회 - 한 건 더 읽어 다음 커서를 만든다")
+    void getProductInventoryByCursor_success() {
+        // Given
+        Long productId = 1L;
+        Product product = mock(Product.class);
+        given(productRepository.findById(productId)).willReturn(Optional.of(product));
+        given(product.getProductId()).willReturn(productId);
+
+        LocalDateTime at = LocalDateTime.of(2025, 1, 1, 10, 0);
+        TradeCursor cursor = new TradeCursor(at, 50L);
+        InventoryMovement outbound = InventoryMovement.ofWarehouse(1L, productId, ChangeType.OUTBOUND, "OUT-2", 3, 7, at);
+        ReflectionTestUtils.setField(outbound, "movementId", 49L);
+        List<InventoryMovement> rows = List.of(
+                outbound,
+                InventoryMovement.ofWarehouse(1L, productId, ChangeType.INBOUND, "IN-1", 10, 10, at.minusHours(1)));
+        given(inventoryMovementRepository.findBefore(productId, at, 50L, PageRequest.of(0, 2)))
+                .willReturn(rows);
+
+        // When
+        ProductInventoryDetailRes res = productService.getProductInventoryByCursor(productId, cursor.encode(), 1);
+
+        // Then
+        assertThat(res.getItems()).hasSize(1);
+        assertThat(res.getItems().get(0).getType()).isEqualTo("출고");
+        assertThat(res.isHasNext()).isTrue();
+        assertThat(TradeCursor.decode(res.getNextCursor()).getId()).isEqualTo(49L);
+        verify(inventoryMovementRepository, never()).countByProductId(anyLong());
     }
 
     @Test
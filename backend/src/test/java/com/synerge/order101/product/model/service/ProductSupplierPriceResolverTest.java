@@ -0,0 +1,90 @@
+package com.synerge.order101.product.model.service;
+
+import com.synerge.order101.product.model.dto.SupplierPriceRes;
+import com.synerge.order101.product.model.repository.ProductSupplierRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ProductSupplierPriceResolverTest")
+@ExtendWith(MockitoExtension.class)
+class ProductSupplierPriceResolverTest {
+
+    @InjectMocks
+    private ProductSupplierPriceResolver resolver;
+
+    @Mock
+    private ProductSupplierRepository productSupplierRepository;
+
+    private SupplierPriceRes price(Long productId, int purchasePrice) {
+        return new SupplierPriceRes(productId, BigDecimal.valueOf(purchasePrice), 3, BigDecimal.valueOf(purchasePrice * 2L));
+    }
+
+    @Test
+    @DisplayName("조회한 공급가는 재사용하고 없는 상품만 다시 조회한다")
+    void resolve_QueriesOnlyMisses() {
+        // given
+        given(productSupplierRepository.findPricesBySupplierAndProducts(1L, List.of(10L, 20L)))
+                .willReturn(List.of(price(10L, 100), price(20L, 200)));
+        given(productSupplierRepository.findPricesBySupplierAndProducts(1L, List.of(30L)))
+                .willReturn(List.of(price(30L, 300)));
+
+        // when
+        resolver.resolve(1L, List.of(10L, 20L));
+        Map<Long, SupplierPriceRes> result = resolver.resolve(1L, List.of(10L, 20L, 30L));
+
+        // then
+        assertThat(result).containsOnlyKeys(10L, 20L, 30L);
+        assertThat(result.get(30L).getPurchasePrice()).isEqualByComparingTo("300");
+        verify(productSupplierRepository, times(1)).findPricesBySupplierAndProducts(1L, List.of(10L, 20L));
+        verify(productSupplierRepository, times(1)).findPricesBySupplierAndProducts(1L, List.of(30L));
+    }
+
+    @Test
+    @DisplayName("무효화된 상품은 다음 조회 시 다시 읽어온다")
+    void invalidate_ReloadsProduct() {
+        // given
+        given(productSupplierRepository.findPricesBySupplierAndProducts(1L, List.of(10L)))
+                .willReturn(List.of(price(10L, 100)))
+                .willReturn(List.of(price(10L, 150)));
+
+        // when
+        resolver.resolve(1L, List.of(10L));
+        resolver.invalidate(10L);
+        Map<Long, SupplierPriceRes> result = resolver.resolve(1L, List.of(10L));
+
+        // then
+        assertThat(result.get(10L).getPurchasePrice()).isEqualByComparingTo("150");
+        verify(productSupplierRepository, times(2)).findPricesBySupplierAndProducts(1L, List.of(10L));
+    }
+
+    @Test
+    @DisplayName("공급사 전체 조회 결과는 무효화 전까지 재사용한다")
+    void resolveAll_CachedUntilInvalidated() {
+        // given
+        given(productSupplierRepository.findPricesBySupplier(1L))
+                .willReturn(List.of(price(10L, 100), price(20L, 200)));
+
+        // when
+        resolver.resolveAll(1L);
+        List<SupplierPriceRes> cached = resolver.resolveAll(1L);
+        resolver.invalidate(20L);
+        resolver.resolveAll(1L);
+
+        // then
+        assertThat(cached).hasSize(2);
+        verify(productSupplierRepository, times(2)).findPricesBySupplier(1L);
+    }
+}
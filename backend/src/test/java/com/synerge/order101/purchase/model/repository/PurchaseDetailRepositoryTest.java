@@ -0,0 +1,193 @@
+package com.synerge.order101.purchase.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.product.model.entity.ProductSupplier;
+import com.synerge.order101.purchase.model.dto.PurchaseDetailRowDto;
+import com.synerge.order101.purchase.model.entity.Purchase;
+import com.synerge.order101.purchase.model.entity.PurchaseDetail;
+import com.synerge.order101.purchase.model.entity.PurchaseDetailHistory;
+import com.synerge.order101.supplier.model.entity.Supplier;
+import com.synerge.order101.user.model.entity.Role;
+import com.synerge.order101.user.model.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PurchaseDetailRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PurchaseDetailRepositoryTest {
+
+    @Autowired
+    private PurchaseDetailRepository purchaseDetailRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private int seq;
+
+    private Purchase persistPurchase(int lineCount) {
+        seq++;
+        Supplier supplier = em.persist(Supplier.builder()
+                .supplierCode("SUP-" + seq)
+                .supplierName("테스트 공급사")
+                .build());
+        User user = em.persist(User.builder()
+                .email("hq" + seq + "@order101.com")
+                .password("pw")
+                .name("관리자")
+                .role(Role.HQ)
+                .phone("010-0000-0000")
+                .build());
+        Purchase purchase = em.persist(Purchase.builder()
+                .supplier(supplier)
+                .user(user)
+                .orderStatus(OrderStatus.SUBMITTED)
+                .orderType(Purchase.OrderType.MANUAL)
+                .build());
+
+        for (int i = 0; i < lineCount; i++) {
+            Product product = em.persist(Product.builder()
+                    .productCode("P" + seq + "-" + i)
+                    .productName("상품" + i)
+                    .price(BigDecimal.valueOf(1000L * (i + 1)))
+                    .build());
+            em.persist(ProductSupplier.builder()
+                    .product(product)
+                    .supplier(supplier)
+                    .purchasePrice(BigDecimal.valueOf(700L * (i + 1)))
+                    .leadTimeDays(3)
+                    .build());
+            em.persist(PurchaseDetail.builder()
+                    .purchase(purchase)
+                    .product(product)
+                    .orderQty(10 + i)
+                    .unitPrice(BigDecimal.valueOf(700L * (i + 1)))
+                    .deadline(LocalDate.now().plusDays(3))
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+        return purchase;
+    }
+
+    @Test
+    @DisplayName("발주 상세는 품목 수와 관계없이 한 번의 쿼리로 조회된다")
+    void findDetailRowsByPurchaseId_SingleStatement() {
+        // given
+        Purchase small = persistPurchase(1);
+        statistics.clear();
+        purchaseDetailRepository.findDetailRowsByPurchaseId(small.getPurchaseId());
+        long smallCount = statistics.getPrepareStatementCount();
+
+        Purchase large = persistPurchase(5);
+        em.clear();
+        statistics.clear();
+
+        // when
+        List<PurchaseDetailRowDto> rows = purchaseDetailRepository.findDetailRowsByPurchaseId(large.getPurchaseId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L).isEqualTo(smallCount);
+        assertThat(rows).hasSize(5);
+        assertThat(rows.get(0).getSupplierName()).isEqualTo("테스트 공급사");
+        assertThat(rows.get(0).getRequesterName()).isEqualTo("관리자");
+        assertThat(rows.get(4).getProductPrice()).isEqualByComparingTo("5000");
+        assertThat(rows.get(4).getPurchasePrice()).isEqualByComparingTo("3500");
+    }
+
+    @Test
+    @DisplayName("품목이 없는 발주도 헤더 한 줄로 조회된다")
+    void findDetailRowsByPurchaseId_NoLines() {
+        // given
+        Purchase purchase = persistPurchase(0);
+
+        // when
+        List<PurchaseDetailRowDto> rows = purchaseDetailRepository.findDetailRowsByPurchaseId(purchase.getPurchaseId());
+
+        // then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getPoNo()).isEqualTo(purchase.getPoNo());
+        assertThat(rows.get(0).getPurchaseOrderLineId()).isNull();
+    }
+
+    @Test
+    @DisplayName("자동 발주 상세는 라인별 첫 수정 이력을 함께 한 번의 쿼리로 조회한다")
+    void findDetailsWithSafetyQtyAndOnHandQty_FirstHistoryPerLine() {
+        // given
+        Purchase purchase = persistPurchase(3);
+        List<PurchaseDetail> details = purchaseDetailRepository.findByPurchase_PurchaseId(purchase.getPurchaseId());
+        Long line1 = details.get(0).getPurchaseOrderLineId();
+        Long line2 = details.get(1).getPurchaseOrderLineId();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+        em.persist(history(purchase, details.get(0), 20, 25, base.plusHours(2)));
+        em.persist(history(purchase, details.get(0), 10, 20, base));
+        em.persist(history(purchase, details.get(1), null, 7, base));
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        List<Object[]> rows = purchaseDetailRepository.findDetailsWithSafetyQtyAndOnHandQty(purchase.getPurchaseId());
+        rows.forEach(r -> ((PurchaseDetail) r[0]).getProduct().getProductCode());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(rows).hasSize(3);
+        assertThat(((PurchaseDetail) rows.get(0)[0]).getPurchaseOrderLineId()).isEqualTo(line1);
+        assertThat(rows.get(0)[3]).isEqualTo(10);
+        assertThat(((PurchaseDetail) rows.get(1)[0]).getPurchaseOrderLineId()).isEqualTo(line2);
+        assertThat(rows.get(1)[3]).isEqualTo(7);
+        assertThat(rows.get(2)[3]).isNull();
+    }
+
+    private PurchaseDetailHistory history(Purchase purchase, PurchaseDetail detail,
+                                          Integer beforeQty, Integer afterQty, LocalDateTime updatedAt) {
+        return PurchaseDetailHistory.builder()
+                .purchaseOrderLineId(detail.getPurchaseOrderLineId())
+                .purchaseId(purchase.getPurchaseId())
+                .productId(detail.getProduct().getProductId())
+                .beforeQty(beforeQty)
+                .afterQty(afterQty)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.synerge.order101.purchase.model.repository;
+
+import com.synerge.order101.common.dto.CursorPageResponseDto;
+import com.synerge.order101.common.dto.TradeSearchCondition;
+import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.exception.errorcode.CommonErrorCode;
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.purchase.model.dto.PurchaseSummaryResponseDto;
+import com.synerge.order101.purchase.model.entity.Purchase;
+import com.synerge.order101.purchase.model.entity.PurchaseDetail;
+import com.synerge.order101.supplier.model.entity.Supplier;
+import com.synerge.order101.user.model.entity.Role;
+import com.synerge.order101.user.model.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PurchaseRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PurchaseRepositoryTest {
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("발주 목록은 품목 수/총액을 집계해 한 번의 목록 쿼리로 조회된다")
+    void search_AggregatesInTwoStatements() {
+        // given
+        Supplier supplier = em.persist(Supplier.builder().supplierCode("SUP-L").supplierName("목록 공급사").build());
+        User user = em.persist(User.builder()
+                .email("list@order101.com").password("pw").name("요청자")
+                .role(Role.HQ).phone("010-1111-1111").build());
+
+        Purchase older = persistPurchase(supplier, user, LocalDateTime.now().minusDays(1), 3);
+        Purchase newer = persistPurchase(supplier, user, LocalDateTime.now(), 0);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Page<PurchaseSummaryResponseDto> page = purchaseRepository.search(new TradeSearchCondition(), PageRequest.of(0, 10));
+
+        // then
+        // 첫 페이지가 다 차지 않으면 전체 건수를 알 수 있으므로 count 쿼리는 생략된다.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+
+        PurchaseSummaryResponseDto first = page.getContent().get(0);
+        assertThat(first.getPurchaseId()).isEqualTo(newer.getPurchaseId());
+        assertThat(first.getTotalQty()).isZero();
+        assertThat(first.getTotalAmount()).isEqualByComparingTo("0");
+
+        PurchaseSummaryResponseDto second = page.getContent().get(1);
+        assertThat(second.getPurchaseId()).isEqualTo(older.getPurchaseId());
+        assertThat(second.getSupplierName()).isEqualTo("목록 공급사");
+        assertThat(second.getRequesterName()).isEqualTo("요청자");
+        assertThat(second.getTotalQty()).isEqualTo(3);
+        // 10*100 + 20*100 + 30*100
+        assertThat(second.getTotalAmount()).isEqualByComparingTo("6000");
+    }
+
+    @Test
+    @DisplayName("페이지 번호 조회의 전체 건수는 캐시하지 않고 매번 정확히 센다")
+    void search_TotalIsExactAfterInsert() {
+        // given
+        Supplier supplier = em.persist(Supplier.builder().supplierCode("SUP-E").supplierName("건수 공급사").build());
+        User user = em.persist(User.builder()
+                .email("exact@order101.com").password("pw").name("요청자")
+                .role(Role.HQ).phone("010-3333-3333").build());
+        persistPurchase(supplier, user, LocalDateTime.now().minusDays(1), 0);
+        persistPurchase(supplier, user, LocalDateTime.now(), 0);
+        em.flush();
+
+        TradeSearchCondition cond = new TradeSearchCondition();
+        cond.setSearchText("건수 공급사");
+        assertThat(purchaseRepository.search(cond, PageRequest.of(0, 1)).getTotalElements()).isEqualTo(2);
+
+        // when: 같은 조건으로 한 건 더 생긴 뒤 다시 조회
+        persistPurchase(supplier, user, LocalDateTime.now(), 0);
+        em.flush();
+        Page<PurchaseSummaryResponseDto> page = purchaseRepository.search(cond, PageRequest.of(0, 1));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    private Purchase persistPurchase(Supplier supplier, User user, LocalDateTime createdAt, int lineCount) {
+        Purchase purchase = em.persist(Purchase.builder()
+                .supplier(supplier)
+                .user(user)
+                .createdAt(createdAt)
+                .orderStatus(OrderStatus.SUBMITTED)
+                .orderType(Purchase.OrderType.MANUAL)
+                .build());
+
+        for (int i = 1; i <= lineCount; i++) {
+            Product product = em.persist(Product.builder()
+                    .productCode("PL-" + purchase.getPurchaseId() + "-" + i)
+                    .productName("상품" + i)
+                    .price(BigDecimal.valueOf(200))
+                    .build());
+            em.persist(PurchaseDetail.builder()
+                    .purchase(purchase)
+                    .product(product)
+                    .orderQty(10 * i)
+                    .unitPrice(BigDecimal.valueOf(100))
+                    .deadline(LocalDate.now().plusDays(3))
+                    .build());
+        }
+        return purchase;
+    }
+
+    @Test
+    @DisplayName("커서 페이징은 count 없이 다음 페이지 여부를 판단하고, 건수는 요청 시 캐시된 값을 쓴다")
+    void searchByCursor_SeeksWithoutCount() {
+        // given
+        Supplier supplier = em.persist(Supplier.builder().supplierCode("SUP-C").supplierName("커서 공급사").build());
+        User user = em.persist(User.builder()
+                .email("cursor@order101.com").password("pw").name("요청자")
+                .role(Role.HQ).phone("010-2222-2222").build());
+
+        LocalDateTime sameTime = LocalDateTime.of(2025, 3, 1, 10, 0);
+        Purchase p1 = persistPurchase(supplier, user, sameTime, 1);
+        Purchase p2 = persistPurchase(supplier, user, sameTime, 1);
+        Purchase p3 = persistPurchase(supplier, user, sameTime.minusHours(1), 1);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TradeSearchCondition cond = new TradeSearchCondition();
+        cond.setSearchText("커서 공급사");
+        cond.setCursorMode(true);
+        cond.setWithCount(true);
+
+        // when: 첫 페이지
+        statistics.clear();
+        CursorPageResponseDto<PurchaseSummaryResponseDto> first = purchaseRepository.searchByCursor(cond, 2);
+
+        // then: 같은 createdAt 은 id 역순
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L); // 목록 + 최초 count
+        assertThat(first.getContent()).extracting(PurchaseSummaryResponseDto::getPurchaseId)
+                .containsExactly(p2.getPurchaseId(), p1.getPurchaseId());
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalCount()).isEqualTo(3L);
+
+        // when: 다음 페이지 (count 는 캐시 사용)
+        cond.setCursor(first.getNextCursor());
+        statistics.clear();
+        CursorPageResponseDto<PurchaseSummaryResponseDto> second = purchaseRepository.searchByCursor(cond, 2);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(second.getContent()).extracting(PurchaseSummaryResponseDto::getPurchaseId)
+                .containsExactly(p3.getPurchaseId());
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getTotalCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_REQUEST 로 거절된다")
+    void searchByCursor_InvalidCursor() {
+        TradeSearchCondition cond = new TradeSearchCondition();
+        cond.setCursor("not-a-cursor");
+
+        assertThatThrownBy(() -> purchaseRepository.searchByCursor(cond, 10))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.INVALID_REQUEST);
+    }
+}
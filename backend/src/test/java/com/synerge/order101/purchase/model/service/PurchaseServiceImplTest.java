@@ -1,11 +1,14 @@
 package com.synerge.order101.purchase.model.service;
 
 import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.common.outbox.Outbox;
 import com.synerge.order101.notification.model.service.NotificationService;
+import com.synerge.order101.product.model.dto.SupplierPriceRes;
 import com.synerge.order101.product.model.entity.Product;
 import com.synerge.order101.product.model.entity.ProductSupplier;
 import com.synerge.order101.product.model.repository.ProductRepository;
 import com.synerge.order101.product.model.repository.ProductSupplierRepository;
+import com.synerge.order101.product.model.service.ProductSupplierPriceResolver;
 import com.synerge.order101.purchase.model.dto.*;
 import com.synerge.order101.purchase.model.entity.Purchase;
 import com.synerge.order101.purchase.model.entity.PurchaseDetail;
@@ -21,13 +24,13 @@ import com.synerge.order101.user.model.repository.UserRepository;
 import com.synerge.order101.warehouse.model.entity.Warehouse;
 import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
 import com.synerge.order101.warehouse.model.service.InventoryService;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -37,11 +40,13 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -73,6 +78,9 @@ class PurchaseServiceImplTest {
     @Mock
     private ProductSupplierRepository productSupplierRepository;
 
+    @Mock
+    private ProductSupplierPriceResolver productSupplierPriceResolver;
+
     @Mock
     private InventoryService inventoryService;
 
@@ -80,7 +88,10 @@ class PurchaseServiceImplTest {
     private NotificationService notificationService;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private Outbox outbox;
+
+    @Mock
+    private DocumentNumberAllocator documentNumberAllocator;
 
     @InjectMocks
     private PurchaseServiceImpl purchaseService;
@@ -119,7 +130,7 @@ class PurchaseServiceImplTest {
     void createAutoPurchase_Success() {
         // given
         // 1-1. InventoryService가 반환할 자동 발주 대상 품목 Mocking
-        CalculatedAutoItem item1 = new CalculatedAutoItem(100L, 10, 1L); // supplierId=1, productId=100, qty=10
+        CalculatedAutoItem item1 = new CalculatedAutoItem(100L, 10, 1L, 1L); // supplierId=1, productId=100, qty=10, warehouseId=1
         given(inventoryService.getAutoPurchaseItems()).willReturn(List.of(item1));
 
         // 1-2. createPurchase 내부에서 호출되는 Repository Mocking
@@ -127,14 +138,13 @@ class PurchaseServiceImplTest {
         User systemUser = User.builder().userId(1L).build();
         Warehouse warehouse = Warehouse.builder().warehouseId(1L).build();
         Supplier supplier = Supplier.builder().supplierId(1L).build();
-        Product product = Product.builder().productId(100L).price(new BigDecimal(1000)).build();
-        ProductSupplier productSupplier = ProductSupplier.builder().purchasePrice(new BigDecimal(900)).build();
+        SupplierPriceRes price = new SupplierPriceRes(100L, new BigDecimal(900), 3, new BigDecimal(1000));
 
+        given(userRepository.findByName("SYSTEM")).willReturn(Optional.of(systemUser));
         given(userRepository.findById(1L)).willReturn(Optional.of(systemUser));
         given(warehouseRepository.findById(1L)).willReturn(Optional.of(warehouse));
         given(supplierRepository.findById(1L)).willReturn(Optional.of(supplier));
-        given(productRepository.findById(100L)).willReturn(Optional.of(product));
-        given(productSupplierRepository.findByProductAndSupplier(any(), any())).willReturn(Optional.of(productSupplier));
+        given(productSupplierPriceResolver.resolve(1L, List.of(100L))).willReturn(Map.of(100L, price));
 
         // when
         purchaseService.createAutoPurchase();
@@ -190,20 +200,22 @@ class PurchaseServiceImplTest {
                 .price(BigDecimal.valueOf(1000))
                 .build();
 
-        // Object[] 모의 데이터: {PurchaseDetail, safetyQty(Integer), onHandQty(Integer)}
+        // Object[] 모의 데이터: {PurchaseDetail, safetyQty(Integer), onHandQty(Integer), originalQty(Integer)}
         PurchaseDetail detail = PurchaseDetail.builder()
                 .purchaseOrderLineId(10L)
                 .product(product)
                 .orderQty(50)
                 .build();
-        Object[] row = new Object[]{detail, 10, 20}; // detail, safety, onHand
+        PurchaseDetail editedDetail = PurchaseDetail.builder()
+                .purchaseOrderLineId(11L)
+                .product(product)
+                .orderQty(70)
+                .build();
+        Object[] row = new Object[]{detail, 10, 20, null};        // 변경 이력 없음
+        Object[] editedRow = new Object[]{editedDetail, 10, 20, 40}; // 최초 수량 40
 
         given(purchaseDetailRepository.findDetailsWithSafetyQtyAndOnHandQty(purchaseId))
-                .willReturn(List.<Object[]>of(row));
-
-        // History (변경 이력)가 없다고 가정
-        given(purchaseDetailHistoryRepository.findTopByPurchaseOrderLineIdOrderByUpdatedAtAsc(10L))
-                .willReturn(Optional.empty());
+                .willReturn(List.of(row, editedRow));
 
         // when
         AutoPurchaseDetailResponseDto result = purchaseService.getAutoPurchaseDetail(purchaseId);
@@ -211,9 +223,12 @@ class PurchaseServiceImplTest {
         // then
         assertThat(result.getPurchaseId()).isEqualTo(purchaseId);
         assertThat(result.getSupplierName()).isEqualTo("Auto Supplier");
-        assertThat(result.getPurchaseItems()).hasSize(1);
+        assertThat(result.getPurchaseItems()).hasSize(2);
         assertThat(result.getPurchaseItems().get(0).getSafetyQty()).isEqualTo(10);
         assertThat(result.getPurchaseItems().get(0).getProductId()).isEqualTo(200L);
+        assertThat(result.getPurchaseItems().get(0).getOriginalQty()).isEqualTo(50);
+        assertThat(result.getPurchaseItems().get(1).getOriginalQty()).isEqualTo(40);
+        verify(purchaseDetailHistoryRepository, never()).findTopByPurchaseOrderLineIdOrderByUpdatedAtAsc(anyLong());
     }
 
     // 자동 발주 검색 필터링 (searchAutoPurchases)
@@ -273,7 +288,7 @@ class PurchaseServiceImplTest {
 //        assertThat(purchase.getOrderStatus()).isEqualTo(newStatus); // 엔티티 상태 변경 확인
 //        assertThat(result.getStatus()).isEqualTo(newStatus);        // 반환 DTO 상태 확인
 //
-//        verify(eventPublisher, times(1)).publishEvent(any(PurchaseSettlementReqEvent.class));
+//        verify(outbox, times(1)).append(eq(OutboxEventType.SETTLEMENT_REQUESTED), any(SettlementRequest.class));
 //    }
 
     // 자동 발주 제출 (submitAutoPurchase)
@@ -284,7 +299,7 @@ class PurchaseServiceImplTest {
         Long purchaseId = 1L;
         Long userId = 99L;
 
-        Supplier mockSupplier = Supplier.builder().supplierName("Test Supplier").build();
+        Supplier mockSupplier = Supplier.builder().supplierId(7L).supplierName("Test Supplier").build();
         User mockUser = User.builder().userId(userId).name("Test User").build();
 
         // 관리자 알림을 위한 Mock User (HQ_ADMIN)
@@ -317,7 +332,9 @@ class PurchaseServiceImplTest {
         given(purchaseRepository.findById(purchaseId)).willReturn(Optional.of(purchase));
         given(purchaseDetailRepository.findByPurchase_PurchaseId(purchaseId)).willReturn(existingDetails);
         given(userRepository.findById(userId)).willReturn(Optional.of(User.builder().userId(userId).build()));
-        given(productRepository.findById(30L)).willReturn(Optional.of(productC));
+        given(productSupplierPriceResolver.resolve(eq(7L), anyCollection()))
+                .willReturn(Map.of(30L, new SupplierPriceRes(30L, BigDecimal.valueOf(250), 3, BigDecimal.valueOf(300))));
+        given(productRepository.getReferenceById(30L)).willReturn(productC);
         given(purchaseDetailRepository.findDetailsWithSafetyQtyAndOnHandQty(purchaseId)).willReturn(new ArrayList<>());
 
         // [추가된 Stubbing] 관리자 조회 로직 Mocking (Role.HQ_ADMIN 조회 시 빈 리스트라도 반환해야 함)
@@ -3,14 +3,17 @@ package com.synerge.order101.purchase.model.service;
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.OrderStatus;
 import com.synerge.order101.common.exception.CustomException;
+import com.synerge.order101.common.outbox.Outbox;
 import com.synerge.order101.notification.model.service.NotificationService;
+import com.synerge.order101.product.model.dto.SupplierPriceRes;
 import com.synerge.order101.product.model.entity.Product;
-import com.synerge.order101.product.model.entity.ProductSupplier;
 import com.synerge.order101.product.model.repository.ProductRepository;
 import com.synerge.order101.product.model.repository.ProductSupplierRepository;
+import com.synerge.order101.product.model.service.ProductSupplierPriceResolver;
 import com.synerge.order101.purchase.exception.PurchaseErrorCode;
 import com.synerge.order101.purchase.model.dto.PurchaseCreateRequest;
 import com.synerge.order101.purchase.model.dto.PurchaseDetailResponseDto;
+import com.synerge.order101.purchase.model.dto.PurchaseDetailRowDto;
 import com.synerge.order101.purchase.model.dto.PurchaseSummaryResponseDto;
 import com.synerge.order101.purchase.model.entity.Purchase;
 import com.synerge.order101.purchase.model.entity.PurchaseDetail;
@@ -25,6 +28,7 @@ import com.synerge.order101.user.model.repository.UserRepository;
 import com.synerge.order101.warehouse.model.entity.Warehouse;
 import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
 import com.synerge.order101.warehouse.model.service.InventoryService;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,7 +36,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -43,6 +46,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -63,7 +67,7 @@ class PurchaseServiceUnitTest {
     private PurchaseDetailRepository purchaseDetailRepository;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private Outbox outbox;
 
     @Mock
     private PurchaseDetailHistoryRepository purchaseDetailHistoryRepository;
@@ -83,12 +87,18 @@ class PurchaseServiceUnitTest {
     @Mock
     private ProductSupplierRepository productSupplierRepository;
 
+    @Mock
+    private ProductSupplierPriceResolver productSupplierPriceResolver;
+
     @Mock
     private InventoryService inventoryService;
 
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private DocumentNumberAllocator documentNumberAllocator;
+
     @InjectMocks
     private PurchaseServiceImpl purchaseService;
 
@@ -158,8 +168,8 @@ class PurchaseServiceUnitTest {
         // given
         TradeSearchCondition condition = new TradeSearchCondition();
         Pageable pageable = PageRequest.of(0, 10);
-        List<Purchase> purchases = List.of(purchase);
-        Page<Purchase> purchasePage = new PageImpl<>(purchases, pageable, 1);
+        List<PurchaseSummaryResponseDto> purchases = List.of(PurchaseSummaryResponseDto.fromEntity(purchase));
+        Page<PurchaseSummaryResponseDto> purchasePage = new PageImpl<>(purchases, pageable, 1);
 
         given(purchaseRepository.search(condition, pageable)).willReturn(purchasePage);
 
@@ -178,18 +188,12 @@ class PurchaseServiceUnitTest {
     void findPurchaseDetailsById_Success() {
         // given
         Long purchaseId = 1L;
-        List<PurchaseDetail> details = List.of(purchaseDetail);
-        
-        ProductSupplier productSupplier = ProductSupplier.builder()
-                .product(product)
-                .supplier(supplier)
-                .purchasePrice(BigDecimal.valueOf(8000))
-                .build();
+        PurchaseDetailRowDto row = new PurchaseDetailRowDto(
+                purchaseId, Purchase.OrderType.MANUAL, OrderStatus.DRAFT_AUTO, "PO202412030001",
+                "테스트 공급사", "관리자", LocalDateTime.now(),
+                1L, "P001", "테스트 상품", BigDecimal.valueOf(10000), BigDecimal.valueOf(8000), 100);
 
-        given(purchaseRepository.findById(purchaseId)).willReturn(Optional.of(purchase));
-        given(purchaseDetailRepository.findByPurchase_PurchaseId(purchaseId)).willReturn(details);
-        given(productSupplierRepository.findByProduct_ProductIdAndSupplier_SupplierId(anyLong(), anyLong()))
-                .willReturn(Optional.of(productSupplier));
+        given(purchaseDetailRepository.findDetailRowsByPurchaseId(purchaseId)).willReturn(List.of(row));
 
         // when
         PurchaseDetailResponseDto result = purchaseService.findPurchaseDetailsById(purchaseId);
@@ -201,8 +205,30 @@ class PurchaseServiceUnitTest {
         assertThat(result.getSupplierName()).isEqualTo("테스트 공급사");
         assertThat(result.getRequesterName()).isEqualTo("관리자");
         assertThat(result.getPurchaseItems()).hasSize(1);
-        verify(purchaseRepository, times(1)).findById(purchaseId);
-        verify(purchaseDetailRepository, times(1)).findByPurchase_PurchaseId(purchaseId);
+        assertThat(result.getPurchaseItems().get(0).getPurchasePrice()).isEqualByComparingTo("8000");
+        verify(purchaseDetailRepository, times(1)).findDetailRowsByPurchaseId(purchaseId);
+        verify(purchaseRepository, never()).findById(anyLong());
+        verify(productSupplierRepository, never()).findByProduct_ProductIdAndSupplier_SupplierId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("발주 상세 조회 성공 - 품목이 없는 발주")
+    void findPurchaseDetailsById_NoItems() {
+        // given
+        Long purchaseId = 1L;
+        PurchaseDetailRowDto row = new PurchaseDetailRowDto(
+                purchaseId, Purchase.OrderType.MANUAL, OrderStatus.DRAFT_AUTO, "PO202412030001",
+                "테스트 공급사", "관리자", LocalDateTime.now(),
+                null, null, null, null, null, null);
+
+        given(purchaseDetailRepository.findDetailRowsByPurchaseId(purchaseId)).willReturn(List.of(row));
+
+        // when
+        PurchaseDetailResponseDto result = purchaseService.findPurchaseDetailsById(purchaseId);
+
+        // then
+        assertThat(result.getPurchaseId()).isEqualTo(purchaseId);
+        assertThat(result.getPurchaseItems()).isEmpty();
     }
 
     @Test
@@ -210,15 +236,14 @@ class PurchaseServiceUnitTest {
     void findPurchaseDetailsById_NotFound() {
         // given
         Long purchaseId = 999L;
-        given(purchaseRepository.findById(purchaseId)).willReturn(Optional.empty());
+        given(purchaseDetailRepository.findDetailRowsByPurchaseId(purchaseId)).willReturn(List.of());
 
         // when & then
         assertThatThrownBy(() -> purchaseService.findPurchaseDetailsById(purchaseId))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", PurchaseErrorCode.PURCHASE_NOT_FOUND);
 
-        verify(purchaseRepository, times(1)).findById(purchaseId);
-        verify(purchaseDetailRepository, never()).findByPurchase_PurchaseId(anyLong());
+        verify(purchaseDetailRepository, times(1)).findDetailRowsByPurchaseId(purchaseId);
     }
 
     @Test
@@ -240,18 +265,13 @@ class PurchaseServiceUnitTest {
                 .items(List.of(item))
                 .build();
 
-        ProductSupplier productSupplier = ProductSupplier.builder()
-                .product(product)
-                .supplier(supplier)
-                .purchasePrice(BigDecimal.valueOf(8000))
-                .build();
+        SupplierPriceRes price = new SupplierPriceRes(1L, BigDecimal.valueOf(8000), 3, BigDecimal.valueOf(10000));
 
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
         given(warehouseRepository.findById(1L)).willReturn(Optional.of(warehouse));
         given(supplierRepository.findById(1L)).willReturn(Optional.of(supplier));
-        given(productRepository.findById(1L)).willReturn(Optional.of(product));
-        given(productSupplierRepository.findByProductAndSupplier(product, supplier))
-                .willReturn(Optional.of(productSupplier));
+        given(productSupplierPriceResolver.resolve(1L, List.of(1L))).willReturn(Map.of(1L, price));
+        given(productRepository.getReferenceById(1L)).willReturn(product);
         given(purchaseRepository.save(any(Purchase.class))).willReturn(purchase);
         given(purchaseDetailRepository.saveAll(anyList())).willReturn(List.of(purchaseDetail));
 
@@ -262,12 +282,40 @@ class PurchaseServiceUnitTest {
         verify(userRepository, times(1)).findById(1L);
         verify(warehouseRepository, times(1)).findById(1L);
         verify(supplierRepository, times(1)).findById(1L);
-        verify(productRepository, times(1)).findById(1L);
-        verify(productSupplierRepository, times(1)).findByProductAndSupplier(product, supplier);
+        verify(productSupplierPriceResolver, times(1)).resolve(1L, List.of(1L));
+        verify(productRepository, never()).findById(anyLong());
+        verify(productSupplierRepository, never()).findByProductAndSupplier(any(), any());
         verify(purchaseRepository, times(1)).save(any(Purchase.class));
         verify(purchaseDetailRepository, times(1)).saveAll(anyList());
     }
 
+    @Test
+    @DisplayName("발주 생성 실패 - 공급사 공급가 매핑이 없는 상품")
+    void createPurchase_PriceNotMapped() {
+        // given
+        PurchaseCreateRequest request = PurchaseCreateRequest.builder()
+                .userId(1L)
+                .warehouseId(1L)
+                .supplierId(1L)
+                .orderStatus(OrderStatus.DRAFT_AUTO)
+                .orderType(Purchase.OrderType.MANUAL)
+                .deadline(LocalDate.now().plusDays(7))
+                .items(List.of(new PurchaseCreateRequest.Item(2L, 10)))
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(warehouseRepository.findById(1L)).willReturn(Optional.of(warehouse));
+        given(supplierRepository.findById(1L)).willReturn(Optional.of(supplier));
+        given(productSupplierPriceResolver.resolve(1L, List.of(2L))).willReturn(Map.of());
+
+        // when & then
+        assertThatThrownBy(() -> purchaseService.createPurchase(request))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PurchaseErrorCode.PURCHASE_NOT_FOUND);
+
+        verify(purchaseDetailRepository, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("발주 생성 실패 - 존재하지 않는 사용자")
     void createPurchase_UserNotFound() {
@@ -352,7 +400,7 @@ class PurchaseServiceUnitTest {
         // given
         TradeSearchCondition condition = new TradeSearchCondition();
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Purchase> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<PurchaseSummaryResponseDto> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
         given(purchaseRepository.search(condition, pageable)).willReturn(emptyPage);
 
@@ -371,8 +419,8 @@ class PurchaseServiceUnitTest {
     void findPurchases_NullPageable() {
         // given
         TradeSearchCondition condition = new TradeSearchCondition();
-        List<Purchase> purchases = List.of(purchase);
-        Page<Purchase> purchasePage = new PageImpl<>(purchases, PageRequest.of(0, 10), 1);
+        List<PurchaseSummaryResponseDto> purchases = List.of(PurchaseSummaryResponseDto.fromEntity(purchase));
+        Page<PurchaseSummaryResponseDto> purchasePage = new PageImpl<>(purchases, PageRequest.of(0, 10), 1);
 
         given(purchaseRepository.search(any(TradeSearchCondition.class), any(Pageable.class)))
                 .willReturn(purchasePage);
@@ -0,0 +1,85 @@
+package com.synerge.order101.settlement.model.repository;
+
+import com.synerge.order101.common.dto.TradeSearchCondition;
+import com.synerge.order101.common.enums.SettlementType;
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.settlement.model.dto.SettlementSummaryDto;
+import com.synerge.order101.settlement.model.entity.Settlement;
+import com.synerge.order101.store.model.entity.Store;
+import com.synerge.order101.supplier.model.entity.Supplier;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SettlementRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SettlementRepositoryTest {
+
+    @Autowired
+    private SettlementRepository settlementRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("정산 목록은 거래처명을 조인해 한 번의 목록 쿼리로 조회된다")
+    void search_ProjectsNamesInTwoStatements() {
+        // given
+        Supplier supplier = em.persist(Supplier.builder().supplierCode("SUP-S").supplierName("정산 공급사").build());
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-S").storeName("정산 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+
+        em.persist(Settlement.builder()
+                .settlementType(SettlementType.AP).supplier(supplier)
+                .productsAmount(BigDecimal.valueOf(1000)).productsQty(10).build());
+        em.persist(Settlement.builder()
+                .settlementType(SettlementType.AR).store(store)
+                .productsAmount(BigDecimal.valueOf(2000)).productsQty(20).build());
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Page<SettlementSummaryDto> page = settlementRepository.search(new TradeSearchCondition(), PageRequest.of(0, 10));
+
+        // then
+        // 첫 페이지가 다 차지 않으면 전체 건수를 알 수 있으므로 count 쿼리는 생략된다.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent())
+                .extracting(SettlementSummaryDto::getSupplierName, SettlementSummaryDto::getStoreName)
+                .containsExactlyInAnyOrder(
+                        org.assertj.core.groups.Tuple.tuple("정산 공급사", null),
+                        org.assertj.core.groups.Tuple.tuple(null, "정산 가맹점"));
+        assertThat(page.getContent()).allMatch(s -> "DRAFT".equals(s.getSettlementStatus()));
+    }
+}
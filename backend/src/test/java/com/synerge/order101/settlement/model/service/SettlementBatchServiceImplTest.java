@@ -0,0 +1,123 @@
+package com.synerge.order101.settlement.model.service;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.common.enums.SettlementType;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.settlement.model.dto.SettlementRequest;
+import com.synerge.order101.settlement.model.entity.Settlement;
+import com.synerge.order101.settlement.model.entity.SettlementAccrual;
+import com.synerge.order101.settlement.model.repository.SettlementAccrualJdbcRepository;
+import com.synerge.order101.settlement.model.repository.SettlementAccrualRepository;
+import com.synerge.order101.settlement.model.repository.SettlementRepository;
+import com.synerge.order101.store.model.entity.Store;
+import com.synerge.order101.store.model.repository.StoreRepository;
+import com.synerge.order101.supplier.model.entity.Supplier;
+import com.synerge.order101.supplier.model.repository.SupplierRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SettlementBatchServiceImplTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, SettlementAccrualJdbcRepository.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class SettlementBatchServiceImplTest {
+
+    @Autowired private SettlementAccrualRepository settlementAccrualRepository;
+    @Autowired private SettlementAccrualJdbcRepository settlementAccrualJdbcRepository;
+    @Autowired private SettlementRepository settlementRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private SupplierRepository supplierRepository;
+    @Autowired private TestEntityManager em;
+
+    private SettlementBatchServiceImpl service;
+    private Store store;
+    private Supplier supplier;
+
+    @BeforeEach
+    void setUp() {
+        service = new SettlementBatchServiceImpl(settlementAccrualRepository, settlementAccrualJdbcRepository,
+                settlementRepository, mock(DocumentNumberAllocator.class), storeRepository, supplierRepository);
+        store = em.persist(Store.builder()
+                .storeCode("ST-B").storeName("묶음 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        supplier = em.persist(Supplier.builder().supplierCode("SUP-B").supplierName("묶음 공급사").build());
+        em.flush();
+    }
+
+    private SettlementRequest order(long storeOrderId, String amount, int qty) {
+        return new SettlementRequest(SettlementType.AR, storeOrderId, null, store.getStoreId(), null,
+                new BigDecimal(amount), qty);
+    }
+
+    private SettlementRequest purchase(long purchaseId, String amount, int qty) {
+        return new SettlementRequest(SettlementType.AP, null, purchaseId, null, supplier.getSupplierId(),
+                new BigDecimal(amount), qty);
+    }
+
+    @Test
+    @DisplayName("적립을 거래처별로 합산해 정산 한 건씩 만들고, 적립에 정산을 연결한다")
+    void rollUp_OneSettlementPerVendor() {
+        // given - 가맹점 주문 3건, 공급사 발주 2건
+        service.accrue(List.of(order(1L, "1000", 1), order(2L, "2000", 2), order(3L, "3000", 3),
+                purchase(10L, "500", 5), purchase(11L, "700", 7)));
+
+        // when
+        int created = service.rollUp(LocalDateTime.now().plusDays(1));
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(created).isEqualTo(2);
+        List<Settlement> settlements = settlementRepository.findAll();
+        assertThat(settlements)
+                .extracting(Settlement::getSettlementType, s -> s.getProductsAmount().intValue(), Settlement::getProductsQty)
+                .containsExactlyInAnyOrder(
+                        tuple(SettlementType.AR, 6000, 6),
+                        tuple(SettlementType.AP, 1200, 12));
+        assertThat(settlements).allMatch(s -> s.getPeriodStart() != null && s.getPeriodEnd() != null);
+        assertThat(settlementAccrualRepository.countBySettlementIdIsNull()).isZero();
+        assertThat(settlementAccrualRepository.findAll())
+                .extracting(SettlementAccrual::getSettlementId)
+                .containsOnly(settlements.stream().map(Settlement::getSettlementId).toArray(Long[]::new));
+
+        // 다시 돌려도 새 정산이 생기지 않는다
+        assertThat(service.rollUp(LocalDateTime.now().plusDays(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 문서는 두 번 적립되지 않고, 기간 이후 적립은 다음 합산으로 넘어간다")
+    void accrue_Idempotent_AndPeriodBounded() {
+        // given
+        service.accrue(List.of(order(1L, "1000", 1), order(1L, "1000", 1)));
+        service.accrue(List.of(order(1L, "1000", 1), order(2L, "2000", 2)));
+
+        // when - 모든 적립보다 이른 기간 끝
+        int created = service.rollUp(LocalDateTime.now().minusDays(1));
+
+        // then
+        assertThat(created).isZero();
+        assertThat(settlementAccrualRepository.count()).isEqualTo(2);
+        assertThat(settlementAccrualRepository.countBySettlementIdIsNull()).isEqualTo(2);
+    }
+}
@@ -2,18 +2,25 @@ package com.synerge.order101.settlement.model.service;
 
 import com.synerge.order101.common.dto.TradeSearchCondition;
 import com.synerge.order101.common.enums.SettlementType;
-import com.synerge.order101.common.exception.CustomException;
 import com.synerge.order101.order.model.entity.StoreOrder;
 import com.synerge.order101.purchase.model.entity.Purchase;
-import com.synerge.order101.settlement.event.SettlementReqEvent;
+import com.synerge.order101.order.model.repository.StoreOrderRepository;
+import com.synerge.order101.purchase.model.entity.PurchaseDetail;
+import com.synerge.order101.purchase.model.repository.PurchaseRepository;
+import com.synerge.order101.settlement.event.PurchaseSettlementReqEvent;
+import com.synerge.order101.settlement.model.dto.SettlementRequest;
 import com.synerge.order101.settlement.model.dto.SettlementSummaryDto;
 import com.synerge.order101.settlement.model.entity.Settlement;
 import com.synerge.order101.settlement.model.repository.SettlementRepository;
 import com.synerge.order101.store.model.entity.Store;
+import com.synerge.order101.store.model.repository.StoreRepository;
 import com.synerge.order101.supplier.model.entity.Supplier;
+import com.synerge.order101.supplier.model.repository.SupplierRepository;
+import com.synerge.order101.common.sequence.DocumentNumberAllocator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,10 +31,10 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -39,6 +46,21 @@ class SettlementServiceImplTest {
     @Mock
     private SettlementRepository settlementRepository;
 
+    @Mock
+    private DocumentNumberAllocator documentNumberAllocator;
+
+    @Mock
+    private StoreOrderRepository storeOrderRepository;
+
+    @Mock
+    private PurchaseRepository purchaseRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private SupplierRepository supplierRepository;
+
     @InjectMocks
     private SettlementServiceImpl settlementService;
 
@@ -69,7 +91,8 @@ class SettlementServiceImplTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Page<Settlement> settlementPage = new PageImpl<>(List.of(settlement1, settlement2));
+        Page<SettlementSummaryDto> settlementPage = new PageImpl<>(List.of(settlement1, settlement2))
+                .map(SettlementSummaryDto::fromEntity);
         given(settlementRepository.search(cond, pageable)).willReturn(settlementPage);
 
         // when
@@ -87,7 +110,7 @@ class SettlementServiceImplTest {
         // given
         TradeSearchCondition cond = new TradeSearchCondition();
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Settlement> emptyPage = new PageImpl<>(List.of());
+        Page<SettlementSummaryDto> emptyPage = new PageImpl<>(List.of());
 
         given(settlementRepository.search(cond, pageable)).willReturn(emptyPage);
 
@@ -101,8 +124,8 @@ class SettlementServiceImplTest {
     }
 
     @Test
-    @DisplayName("정산 이벤트 처리 - 공급사 정산(AP) 성공")
-    void handleSettlementRequired_SupplierAP_Success() {
+    @DisplayName("정산 생성 - 공급사 정산(AP) 성공")
+    void createSettlements_SupplierAP_Success() {
         // given
         Supplier supplier = Supplier.builder()
                 .supplierId(1L)
@@ -113,60 +136,26 @@ class SettlementServiceImplTest {
                 .purchaseId(100L)
                 .build();
 
-        SettlementReqEvent event = new SettlementReqEvent() {
-            @Override
-            public boolean existSettlement(SettlementRepository repo) {
-                return false; // 정산이 존재하지 않음
-            }
-
-            @Override
-            public Purchase purchase() {
-                return purchase;
-            }
-
-            @Override
-            public Supplier supplier() {
-                return supplier;
-            }
-
-            @Override
-            public Store store() {
-                return null;
-            }
-
-            @Override
-            public StoreOrder storeOrder() {
-                return null;
-            }
-
-            @Override
-            public SettlementType settlementType() {
-                return SettlementType.AP;
-            }
-
-            @Override
-            public BigDecimal settlementAmount() {
-                return new BigDecimal("500000");
-            }
-
-            @Override
-            public Integer settlementQty() {
-                return 100;
-            }
-        };
-
-        given(settlementRepository.save(any(Settlement.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(supplierRepository.getReferenceById(1L)).willReturn(supplier);
+        given(purchaseRepository.getReferenceById(100L)).willReturn(purchase);
+
+        SettlementRequest request = new SettlementRequest(SettlementType.AP, null, 100L, null, 1L,
+                new BigDecimal("500000"), 100);
 
         // when
-        settlementService.handleSettlementRequired(event);
+        settlementService.createSettlements(List.of(request));
 
         // then
-        verify(settlementRepository, times(1)).save(any(Settlement.class));
+        List<Settlement> saved = savedSettlements();
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getSupplier()).isSameAs(supplier);
+        assertThat(saved.get(0).getPurchase()).isSameAs(purchase);
+        assertThat(saved.get(0).getStore()).isNull();
     }
 
     @Test
-    @DisplayName("정산 이벤트 처리 - 가맹점 정산(AR) 성공")
-    void handleSettlementRequired_StoreAR_Success() {
+    @DisplayName("정산 생성 - 가맹점 정산(AR) 성공")
+    void createSettlements_StoreAR_Success() {
         // given
         Store store = Store.builder()
                 .storeId(1L)
@@ -177,167 +166,64 @@ class SettlementServiceImplTest {
                 .storeOrderId(200L)
                 .build();
 
-        SettlementReqEvent event = new SettlementReqEvent() {
-            @Override
-            public boolean existSettlement(SettlementRepository repo) {
-                return false;
-            }
-
-            @Override
-            public Purchase purchase() {
-                return null;
-            }
-
-            @Override
-            public Supplier supplier() {
-                return null;
-            }
-
-            @Override
-            public Store store() {
-                return store;
-            }
-
-            @Override
-            public StoreOrder storeOrder() {
-                return storeOrder;
-            }
-
-            @Override
-            public SettlementType settlementType() {
-                return SettlementType.AR;
-            }
-
-            @Override
-            public BigDecimal settlementAmount() {
-                return new BigDecimal("300000");
-            }
-
-            @Override
-            public Integer settlementQty() {
-                return 50;
-            }
-        };
-
-        given(settlementRepository.save(any(Settlement.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(storeRepository.getReferenceById(1L)).willReturn(store);
+        given(storeOrderRepository.getReferenceById(200L)).willReturn(storeOrder);
+
+        SettlementRequest request = new SettlementRequest(SettlementType.AR, 200L, null, 1L, null,
+                new BigDecimal("300000"), 50);
 
         // when
-        settlementService.handleSettlementRequired(event);
+        settlementService.createSettlements(List.of(request));
 
         // then
-        verify(settlementRepository, times(1)).save(any(Settlement.class));
+        List<Settlement> saved = savedSettlements();
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getSettlementType()).isEqualTo(SettlementType.AR);
+        assertThat(saved.get(0).getStoreOrder()).isSameAs(storeOrder);
+        assertThat(saved.get(0).getStore()).isSameAs(store);
     }
 
     @Test
-    @DisplayName("정산 이벤트 처리 - 이미 정산이 존재하면 예외 발생")
-    void handleSettlementRequired_AlreadyExists_ThrowsException() {
-        // given
-        SettlementReqEvent event = new SettlementReqEvent() {
-            @Override
-            public boolean existSettlement(SettlementRepository repo) {
-                return true; // 이미 정산이 존재함
-            }
-
-            @Override
-            public Purchase purchase() {
-                return null;
-            }
-
-            @Override
-            public Supplier supplier() {
-                return null;
-            }
-
-            @Override
-            public Store store() {
-                return null;
-            }
-
-            @Override
-            public StoreOrder storeOrder() {
-                return null;
-            }
-
-            @Override
-            public SettlementType settlementType() {
-                return SettlementType.AP;
-            }
-
-            @Override
-            public BigDecimal settlementAmount() {
-                return new BigDecimal("100000");
-            }
-
-            @Override
-            public Integer settlementQty() {
-                return 10;
-            }
-        };
-
-        // when & then
-        assertThatThrownBy(() -> settlementService.handleSettlementRequired(event))
-                .isInstanceOf(CustomException.class);
-
-        verify(settlementRepository, never()).save(any(Settlement.class));
+    @DisplayName("정산 생성 - 이미 정산이 있거나 같은 요청이 중복되면 건너뜀")
+    void createSettlements_AlreadyExists_Skipped() {
+        // given - 발주 1 은 이미 정산됨, 발주 2 는 같은 요청이 두 번 전달됨
+        given(settlementRepository.findPurchaseIdsWithSettlement(any())).willReturn(List.of(1L));
+
+        SettlementRequest existing = new SettlementRequest(SettlementType.AP, null, 1L, null, 1L,
+                new BigDecimal("100000"), 10);
+        SettlementRequest fresh = new SettlementRequest(SettlementType.AP, null, 2L, null, 1L,
+                new BigDecimal("200000"), 20);
+
+        // when
+        settlementService.createSettlements(List.of(existing, fresh, fresh));
+
+        // then
+        List<Settlement> saved = savedSettlements();
+        assertThat(saved).extracting(Settlement::getProductsQty).containsExactly(20);
+        verify(documentNumberAllocator, times(1)).next(Settlement.SETTLEMENT_NO_PREFIX);
     }
 
     @Test
-    @DisplayName("정산 이벤트 처리 - Repository 저장 호출 검증")
-    void handleSettlementRequired_VerifyRepositorySave() {
+    @DisplayName("정산 생성 - 금액/수량이 그대로 저장됨")
+    void createSettlements_VerifyRepositorySave() {
         // given
-        SettlementReqEvent event = new SettlementReqEvent() {
-            @Override
-            public boolean existSettlement(SettlementRepository repo) {
-                return false;
-            }
-
-            @Override
-            public Purchase purchase() {
-                return Purchase.builder().purchaseId(1L).build();
-            }
-
-            @Override
-            public Supplier supplier() {
-                return Supplier.builder().supplierId(1L).build();
-            }
-
-            @Override
-            public Store store() {
-                return null;
-            }
-
-            @Override
-            public StoreOrder storeOrder() {
-                return null;
-            }
-
-            @Override
-            public SettlementType settlementType() {
-                return SettlementType.AP;
-            }
-
-            @Override
-            public BigDecimal settlementAmount() {
-                return new BigDecimal("999999");
-            }
-
-            @Override
-            public Integer settlementQty() {
-                return 888;
-            }
-        };
+        given(purchaseRepository.getReferenceById(1L)).willReturn(Purchase.builder().purchaseId(1L).build());
+        given(supplierRepository.getReferenceById(1L)).willReturn(Supplier.builder().supplierId(1L).build());
+
+        SettlementRequest request = new SettlementRequest(SettlementType.AP, null, 1L, null, 1L,
+                new BigDecimal("999999"), 888);
 
         // when
-        settlementService.handleSettlementRequired(event);
+        settlementService.createSettlements(List.of(request));
 
         // then
-        verify(settlementRepository).save(argThat(settlement ->
-                settlement.getSettlementType() == SettlementType.AP &&
-                settlement.getProductsAmount().compareTo(new BigDecimal("999999")) == 0 &&
-                settlement.getProductsQty() == 888 &&
-                settlement.getSupplier() != null &&
-                settlement.getPurchase() != null
-        ));
+        assertThat(savedSettlements()).singleElement().satisfies(settlement -> {
+            assertThat(settlement.getSettlementType()).isEqualTo(SettlementType.AP);
+            assertThat(settlement.getProductsAmount()).isEqualByComparingTo("999999");
+            assertThat(settlement.getProductsQty()).isEqualTo(888);
+            assertThat(settlement.getSupplier()).isNotNull();
+            assertThat(settlement.getPurchase()).isNotNull();
+        });
     }
 
     @Test
@@ -355,7 +241,8 @@ class SettlementServiceImplTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Page<Settlement> settlementPage = new PageImpl<>(List.of(settlement), pageable, 100);
+        Page<SettlementSummaryDto> settlementPage = new PageImpl<>(List.of(settlement), pageable, 100)
+                .map(SettlementSummaryDto::fromEntity);
         given(settlementRepository.search(cond, pageable)).willReturn(settlementPage);
 
         // when
@@ -369,57 +256,47 @@ class SettlementServiceImplTest {
     }
 
     @Test
-    @DisplayName("정산 이벤트 처리 - 금액 0원 정산")
-    void handleSettlementRequired_ZeroAmount() {
+    @DisplayName("정산 생성 - 금액 0원 정산")
+    void createSettlements_ZeroAmount() {
+        // given
+        SettlementRequest request = new SettlementRequest(SettlementType.AP, null, 1L, null, 1L,
+                BigDecimal.ZERO, 0);
+
+        // when
+        settlementService.createSettlements(List.of(request));
+
+        // then
+        assertThat(savedSettlements()).singleElement()
+                .extracting(Settlement::getProductsAmount)
+                .isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("정산 요청 - 발주 확정 이벤트의 금액/수량을 ID 와 함께 담음")
+    void settlementRequest_FromPurchaseEvent() {
         // given
-        SettlementReqEvent event = new SettlementReqEvent() {
-            @Override
-            public boolean existSettlement(SettlementRepository repo) {
-                return false;
-            }
-
-            @Override
-            public Purchase purchase() {
-                return Purchase.builder().purchaseId(1L).build();
-            }
-
-            @Override
-            public Supplier supplier() {
-                return Supplier.builder().supplierId(1L).build();
-            }
-
-            @Override
-            public Store store() {
-                return null;
-            }
-
-            @Override
-            public StoreOrder storeOrder() {
-                return null;
-            }
-
-            @Override
-            public SettlementType settlementType() {
-                return SettlementType.AP;
-            }
-
-            @Override
-            public BigDecimal settlementAmount() {
-                return BigDecimal.ZERO;
-            }
-
-            @Override
-            public Integer settlementQty() {
-                return 0;
-            }
-        };
-
-        given(settlementRepository.save(any(Settlement.class))).willAnswer(invocation -> invocation.getArgument(0));
+        Purchase purchase = Purchase.builder()
+                .purchaseId(100L)
+                .supplier(Supplier.builder().supplierId(7L).build())
+                .purchaseDetails(List.of(
+                        PurchaseDetail.builder().unitPrice(new BigDecimal("1000")).orderQty(3).build(),
+                        PurchaseDetail.builder().unitPrice(new BigDecimal("500")).orderQty(2).build()))
+                .build();
 
         // when
-        settlementService.handleSettlementRequired(event);
+        SettlementRequest request = SettlementRequest.from(new PurchaseSettlementReqEvent(purchase));
 
         // then
-        verify(settlementRepository, times(1)).save(any(Settlement.class));
+        assertThat(request).isEqualTo(new SettlementRequest(SettlementType.AP, null, 100L, null, 7L,
+                new BigDecimal("4000"), 5));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Settlement> savedSettlements() {
+        ArgumentCaptor<Iterable<Settlement>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(settlementRepository).saveAll(captor.capture());
+        List<Settlement> saved = new ArrayList<>();
+        captor.getValue().forEach(saved::add);
+        return saved;
     }
 }
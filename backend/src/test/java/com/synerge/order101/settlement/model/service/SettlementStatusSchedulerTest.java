@@ -0,0 +1,120 @@
+package com.synerge.order101.settlement.model.service;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.common.enums.SettlementType;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.settlement.model.entity.Settlement;
+import com.synerge.order101.settlement.model.repository.SettlementRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SettlementStatusSchedulerTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class SettlementStatusSchedulerTest {
+
+    @Autowired
+    private SettlementRepository settlementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SettlementStatusScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new SettlementStatusScheduler(settlementRepository, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+    }
+
+    private Settlement settlement(boolean issued) {
+        Settlement settlement = em.persist(Settlement.builder()
+                .settlementType(SettlementType.AP)
+                .productsAmount(BigDecimal.valueOf(1000))
+                .productsQty(1)
+                .build());
+        if (issued) {
+            settlement.markAsIssued();
+        }
+        return settlement;
+    }
+
+    private Settlement.SettlementStatus statusOf(Long settlementId) {
+        return settlementRepository.findById(settlementId).orElseThrow().getSettlementStatus();
+    }
+
+    @Test
+    @DisplayName("여러 묶음에 걸쳐 DRAFT 는 VOID, ISSUED 는 DRAFT 로 바꾸고 같은 실행에서 다시 VOID 로 넘기지 않는다")
+    void rotate_AcrossChunks_NoCascade() {
+        // given - DRAFT 3건, ISSUED 2건이 섞여 있고 묶음 크기는 2
+        List<Long> drafts = new ArrayList<>();
+        List<Long> issued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Settlement s = settlement(i % 2 == 1);
+            (i % 2 == 1 ? issued : drafts).add(s.getSettlementId());
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        scheduler.rotateSettlementStatuses();
+
+        // then
+        drafts.forEach(id -> assertThat(statusOf(id)).isEqualTo(Settlement.SettlementStatus.VOID));
+        issued.forEach(id -> assertThat(statusOf(id)).isEqualTo(Settlement.SettlementStatus.DRAFT));
+        assertThat(settlementRepository.findById(drafts.get(0)).orElseThrow().getSettledDate()).isNotNull();
+        assertThat(settlementRepository.findById(issued.get(0)).orElseThrow().getSettledDate()).isNull();
+        assertThat(meterRegistry.counter("settlement.rotation.rows", "transition", "draft_to_void").count())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.counter("settlement.rotation.rows", "transition", "issued_to_draft").count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("묶음 끝 ID 는 해당 상태 행만 세어 정한다")
+    void findChunkBoundary_CountsOnlyMatchingStatus() {
+        // given - ISSUED, DRAFT, ISSUED, DRAFT, DRAFT
+        List<Long> ids = new ArrayList<>();
+        for (boolean issued : new boolean[]{true, false, true, false, false}) {
+            ids.add(settlement(issued).getSettlementId());
+        }
+        em.flush();
+
+        // when - DRAFT 2건째의 ID
+        List<Long> boundary = settlementRepository.findChunkBoundary(Settlement.SettlementStatus.DRAFT,
+                0L, ids.get(4), PageRequest.of(1, 1));
+
+        // then
+        assertThat(boundary).containsExactly(ids.get(3));
+        assertThat(settlementRepository.rotateStatusInRange(Settlement.SettlementStatus.DRAFT,
+                Settlement.SettlementStatus.VOID, null, 0L, ids.get(3))).isEqualTo(2);
+    }
+}
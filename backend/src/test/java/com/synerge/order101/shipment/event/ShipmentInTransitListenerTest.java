@@ -1,14 +1,18 @@
 package com.synerge.order101.shipment.event;
 
 import com.synerge.order101.common.enums.ShipmentStatus;
+import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.entity.StoreOrderDetail;
 import com.synerge.order101.order.model.repository.StoreOrderDetailRepository;
 import com.synerge.order101.order.model.repository.StoreOrderRepository;
 import com.synerge.order101.product.model.entity.Product;
 import com.synerge.order101.shipment.model.entity.Shipment;
 import com.synerge.order101.shipment.model.repository.ShipmentRepository;
-import com.synerge.order101.store.model.entity.Store;
-import com.synerge.order101.store.model.entity.StoreInventory;
+import com.synerge.order101.store.model.dto.StoreStockDelta;
+import com.synerge.order101.store.model.repository.StoreInventoryJdbcRepository;
 import com.synerge.order101.store.model.repository.StoreInventoryRepository;
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.service.InventoryMovementService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,9 +20,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -32,39 +36,72 @@ class ShipmentInTransitListenerTest {
     @Mock StoreOrderRepository storeOrderRepository;
     @Mock StoreOrderDetailRepository storeOrderDetailRepository;
     @Mock StoreInventoryRepository storeInventoryRepository;
+    @Mock StoreInventoryJdbcRepository storeInventoryJdbcRepository;
+    @Mock InventoryMovementService inventoryMovementService;
 
     @Test
     void ApplyInTransit() {
-        // shipment
+        // shipment - 아직 반영 안 된 배송 중 건
         Shipment shipment = mock(Shipment.class);
         given(shipment.getShipmentId()).willReturn(10L);
         given(shipment.getShipmentStatus()).willReturn(ShipmentStatus.IN_TRANSIT);
-        given(shipment.getInTransitApplied()).willReturn(false);
-        given(shipmentRepository.findById(10L)).willReturn(Optional.of(shipment));
+        given(shipmentRepository.lockInTransitNotApplied(Set.of(10L))).willReturn(List.of(shipment));
 
-        // order & store
-        var store = mock(Store.class);
-        var order = mock(com.synerge.order101.order.model.entity.StoreOrder.class);
+        // order
+        StoreOrder order = mock(StoreOrder.class);
         given(order.getStoreOrderId()).willReturn(11L);
-        given(order.getStore()).willReturn(store);
-        given(storeOrderRepository.findById(11L)).willReturn(Optional.of(order));
+        given(order.getOrderNo()).willReturn("SO-11");
+        given(storeOrderRepository.findAllById(List.of(11L))).willReturn(List.of(order));
 
         // line & product
-        var product = mock(Product.class);
-        var line = mock(com.synerge.order101.order.model.entity.StoreOrderDetail.class);
+        Product product = mock(Product.class);
+        given(product.getProductId()).willReturn(7L);
+        StoreOrderDetail line = mock(StoreOrderDetail.class);
+        given(line.getStoreOrder()).willReturn(order);
         given(line.getProduct()).willReturn(product);
         given(line.getOrderQty()).willReturn(5);
-        given(storeOrderDetailRepository.findByStoreOrder_StoreOrderId(11L)).willReturn(List.of(line));
+        given(storeOrderDetailRepository.findWithProductByStoreOrderIds(List.of(11L))).willReturn(List.of(line));
 
-        // inventory
-        StoreInventory inv = StoreInventory.create(store, product);
-        given(storeInventoryRepository.findByStoreAndProduct(store, product)).willReturn(Optional.of(inv));
+        // inventory - 반영 후 현재고 0
+        given(storeInventoryRepository.findOnHandQty(List.of(111L), Set.of(7L)))
+                .willReturn(List.<Object[]>of(new Object[]{111L, 7L, 0}));
 
         // when
-        listener.applyInTransit(new ShipmentInTransitEvent(10L, 11L, 111L));
+        listener.handle(List.of(new ShipmentInTransitEvent(10L, 11L, 111L)));
 
         // then
-        verify(storeInventoryRepository).save(any(StoreInventory.class));
-        verify(shipmentRepository).save(shipment);
+        verify(storeInventoryJdbcRepository).upsertAll(List.of(StoreStockDelta.inTransit(111L, 7L, 5)));
+        verify(inventoryMovementService).recordStoreAll(ChangeType.STORE_IN_TRANSIT, "SO-11", 111L,
+                Map.of(7L, 5), Map.of(7L, 0));
+        verify(shipment).markInTransitApplied();
+        verify(storeInventoryRepository, never()).save(any());
+    }
+
+    @Test
+    void ApplyInTransit_AlreadyApplied() {
+        // 이미 반영됐거나 다른 처리기가 먼저 잠근 배송 - 재고를 다시 올리지 않음
+        given(shipmentRepository.lockInTransitNotApplied(Set.of(10L))).willReturn(List.of());
+
+        // when
+        listener.handle(List.of(new ShipmentInTransitEvent(10L, 11L, 111L)));
+
+        // then
+        verifyNoInteractions(storeOrderRepository, storeOrderDetailRepository,
+                storeInventoryJdbcRepository, storeInventoryRepository, inventoryMovementService);
+    }
+
+    @Test
+    void ApplyInTransit_SkipsNotInTransit() {
+        // 그 사이 배송 완료로 넘어간 건은 입고예정을 올리지 않고 완료 처리에 맡긴다
+        Shipment shipment = mock(Shipment.class);
+        given(shipment.getShipmentStatus()).willReturn(ShipmentStatus.DELIVERED);
+        given(shipmentRepository.lockInTransitNotApplied(Set.of(10L))).willReturn(List.of(shipment));
+
+        // when
+        listener.handle(List.of(new ShipmentInTransitEvent(10L, 11L, 111L)));
+
+        // then
+        verifyNoInteractions(storeInventoryJdbcRepository, inventoryMovementService);
+        verify(shipment, never()).markInTransitApplied();
     }
 }
@@ -10,21 +10,22 @@ import com.synerge.order101.product.model.entity.Product;
 import com.synerge.order101.shipment.exception.ShipmentErrorCode;
 import com.synerge.order101.shipment.model.entity.Shipment;
 import com.synerge.order101.shipment.model.repository.ShipmentRepository;
-import com.synerge.order101.store.model.entity.Store;
-import com.synerge.order101.store.model.entity.StoreInventory;
+import com.synerge.order101.store.model.dto.StoreStockDelta;
+import com.synerge.order101.store.model.repository.StoreInventoryJdbcRepository;
 import com.synerge.order101.store.model.repository.StoreInventoryRepository;
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.service.InventoryMovementService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -40,47 +41,63 @@ class ShipmentInventoryListenerTest {
     @Mock private StoreOrderRepository storeOrderRepository;
     @Mock private StoreOrderDetailRepository storeOrderDetailRepository;
     @Mock private StoreInventoryRepository storeInventoryRepository;
+    @Mock private StoreInventoryJdbcRepository storeInventoryJdbcRepository;
+    @Mock private InventoryMovementService inventoryMovementService;
 
-    @Test
-    @Order(1)
-    //delivered_정상_적재__inTransit_이미_반영됨
-    void AlreadyApplyDeliveredInTransit() {
-        // given
-        // shipment: DELIVERED / inventoryApplied=false / inTransitApplied=true
+    private Shipment delivered(Long shipmentId, boolean inTransitApplied) {
         Shipment shipment = mock(Shipment.class);
-
+        given(shipment.getShipmentId()).willReturn(shipmentId);
         given(shipment.getShipmentStatus()).willReturn(ShipmentStatus.DELIVERED);
-        given(shipment.getInventoryApplied()).willReturn(false);
-        given(shipment.getInTransitApplied()).willReturn(true);
-        given(shipmentRepository.findById(10L)).willReturn(Optional.of(shipment));
+        given(shipment.getInTransitApplied()).willReturn(inTransitApplied);
+        return shipment;
+    }
 
-        // 주문/가맹점
-        Store store = mock(Store.class);
+    private StoreOrder order(Long storeOrderId) {
         StoreOrder order = mock(StoreOrder.class);
-        given(order.getStoreOrderId()).willReturn(11L);
-        given(order.getStore()).willReturn(store);
-        given(storeOrderRepository.findById(11L)).willReturn(Optional.of(order));
+        given(order.getStoreOrderId()).willReturn(storeOrderId);
+        given(order.getOrderNo()).willReturn("SO-" + storeOrderId);
+        return order;
+    }
 
-        // 주문 상세 1줄 (qty=5, 특정 상품)
+    private StoreOrderDetail line(StoreOrder order, Long productId, int qty) {
         Product product = mock(Product.class);
+        given(product.getProductId()).willReturn(productId);
         StoreOrderDetail line = mock(StoreOrderDetail.class);
+        given(line.getStoreOrder()).willReturn(order);
         given(line.getProduct()).willReturn(product);
-        given(line.getOrderQty()).willReturn(5);
-        given(storeOrderDetailRepository.findByStoreOrder_StoreOrderId(11L)).willReturn(List.of(line));
+        given(line.getOrderQty()).willReturn(qty);
+        return line;
+    }
+
+    @Test
+    @Order(1)
+    //delivered_정상_적재__inTransit_이미_반영됨
+    void AlreadyApplyDeliveredInTransit() {
+        // given
+        // shipment: DELIVERED / inventoryApplied=false / inTransitApplied=true
+        Shipment shipment = delivered(10L, true);
+        given(shipmentRepository.lockInventoryNotApplied(Set.of(10L))).willReturn(List.of(shipment));
 
-        // 기존 재고: 입고예정 5, 현재고 0
-        StoreInventory inv = StoreInventory.create(store, product);
-        inv.increaseInTransit(5);
-        given(storeInventoryRepository.findByStoreAndProduct(store, product)).willReturn(Optional.of(inv));
+        // 주문 상세 1줄 (qty=5, 특정 상품)
+        StoreOrder order = order(11L);
+        StoreOrderDetail line = line(order, 7L, 5);
+        given(storeOrderRepository.findAllById(List.of(11L))).willReturn(List.of(order));
+        given(storeOrderDetailRepository.findWithProductByStoreOrderIds(List.of(11L))).willReturn(List.of(line));
+
+        // 반영 후 현재고 5
+        given(storeInventoryRepository.findOnHandQty(List.of(111L), Set.of(7L)))
+                .willReturn(List.<Object[]>of(new Object[]{111L, 7L, 5}));
 
         // when
-        listener.applyInventory(new ShipmentDeliveredEvent(10L, 11L, 111L));
+        listener.handle(List.of(new ShipmentDeliveredEvent(10L, 11L, 111L)));
 
         // then (입고예정 －＞ 현재고 이동)
-        assertThat(inv.getInTransitQty()).isZero();
-        assertThat(inv.getOnHandQty()).isEqualTo(5);
-        verify(storeInventoryRepository, times(1)).save(inv);
-        verify(shipmentRepository, times(1)).save(shipment);
+        verify(storeInventoryJdbcRepository, times(1))
+                .upsertAll(List.of(new StoreStockDelta(111L, 7L, 5, -5)));
+        verify(inventoryMovementService).recordStoreAll(ChangeType.STORE_RECEIVED, "SO-11", 111L,
+                Map.of(7L, 5), Map.of(7L, 5));
+        verify(shipment).markInventoryApplied();
+        verify(storeInventoryRepository, never()).save(any());
     }
 
     @Test
@@ -88,53 +105,40 @@ class ShipmentInventoryListenerTest {
     //delivered 정상_적재 InTransit 미반영 바로 현재고만증가
     void DeliveredInTransitAddOn_hand_qty() {
         // given
-        Shipment shipment = mock(Shipment.class);
-        given(shipment.getShipmentStatus()).willReturn(ShipmentStatus.DELIVERED);
-        given(shipment.getInventoryApplied()).willReturn(false);
-        given(shipment.getInTransitApplied()).willReturn(false); // 중간단계는 미적용
-        given(shipmentRepository.findById(20L)).willReturn(Optional.of(shipment));
+        Shipment shipment = delivered(20L, false); // 중간단계는 미적용
+        given(shipmentRepository.lockInventoryNotApplied(Set.of(20L))).willReturn(List.of(shipment));
 
-        Store store = mock(Store.class);
-        StoreOrder order = mock(StoreOrder.class);
-        given(order.getStoreOrderId()).willReturn(21L);
-        given(order.getStore()).willReturn(store);
-        given(storeOrderRepository.findById(21L)).willReturn(Optional.of(order));
-
-        Product product = mock(Product.class);
-        StoreOrderDetail line = mock(StoreOrderDetail.class);
-        given(line.getProduct()).willReturn(product);
-        given(line.getOrderQty()).willReturn(3);
-        given(storeOrderDetailRepository.findByStoreOrder_StoreOrderId(21L)).willReturn(List.of(line));
+        StoreOrder order = order(21L);
+        StoreOrderDetail line = line(order, 7L, 3);
+        given(storeOrderRepository.findAllById(List.of(21L))).willReturn(List.of(order));
+        given(storeOrderDetailRepository.findWithProductByStoreOrderIds(List.of(21L))).willReturn(List.of(line));
 
-        // 기존 재고: 입고예정 0, 현재고 0
-        StoreInventory inv = StoreInventory.create(store, product);
-        given(storeInventoryRepository.findByStoreAndProduct(store, product)).willReturn(Optional.of(inv));
+        // 반영 후 현재고 3
+        given(storeInventoryRepository.findOnHandQty(List.of(111L), Set.of(7L)))
+                .willReturn(List.<Object[]>of(new Object[]{111L, 7L, 3}));
 
         // when
-        listener.applyInventory(new ShipmentDeliveredEvent(20L, 21L, 111L));
+        listener.handle(List.of(new ShipmentDeliveredEvent(20L, 21L, 111L)));
 
         // then (입고예정은 그대로, 현재고만 +3)
-        assertThat(inv.getInTransitQty()).isZero();
-        assertThat(inv.getOnHandQty()).isEqualTo(3);
-        verify(storeInventoryRepository).save(inv);
-        verify(shipmentRepository).save(shipment);
+        verify(storeInventoryJdbcRepository).upsertAll(List.of(new StoreStockDelta(111L, 7L, 3, 0)));
+        verify(inventoryMovementService).recordStoreAll(ChangeType.STORE_RECEIVED, "SO-21", 111L,
+                Map.of(7L, 3), Map.of(7L, 3));
     }
 
     @Test
     @Order(3)
     //delivered 이미 적재됨 - 멱등
     void DeliveredAlreadyApplyIdempotence () {
-        // given
-        Shipment shipment = mock(Shipment.class);
-        given(shipment.getInventoryApplied()).willReturn(true);  // 이미 반영됨
-        given(shipmentRepository.findById(30L)).willReturn(Optional.of(shipment));
+        // given - 이미 반영된 배송은 잠금 조회에서 빠진다
+        given(shipmentRepository.lockInventoryNotApplied(Set.of(30L))).willReturn(List.of());
 
         // when
-        listener.applyInventory(new ShipmentDeliveredEvent(30L, 31L, 111L));
+        listener.handle(List.of(new ShipmentDeliveredEvent(30L, 31L, 111L)));
 
         // then (어떤 저장 동작도 없어야 함)
-        verifyNoInteractions(storeOrderRepository, storeOrderDetailRepository, storeInventoryRepository);
-        verify(shipmentRepository, never()).save(any());
+        verifyNoInteractions(storeOrderRepository, storeOrderDetailRepository, storeInventoryRepository,
+                storeInventoryJdbcRepository, inventoryMovementService);
     }
 
     @Test
@@ -143,19 +147,54 @@ class ShipmentInventoryListenerTest {
     void NotDeliveredException() {
         // given
         Shipment shipment = mock(Shipment.class);
-
-        given(shipment.getInventoryApplied()).willReturn(false);
         given(shipment.getShipmentStatus()).willReturn(ShipmentStatus.IN_TRANSIT); // DELIVERED 아님
-        given(shipmentRepository.findById(40L)).willReturn(Optional.of(shipment));
+        given(shipmentRepository.lockInventoryNotApplied(Set.of(40L))).willReturn(List.of(shipment));
 
         // when & then
         assertThatThrownBy(() ->
-                listener.applyInventory(new ShipmentDeliveredEvent(40L, 41L, 111L))
+                listener.handle(List.of(new ShipmentDeliveredEvent(40L, 41L, 111L)))
         )
                 .isInstanceOf(CustomException.class)
                 .hasMessageContaining(ShipmentErrorCode.SHIPMENT_NOT_DELIVERED.getMessage());
 
-        verifyNoInteractions(storeOrderRepository, storeOrderDetailRepository, storeInventoryRepository);
-        verify(shipmentRepository, never()).save(any());
+        verifyNoInteractions(storeOrderRepository, storeOrderDetailRepository, storeInventoryRepository,
+                storeInventoryJdbcRepository);
+        verify(shipment, never()).markInventoryApplied();
+    }
+
+    @Test
+    @Order(5)
+    //같은 가맹점 배송 두 건을 한 번에 - 이력 잔량은 배송 순서대로 쌓인다
+    void DeliveredBatchRunningBalance() {
+        // given
+        Shipment first = delivered(50L, true);
+        Shipment second = delivered(60L, true);
+        given(shipmentRepository.lockInventoryNotApplied(Set.of(50L, 60L))).willReturn(List.of(first, second));
+
+        StoreOrder firstOrder = order(51L);
+        StoreOrder secondOrder = order(61L);
+        StoreOrderDetail firstLine = line(firstOrder, 7L, 4);
+        StoreOrderDetail secondLine = line(secondOrder, 7L, 6);
+        given(storeOrderRepository.findAllById(List.of(51L, 61L))).willReturn(List.of(firstOrder, secondOrder));
+        given(storeOrderDetailRepository.findWithProductByStoreOrderIds(List.of(51L, 61L)))
+                .willReturn(List.of(firstLine, secondLine));
+
+        // 두 배송 반영 후 현재고 10
+        given(storeInventoryRepository.findOnHandQty(List.of(111L), Set.of(7L)))
+                .willReturn(List.<Object[]>of(new Object[]{111L, 7L, 10}));
+
+        // when
+        listener.handle(List.of(new ShipmentDeliveredEvent(50L, 51L, 111L),
+                new ShipmentDeliveredEvent(60L, 61L, 111L)));
+
+        // then - 한 번의 upsert, 잔량은 4 -> 10
+        verify(storeInventoryJdbcRepository).upsertAll(List.of(
+                new StoreStockDelta(111L, 7L, 4, -4), new StoreStockDelta(111L, 7L, 6, -6)));
+        verify(inventoryMovementService).recordStoreAll(ChangeType.STORE_RECEIVED, "SO-51", 111L,
+                Map.of(7L, 4), Map.of(7L, 4));
+        verify(inventoryMovementService).recordStoreAll(ChangeType.STORE_RECEIVED, "SO-61", 111L,
+                Map.of(7L, 6), Map.of(7L, 10));
+        verify(first).markInventoryApplied();
+        verify(second).markInventoryApplied();
     }
 }
@@ -0,0 +1,99 @@
+package com.synerge.order101.shipment.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.common.enums.ShipmentStatus;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.entity.StoreOrderStatusLog;
+import com.synerge.order101.order.model.repository.StoreOrderStatusLogJdbcRepository;
+import com.synerge.order101.order.model.repository.StoreOrderStatusLogRepository;
+import com.synerge.order101.shipment.model.entity.Shipment;
+import com.synerge.order101.store.model.entity.Store;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ShipmentJdbcRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, ShipmentJdbcRepository.class, StoreOrderStatusLogJdbcRepository.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ShipmentJdbcRepositoryTest {
+
+    @Autowired
+    private ShipmentJdbcRepository shipmentJdbcRepository;
+
+    @Autowired
+    private ShipmentRepository shipmentRepository;
+
+    @Autowired
+    private StoreOrderStatusLogJdbcRepository storeOrderStatusLogJdbcRepository;
+
+    @Autowired
+    private StoreOrderStatusLogRepository storeOrderStatusLogRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("일괄 승인 시 배송 대기와 상태 이력을 배치로 저장한다")
+    void insertAll_WaitingShipmentsAndStatusLogs() {
+        // given
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-SH").storeName("배송 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        StoreOrder first = em.persist(StoreOrder.builder().store(store).build());
+        StoreOrder second = em.persist(StoreOrder.builder().store(store).build());
+        em.flush();
+
+        List<Shipment> shipments = List.of(first, second).stream()
+                .map(order -> Shipment.builder()
+                        .storeOrder(order)
+                        .store(store)
+                        .shipmentStatus(ShipmentStatus.WAITING)
+                        .inventoryApplied(false)
+                        .inTransitApplied(false)
+                        .build())
+                .toList();
+        List<StoreOrderStatusLog> logs = List.of(first, second).stream()
+                .map(order -> StoreOrderStatusLog.builder()
+                        .storeOrder(order)
+                        .prevStatus(OrderStatus.SUBMITTED)
+                        .curStatus(OrderStatus.CONFIRMED)
+                        .build())
+                .toList();
+
+        // when
+        int[] shipmentCounts = shipmentJdbcRepository.insertAll(shipments);
+        int[] logCounts = storeOrderStatusLogJdbcRepository.insertAll(logs);
+        em.clear();
+
+        // then
+        assertThat(shipmentCounts).containsOnly(1);
+        assertThat(logCounts).containsOnly(1);
+        assertThat(shipmentRepository.findAll())
+                .hasSize(2)
+                .allSatisfy(s -> {
+                    assertThat(s.getShipmentStatus()).isEqualTo(ShipmentStatus.WAITING);
+                    assertThat(s.getInventoryApplied()).isFalse();
+                    assertThat(s.getCreatedAt()).isNotNull();
+                });
+        assertThat(storeOrderStatusLogRepository.findAll())
+                .extracting(StoreOrderStatusLog::getCurStatus)
+                .containsOnly(OrderStatus.CONFIRMED);
+    }
+}
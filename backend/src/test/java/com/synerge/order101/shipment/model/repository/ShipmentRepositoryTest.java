@@ -0,0 +1,158 @@
+package com.synerge.order101.shipment.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.common.enums.OrderStatus;
+import com.synerge.order101.common.enums.ShipmentStatus;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.order.model.entity.StoreOrder;
+import com.synerge.order101.order.model.repository.StoreOrderRepository;
+import com.synerge.order101.shipment.model.entity.Shipment;
+import com.synerge.order101.store.model.entity.Store;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ShipmentRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ShipmentRepositoryTest {
+
+    @Autowired
+    private ShipmentRepository shipmentRepository;
+
+    @Autowired
+    private StoreOrderRepository storeOrderRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Shipment shipment(Store store, StoreOrder order, ShipmentStatus status) {
+        return em.persist(Shipment.builder()
+                .storeOrder(order)
+                .store(store)
+                .shipmentStatus(status)
+                .inventoryApplied(false)
+                .inTransitApplied(false)
+                .build());
+    }
+
+    @Test
+    @DisplayName("받은 ID 만 잠가 전환하고, 승인된 주문의 배송 상태를 한 번에 반영한다")
+    void transition_OnlyLockedIds() {
+        // given
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-TR").storeName("전환 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        StoreOrder confirmed = em.persist(StoreOrder.builder().store(store).orderStatus(OrderStatus.CONFIRMED).build());
+        StoreOrder submitted = em.persist(StoreOrder.builder().store(store).orderStatus(OrderStatus.SUBMITTED).build());
+        StoreOrder later = em.persist(StoreOrder.builder().store(store).orderStatus(OrderStatus.CONFIRMED).build());
+
+        Shipment first = shipment(store, confirmed, ShipmentStatus.WAITING);
+        Shipment second = shipment(store, submitted, ShipmentStatus.WAITING);
+        Shipment third = shipment(store, later, ShipmentStatus.WAITING);
+        shipment(store, later, ShipmentStatus.IN_TRANSIT);
+        em.flush();
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+
+        // when - 휠에서 1, 2 번이 만료 (3 번은 아직 예약 전)
+        List<Long> ids = shipmentRepository.lockWaitingDue(List.of(first.getShipmentId(), second.getShipmentId()), now);
+        int moved = shipmentRepository.transition(ids, ShipmentStatus.WAITING, ShipmentStatus.IN_TRANSIT, now);
+        List<Object[]> keys = shipmentRepository.findEventKeys(ids);
+        int orders = storeOrderRepository.updateShipmentStatusOfConfirmed(
+                keys.stream().map(row -> (Long) row[1]).toList(), ShipmentStatus.IN_TRANSIT, now);
+
+        // then
+        assertThat(ids).containsExactly(first.getShipmentId(), second.getShipmentId());
+        assertThat(moved).isEqualTo(2);
+        assertThat(keys).extracting(row -> row[1])
+                .containsExactly(confirmed.getStoreOrderId(), submitted.getStoreOrderId());
+        assertThat(orders).isEqualTo(1);
+
+        assertThat(shipmentRepository.findById(third.getShipmentId()).orElseThrow().getShipmentStatus())
+                .isEqualTo(ShipmentStatus.WAITING);
+        assertThat(storeOrderRepository.findById(confirmed.getStoreOrderId()).orElseThrow().getShipmentStatus())
+                .isEqualTo(ShipmentStatus.IN_TRANSIT);
+        assertThat(storeOrderRepository.findById(submitted.getStoreOrderId()).orElseThrow().getShipmentStatus())
+                .isEqualTo(ShipmentStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("마지막 조회 이후 생성/갱신된 배송만 전환 예약 대상으로 읽고, 시각이 안 된 배송은 잠그지 않는다")
+    void catchUpQueries() {
+        // given
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-CU").storeName("조회 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        StoreOrder order = em.persist(StoreOrder.builder().store(store).orderStatus(OrderStatus.CONFIRMED).build());
+
+        Shipment waiting = shipment(store, order, ShipmentStatus.WAITING);
+        Shipment applied = em.persist(Shipment.builder()
+                .storeOrder(order).store(store).shipmentStatus(ShipmentStatus.IN_TRANSIT)
+                .inventoryApplied(false).inTransitApplied(true).build());
+        shipment(store, order, ShipmentStatus.IN_TRANSIT);
+        shipment(store, order, ShipmentStatus.DELIVERED);
+        em.flush();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when & then
+        assertThat(shipmentRepository.findWaitingCreatedSince(now.minusMinutes(1)))
+                .extracting(row -> row[0])
+                .containsExactly(waiting.getShipmentId());
+        assertThat(shipmentRepository.findWaitingCreatedSince(now.plusMinutes(1))).isEmpty();
+        assertThat(shipmentRepository.findInTransitUpdatedSince(now.minusMinutes(1)))
+                .extracting(row -> row[0])
+                .containsExactly(applied.getShipmentId());
+
+        assertThat(shipmentRepository.lockWaitingDue(List.of(waiting.getShipmentId()), now.minusMinutes(3))).isEmpty();
+        assertThat(shipmentRepository.lockInTransitDue(
+                List.of(waiting.getShipmentId(), applied.getShipmentId()), now.plusSeconds(1)))
+                .containsExactly(applied.getShipmentId());
+    }
+
+    @Test
+    @DisplayName("백스톱 조회는 전환 시각이 지난 대기/배송 중 배송만 오래된 순으로 limit 건까지 읽는다")
+    void overdueQueries() {
+        // given
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-BS").storeName("백스톱 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        StoreOrder order = em.persist(StoreOrder.builder().store(store).orderStatus(OrderStatus.CONFIRMED).build());
+
+        Shipment first = shipment(store, order, ShipmentStatus.WAITING);
+        Shipment second = shipment(store, order, ShipmentStatus.WAITING);
+        Shipment applied = em.persist(Shipment.builder()
+                .storeOrder(order).store(store).shipmentStatus(ShipmentStatus.IN_TRANSIT)
+                .inventoryApplied(false).inTransitApplied(true).build());
+        shipment(store, order, ShipmentStatus.IN_TRANSIT);   // 입고예정 반영 전
+        shipment(store, order, ShipmentStatus.DELIVERED);
+        em.flush();
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+
+        // when & then
+        assertThat(shipmentRepository.findWaitingCreatedBefore(now, PageRequest.of(0, 10)))
+                .extracting(row -> row[0])
+                .containsExactlyInAnyOrder(first.getShipmentId(), second.getShipmentId());
+        assertThat(shipmentRepository.findWaitingCreatedBefore(now, PageRequest.of(0, 1))).hasSize(1);
+        assertThat(shipmentRepository.findWaitingCreatedBefore(now.minusMinutes(3), PageRequest.of(0, 10))).isEmpty();
+        assertThat(shipmentRepository.findInTransitUpdatedBefore(now, PageRequest.of(0, 10)))
+                .extracting(row -> row[0])
+                .containsExactly(applied.getShipmentId());
+    }
+}
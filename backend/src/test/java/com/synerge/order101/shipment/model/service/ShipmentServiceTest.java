@@ -0,0 +1,144 @@
+package com.synerge.order101.shipment.model.service;
+
+import com.synerge.order101.common.enums.ShipmentStatus;
+import com.synerge.order101.common.outbox.Outbox;
+import com.synerge.order101.common.outbox.OutboxEventType;
+import com.synerge.order101.order.model.repository.StoreOrderRepository;
+import com.synerge.order101.shipment.event.ShipmentDeliveredEvent;
+import com.synerge.order101.shipment.event.ShipmentInTransitEvent;
+import com.synerge.order101.shipment.model.dto.ShipmentTimer;
+import com.synerge.order101.shipment.model.repository.ShipmentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ShipmentServiceTest")
+@ExtendWith(MockitoExtension.class)
+class ShipmentServiceTest {
+
+    @Mock
+    private ShipmentRepository shipmentRepository;
+    @Mock
+    private Outbox outbox;
+    @Mock
+    private StoreOrderRepository storeOrderRepository;
+
+    @InjectMocks
+    private ShipmentService shipmentService;
+
+    @Test
+    @DisplayName("받은 ID 중 잠긴 배송만 전환하고, 그 배송에만 주문 상태 반영과 이벤트 발행")
+    void transitionDue_OnlyMovedShipments() {
+        // given - 3번은 다른 서버가 먼저 옮겨 잠기지 않음
+        given(shipmentRepository.lockWaitingDue(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class)))
+                .willReturn(List.of(1L, 2L));
+        given(shipmentRepository.findEventKeys(List.of(1L, 2L)))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 10L, 100L}, new Object[]{2L, 20L, 100L}));
+
+        // when
+        int moved = shipmentService.transitionDue(ShipmentStatus.WAITING, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(moved).isEqualTo(2);
+        verify(shipmentRepository).transition(eq(List.of(1L, 2L)),
+                eq(ShipmentStatus.WAITING), eq(ShipmentStatus.IN_TRANSIT), any(LocalDateTime.class));
+        verify(storeOrderRepository).updateShipmentStatusOfConfirmed(
+                eq(Set.of(10L, 20L)), eq(ShipmentStatus.IN_TRANSIT), any(LocalDateTime.class));
+
+        verify(outbox).appendAll(OutboxEventType.SHIPMENT_IN_TRANSIT, List.of(
+                new ShipmentInTransitEvent(1L, 10L, 100L), new ShipmentInTransitEvent(2L, 20L, 100L)));
+        verify(shipmentRepository, never()).lockInTransitDue(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("배송 중 -> 배송 완료 전환 시 재고 반영 이벤트 발행")
+    void transitionDue_Delivered() {
+        // given
+        given(shipmentRepository.lockInTransitDue(eq(List.of(7L)), any(LocalDateTime.class))).willReturn(List.of(7L));
+        given(shipmentRepository.findEventKeys(List.of(7L)))
+                .willReturn(List.<Object[]>of(new Object[]{7L, 70L, 200L}));
+
+        // when
+        shipmentService.transitionDue(ShipmentStatus.IN_TRANSIT, List.of(7L));
+
+        // then
+        verify(storeOrderRepository).updateShipmentStatusOfConfirmed(
+                eq(Set.of(70L)), eq(ShipmentStatus.DELIVERED), any(LocalDateTime.class));
+        verify(outbox).appendAll(OutboxEventType.SHIPMENT_DELIVERED, List.of(new ShipmentDeliveredEvent(7L, 70L, 200L)));
+    }
+
+    @Test
+    @DisplayName("전환 대상이 잠기지 않으면 상태 변경 쿼리를 실행하지 않음")
+    void transitionDue_NothingDue() {
+        // given
+        given(shipmentRepository.lockWaitingDue(anyCollection(), any(LocalDateTime.class))).willReturn(List.of());
+
+        // when
+        int moved = shipmentService.transitionDue(ShipmentStatus.WAITING, List.of(1L));
+
+        // then
+        assertThat(moved).isZero();
+        verify(shipmentRepository, never()).transition(anyCollection(), any(), any(), any());
+        verify(storeOrderRepository, never()).updateShipmentStatusOfConfirmed(anyCollection(), any(), any());
+        verify(outbox, never()).appendAll(any(), argThat(events -> !events.isEmpty()));
+    }
+
+    @Test
+    @DisplayName("전환 예약 - 대기는 생성 후 3분, 배송 중은 입고예정 반영 후 5분")
+    void findTimers_ComputesDeadlines() {
+        // given
+        LocalDateTime since = LocalDateTime.of(2025, 1, 1, 11, 0);
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime applied = LocalDateTime.of(2025, 1, 1, 12, 1);
+        given(shipmentRepository.findWaitingCreatedSince(since)).willReturn(List.<Object[]>of(new Object[]{1L, created}));
+        given(shipmentRepository.findInTransitUpdatedSince(since)).willReturn(List.<Object[]>of(new Object[]{2L, applied}));
+
+        // when
+        List<ShipmentTimer> timers = shipmentService.findTimers(since);
+
+        // then
+        assertThat(timers).containsExactly(
+                new ShipmentTimer(1L, ShipmentStatus.WAITING, created.plusMinutes(3)),
+                new ShipmentTimer(2L, ShipmentStatus.IN_TRANSIT, applied.plusMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("백스톱 - 전환 시각이 지난 배송을 상태별로 limit 건까지 읽는다")
+    void findOverdueTimers_UsesThresholds() {
+        // given
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 12, 0);
+        given(shipmentRepository.findWaitingCreatedBefore(any(LocalDateTime.class), eq(PageRequest.of(0, 100))))
+                .willReturn(List.<Object[]>of(new Object[]{1L, created}));
+        given(shipmentRepository.findInTransitUpdatedBefore(any(LocalDateTime.class), eq(PageRequest.of(0, 100))))
+                .willReturn(List.of());
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        List<ShipmentTimer> timers = shipmentService.findOverdueTimers(100);
+
+        // then
+        assertThat(timers).containsExactly(new ShipmentTimer(1L, ShipmentStatus.WAITING, created.plusMinutes(3)));
+        ArgumentCaptor<LocalDateTime> waitingThreshold = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(shipmentRepository).findWaitingCreatedBefore(waitingThreshold.capture(), any());
+        assertThat(waitingThreshold.getValue()).isAfterOrEqualTo(before.minusMinutes(3));
+        assertThat(waitingThreshold.getValue()).isBeforeOrEqualTo(LocalDateTime.now().minusMinutes(3));
+    }
+}
@@ -0,0 +1,119 @@
+package com.synerge.order101.shipment.scheduler;
+
+import com.synerge.order101.common.enums.ShipmentStatus;
+import com.synerge.order101.shipment.model.dto.ShipmentTimer;
+import com.synerge.order101.shipment.model.service.ShipmentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ShipmentSchedulerTest")
+@ExtendWith(MockitoExtension.class)
+class ShipmentSchedulerTest {
+
+    @Mock
+    private ShipmentService shipmentService;
+
+    @InjectMocks
+    private ShipmentScheduler scheduler;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("시작 시 전체를 재구성하고, 전환 시각이 된 배송만 상태별로 묶어 전환한다")
+    void tick_RebuildsAndFiresWhenDue() {
+        // given
+        given(shipmentService.findTimers(any(LocalDateTime.class))).willReturn(List.of(
+                new ShipmentTimer(1L, ShipmentStatus.WAITING, NOW.minusSeconds(10)),
+                new ShipmentTimer(2L, ShipmentStatus.IN_TRANSIT, NOW.minusSeconds(5)),
+                new ShipmentTimer(3L, ShipmentStatus.WAITING, NOW.plusSeconds(3))));
+
+        // when - 첫 tick: 이미 지난 1, 2 만
+        scheduler.tick(millis(NOW));
+
+        // then
+        verify(shipmentService).transitionDue(ShipmentStatus.WAITING, List.of(1L));
+        verify(shipmentService).transitionDue(ShipmentStatus.IN_TRANSIT, List.of(2L));
+        assertThat(scheduler.pending()).isEqualTo(1);
+
+        // when - 3초 뒤: 3
+        scheduler.tick(millis(NOW.plusSeconds(3)));
+
+        // then
+        verify(shipmentService).transitionDue(ShipmentStatus.WAITING, List.of(3L));
+        assertThat(scheduler.pending()).isZero();
+
+        // 재구성 이후 조회는 마지막 조회 시각 기준
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        scheduler.tick(millis(NOW.plusSeconds(10)));
+        verify(shipmentService, times(2)).findTimers(since.capture());
+        assertThat(since.getAllValues().get(1)).isEqualTo(NOW.minusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("catch-up 구간을 놓친 배송은 백스톱 주기에 전환 시각이 지난 배송으로 다시 올라간다")
+    void tick_BackstopSchedulesOverdue() {
+        // given - 늦게 커밋되어 catch-up 에는 보이지 않은 배송 7
+        given(shipmentService.findTimers(any(LocalDateTime.class))).willReturn(List.of());
+        given(shipmentService.findOverdueTimers(1000))
+                .willReturn(List.of(new ShipmentTimer(7L, ShipmentStatus.WAITING, NOW.minusMinutes(2))));
+
+        // when - 시작 직후에는 백스톱을 돌리지 않는다
+        scheduler.tick(millis(NOW));
+
+        // then
+        verify(shipmentService, never()).findOverdueTimers(1000);
+
+        // when - 백스톱 주기(5분) 뒤
+        scheduler.tick(millis(NOW.plusMinutes(5)));
+
+        // then
+        verify(shipmentService).transitionDue(ShipmentStatus.WAITING, List.of(7L));
+        assertThat(scheduler.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("전환이 실패하면 다음 조회 주기에 다시 시도한다")
+    void tick_RetriesFailedTransition() {
+        // given
+        given(shipmentService.findTimers(any(LocalDateTime.class)))
+                .willReturn(List.of(new ShipmentTimer(1L, ShipmentStatus.WAITING, NOW.minusSeconds(1))))
+                .willReturn(List.of());
+        given(shipmentService.transitionDue(eq(ShipmentStatus.WAITING), anyList()))
+                .willThrow(new CannotAcquireLockException("lock wait timeout"))
+                .willReturn(1);
+
+        // when
+        scheduler.tick(millis(NOW));
+        scheduler.tick(millis(NOW.plusSeconds(1)));
+
+        // then - 재시도는 catch-up 주기(5초) 뒤
+        verify(shipmentService, times(1)).transitionDue(eq(ShipmentStatus.WAITING), anyList());
+
+        scheduler.tick(millis(NOW.plusSeconds(5)));
+        verify(shipmentService, times(2)).transitionDue(ShipmentStatus.WAITING, List.of(1L));
+        verify(shipmentService, never()).transitionDue(eq(ShipmentStatus.IN_TRANSIT), anyList());
+    }
+}
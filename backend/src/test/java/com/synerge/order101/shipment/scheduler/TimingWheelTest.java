@@ -0,0 +1,63 @@
+package com.synerge.order101.shipment.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimingWheelTest")
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("예약 시각이 되기 전에는 나오지 않고, 된 tick 에 정확히 나온다")
+    void advance_FiresExactlyWhenDue() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, START);
+        wheel.schedule("a", START + 2_500);
+        wheel.schedule("b", START + 5_000);
+
+        assertThat(wheel.advance(START + 2_999)).isEmpty();
+        assertThat(wheel.advance(START + 3_000)).containsExactly("a");
+        assertThat(wheel.advance(START + 4_999)).isEmpty();
+        assertThat(wheel.advance(START + 5_000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 바퀴를 넘는 예약은 위 단에 있다가 내려와서 제시각에 나온다")
+    void advance_CascadesFromUpperLevels() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1000, 4, 0);
+        // 4칸 휠: 0단 4초, 1단 16초, 2단 64초
+        List<Integer> seconds = List.of(1, 3, 4, 5, 15, 16, 17, 63, 64, 65, 200);
+        seconds.forEach(s -> wheel.schedule(s, s * 1000L));
+
+        List<Integer> fired = new ArrayList<>();
+        for (int second = 1; second <= 200; second++) {
+            List<Integer> now = wheel.advance(second * 1000L);
+            for (Integer s : now) {
+                assertThat(s).isEqualTo(second);
+            }
+            fired.addAll(now);
+        }
+        assertThat(fired).containsExactlyElementsOf(seconds);
+    }
+
+    @Test
+    @DisplayName("같은 key 를 다시 예약하면 마지막 예약만, 이미 지난 예약은 바로 나온다")
+    void schedule_ReplacesAndOverdue() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, START);
+        wheel.schedule("a", START + 3_000);
+        wheel.schedule("a", START + 6_000);
+        wheel.schedule("late", START - 10_000);
+        wheel.schedule("gone", START + 2_000);
+        wheel.cancel("gone");
+
+        assertThat(wheel.advance(START)).containsExactly("late");
+        assertThat(wheel.advance(START + 5_000)).isEmpty();
+        assertThat(wheel.advance(START + 60_000)).containsExactly("a");
+    }
+}
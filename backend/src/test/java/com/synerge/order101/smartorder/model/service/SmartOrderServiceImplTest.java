@@ -20,7 +20,6 @@ import com.synerge.order101.supplier.model.entity.Supplier;
 import com.synerge.order101.user.model.entity.Role;
 import com.synerge.order101.user.model.entity.User;
 import com.synerge.order101.user.model.repository.UserRepository;
-import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
 import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.*;
@@ -125,11 +124,10 @@ public class SmartOrderServiceImplTest {
                 .willReturn(Optional.of(mapping));
 
         // 창고 재고 + 안전재고
-        WarehouseInventory inv = mock(WarehouseInventory.class);
-        given(inv.getOnHandQuantity()).willReturn(10);
-        given(inv.getSafetyQuantity()).willReturn(20);
-        given(warehouseInventoryRepository.findByProduct(product))
-                .willReturn(Optional.of(inv));
+        given(warehouseInventoryRepository.sumOnHandAll(product.getProductId()))
+                .willReturn(10L);
+        given(warehouseInventoryRepository.sumSafetyAll(product.getProductId()))
+                .willReturn(20L);
 
         // 입고 예정
         given(purchaseDetailRepository.sumOpenOrderQtyByProduct(product))
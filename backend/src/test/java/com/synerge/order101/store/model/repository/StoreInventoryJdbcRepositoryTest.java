@@ -0,0 +1,113 @@
+package com.synerge.order101.store.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.store.model.dto.StoreStockDelta;
+import com.synerge.order101.store.model.entity.Store;
+import com.synerge.order101.store.model.entity.StoreInventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StoreInventoryJdbcRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, StoreInventoryJdbcRepository.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class StoreInventoryJdbcRepositoryTest {
+
+    @Autowired
+    private StoreInventoryJdbcRepository storeInventoryJdbcRepository;
+
+    @Autowired
+    private StoreInventoryRepository storeInventoryRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Product product(String code) {
+        return em.persist(Product.builder()
+                .productCode(code).productName("상품 " + code).price(BigDecimal.valueOf(100)).build());
+    }
+
+    private StoreInventory inventory(Store store, Product product) {
+        em.clear();
+        return storeInventoryRepository.findByStore_StoreIdAndProduct_ProductId(store.getStoreId(), product.getProductId())
+                .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("없는 행은 만들고 있는 행은 증감하며, 배송 완료 시 입고예정을 현재고로 옮긴다")
+    void upsertAll_InsertsAndAccumulates() {
+        // given
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-INV").storeName("재고 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        Product apple = product("P-APPLE");
+        Product pear = product("P-PEAR");
+        em.flush();
+        Long storeId = store.getStoreId();
+
+        // when - 두 배송의 출발분을 한 번에 (같은 상품 두 줄 포함)
+        storeInventoryJdbcRepository.upsertAll(List.of(
+                StoreStockDelta.inTransit(storeId, apple.getProductId(), 5),
+                StoreStockDelta.inTransit(storeId, pear.getProductId(), 2),
+                StoreStockDelta.inTransit(storeId, apple.getProductId(), 3)));
+
+        // then
+        assertThat(inventory(store, apple).getInTransitQty()).isEqualTo(8);
+        assertThat(inventory(store, pear).getInTransitQty()).isEqualTo(2);
+
+        // when - 사과는 출발 후 도착, 배는 출발 단계 없이 바로 도착
+        storeInventoryJdbcRepository.upsertAll(List.of(
+                StoreStockDelta.received(storeId, apple.getProductId(), 5, true),
+                StoreStockDelta.received(storeId, pear.getProductId(), 4, false)));
+
+        // then
+        StoreInventory appleInv = inventory(store, apple);
+        assertThat(appleInv.getInTransitQty()).isEqualTo(3);
+        assertThat(appleInv.getOnHandQty()).isEqualTo(5);
+        StoreInventory pearInv = inventory(store, pear);
+        assertThat(pearInv.getInTransitQty()).isEqualTo(2);
+        assertThat(pearInv.getOnHandQty()).isEqualTo(4);
+        assertThat(storeInventoryRepository.findOnHandQty(List.of(storeId), List.of(apple.getProductId(), pear.getProductId())))
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("입고예정이 없던 상품이 이동 처리돼도 수량이 음수로 내려가지 않는다")
+    void upsertAll_NeverNegative() {
+        // given
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-NEG").storeName("음수 가맹점").address("서울").contactNumber("02-000-0000")
+                .isActive(true).build());
+        Product milk = product("P-MILK");
+        em.flush();
+
+        // when
+        storeInventoryJdbcRepository.upsertAll(List.of(
+                StoreStockDelta.received(store.getStoreId(), milk.getProductId(), 4, true)));
+        storeInventoryJdbcRepository.upsertAll(List.of(
+                StoreStockDelta.received(store.getStoreId(), milk.getProductId(), 1, true)));
+
+        // then
+        StoreInventory inv = inventory(store, milk);
+        assertThat(inv.getOnHandQty()).isEqualTo(5);
+        assertThat(inv.getInTransitQty()).isZero();
+    }
+}
@@ -11,6 +11,7 @@ import com.synerge.order101.store.model.repository.StoreInventoryRepository;
 import com.synerge.order101.store.model.repository.StoreRepository;
 import com.synerge.order101.warehouse.model.entity.Warehouse;
 import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
+import com.synerge.order101.warehouse.model.service.WarehouseCostMatrix;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -47,6 +48,9 @@ class StoreServiceImplTest {
     @Mock
     private WarehouseRepository warehouseRepository;
 
+    @Mock
+    private WarehouseCostMatrix warehouseCostMatrix;
+
     // ========================
     // getStores
     // ========================
@@ -149,6 +153,7 @@ class StoreServiceImplTest {
         assertThat(result.getStoreName()).isEqualTo("신규 가맹점");
         assertThat(result.getDefaultWarehouseId()).isEqualTo(1L);
         verify(storeRepository, times(2)).save(any(Store.class));
+        verify(warehouseCostMatrix).invalidate();
     }
 
     // ========================
@@ -0,0 +1,142 @@
+package com.synerge.order101.warehouse.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.inbound.model.entity.Inbound;
+import com.synerge.order101.inbound.model.entity.InboundDetail;
+import com.synerge.order101.outbound.model.entity.Outbound;
+import com.synerge.order101.outbound.model.entity.OutboundDetail;
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.store.model.entity.Store;
+import com.synerge.order101.supplier.model.entity.Supplier;
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
+import com.synerge.order101.warehouse.model.entity.InventoryMovement;
+import com.synerge.order101.warehouse.model.entity.Warehouse;
+import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
+import com.synerge.order101.warehouse.model.service.InventoryMovementServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("InventoryMovementRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, WarehouseStockJdbcRepository.class, InventoryMovementServiceImpl.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class InventoryMovementRepositoryTest {
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Autowired
+    private InventoryMovementServiceImpl inventoryMovementService;
+
+    @Autowired
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("키셋 조회는 같은 시각의 행도 빠짐/중복 없이 최신순으로 이어서 읽는다")
+    void findBefore_WalksAllRowsWithoutGaps() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 3, 0);
+        for (int i = 0; i < 5; i++) {
+            // 두 건씩 같은 시각
+            em.persist(InventoryMovement.ofWarehouse(1L, 10L, ChangeType.INBOUND, "IN-" + i, 1, i, base.plusMinutes(i / 2)));
+        }
+        em.persist(InventoryMovement.ofWarehouse(1L, 20L, ChangeType.INBOUND, "OTHER", 1, 1, base));
+        em.flush();
+
+        // when
+        List<String> walked = new ArrayList<>();
+        List<InventoryMovement> page = inventoryMovementRepository.findLatest(10L, PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(m -> walked.add(m.getRefNo()));
+            InventoryMovement last = page.get(page.size() - 1);
+            page = inventoryMovementRepository.findBefore(10L, last.getOccurredAt(), last.getMovementId(), PageRequest.of(0, 2));
+        }
+
+        // then
+        assertThat(walked).containsExactly("IN-4", "IN-3", "IN-2", "IN-1", "IN-0");
+        assertThat(inventoryMovementRepository.countByProductId(10L)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("창고 이동 기록은 같은 트랜잭션에서 반영된 재고를 잔량으로 남긴다")
+    void recordWarehouse_UsesBalanceAfterUpdate() {
+        // given
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-M").warehouseName("창고").build());
+        Product product = em.persist(Product.builder()
+                .productCode("MOV-A").productName("상품").price(BigDecimal.valueOf(100)).build());
+        em.persist(WarehouseInventory.builder().warehouse(warehouse).product(product).onHandQuantity(10).build());
+        em.flush();
+
+        Long wId = warehouse.getWarehouseId();
+        Long pId = product.getProductId();
+
+        // when
+        warehouseStockJdbcRepository.decreaseOnHand(List.of(new StockDecreaseLine(wId, pId, 4)));
+        inventoryMovementService.recordWarehouse(ChangeType.OUTBOUND, "OUT-1", wId, Map.of(pId, 4));
+        em.flush();
+
+        // then
+        InventoryMovement movement = inventoryMovementRepository.findLatest(pId, PageRequest.of(0, 1)).get(0);
+        assertThat(movement.getWarehouseId()).isEqualTo(wId);
+        assertThat(movement.getQuantity()).isEqualTo(4);
+        assertThat(movement.getBalanceAfter()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("원장이 비어 있으면 과거 입고/출고 상세를 한 번만 이관한다")
+    void backfillIfEmpty_CopiesHistoryOnce() {
+        // given
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-B").warehouseName("창고").build());
+        Supplier supplier = em.persist(Supplier.builder().supplierCode("SUP-B").supplierName("공급사").build());
+        Store store = em.persist(Store.builder()
+                .storeCode("ST-B").storeName("가맹점").address("서울").contactNumber("02-000-0000").build());
+        Product product = em.persist(Product.builder()
+                .productCode("MOV-B").productName("상품").price(BigDecimal.valueOf(100)).build());
+
+        Inbound inbound = em.persist(Inbound.builder().warehouse(warehouse).supplier(supplier).inboundNo("IN-OLD").build());
+        em.persist(InboundDetail.builder().inbound(inbound).product(product).receivedQty(30).build());
+        Outbound outbound = em.persist(Outbound.create(warehouse, store, "OUT-OLD", "SYSTEM"));
+        em.persist(new OutboundDetail(outbound, product, 12));
+        em.flush();
+
+        // when
+        int first = inventoryMovementService.backfillIfEmpty();
+        int second = inventoryMovementService.backfillIfEmpty();
+        em.clear();
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        assertThat(inventoryMovementRepository.findLatest(product.getProductId(), PageRequest.of(0, 10)))
+                .extracting(InventoryMovement::getChangeType, InventoryMovement::getRefNo, InventoryMovement::getBalanceAfter)
+                .containsExactlyInAnyOrder(
+                        tuple(ChangeType.INBOUND, "IN-OLD", null),
+                        tuple(ChangeType.OUTBOUND, "OUT-OLD", null));
+    }
+}
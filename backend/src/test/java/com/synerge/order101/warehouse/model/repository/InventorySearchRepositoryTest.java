@@ -0,0 +1,152 @@
+package com.synerge.order101.warehouse.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.product.model.entity.CategoryLevel;
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.product.model.entity.ProductCategory;
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
+import com.synerge.order101.warehouse.model.dto.response.InventoryResponseDto;
+import com.synerge.order101.warehouse.model.entity.Warehouse;
+import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
+import com.synerge.order101.warehouse.model.service.InventorySearchProjector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("InventorySearchRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, WarehouseStockJdbcRepository.class, InventorySearchProjector.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class InventorySearchRepositoryTest {
+
+    @Autowired
+    private InventorySearchRepository inventorySearchRepository;
+
+    @Autowired
+    private InventorySearchProjector inventorySearchProjector;
+
+    @Autowired
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private ProductCategory category(CategoryLevel level, String name, ProductCategory parent) {
+        return em.persist(new ProductCategory(null, level, name, parent, new ArrayList<>(), null));
+    }
+
+    private Product product(String code, String name, ProductCategory small) {
+        return em.persist(Product.builder()
+                .productCode(code).productName(name).price(BigDecimal.valueOf(1000)).productCategory(small).build());
+    }
+
+    @Test
+    @DisplayName("전체 구성 후 분류 경로/키워드/정렬로 조인 없이 검색한다")
+    void search_FiltersByCategoryPathAndKeyword() {
+        // given
+        ProductCategory food = category(CategoryLevel.LARGE, "식품", null);
+        ProductCategory fruit = category(CategoryLevel.MEDIUM, "과일", food);
+        ProductCategory apple = category(CategoryLevel.SMALL, "사과", fruit);
+        ProductCategory pear = category(CategoryLevel.SMALL, "배", fruit);
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-S").warehouseName("창고").build());
+
+        Product a1 = product("S-A1", "Green Apple", apple);
+        Product a2 = product("S-A2", "Red Apple", apple);
+        Product p1 = product("S-P1", "Korean Pear", pear);
+        em.persist(WarehouseInventory.builder().warehouse(warehouse).product(a1).onHandQuantity(30).safetyQuantity(5).build());
+        em.persist(WarehouseInventory.builder().warehouse(warehouse).product(a2).onHandQuantity(10).safetyQuantity(5).build());
+        em.persist(WarehouseInventory.builder().warehouse(warehouse).product(p1).onHandQuantity(20).safetyQuantity(5).build());
+        em.flush();
+
+        // when
+        int rows = inventorySearchProjector.rebuild();
+        Page<InventoryResponseDto> byMedium = inventorySearchRepository.search(
+                food.getProductCategoryId(), fruit.getProductCategoryId(), null, null,
+                PageRequest.of(0, 10, Sort.by("onHandQuantity").ascending()));
+        Page<InventoryResponseDto> byKeyword = inventorySearchRepository.search(
+                food.getProductCategoryId(), fruit.getProductCategoryId(), apple.getProductCategoryId(), "red",
+                PageRequest.of(0, 10, Sort.by("productCode").ascending()));
+
+        // then
+        assertThat(rows).isEqualTo(3);
+        assertThat(byMedium.getTotalElements()).isEqualTo(3);
+        assertThat(byMedium.getContent()).extracting(InventoryResponseDto::getProductCode)
+                .containsExactly("S-A2", "S-P1", "S-A1");
+        assertThat(byKeyword.getContent()).extracting(InventoryResponseDto::getProductCode, InventoryResponseDto::getProductCategory)
+                .containsExactly(tuple("S-A2", "사과"));
+    }
+
+    @Test
+    @DisplayName("JDBC 차감 후 수량 컬럼만 갱신해도 검색 결과에 바뀐 재고가 보인다")
+    void refreshStock_ReflectsStockChange() {
+        // given
+        ProductCategory large = category(CategoryLevel.LARGE, "생활", null);
+        ProductCategory medium = category(CategoryLevel.MEDIUM, "세제", large);
+        ProductCategory small = category(CategoryLevel.SMALL, "주방세제", medium);
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-R").warehouseName("창고").build());
+        Product product = product("R-1", "Dish Soap", small);
+        em.persist(WarehouseInventory.builder().warehouse(warehouse).product(product).onHandQuantity(10).build());
+        em.flush();
+        inventorySearchProjector.rebuild();
+
+        Long wId = warehouse.getWarehouseId();
+        Long pId = product.getProductId();
+
+        // when
+        warehouseStockJdbcRepository.decreaseOnHand(List.of(new StockDecreaseLine(wId, pId, 4)));
+        inventorySearchProjector.refreshStock(wId, List.of(pId));
+        em.clear();
+
+        // then
+        Page<InventoryResponseDto> result = inventorySearchRepository.search(null, null, small.getProductCategoryId(), null,
+                PageRequest.of(0, 10));
+        assertThat(result.getContent()).singleElement()
+                .extracting(InventoryResponseDto::getOnHandQty, InventoryResponseDto::getProductCategory)
+                .containsExactly(6, "주방세제");
+        assertThat(inventorySearchRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 행이 아직 없는 재고는 수량 갱신 대신 해당 창고분을 다시 만든다")
+    void refreshStock_ProjectsMissingRow() {
+        // given
+        ProductCategory large = category(CategoryLevel.LARGE, "식품", null);
+        ProductCategory medium = category(CategoryLevel.MEDIUM, "음료", large);
+        ProductCategory small = category(CategoryLevel.SMALL, "탄산", medium);
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-M").warehouseName("창고").build());
+        Product product = product("M-1", "Soda", small);
+        em.persist(WarehouseInventory.builder().warehouse(warehouse).product(product).onHandQuantity(7).build());
+        em.flush();
+
+        // when
+        inventorySearchProjector.refreshStock(warehouse.getWarehouseId(), List.of(product.getProductId()));
+        em.clear();
+
+        // then
+        assertThat(inventorySearchRepository.search(null, null, small.getProductCategoryId(), null, PageRequest.of(0, 10))
+                .getContent()).singleElement()
+                .extracting(InventoryResponseDto::getOnHandQty)
+                .isEqualTo(7);
+    }
+}
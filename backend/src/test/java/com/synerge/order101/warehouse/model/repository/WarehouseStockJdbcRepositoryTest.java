@@ -0,0 +1,154 @@
+package com.synerge.order101.warehouse.model.repository;
+
+import com.synerge.order101.common.cache.TradeCountCache;
+import com.synerge.order101.config.QueryDslConfig;
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
+import com.synerge.order101.warehouse.model.entity.InventoryReservation;
+import com.synerge.order101.warehouse.model.entity.Warehouse;
+import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WarehouseStockJdbcRepositoryTest")
+@DataJpaTest
+@Import({QueryDslConfig.class, TradeCountCache.class, WarehouseStockJdbcRepository.class})
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:order101;MODE=MariaDB;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class WarehouseStockJdbcRepositoryTest {
+
+    @Autowired
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("보유 수량이 충분한 줄만 차감되고, 같은 상품의 뒤 줄은 앞 줄 차감 이후 수량으로 판단한다")
+    void decreaseOnHand_ConditionalPerLine() {
+        // given
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-J").warehouseName("창고").build());
+        WarehouseInventory a = inventory(warehouse, "STK-A", 10);
+        WarehouseInventory b = inventory(warehouse, "STK-B", 3);
+        em.flush();
+
+        Long whId = warehouse.getWarehouseId();
+        Long aId = a.getProduct().getProductId();
+        Long bId = b.getProduct().getProductId();
+
+        // when
+        int[] counts = warehouseStockJdbcRepository.decreaseOnHand(List.of(
+                new StockDecreaseLine(whId, aId, 6),
+                new StockDecreaseLine(whId, bId, 5),      // 부족
+                new StockDecreaseLine(whId, aId, 4),      // 남은 4 전부
+                new StockDecreaseLine(whId, aId, 1),      // 이제 부족
+                new StockDecreaseLine(whId, 999_999L, 1)  // 재고 없음
+        ));
+        em.clear();
+
+        // then
+        assertThat(counts).containsExactly(1, 0, 1, 0, 0);
+        assertThat(em.find(WarehouseInventory.class, a.getInventoryId()).getOnHandQuantity()).isZero();
+        assertThat(em.find(WarehouseInventory.class, b.getInventoryId()).getOnHandQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("예약 수량은 창고/상품 행에 더하고 빼며 0 아래로 내려가지 않는다")
+    void adjustReserved_AddsAndReleases() {
+        // given
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-R").warehouseName("창고").build());
+        WarehouseInventory a = inventory(warehouse, "RSV-A", 10);
+        em.flush();
+        Long wId = warehouse.getWarehouseId();
+        Long pId = a.getProduct().getProductId();
+
+        // when
+        int[] reserved = warehouseStockJdbcRepository.adjustReserved(List.of(
+                InventoryReservation.active(1L, wId, pId, 4),
+                InventoryReservation.active(2L, wId, pId, 3),
+                InventoryReservation.active(3L, wId + 1000, pId, 9)   // 다른 창고 - 재고 행 없음
+        ), 1);
+        warehouseStockJdbcRepository.adjustReserved(List.of(InventoryReservation.active(1L, wId, pId, 4)), -1);
+        em.clear();
+        int afterRelease = em.find(WarehouseInventory.class, a.getInventoryId()).getReservedQuantity();
+
+        warehouseStockJdbcRepository.adjustReserved(List.of(InventoryReservation.active(2L, wId, pId, 50)), -1);
+        em.clear();
+
+        // then
+        assertThat(reserved).containsExactly(1, 1, 0);
+        assertThat(afterRelease).isEqualTo(3);
+        assertThat(em.find(WarehouseInventory.class, a.getInventoryId()).getReservedQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("출고 차감은 다른 주문의 예약분을 남기고, 출고되는 주문의 예약분은 같은 문장에서 내린다")
+    void decreaseOnHand_RespectsOtherReservations() {
+        // given - 보유 10, 예약 8 (출고 주문 자신 5 + 다른 주문 3)
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-D").warehouseName("창고").build());
+        WarehouseInventory a = inventory(warehouse, "ATP-A", 10);
+        em.flush();
+        Long wId = warehouse.getWarehouseId();
+        Long pId = a.getProduct().getProductId();
+        warehouseStockJdbcRepository.adjustReserved(List.of(
+                InventoryReservation.active(1L, wId, pId, 5),
+                InventoryReservation.active(2L, wId, pId, 3)), 1);
+
+        // when
+        int[] tooMuch = warehouseStockJdbcRepository.decreaseOnHand(List.of(new StockDecreaseLine(wId, pId, 8, 5)));
+        int[] ok = warehouseStockJdbcRepository.decreaseOnHand(List.of(new StockDecreaseLine(wId, pId, 7, 5)));
+        em.clear();
+
+        // then - 다른 주문 예약 3 을 침범하는 8 은 실패, 7 은 성공하고 예약은 3 만 남는다
+        assertThat(tooMuch).containsExactly(0);
+        assertThat(ok).containsExactly(1);
+        WarehouseInventory after = em.find(WarehouseInventory.class, a.getInventoryId());
+        assertThat(after.getOnHandQuantity()).isEqualTo(3);
+        assertThat(after.getReservedQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("예약은 가용 수량(보유 - 예약) 안에서만 잡힌다")
+    void reserve_ConditionalOnAvailable() {
+        // given
+        Warehouse warehouse = em.persist(Warehouse.builder().warehouseCode("WH-V").warehouseName("창고").build());
+        WarehouseInventory a = inventory(warehouse, "ATP-R", 10);
+        em.flush();
+        Long wId = warehouse.getWarehouseId();
+        Long pId = a.getProduct().getProductId();
+
+        // when
+        int[] counts = warehouseStockJdbcRepository.reserve(List.of(
+                InventoryReservation.active(1L, wId, pId, 6),
+                InventoryReservation.active(2L, wId, pId, 5),   // 남은 가용 4 - 부족
+                InventoryReservation.active(3L, wId, pId, 4)
+        ));
+        em.clear();
+
+        // then
+        assertThat(counts).containsExactly(1, 0, 1);
+        assertThat(em.find(WarehouseInventory.class, a.getInventoryId()).getReservedQuantity()).isEqualTo(10);
+    }
+
+    private WarehouseInventory inventory(Warehouse warehouse, String productCode, int onHand) {
+        Product product = em.persist(Product.builder()
+                .productCode(productCode).productName("상품 " + productCode).price(BigDecimal.valueOf(100)).build());
+        return em.persist(WarehouseInventory.builder()
+                .warehouse(warehouse).product(product).onHandQuantity(onHand).build());
+    }
+}
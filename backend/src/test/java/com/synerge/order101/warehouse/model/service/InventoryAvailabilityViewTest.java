@@ -0,0 +1,65 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("InventoryAvailabilityViewTest")
+@ExtendWith(MockitoExtension.class)
+class InventoryAvailabilityViewTest {
+
+    @InjectMocks
+    private InventoryAvailabilityView view;
+
+    @Mock
+    private WarehouseInventoryRepository warehouseInventoryRepository;
+
+    @Test
+    @DisplayName("조회한 수량은 재사용하고, 재고 행이 없는 상품은 0 으로 채운다")
+    void get_CachesAndFillsMissing() {
+        // given
+        given(warehouseInventoryRepository.findStockLevels(1L, List.of(10L, 20L)))
+                .willReturn(List.<Object[]>of(new Object[]{10L, 50, 20}));
+
+        // when
+        view.get(1L, List.of(10L, 20L));
+        Map<Long, InventoryAvailabilityView.StockLevel> result = view.get(1L, List.of(10L, 20L));
+
+        // then
+        assertThat(result.get(10L).available()).isEqualTo(30);
+        assertThat(result.get(20L).available()).isZero();
+        verify(warehouseInventoryRepository, times(1)).findStockLevels(1L, List.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("무효화된 상품만 다시 읽어온다")
+    void invalidate_ReloadsOnlyEvicted() {
+        // given
+        given(warehouseInventoryRepository.findStockLevels(1L, List.of(10L, 20L)))
+                .willReturn(List.of(new Object[]{10L, 50, 20}, new Object[]{20L, 5, 0}));
+        given(warehouseInventoryRepository.findStockLevels(1L, List.of(10L)))
+                .willReturn(List.<Object[]>of(new Object[]{10L, 50, 45}));
+
+        // when
+        view.get(1L, List.of(10L, 20L));
+        view.invalidate(List.of(10L));
+        Map<Long, InventoryAvailabilityView.StockLevel> result = view.get(1L, List.of(10L, 20L));
+
+        // then
+        assertThat(result.get(10L).available()).isEqualTo(5);
+        assertThat(result.get(20L).available()).isEqualTo(5);
+        verify(warehouseInventoryRepository, times(1)).findStockLevels(1L, List.of(10L));
+    }
+}
@@ -0,0 +1,108 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.ChangeType;
+import com.synerge.order101.warehouse.model.dto.request.WarehouseMovementLine;
+import com.synerge.order101.warehouse.model.entity.InventoryMovement;
+import com.synerge.order101.warehouse.model.repository.InventoryMovementRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("InventoryMovementServiceImplTest")
+@ExtendWith(MockitoExtension.class)
+class InventoryMovementServiceImplTest {
+
+    @InjectMocks
+    private InventoryMovementServiceImpl inventoryMovementService;
+
+    @Mock
+    private InventoryMovementRepository inventoryMovementRepository;
+    @Mock
+    private WarehouseInventoryRepository warehouseInventoryRepository;
+
+    private static Object[] level(long productId, int onHand) {
+        return new Object[]{productId, onHand, 0};
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<InventoryMovement> savedMovements() {
+        ArgumentCaptor<List<InventoryMovement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(inventoryMovementRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("일괄 출고 기록 - 같은 창고/상품을 여러 건이 차감하면 목록 순서대로 건마다 반영 직후 잔량을 남긴다")
+    void recordWarehouseAll_Outbound_RunningBalancePerLine() {
+        // given: 모든 차감이 끝난 뒤의 잔량 - 창고1 상품10 = 50, 상품20 = 7 / 창고2 상품10 = 30
+        given(warehouseInventoryRepository.findStockLevels(1L, Set.of(10L, 20L)))
+                .willReturn(List.of(level(10L, 50), level(20L, 7)));
+        given(warehouseInventoryRepository.findStockLevels(2L, Set.of(10L)))
+                .willReturn(List.<Object[]>of(level(10L, 30)));
+
+        Map<Long, Integer> first = new LinkedHashMap<>();
+        first.put(10L, 5);
+        first.put(20L, 3);
+        Map<Long, Integer> last = new LinkedHashMap<>();
+        last.put(10L, 2);
+        last.put(20L, 0);   // 0 수량은 기록하지 않음
+
+        List<WarehouseMovementLine> lines = List.of(
+                new WarehouseMovementLine("OUT-1", 1L, first),
+                new WarehouseMovementLine("OUT-2", 2L, Map.of(10L, 4)),
+                new WarehouseMovementLine("OUT-3", 1L, Map.of(10L, 10)),
+                new WarehouseMovementLine("OUT-4", 1L, last));
+
+        // when
+        inventoryMovementService.recordWarehouseAll(ChangeType.OUTBOUND, lines);
+
+        // then: 창고1 상품10 은 67 -> 62 -> 52 -> 50
+        List<InventoryMovement> movements = savedMovements();
+        assertThat(movements)
+                .extracting(InventoryMovement::getRefNo, InventoryMovement::getWarehouseId,
+                        InventoryMovement::getProductId, InventoryMovement::getQuantity,
+                        InventoryMovement::getBalanceAfter, InventoryMovement::getChangeType)
+                .containsExactlyInAnyOrder(
+                        tuple("OUT-1", 1L, 10L, 5, 62, ChangeType.OUTBOUND),
+                        tuple("OUT-1", 1L, 20L, 3, 7, ChangeType.OUTBOUND),
+                        tuple("OUT-2", 2L, 10L, 4, 30, ChangeType.OUTBOUND),
+                        tuple("OUT-3", 1L, 10L, 10, 52, ChangeType.OUTBOUND),
+                        tuple("OUT-4", 1L, 10L, 2, 50, ChangeType.OUTBOUND));
+        // 원장은 요청 순서대로 쌓인다
+        assertThat(movements).extracting(InventoryMovement::getRefNo)
+                .isSortedAccordingTo(String::compareTo);
+    }
+
+    @Test
+    @DisplayName("일괄 입고 기록 - 입고는 잔량을 늘린 것으로 보고 거슬러 계산한다")
+    void recordWarehouseAll_Inbound_RunningBalancePerLine() {
+        // given: 입고 반영 후 잔량 20
+        given(warehouseInventoryRepository.findStockLevels(1L, Set.of(10L)))
+                .willReturn(List.<Object[]>of(level(10L, 20)));
+
+        // when
+        inventoryMovementService.recordWarehouseAll(ChangeType.INBOUND, List.of(
+                new WarehouseMovementLine("IN-1", 1L, Map.of(10L, 6)),
+                new WarehouseMovementLine("IN-2", 1L, Map.of(10L, 4))));
+
+        // then: 10 -> 16 -> 20
+        assertThat(savedMovements())
+                .extracting(InventoryMovement::getRefNo, InventoryMovement::getBalanceAfter)
+                .containsExactly(tuple("IN-1", 16), tuple("IN-2", 20));
+    }
+}
@@ -0,0 +1,146 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.product.model.entity.Product;
+import com.synerge.order101.warehouse.model.ReservationStatus;
+import com.synerge.order101.warehouse.model.entity.InventoryReservation;
+import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
+import com.synerge.order101.warehouse.model.repository.InventoryReservationRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseStockJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("InventoryReservationServiceImplTest")
+@ExtendWith(MockitoExtension.class)
+class InventoryReservationServiceImplTest {
+
+    @InjectMocks
+    private InventoryReservationServiceImpl inventoryReservationService;
+
+    @Mock
+    private InventoryReservationRepository inventoryReservationRepository;
+    @Mock
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    @Mock
+    private WarehouseInventoryRepository warehouseInventoryRepository;
+    @Mock
+    private InventoryAvailabilityView inventoryAvailabilityView;
+
+    @Test
+    @DisplayName("예약 생성 시 가용 수량 안에서 조건부로 예약하고 잡힌 줄만 원장에 저장한다")
+    void reserve_SavesLedgerAndAdjusts() {
+        // given
+        Map<Long, Integer> qty = new LinkedHashMap<>();
+        qty.put(10L, 3);
+        qty.put(20L, 0);   // 0 수량은 예약하지 않음
+        given(warehouseStockJdbcRepository.reserve(anyList())).willReturn(new int[]{1});
+
+        // when
+        Map<Long, Integer> shortage = inventoryReservationService.reserve(100L, 1L, qty);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<InventoryReservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(warehouseStockJdbcRepository).reserve(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getProductId()).isEqualTo(10L);
+        assertThat(captor.getValue().get(0).getStatus()).isEqualTo(ReservationStatus.ACTIVE);
+        verify(inventoryReservationRepository).saveAll(captor.getValue());
+        assertThat(shortage).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가용 재고가 부족한 품목은 예약하지 않고 부족 수량으로 돌려준다")
+    void reserve_ReportsShortage() {
+        // given
+        Map<Long, Integer> qty = new LinkedHashMap<>();
+        qty.put(10L, 3);
+        qty.put(20L, 7);
+        given(warehouseStockJdbcRepository.reserve(anyList())).willReturn(new int[]{1, 0});
+
+        // when
+        Map<Long, Integer> shortage = inventoryReservationService.reserve(100L, 1L, qty);
+
+        // then
+        assertThat(shortage).containsExactly(entry(20L, 7));
+        verify(inventoryReservationRepository).saveAll(argThat(saved -> {
+            List<InventoryReservation> list = new ArrayList<>();
+            saved.forEach(list::add);
+            return list.size() == 1 && list.get(0).getProductId().equals(10L);
+        }));
+        verify(inventoryAvailabilityView).invalidate(List.of(10L));
+    }
+
+    @Test
+    @DisplayName("출고 시 활성 예약 원장을 소진으로 닫고 수량을 돌려준다 (예약 수량은 출고 차감에서 내린다)")
+    void consumeAll_ClosesActiveReservations() {
+        // given
+        InventoryReservation r1 = InventoryReservation.active(100L, 1L, 10L, 3);
+        InventoryReservation r2 = InventoryReservation.active(100L, 1L, 20L, 4);
+        given(inventoryReservationRepository.findByStoreOrderIdInAndStatus(List.of(100L), ReservationStatus.ACTIVE))
+                .willReturn(List.of(r1, r2));
+
+        // when
+        Map<Long, Map<Long, Integer>> consumed = inventoryReservationService.consumeAll(List.of(100L));
+
+        // then
+        assertThat(r1.getStatus()).isEqualTo(ReservationStatus.CONSUMED);
+        assertThat(r2.getStatus()).isEqualTo(ReservationStatus.CONSUMED);
+        assertThat(consumed).isEqualTo(Map.of(100L, Map.of(10L, 3, 20L, 4)));
+        verify(warehouseStockJdbcRepository, never()).adjustReserved(anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("활성 예약이 없는 주문의 해제는 아무것도 하지 않는다")
+    void release_NoActiveReservation() {
+        // given
+        given(inventoryReservationRepository.findByStoreOrderIdAndStatus(100L, ReservationStatus.ACTIVE))
+                .willReturn(List.of());
+
+        // when
+        inventoryReservationService.release(100L);
+
+        // then
+        verify(warehouseStockJdbcRepository, never()).adjustReserved(anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("승인용 가용 재고는 잠근 재고 행에서 읽고, 재고 행이 없는 상품은 0 으로 채운다")
+    void lockAvailableToPromise_ReadsLockedRows() {
+        // given
+        WarehouseInventory row = WarehouseInventory.builder()
+                .product(Product.builder().productId(10L).build())
+                .onHandQuantity(15)
+                .reservedQuantity(4)
+                .build();
+        given(warehouseInventoryRepository.findStockLevelsForUpdate(1L, List.of(10L, 20L))).willReturn(List.of(row));
+
+        // when
+        Map<Long, Integer> atp = inventoryReservationService.lockAvailableToPromise(1L, List.of(10L, 20L));
+
+        // then
+        assertThat(atp).containsOnly(entry(10L, 11), entry(20L, 0));
+        verifyNoInteractions(inventoryAvailabilityView);
+    }
+}
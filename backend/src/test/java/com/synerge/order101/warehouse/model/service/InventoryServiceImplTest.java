@@ -1,24 +1,35 @@
 package com.synerge.order101.warehouse.model.service;
 
-import com.synerge.order101.order.model.repository.StoreOrderDetailRepository;
+import com.synerge.order101.order.model.repository.DailyProductSalesRepository;
+import com.synerge.order101.product.model.entity.CategoryLevel;
 import com.synerge.order101.product.model.entity.Product;
-import com.synerge.order101.product.model.entity.ProductSupplier;
+import com.synerge.order101.product.model.entity.ProductCategory;
+import com.synerge.order101.product.model.repository.ProductCategoryRepository;
+import com.synerge.order101.product.model.repository.ProductSupplierRepository;
 import com.synerge.order101.purchase.model.dto.CalculatedAutoItem;
-import com.synerge.order101.supplier.model.entity.Supplier;
+import com.synerge.order101.warehouse.model.dto.request.StockDecreaseLine;
 import com.synerge.order101.warehouse.model.dto.response.InventoryResponseDto;
+import com.synerge.order101.warehouse.model.dto.response.StockDecreaseResultDto;
+import com.synerge.order101.warehouse.model.entity.Warehouse;
 import com.synerge.order101.warehouse.model.entity.WarehouseInventory;
+import com.synerge.order101.warehouse.model.repository.InventorySearchRepository;
 import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseStockJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.time.LocalDateTime;
+import java.sql.Statement;
+import java.time.LocalDate;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 @DisplayName("InventoryServiceImplTest")
 @ExtendWith(MockitoExtension.class)
@@ -27,29 +38,71 @@ class InventoryServiceImplTest {
     @Mock
     private WarehouseInventoryRepository warehouseInventoryRepository;
     @Mock
-    private StoreOrderDetailRepository storeOrderDetailRepository;
+    private DailyProductSalesRepository dailyProductSalesRepository;
+    @Mock
+    private ProductSupplierRepository productSupplierRepository;
+    @Mock
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    @Mock
+    private InventoryAvailabilityView inventoryAvailabilityView;
+    @Mock
+    private LowStockTracker lowStockTracker;
+    @Mock
+    private InventorySearchRepository inventorySearchRepository;
+    @Mock
+    private InventorySearchProjector inventorySearchProjector;
+    @Mock
+    private ProductCategoryRepository productCategoryRepository;
+    @Mock
+    private SafetyStockJob safetyStockJob;
 
     @InjectMocks
     private InventoryServiceImpl inventoryService;
 
+    @BeforeEach
+    void setUp() {
+        // 판매 이력/리드타임 적재는 실제 로더로 (저장소만 목)
+        ReflectionTestUtils.setField(inventoryService, "salesWindowLoader",
+                new SalesWindowLoader(dailyProductSalesRepository, productSupplierRepository));
+    }
+
 
     // ========================
     // getInventoryList
     // ========================
     @Test
     void getInventoryList_shouldReturnPagedResult() {
-        Pageable pageable = PageRequest.of(0, 10);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("inventoryId").ascending());
         Page<InventoryResponseDto> mockPage = new PageImpl<>(List.of(), pageable, 0);
 
-        when(warehouseInventoryRepository.searchInventory(null, null, null, null, pageable))
+        when(inventorySearchRepository.search(null, null, null, null, pageable))
                 .thenReturn(mockPage);
 
         Page<InventoryResponseDto> result =
                 inventoryService.getInventoryList(1, 10, null, null, null, null, null);
 
         assertThat(result).isEqualTo(mockPage);
-        verify(warehouseInventoryRepository, times(1))
-                .searchInventory(null, null, null, null, pageable);
+        verify(inventorySearchRepository, times(1))
+                .search(null, null, null, null, pageable);
+    }
+
+    @Test
+    @DisplayName("소분류만 지정해도 상위 분류를 채우고 키워드는 소문자로 검색한다")
+    void getInventoryList_shouldFillParentCategories() {
+        ProductCategory large = new ProductCategory(1L, CategoryLevel.LARGE, "식품", null, new ArrayList<>(), null);
+        ProductCategory medium = new ProductCategory(10L, CategoryLevel.MEDIUM, "과일", large, new ArrayList<>(), null);
+        ProductCategory small = new ProductCategory(100L, CategoryLevel.SMALL, "사과", medium, new ArrayList<>(), null);
+        when(productCategoryRepository.findById(100L)).thenReturn(Optional.of(small));
+        when(productCategoryRepository.findById(10L)).thenReturn(Optional.of(medium));
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("onHandQuantity").descending());
+        Page<InventoryResponseDto> mockPage = new PageImpl<>(List.of(), pageable, 0);
+        when(inventorySearchRepository.search(1L, 10L, 100L, "apple", pageable)).thenReturn(mockPage);
+
+        Page<InventoryResponseDto> result =
+                inventoryService.getInventoryList(1, 10, null, null, 100L, " Apple ", "onHandQtyDesc");
+
+        assertThat(result).isEqualTo(mockPage);
     }
 
 
@@ -58,14 +111,58 @@ class InventoryServiceImplTest {
     // ========================
     @Test
     void decreaseInventory_shouldDecreaseQuantity() {
+        when(warehouseStockJdbcRepository.decreaseOnHand(List.of(new StockDecreaseLine(1L, 1L, 5))))
+                .thenReturn(new int[]{1});
+
+        inventoryService.decreaseInventory(1L, 1L, 5);
+
+        verify(warehouseInventoryRepository, never()).findByWarehouse_WarehouseIdAndProduct_ProductId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("단건 차감 실패 시 보유 수량을 포함해 예외를 던진다")
+    void decreaseInventory_insufficient_shouldThrow() {
         WarehouseInventory inventory = mock(WarehouseInventory.class);
+        when(inventory.getOnHandQuantity()).thenReturn(3);
 
-        when(warehouseInventoryRepository.findByProduct_ProductId(1L))
+        when(warehouseStockJdbcRepository.decreaseOnHand(List.of(new StockDecreaseLine(1L, 1L, 5))))
+                .thenReturn(new int[]{0});
+        when(warehouseInventoryRepository.findByWarehouse_WarehouseIdAndProduct_ProductId(1L, 1L))
                 .thenReturn(Optional.of(inventory));
 
-        inventoryService.decreaseInventory(1L, 5);
+        assertThatThrownBy(() -> inventoryService.decreaseInventory(1L, 1L, 5))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("보유 수량=3");
+    }
+
+    @Test
+    @DisplayName("일괄 차감은 반영되지 않은 줄의 위치와 내용을 돌려준다")
+    void decreaseInventories_reportsFailedLines() {
+        List<StockDecreaseLine> lines = List.of(
+                new StockDecreaseLine(1L, 1L, 5),
+                new StockDecreaseLine(1L, 2L, 50),
+                new StockDecreaseLine(1L, 3L, 1),
+                new StockDecreaseLine(1L, 4L, 2)
+        );
+        when(warehouseStockJdbcRepository.decreaseOnHand(lines)).thenReturn(new int[]{1, 0, 1, 0});
+
+        StockDecreaseResultDto result = inventoryService.decreaseInventories(lines);
 
-        verify(inventory, times(1)).decrease(5);
+        assertThat(result.isAllApplied()).isFalse();
+        assertThat(result.requestedCount()).isEqualTo(4);
+        assertThat(result.failedIndexes()).containsExactly(1, 3);
+        assertThat(result.failedLines()).containsExactly(lines.get(1), lines.get(3));
+        verify(warehouseInventoryRepository).flush();
+    }
+
+    @Test
+    @DisplayName("드라이버가 줄별 결과를 주지 않으면 예외로 전체를 되돌린다")
+    void decreaseInventories_noInfo_shouldThrow() {
+        List<StockDecreaseLine> lines = List.of(new StockDecreaseLine(1L, 1L, 5));
+        when(warehouseStockJdbcRepository.decreaseOnHand(lines)).thenReturn(new int[]{Statement.SUCCESS_NO_INFO});
+
+        assertThatThrownBy(() -> inventoryService.decreaseInventories(lines))
+                .isInstanceOf(IllegalStateException.class);
     }
 
 
@@ -78,10 +175,10 @@ class InventoryServiceImplTest {
         int quantity = 10;
 
         WarehouseInventory inventory = mock(WarehouseInventory.class);
-        when(warehouseInventoryRepository.findByProduct_ProductId(productId))
+        when(warehouseInventoryRepository.findByWarehouse_WarehouseIdAndProduct_ProductId(1L, productId))
                 .thenReturn(Optional.of(inventory));
 
-        inventoryService.increaseInventory(productId, quantity);
+        inventoryService.increaseInventory(1L, productId, quantity);
 
         verify(inventory, times(1)).increase(quantity);
     }
@@ -95,22 +192,21 @@ class InventoryServiceImplTest {
         Product product = mock(Product.class);
         when(product.getProductId()).thenReturn(1L);
 
-        Supplier supplier = mock(Supplier.class);
-        when(supplier.getSupplierId()).thenReturn(100L);
-
-        ProductSupplier productSupplier = mock(ProductSupplier.class);
-        when(productSupplier.getLeadTimeDays()).thenReturn(5);
-        when(productSupplier.getSupplier()).thenReturn(supplier);
-        when(product.getProductSupplier()).thenReturn(List.of(productSupplier));
-
         WarehouseInventory inventory = mock(WarehouseInventory.class);
         when(inventory.getProduct()).thenReturn(product);
         when(inventory.getOnHandQuantity()).thenReturn(5);
         when(inventory.getSafetyQuantity()).thenReturn(15);
+        when(inventory.getWarehouse()).thenReturn(Warehouse.builder().warehouseId(2L).build());
 
         when(warehouseInventoryRepository.findAllWithProduct()).thenReturn(List.of(inventory));
-        when(storeOrderDetailRepository.findDailySalesQtySince(eq(1L), any(LocalDateTime.class)))
-                .thenReturn(List.of(10, 12, 8));   // 평균 10
+        when(dailyProductSalesRepository.findSalesSince(any(LocalDate.class)))
+                .thenReturn(List.of(
+                        new Object[]{1L, 10},
+                        new Object[]{1L, 12},
+                        new Object[]{1L, 8}
+                ));   // 평균 10
+        when(productSupplierRepository.findAllLeadTimes())
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 100L, 5}));
 
         List<CalculatedAutoItem> result = inventoryService.getAutoPurchaseItems();
 
@@ -118,5 +214,64 @@ class InventoryServiceImplTest {
         assertThat(result.get(0).getProductId()).isEqualTo(1L);
         assertThat(result.get(0).getSupplierId()).isEqualTo(100L);
         assertThat(result.get(0).getOrderQty()).isEqualTo(60);
+        assertThat(result.get(0).getWarehouseId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("판매 이력/공급 매핑이 없는 상품은 제외하고, 첫 번째 공급 매핑의 리드타임을 사용한다")
+    void getAutoPurchaseItems_multipleProducts() {
+        WarehouseInventory inv1 = inventory(1L, 5, 15);   // 판매 O, 공급사 2곳 -> 첫 매핑
+        WarehouseInventory inv2 = inventory(2L, 0, 10);   // 판매 이력 없음
+        WarehouseInventory inv3 = inventory(3L, 1, 10);   // 공급 매핑 없음
+        WarehouseInventory inv4 = inventory(4L, 20, 10);  // 안전재고 이상
+
+        when(warehouseInventoryRepository.findAllWithProduct()).thenReturn(List.of(inv1, inv2, inv3, inv4));
+        when(dailyProductSalesRepository.findSalesSince(any(LocalDate.class)))
+                .thenReturn(List.of(
+                        new Object[]{1L, 3},
+                        new Object[]{1L, 4},
+                        new Object[]{3L, 7},
+                        new Object[]{4L, 9},
+                        new Object[]{99L, 1}
+                ));
+        when(productSupplierRepository.findAllLeadTimes())
+                .thenReturn(List.of(
+                        new Object[]{1L, 100L, 2},
+                        new Object[]{1L, 200L, 9},
+                        new Object[]{2L, 100L, 3},
+                        new Object[]{4L, 300L, 1}
+                ));
+
+        List<CalculatedAutoItem> result = inventoryService.getAutoPurchaseItems();
+
+        // 1번: 평균 3.5 * 리드타임 2 = 7 -> 목표 22, 발주 17
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getProductId()).isEqualTo(1L);
+        assertThat(result.get(0).getSupplierId()).isEqualTo(100L);
+        assertThat(result.get(0).getOrderQty()).isEqualTo(17);
+    }
+
+    // ========================
+    // updateDailySafetyStock
+    // ========================
+    @Test
+    @DisplayName("안전재고 갱신은 청크 배치 작업에 위임한다")
+    void updateDailySafetyStock_delegatesToJob() {
+        inventoryService.updateDailySafetyStock();
+
+        verify(safetyStockJob).run();
+        verify(warehouseInventoryRepository, never()).findAllWithProduct();
+    }
+
+    private WarehouseInventory inventory(Long productId, int onHand, int safety) {
+        Product product = mock(Product.class);
+        when(product.getProductId()).thenReturn(productId);
+
+        WarehouseInventory inventory = mock(WarehouseInventory.class);
+        when(inventory.getProduct()).thenReturn(product);
+        lenient().when(inventory.getOnHandQuantity()).thenReturn(onHand);
+        lenient().when(inventory.getSafetyQuantity()).thenReturn(safety);
+        lenient().when(inventory.getWarehouse()).thenReturn(Warehouse.builder().warehouseId(1L).build());
+        return inventory;
     }
 }
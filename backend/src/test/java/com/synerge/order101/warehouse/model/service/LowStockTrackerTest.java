@@ -0,0 +1,115 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("LowStockTrackerTest")
+@ExtendWith(MockitoExtension.class)
+class LowStockTrackerTest {
+
+    @InjectMocks
+    private LowStockTracker lowStockTracker;
+
+    @Mock
+    private WarehouseInventoryRepository warehouseInventoryRepository;
+
+    private static Object[] key(long warehouseId, long productId) {
+        return new Object[]{warehouseId, productId};
+    }
+
+    private static Object[] level(long productId, int onHand, int safety) {
+        return new Object[]{productId, onHand, safety};
+    }
+
+    @Test
+    @DisplayName("재구성 시 DB 의 저재고 행으로 집합과 개수를 만들고 차이 건수를 돌려준다")
+    void rebuild_LoadsKeysAndReportsDrift() {
+        // given
+        given(warehouseInventoryRepository.findLowStockKeys())
+                .willReturn(List.<Object[]>of(key(1L, 10L), key(1L, 20L)))
+                .willReturn(List.<Object[]>of(key(1L, 20L), key(2L, 10L)));
+
+        // when
+        int first = lowStockTracker.rebuild();
+        int second = lowStockTracker.rebuild();
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(2);
+        assertThat(lowStockTracker.count()).isEqualTo(2);
+        assertThat(lowStockTracker.skus()).containsExactly(
+                new LowStockTracker.Sku(1L, 20L), new LowStockTracker.Sku(2L, 10L));
+    }
+
+    @Test
+    @DisplayName("변경된 행은 다시 읽어 안전재고 이하면 넣고, 회복되거나 행이 없으면 뺀다")
+    void touch_AddsAndRemovesByCurrentLevel() {
+        // given
+        given(warehouseInventoryRepository.findLowStockKeys()).willReturn(List.<Object[]>of(key(1L, 30L)));
+        lowStockTracker.rebuild();
+        given(warehouseInventoryRepository.findThresholdLevels(eq(1L), anyList()))
+                .willReturn(List.<Object[]>of(level(10L, 5, 10), level(20L, 50, 10)));
+
+        // when
+        lowStockTracker.touch(1L, List.of(10L, 20L, 30L));
+
+        // then
+        assertThat(lowStockTracker.isLowStock(1L, 10L)).isTrue();
+        assertThat(lowStockTracker.isLowStock(1L, 20L)).isFalse();
+        assertThat(lowStockTracker.isLowStock(1L, 30L)).isFalse();
+        assertThat(lowStockTracker.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 상태로 여러 번 반영해도 개수는 한 번만 센다")
+    void touch_IsIdempotent() {
+        // given
+        given(warehouseInventoryRepository.findThresholdLevels(1L, List.of(10L)))
+                .willReturn(List.<Object[]>of(level(10L, 0, 10)));
+
+        // when
+        lowStockTracker.touch(1L, List.of(10L));
+        lowStockTracker.touch(1L, List.of(10L));
+
+        // then
+        assertThat(lowStockTracker.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 변경은 커밋 이후에만 반영하고 롤백되면 반영하지 않는다")
+    void touch_AppliesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            lowStockTracker.touch(1L, List.of(10L));
+
+            // then
+            verify(warehouseInventoryRepository, never()).findThresholdLevels(anyLong(), any());
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+            verify(warehouseInventoryRepository, never()).findThresholdLevels(anyLong(), any());
+            assertThat(lowStockTracker.count()).isZero();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.common.batch.BatchCheckpoint;
+import com.synerge.order101.common.batch.BatchCheckpointRepository;
+import com.synerge.order101.order.model.repository.DailyProductSalesRepository;
+import com.synerge.order101.product.model.repository.ProductSupplierRepository;
+import com.synerge.order101.warehouse.model.dto.request.SafetyQtyUpdate;
+import com.synerge.order101.warehouse.model.dto.response.SafetyStockJobResultDto;
+import com.synerge.order101.warehouse.model.repository.WarehouseInventoryRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseStockJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("SafetyStockJobTest")
+@ExtendWith(MockitoExtension.class)
+class SafetyStockJobTest {
+
+    @Mock
+    private WarehouseInventoryRepository warehouseInventoryRepository;
+    @Mock
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    @Mock
+    private DailyProductSalesRepository dailyProductSalesRepository;
+    @Mock
+    private ProductSupplierRepository productSupplierRepository;
+    @Mock
+    private BatchCheckpointRepository batchCheckpointRepository;
+    @Mock
+    private LowStockTracker lowStockTracker;
+    @Mock
+    private InventorySearchProjector inventorySearchProjector;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SafetyStockJob job;
+
+    // 청크 2행, 병렬 2 -> 한 번에 4행씩 읽는다.
+    private static final PageRequest WAVE = PageRequest.of(0, 4);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new SafetyStockJob(warehouseInventoryRepository, warehouseStockJdbcRepository,
+                new SalesWindowLoader(dailyProductSalesRepository, productSupplierRepository),
+                batchCheckpointRepository, lowStockTracker, inventorySearchProjector,
+                transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+        ReflectionTestUtils.setField(job, "parallelism", 2);
+
+        lenient().when(batchCheckpointRepository.save(any(BatchCheckpoint.class))).then(returnsFirstArg());
+        // 상품 1: 판매 10, 20, 6 / 리드타임 3 -> (20 - 12) * 3 = 24, 상품 2: 판매 이력 없음
+        lenient().when(dailyProductSalesRepository.findSalesSince(LocalDate.now().minusDays(30)))
+                .thenReturn(List.of(new Object[]{1L, 10}, new Object[]{1L, 20}, new Object[]{1L, 6}));
+        lenient().when(productSupplierRepository.findAllLeadTimes())
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 100L, 3}, new Object[]{2L, 100L, 5}));
+    }
+
+    private static Object[] row(long inventoryId, long warehouseId, long productId, int safety) {
+        return new Object[]{inventoryId, warehouseId, productId, safety};
+    }
+
+    private void givenRows() {
+        given(warehouseInventoryRepository.findSafetyRowsAfter(0L, WAVE)).willReturn(List.of(
+                row(1, 1, 1, 0), row(2, 1, 2, 0), row(3, 2, 1, 24), row(4, 2, 1, 5)));
+        given(warehouseInventoryRepository.findSafetyRowsAfter(4L, WAVE)).willReturn(List.<Object[]>of(row(5, 1, 1, 0)));
+        given(warehouseInventoryRepository.findSafetyRowsAfter(5L, WAVE)).willReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("상품별 안전재고를 계산해 청크마다 바뀐 행만 배치 갱신하고 체크포인트를 완료로 남긴다")
+    void run_UpdatesChangedRowsPerChunk() {
+        // given
+        given(batchCheckpointRepository.findById(SafetyStockJob.JOB_NAME)).willReturn(Optional.empty());
+        givenRows();
+
+        // when
+        SafetyStockJobResultDto result = job.run();
+
+        // then
+        verify(warehouseStockJdbcRepository).updateSafety(List.of(new SafetyQtyUpdate(1L, 24)));
+        verify(warehouseStockJdbcRepository).updateSafety(List.of(new SafetyQtyUpdate(4L, 24)));
+        verify(warehouseStockJdbcRepository).updateSafety(List.of(new SafetyQtyUpdate(5L, 24)));
+        verify(inventorySearchProjector).refreshStock(2L, List.of(1L));
+
+        assertThat(result.processedCount()).isEqualTo(5);
+        assertThat(result.updatedCount()).isEqualTo(3);
+        assertThat(result.failedChunks()).isZero();
+        assertThat(result.resumedFromInventoryId()).isNull();
+
+        ArgumentCaptor<BatchCheckpoint> saved = ArgumentCaptor.forClass(BatchCheckpoint.class);
+        verify(batchCheckpointRepository, atLeastOnce()).save(saved.capture());
+        BatchCheckpoint last = saved.getValue();
+        assertThat(last.getStatus()).isEqualTo(BatchCheckpoint.Status.COMPLETED);
+        assertThat(last.getLastKey()).isEqualTo(5L);
+
+        assertThat(meterRegistry.counter("safety_stock.rows.updated").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("safety_stock.chunks", "result", "success").count()).isEqualTo(3);
+        verify(lowStockTracker).rebuildAfterCommit();
+    }
+
+    @Test
+    @DisplayName("같은 날 중단된 작업은 체크포인트의 다음 키부터 이어서 실행한다")
+    void run_ResumesFromCheckpoint() {
+        // given
+        BatchCheckpoint checkpoint = BatchCheckpoint.start(SafetyStockJob.JOB_NAME, LocalDate.now());
+        checkpoint.advance(4L, 4, 2, 0);
+        given(batchCheckpointRepository.findById(SafetyStockJob.JOB_NAME)).willReturn(Optional.of(checkpoint));
+        given(warehouseInventoryRepository.findSafetyRowsAfter(4L, WAVE)).willReturn(List.<Object[]>of(row(5, 1, 1, 0)));
+        given(warehouseInventoryRepository.findSafetyRowsAfter(5L, WAVE)).willReturn(List.of());
+
+        // when
+        SafetyStockJobResultDto result = job.run();
+
+        // then
+        verify(warehouseInventoryRepository, never()).findSafetyRowsAfter(eq(0L), any());
+        assertThat(result.resumedFromInventoryId()).isEqualTo(4L);
+        assertThat(result.processedCount()).isEqualTo(5);
+        assertThat(result.updatedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일시적 DB 오류는 청크 단위로 재시도하고, 끝내 실패한 청크는 건너뛰고 나머지는 계속한다")
+    void run_RetriesTransientAndSkipsFailedChunk() {
+        // given
+        given(batchCheckpointRepository.findById(SafetyStockJob.JOB_NAME)).willReturn(Optional.empty());
+        givenRows();
+        willThrow(new CannotAcquireLockException("lock wait timeout"))
+                .willReturn(new int[]{1})
+                .given(warehouseStockJdbcRepository).updateSafety(List.of(new SafetyQtyUpdate(1L, 24)));
+        willThrow(new DataIntegrityViolationException("bad row"))
+                .given(warehouseStockJdbcRepository).updateSafety(List.of(new SafetyQtyUpdate(4L, 24)));
+
+        // when
+        SafetyStockJobResultDto result = job.run();
+
+        // then
+        verify(warehouseStockJdbcRepository, times(2)).updateSafety(List.of(new SafetyQtyUpdate(1L, 24)));
+        verify(warehouseStockJdbcRepository, times(1)).updateSafety(List.of(new SafetyQtyUpdate(4L, 24)));
+
+        assertThat(result.failedChunks()).isEqualTo(1);
+        assertThat(result.processedCount()).isEqualTo(3);
+        assertThat(result.updatedCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("safety_stock.chunk.retries").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("safety_stock.chunks", "result", "failed").count()).isEqualTo(1);
+    }
+}
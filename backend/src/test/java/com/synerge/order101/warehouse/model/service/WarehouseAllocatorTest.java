@@ -0,0 +1,170 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.warehouse.model.dto.response.WarehouseAllocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("WarehouseAllocatorTest")
+@ExtendWith(MockitoExtension.class)
+class WarehouseAllocatorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WarehouseAllocatorTest.class);
+
+    @InjectMocks
+    private WarehouseAllocator warehouseAllocator;
+
+    @Mock
+    private WarehouseCostMatrix warehouseCostMatrix;
+
+    @Mock
+    private InventoryAvailabilityView inventoryAvailabilityView;
+
+    private static InventoryAvailabilityView.StockLevel level(int onHand, int reserved) {
+        return new InventoryAvailabilityView.StockLevel(onHand, reserved, System.nanoTime());
+    }
+
+    @Test
+    @DisplayName("전 품목을 채울 수 있으면 비용이 더 들어도 한 창고에 배정한다")
+    void plan_PrefersSingleWarehouse() {
+        int[] qty = {5, 3};
+        int[][] atp = {
+                {5, 0},     // 가장 싼 창고: 두 번째 품목 없음
+                {10, 10}
+        };
+
+        int[][] plan = WarehouseAllocator.plan(qty, atp);
+
+        assertThat(plan[0]).containsExactly(0, 0);
+        assertThat(plan[1]).containsExactly(5, 3);
+    }
+
+    @Test
+    @DisplayName("한 창고로 안 되면 품목별로 통째로 채울 수 있는 가장 싼 창고, 그다음 비용 순으로 나눈다")
+    void plan_SplitsPerLine() {
+        int[] qty = {5, 8, 20};
+        int[][] atp = {
+                {5, 2, 4},
+                {0, 8, 6},
+                {9, 1, 3}
+        };
+
+        int[][] plan = WarehouseAllocator.plan(qty, atp);
+
+        assertThat(plan[0]).containsExactly(5, 0, 4 + 7);   // 잔량 7 은 가장 싼 창고에 남긴다
+        assertThat(plan[1]).containsExactly(0, 8, 6);
+        assertThat(plan[2]).containsExactly(0, 0, 3);
+    }
+
+    @Test
+    @DisplayName("예약 수량을 뺀 가용 재고로 판단하고 배정이 없는 창고는 결과에서 뺀다")
+    void allocate_UsesAvailableToPromise() {
+        // given
+        Map<Long, Integer> qty = new LinkedHashMap<>();
+        qty.put(10L, 4);
+        qty.put(20L, 2);
+
+        given(warehouseCostMatrix.rank(1L)).willReturn(List.of(7L, 8L, 9L));
+        given(inventoryAvailabilityView.get(eq(7L), anyCollection()))
+                .willReturn(Map.of(10L, level(10, 8), 20L, level(5, 0)));   // 10번 상품 가용 2
+        given(inventoryAvailabilityView.get(eq(8L), anyCollection()))
+                .willReturn(Map.of(10L, level(4, 0), 20L, level(1, 0)));
+        given(inventoryAvailabilityView.get(eq(9L), anyCollection()))
+                .willReturn(Map.of());
+
+        // when
+        List<WarehouseAllocation> result = warehouseAllocator.allocate(1L, qty);
+
+        // then
+        assertThat(result).containsExactly(
+                new WarehouseAllocation(7L, Map.of(20L, 2)),
+                new WarehouseAllocation(8L, Map.of(10L, 4)));
+    }
+
+    @Test
+    @DisplayName("무작위 주문도 주문 수량을 빠짐없이 배정하고, 가장 싼 창고 외에는 가용 수량을 넘기지 않는다")
+    void plan_RandomOrders_AssignsAllWithinStock() {
+        Random random = new Random(7);
+        int[][] atp = randomStock(random, 8, 20);
+
+        for (int[] qty : randomOrders(random, 1_000, 20)) {
+            int[][] plan = WarehouseAllocator.plan(qty, atp);
+
+            for (int p = 0; p < qty.length; p++) {
+                int assigned = 0;
+                for (int w = 0; w < atp.length; w++) {
+                    assigned += plan[w][p];
+                    if (w > 0) {
+                        assertThat(plan[w][p]).isBetween(0, atp[w][p]);
+                    }
+                }
+                assertThat(assigned).isEqualTo(qty[p]);
+            }
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[벤치마크] 배정 계산 처리량 (mvn -Pbenchmark test)")
+    void plan_Throughput() {
+        int orders = 50_000;
+        int warehouses = 8;
+        int lines = 20;
+
+        Random random = new Random(42);
+        int[][] qty = randomOrders(random, orders, lines);
+        int[][] atp = randomStock(random, warehouses, lines);
+
+        // 워밍업
+        for (int i = 0; i < 5_000; i++) {
+            WarehouseAllocator.plan(qty[i], atp);
+        }
+
+        long started = System.nanoTime();
+        long assigned = 0;
+        for (int[] order : qty) {
+            int[][] plan = WarehouseAllocator.plan(order, atp);
+            assigned += plan[0][0];
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        log.info("allocator: {} orders x {} lines x {} warehouses in {}s ({} orders/s, checksum={})",
+                orders, lines, warehouses, String.format("%.3f", seconds), Math.round(orders / seconds), assigned);
+    }
+
+    private static int[][] randomOrders(Random random, int orders, int lines) {
+        int[][] qty = new int[orders][lines];
+        for (int[] order : qty) {
+            for (int p = 0; p < lines; p++) {
+                order[p] = 1 + random.nextInt(30);
+            }
+        }
+        return qty;
+    }
+
+    private static int[][] randomStock(Random random, int warehouses, int lines) {
+        int[][] atp = new int[warehouses][lines];
+        for (int[] stock : atp) {
+            for (int p = 0; p < lines; p++) {
+                stock[p] = random.nextInt(60);
+            }
+        }
+        return atp;
+    }
+}
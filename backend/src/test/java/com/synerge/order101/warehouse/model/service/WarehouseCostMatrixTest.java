@@ -0,0 +1,78 @@
+package com.synerge.order101.warehouse.model.service;
+
+import com.synerge.order101.store.model.repository.StoreRepository;
+import com.synerge.order101.warehouse.model.entity.Warehouse;
+import com.synerge.order101.warehouse.model.repository.StoreWarehouseCostRepository;
+import com.synerge.order101.warehouse.model.repository.WarehouseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("WarehouseCostMatrixTest")
+@ExtendWith(MockitoExtension.class)
+class WarehouseCostMatrixTest {
+
+    @InjectMocks
+    private WarehouseCostMatrix warehouseCostMatrix;
+
+    @Mock
+    private WarehouseRepository warehouseRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreWarehouseCostRepository storeWarehouseCostRepository;
+
+    private static Warehouse warehouse(long id, boolean active) {
+        return Warehouse.builder().warehouseId(id).warehouseCode("WH" + id).warehouseName("창고" + id).isActive(active).build();
+    }
+
+    @Test
+    @DisplayName("비용 행, 기본 창고(0), 기본 비용 순으로 정렬하고 비운영 창고는 뺀다")
+    void rank_ByCostThenDefault() {
+        // given
+        given(warehouseRepository.findAll()).willReturn(List.of(
+                warehouse(1L, true), warehouse(2L, true), warehouse(3L, true), warehouse(4L, false)));
+        given(storeRepository.findAllDefaultWarehouseIds()).willReturn(List.<Object[]>of(new Object[]{10L, 2L}));
+        given(storeWarehouseCostRepository.findAllCosts()).willReturn(List.<Object[]>of(
+                new Object[]{10L, 3L, 50},
+                new Object[]{10L, 4L, 1}));
+
+        // when
+        List<Long> ranked = warehouseCostMatrix.rank(10L);
+        List<Long> unknownStore = warehouseCostMatrix.rank(99L);
+
+        // then
+        assertThat(ranked).containsExactly(2L, 3L, 1L);
+        assertThat(unknownStore).containsExactly(1L, 2L, 3L);
+        verify(warehouseRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 다시 읽는다")
+    void invalidate_Reloads() {
+        // given
+        given(warehouseRepository.findAll()).willReturn(List.of(warehouse(1L, true)));
+        given(storeRepository.findAllDefaultWarehouseIds()).willReturn(List.of());
+        given(storeWarehouseCostRepository.findAllCosts()).willReturn(List.of());
+
+        // when
+        warehouseCostMatrix.rank(10L);
+        warehouseCostMatrix.invalidate();
+        warehouseCostMatrix.rank(10L);
+
+        // then
+        verify(warehouseRepository, times(2)).findAll();
+    }
+}